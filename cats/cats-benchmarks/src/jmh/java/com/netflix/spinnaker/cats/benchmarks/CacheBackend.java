@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.cats.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.spinnaker.cats.mem.InMemoryCache;
+import com.netflix.spinnaker.cats.provider.DefaultProviderCache;
+import com.netflix.spinnaker.cats.provider.ProviderCache;
+import com.netflix.spinnaker.cats.redis.cache.RedisCache;
+import com.netflix.spinnaker.cats.redis.cache.RedisCacheOptions;
+import com.netflix.spinnaker.cats.sql.SqlProviderCache;
+import com.netflix.spinnaker.cats.sql.cache.NoopCacheMetrics;
+import com.netflix.spinnaker.cats.sql.cache.SqlCache;
+import com.netflix.spinnaker.cats.sql.cache.SqlNamedCacheFactory;
+import com.netflix.spinnaker.config.SqlConstraintsInitializer;
+import com.netflix.spinnaker.kork.dynamicconfig.DynamicConfigService;
+import com.netflix.spinnaker.kork.jedis.EmbeddedRedis;
+import com.netflix.spinnaker.kork.jedis.JedisClientDelegate;
+import com.netflix.spinnaker.kork.sql.config.RetryProperties;
+import com.netflix.spinnaker.kork.sql.config.SqlRetryProperties;
+import com.netflix.spinnaker.kork.sql.test.SqlTestUtil;
+import java.time.Clock;
+import org.jooq.SQLDialect;
+import redis.clients.jedis.JedisPool;
+
+/**
+ * The cache implementations under benchmark, each backed by a throwaway store.
+ *
+ * <p>Redis runs against an embedded server. {@code SqlCache} relies on MySQL/PostgreSQL specific
+ * DDL ({@code CREATE TABLE ... LIKE}, upserts), so it runs against a MySQL test container rather
+ * than an in-process database and requires a local Docker daemon.
+ */
+public enum CacheBackend {
+  IN_MEMORY {
+    @Override
+    Handle open() {
+      return new Handle(new DefaultProviderCache(new InMemoryCache()), () -> {});
+    }
+  },
+
+  REDIS {
+    @Override
+    Handle open() {
+      EmbeddedRedis embeddedRedis = EmbeddedRedis.embed();
+      RedisCache cache =
+          new RedisCache(
+              "benchmark",
+              new JedisClientDelegate((JedisPool) embeddedRedis.getPool()),
+              objectMapper(),
+              RedisCacheOptions.builder().build(),
+              null);
+      return new Handle(new DefaultProviderCache(cache), embeddedRedis::destroy);
+    }
+  },
+
+  SQL {
+    @Override
+    Handle open() {
+      SqlTestUtil.TestDatabase database = SqlTestUtil.initTcMysqlDatabase();
+      SqlCache cache =
+          new SqlCache(
+              "benchmark",
+              database.context,
+              objectMapper(),
+              null,
+              Clock.systemDefaultZone(),
+              new SqlRetryProperties(new RetryProperties(3, 10), new RetryProperties(3, 10)),
+              null,
+              new NoopCacheMetrics(),
+              DynamicConfigService.NOOP,
+              SqlConstraintsInitializer.INSTANCE.getDefaultSqlConstraints(SQLDialect.MYSQL),
+              new SqlNamedCacheFactory.DefaultProviderCacheConfiguration(),
+              false,
+              false);
+      return new Handle(new SqlProviderCache(cache), database.dataSource::close);
+    }
+  };
+
+  abstract Handle open();
+
+  private static ObjectMapper objectMapper() {
+    return new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+  }
+
+  static class Handle implements AutoCloseable {
+    private final ProviderCache providerCache;
+    private final Runnable onClose;
+
+    Handle(ProviderCache providerCache, Runnable onClose) {
+      this.providerCache = providerCache;
+      this.onClose = onClose;
+    }
+
+    ProviderCache getProviderCache() {
+      return providerCache;
+    }
+
+    @Override
+    public void close() {
+      onClose.run();
+    }
+  }
+}
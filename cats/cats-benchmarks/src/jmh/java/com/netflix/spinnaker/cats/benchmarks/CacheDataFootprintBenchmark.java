@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.cats.benchmarks;
+
+import com.netflix.spinnaker.cats.cache.CacheData;
+import com.netflix.spinnaker.cats.cache.CompactCacheData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Retained heap of {@code size} items held as {@link
+ * com.netflix.spinnaker.cats.cache.DefaultCacheData} versus {@link CompactCacheData}, reported as
+ * the {@code retainedBytes} secondary result. The primary score includes walking the object graph
+ * and is not meaningful on its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class CacheDataFootprintBenchmark {
+
+  @Param({"AWS", "KUBERNETES"})
+  public SyntheticDataset dataset;
+
+  @Param({"50000"})
+  public int size;
+
+  @Param({"DEFAULT", "COMPACT"})
+  public Representation representation;
+
+  public enum Representation {
+    DEFAULT,
+    COMPACT
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Footprint {
+    public long retainedBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      retainedBytes = 0;
+    }
+  }
+
+  @Benchmark
+  public List<CacheData> build(Footprint footprint) {
+    List<CacheData> items = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      // generated per item so no strings are shared unless the representation shares them
+      CacheData item = dataset.authoritative(i, 0);
+      items.add(representation == Representation.COMPACT ? CompactCacheData.copyOf(item) : item);
+    }
+    footprint.retainedBytes = GraphLayout.parseInstance(items).totalSize();
+    return items;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.cats.benchmarks;
+
+import com.netflix.spinnaker.cats.agent.CacheResult;
+import com.netflix.spinnaker.cats.agent.DefaultCacheResult;
+import com.netflix.spinnaker.cats.provider.ProviderCache;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Write paths of a caching agent cycle: an authoritative agent replacing the full set of items of
+ * a type, and an agent that is authoritative for another type adding relationships to them.
+ *
+ * <p>Each invocation alternates between two generations of the same items so every write changes
+ * the stored bodies and relationships, rather than hitting the unchanged-body shortcuts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CacheMergeBenchmark {
+
+  @Param({"IN_MEMORY", "REDIS", "SQL"})
+  public CacheBackend backend;
+
+  @Param({"AWS", "KUBERNETES"})
+  public SyntheticDataset dataset;
+
+  @Param({"1000"})
+  public int size;
+
+  private CacheBackend.Handle handle;
+  private ProviderCache providerCache;
+  private List<String> authoritativeTypes;
+  private List<String> informativeAgentTypes;
+  private CacheResult[] authoritative;
+  private CacheResult[] informative;
+  private int invocation;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    handle = backend.open();
+    providerCache = handle.getProviderCache();
+
+    String type = dataset.getType();
+    authoritativeTypes = new ArrayList<>(List.of(type));
+    informativeAgentTypes = new ArrayList<>(List.of(dataset.getInformativeType()));
+    authoritative = new CacheResult[2];
+    informative = new CacheResult[2];
+    for (int generation = 0; generation < 2; generation++) {
+      authoritative[generation] =
+          new DefaultCacheResult(Map.of(type, dataset.authoritative(size, generation)));
+      informative[generation] =
+          new DefaultCacheResult(Map.of(type, dataset.informative(size, generation)));
+    }
+
+    providerCache.putCacheResult("AuthoritativeAgent", authoritativeTypes, authoritative[0]);
+    providerCache.putCacheResult("InformativeAgent", informativeAgentTypes, informative[0]);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    handle.close();
+  }
+
+  @Benchmark
+  public void mergeAllAuthoritative() {
+    providerCache.putCacheResult(
+        "AuthoritativeAgent", authoritativeTypes, authoritative[++invocation % 2]);
+  }
+
+  @Benchmark
+  public void mergeAllInformative() {
+    providerCache.putCacheResult(
+        "InformativeAgent", informativeAgentTypes, informative[++invocation % 2]);
+  }
+}
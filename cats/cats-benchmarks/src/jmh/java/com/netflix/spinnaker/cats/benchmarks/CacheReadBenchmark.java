@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.cats.benchmarks;
+
+import com.netflix.spinnaker.cats.agent.DefaultCacheResult;
+import com.netflix.spinnaker.cats.cache.Cache;
+import com.netflix.spinnaker.cats.cache.CacheData;
+import com.netflix.spinnaker.cats.cache.CompositeCache;
+import com.netflix.spinnaker.cats.cache.RelationshipCacheFilter;
+import com.netflix.spinnaker.cats.provider.ProviderCache;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Read paths of a populated cache. The cache holds {@code size} items written by an
+ * authoritative agent plus relationships contributed by an informative one, so reads have to
+ * merge both.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CacheReadBenchmark {
+
+  @Param({"IN_MEMORY", "REDIS", "SQL"})
+  public CacheBackend backend;
+
+  @Param({"AWS", "KUBERNETES"})
+  public SyntheticDataset dataset;
+
+  @Param({"1000"})
+  public int size;
+
+  /** Whether reads go through a {@link CompositeCache}, as the provider views do. */
+  @Param({"false", "true"})
+  public boolean composite;
+
+  private CacheBackend.Handle handle;
+  private Cache cache;
+  private List<String> ids;
+  private List<String> probeIds;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    handle = backend.open();
+    ProviderCache providerCache = handle.getProviderCache();
+    String type = dataset.getType();
+
+    providerCache.putCacheResult(
+        "AuthoritativeAgent",
+        new ArrayList<>(List.of(type)),
+        new DefaultCacheResult(Map.of(type, dataset.authoritative(size, 0))));
+    providerCache.putCacheResult(
+        "InformativeAgent",
+        new ArrayList<>(List.of(dataset.getInformativeType())),
+        new DefaultCacheResult(Map.of(type, dataset.informative(size, 0))));
+
+    cache = composite ? new CompositeCache(List.of(providerCache)) : providerCache;
+    ids = dataset.ids(size);
+
+    // half of the probed identifiers exist
+    probeIds = new ArrayList<>(ids.subList(0, size / 2));
+    for (String id : ids.subList(0, size - size / 2)) {
+      probeIds.add(id + "-missing");
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    handle.close();
+  }
+
+  @Benchmark
+  public Collection<CacheData> getAllWithRelationships() {
+    return cache.getAll(dataset.getType(), ids);
+  }
+
+  @Benchmark
+  public Collection<CacheData> getAllWithRelationshipFilter() {
+    return cache.getAll(
+        dataset.getType(), ids, RelationshipCacheFilter.include(dataset.getRelationshipType()));
+  }
+
+  @Benchmark
+  public Collection<CacheData> getAllWithoutRelationships() {
+    return cache.getAll(dataset.getType(), ids, RelationshipCacheFilter.none());
+  }
+
+  @Benchmark
+  public Collection<String> filterIdentifiers() {
+    return cache.filterIdentifiers(dataset.getType(), dataset.getGlob());
+  }
+
+  @Benchmark
+  public Collection<String> existingIdentifiers() {
+    return cache.existingIdentifiers(dataset.getType(), probeIds);
+  }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.cats.benchmarks;
+
+import com.netflix.spinnaker.cats.cache.CacheData;
+import com.netflix.spinnaker.cats.cache.DefaultCacheData;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Synthetic cache contents whose keys, attribute sizes and relationship fan-out are modeled on
+ * what the AWS and Kubernetes caching agents write.
+ *
+ * <p>Items are generated deterministically from their index, and {@code generation} only changes
+ * values (never keys) so consecutive generations exercise updates of existing items.
+ */
+public enum SyntheticDataset {
+  AWS("serverGroups", "instances", "targetGroups", "aws:serverGroups:app1-*:prod:*") {
+    @Override
+    String id(int index) {
+      return String.format(
+          "aws:serverGroups:%s:%s:%s:%s",
+          cluster(index),
+          account(index),
+          region(index),
+          name(index));
+    }
+
+    @Override
+    CacheData authoritative(int index, int generation) {
+      String account = account(index);
+      String region = region(index);
+      String name = name(index);
+
+      Map<String, Object> asg = new HashMap<>();
+      asg.put("autoScalingGroupName", name);
+      asg.put("minSize", 1);
+      asg.put("maxSize", 10);
+      asg.put("desiredCapacity", 1 + generation % 10);
+      asg.put("healthCheckType", "ELB");
+      asg.put("availabilityZones", List.of(region + "a", region + "b", region + "c"));
+      asg.put("tags", List.of(Map.of("key", "owner", "value", app(index) + "@example.com")));
+
+      Map<String, Object> attributes = new HashMap<>();
+      attributes.put("application", app(index));
+      attributes.put("name", name);
+      attributes.put("account", account);
+      attributes.put("region", region);
+      attributes.put("launchConfigName", name + "-" + generation);
+      attributes.put("asg", asg);
+
+      List<String> instances = new ArrayList<>();
+      for (int i = 0; i < INSTANCES_PER_SERVER_GROUP; i++) {
+        instances.add(
+            String.format(
+                "aws:instances:%s:%s:i-%08x%08x", account, region, index, i + generation));
+      }
+
+      Map<String, Collection<String>> relationships = new HashMap<>();
+      relationships.put("instances", instances);
+      relationships.put(
+          "loadBalancers",
+          List.of(
+              String.format(
+                  "aws:loadBalancers:%s:%s:%s-frontend", account, region, cluster(index))));
+      relationships.put(
+          "launchConfigs",
+          List.of(
+              String.format("aws:launchConfigs:%s:%s:%s-%d", account, region, name, generation)));
+      relationships.put(
+          "clusters",
+          List.of(String.format("aws:clusters:%s:%s:%s", app(index), account, cluster(index))));
+      relationships.put("applications", List.of("aws:applications:" + app(index)));
+
+      return new DefaultCacheData(id(index), attributes, relationships);
+    }
+
+    @Override
+    CacheData informative(int index, int generation) {
+      Map<String, Collection<String>> relationships = new HashMap<>();
+      relationships.put(
+          getInformativeType(),
+          List.of(
+              String.format(
+                  "aws:targetGroups:%s:%s:%s-tg-%d",
+                  account(index), region(index), app(index), generation)));
+      return new DefaultCacheData(id(index), Map.of(), relationships);
+    }
+
+    private String app(int index) {
+      return "app" + index / 10;
+    }
+
+    private String cluster(int index) {
+      return app(index) + "-main";
+    }
+
+    private String name(int index) {
+      return String.format("%s-v%03d", cluster(index), index % 10);
+    }
+
+    private String account(int index) {
+      return index % 2 == 0 ? "prod" : "test";
+    }
+
+    private String region(int index) {
+      return index % 3 == 0 ? "us-west-2" : "us-east-1";
+    }
+  },
+
+  KUBERNETES(
+      "replicaSet", "pod", "service", "kubernetes.v2:infrastructure:replicaSet:*:team1:*") {
+    @Override
+    String id(int index) {
+      return String.format(
+          "kubernetes.v2:infrastructure:replicaSet:%s:%s:%s",
+          account(index), namespace(index), name(index));
+    }
+
+    @Override
+    CacheData authoritative(int index, int generation) {
+      String account = account(index);
+      String namespace = namespace(index);
+      String name = name(index);
+
+      Map<String, Object> metadata = new HashMap<>();
+      metadata.put("name", name);
+      metadata.put("namespace", namespace);
+      metadata.put(
+          "labels",
+          Map.of(
+              "app.kubernetes.io/name", app(index),
+              "app.kubernetes.io/managed-by", "spinnaker",
+              "pod-template-hash", hash(index)));
+      metadata.put(
+          "annotations",
+          Map.of(
+              "artifact.spinnaker.io/name", app(index),
+              "artifact.spinnaker.io/type", "kubernetes/replicaSet",
+              "moniker.spinnaker.io/application", app(index),
+              "deployment.kubernetes.io/revision", Integer.toString(generation)));
+
+      Map<String, Object> container = new HashMap<>();
+      container.put("name", app(index));
+      container.put("image", "registry.example.com/" + app(index) + ":" + generation);
+      container.put("ports", List.of(Map.of("containerPort", 8080, "protocol", "TCP")));
+
+      Map<String, Object> spec = new HashMap<>();
+      spec.put("replicas", PODS_PER_REPLICA_SET);
+      spec.put("template", Map.of("spec", Map.of("containers", List.of(container))));
+
+      Map<String, Object> manifest = new HashMap<>();
+      manifest.put("apiVersion", "apps/v1");
+      manifest.put("kind", "ReplicaSet");
+      manifest.put("metadata", metadata);
+      manifest.put("spec", spec);
+
+      Map<String, Object> attributes = new HashMap<>();
+      attributes.put("account", account);
+      attributes.put("name", name);
+      attributes.put("namespace", namespace);
+      attributes.put("kind", "replicaSet");
+      attributes.put("apiVersion", "apps/v1");
+      attributes.put("manifest", manifest);
+
+      List<String> pods = new ArrayList<>();
+      for (int i = 0; i < PODS_PER_REPLICA_SET; i++) {
+        pods.add(
+            String.format(
+                "kubernetes.v2:infrastructure:pod:%s:%s:%s-%05x",
+                account, namespace, name, i + generation));
+      }
+
+      Map<String, Collection<String>> relationships = new HashMap<>();
+      relationships.put("pod", pods);
+      relationships.put(
+          "deployment",
+          List.of(
+              String.format(
+                  "kubernetes.v2:infrastructure:deployment:%s:%s:%s",
+                  account, namespace, app(index))));
+      relationships.put(
+          "applications", List.of("kubernetes.v2:logical:applications:" + app(index)));
+      relationships.put(
+          "clusters",
+          List.of(
+              String.format(
+                  "kubernetes.v2:logical:clusters:%s:%s:deployment %s",
+                  account, app(index), app(index))));
+
+      return new DefaultCacheData(id(index), attributes, relationships);
+    }
+
+    @Override
+    CacheData informative(int index, int generation) {
+      Map<String, Collection<String>> relationships = new HashMap<>();
+      relationships.put(
+          getInformativeType(),
+          List.of(
+              String.format(
+                  "kubernetes.v2:infrastructure:service:%s:%s:%s-svc-%d",
+                  account(index), namespace(index), app(index), generation)));
+      return new DefaultCacheData(id(index), Map.of(), relationships);
+    }
+
+    private String app(int index) {
+      return "app" + index / 5;
+    }
+
+    private String hash(int index) {
+      return String.format("%010x", (long) index * 2654435761L);
+    }
+
+    private String name(int index) {
+      return app(index) + "-" + hash(index);
+    }
+
+    private String account(int index) {
+      return "k8s-" + index % 3;
+    }
+
+    private String namespace(int index) {
+      return "team" + index % 4;
+    }
+  };
+
+  static final int INSTANCES_PER_SERVER_GROUP = 10;
+  static final int PODS_PER_REPLICA_SET = 5;
+
+  private final String type;
+  private final String relationshipType;
+  private final String informativeType;
+  private final String glob;
+
+  SyntheticDataset(String type, String relationshipType, String informativeType, String glob) {
+    this.type = type;
+    this.relationshipType = relationshipType;
+    this.informativeType = informativeType;
+    this.glob = glob;
+  }
+
+  /** The cache type all items of this dataset are stored under. */
+  String getType() {
+    return type;
+  }
+
+  /** A relationship type every item has, used to benchmark filtered reads. */
+  String getRelationshipType() {
+    return relationshipType;
+  }
+
+  /**
+   * The type the informative agent is authoritative for. Its items of {@link #getType()} only
+   * contribute relationships to this type.
+   */
+  String getInformativeType() {
+    return informativeType;
+  }
+
+  /** A glob matching a subset of the identifiers. */
+  String getGlob() {
+    return glob;
+  }
+
+  abstract String id(int index);
+
+  /** A full item, as written by the agent that is authoritative for {@link #getType()}. */
+  abstract CacheData authoritative(int index, int generation);
+
+  /** A relationship-only item, as written by an agent that is informative for the type. */
+  abstract CacheData informative(int index, int generation);
+
+  List<String> ids(int size) {
+    List<String> ids = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      ids.add(id(i));
+    }
+    return ids;
+  }
+
+  List<CacheData> authoritative(int size, int generation) {
+    List<CacheData> items = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      items.add(authoritative(i, generation));
+    }
+    return items;
+  }
+
+  List<CacheData> informative(int size, int generation) {
+    List<CacheData> items = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      items.add(informative(i, generation));
+    }
+    return items;
+  }
+}
@@ -18,6 +18,13 @@ package com.netflix.spinnaker.cats.agent;
 
 import java.util.Collection;
 
+/**
+ * Reports to all of the given instrumentations.
+ *
+ * <p>Binds each execution to the thread running it between {@link #executionStarted(Agent)} and
+ * its completion, so the phases the agent records with {@link ExecutionPhaseRecorder} are reported
+ * as well.
+ */
 public class CompositeExecutionInstrumentation implements ExecutionInstrumentation {
   private final Collection<ExecutionInstrumentation> instrumentations;
 
@@ -27,6 +34,7 @@ public class CompositeExecutionInstrumentation implements ExecutionInstrumentati
 
   @Override
   public void executionStarted(Agent agent) {
+    ExecutionPhaseRecorder.bind(agent, this);
     for (ExecutionInstrumentation exec : instrumentations) {
       exec.executionStarted(agent);
     }
@@ -34,6 +42,7 @@ public class CompositeExecutionInstrumentation implements ExecutionInstrumentati
 
   @Override
   public void executionCompleted(Agent agent, long elapsedMs) {
+    ExecutionPhaseRecorder.unbind(agent);
     for (ExecutionInstrumentation exec : instrumentations) {
       exec.executionCompleted(agent, elapsedMs);
     }
@@ -41,8 +50,17 @@ public class CompositeExecutionInstrumentation implements ExecutionInstrumentati
 
   @Override
   public void executionFailed(Agent agent, Throwable cause, long elapsedMs) {
+    ExecutionPhaseRecorder.unbind(agent);
     for (ExecutionInstrumentation exec : instrumentations) {
       exec.executionFailed(agent, cause, elapsedMs);
     }
   }
+
+  @Override
+  public void executionPhaseCompleted(
+      Agent agent, ExecutionPhase phase, long elapsedMs, long itemCount, long bytesWritten) {
+    for (ExecutionInstrumentation exec : instrumentations) {
+      exec.executionPhaseCompleted(agent, phase, elapsedMs, itemCount, bytesWritten);
+    }
+  }
 }
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.cats.cache;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * A CacheData with a small heap footprint, for types with many items or large relationship sets.
+ *
+ * <ul>
+ *   <li>attribute names and relationship types are interned and stored in arrays rather than
+ *       hash maps
+ *   <li>relationship keys are stored as interned (prefix, suffix) tuples, see {@link CompactKeys}
+ *   <li>attributes can be supplied lazily, in which case they are only decoded on first access
+ * </ul>
+ *
+ * <p>{@link #getAttributes()} returns a view that copies the attributes into a hash map the first
+ * time it is modified, so caching agents can update the items they read back before storing them
+ * again. {@link #getRelationships()} returns a read-only view; callers that need to modify it must
+ * copy it first.
+ */
+public final class CompactCacheData implements CacheData {
+  private static final String[] NO_NAMES = new String[0];
+  private static final Object[] NO_VALUES = new Object[0];
+  private static final CompactKeys[] NO_KEYS = new CompactKeys[0];
+
+  private final String id;
+  private final int ttlSeconds;
+  private final String[] relationshipTypes;
+  private final CompactKeys[] relationshipKeys;
+
+  private volatile Supplier<Map<String, Object>> attributeSource;
+  private volatile String[] attributeNames = NO_NAMES;
+  private volatile Object[] attributeValues = NO_VALUES;
+  private volatile Map<String, Object> modifiedAttributes;
+
+  public CompactCacheData(
+      String id,
+      int ttlSeconds,
+      Map<String, Object> attributes,
+      Map<String, Collection<String>> relationships) {
+    this(id, ttlSeconds, (Supplier<Map<String, Object>>) null, relationships);
+    setAttributes(attributes);
+  }
+
+  private CompactCacheData(
+      String id,
+      int ttlSeconds,
+      Supplier<Map<String, Object>> attributeSource,
+      Map<String, Collection<String>> relationships) {
+    this.id = id;
+    this.ttlSeconds = ttlSeconds;
+    this.attributeSource = attributeSource;
+
+    if (relationships == null || relationships.isEmpty()) {
+      this.relationshipTypes = NO_NAMES;
+      this.relationshipKeys = NO_KEYS;
+    } else {
+      this.relationshipTypes = new String[relationships.size()];
+      this.relationshipKeys = new CompactKeys[relationships.size()];
+      int i = 0;
+      for (Map.Entry<String, Collection<String>> entry : relationships.entrySet()) {
+        relationshipTypes[i] = CompactKeys.intern(entry.getKey());
+        relationshipKeys[i] =
+            CompactKeys.copyOf(
+                entry.getValue() == null ? Collections.emptyList() : entry.getValue());
+        i++;
+      }
+    }
+  }
+
+  /**
+   * Creates a CacheData whose attributes are only decoded from {@code attributeSource} when they
+   * are first accessed, e.g. from a serialized body.
+   */
+  public static CompactCacheData lazy(
+      String id,
+      int ttlSeconds,
+      Supplier<Map<String, Object>> attributeSource,
+      Map<String, Collection<String>> relationships) {
+    return new CompactCacheData(
+        id, ttlSeconds, Objects.requireNonNull(attributeSource), relationships);
+  }
+
+  public static CompactCacheData copyOf(CacheData cacheData) {
+    if (cacheData instanceof CompactCacheData) {
+      return (CompactCacheData) cacheData;
+    }
+    return new CompactCacheData(
+        cacheData.getId(),
+        cacheData.getTtlSeconds(),
+        cacheData.getAttributes(),
+        cacheData.getRelationships());
+  }
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public int getTtlSeconds() {
+    return ttlSeconds;
+  }
+
+  @Override
+  public Map<String, Object> getAttributes() {
+    Map<String, Object> modified = modifiedAttributes;
+    if (modified != null) {
+      return modified;
+    }
+
+    if (attributeSource != null) {
+      synchronized (this) {
+        Supplier<Map<String, Object>> source = attributeSource;
+        if (source != null) {
+          setAttributes(source.get());
+          attributeSource = null;
+        }
+      }
+    }
+    return new ArrayMap<>(attributeNames, attributeValues) {
+      @Override
+      Map<String, Object> modified() {
+        return modifiedAttributes;
+      }
+
+      @Override
+      Map<String, Object> modify() {
+        return modifyAttributes();
+      }
+    };
+  }
+
+  @Override
+  public Map<String, Collection<String>> getRelationships() {
+    return new ArrayMap<>(relationshipTypes, relationshipKeys);
+  }
+
+  private synchronized Map<String, Object> modifyAttributes() {
+    if (modifiedAttributes == null) {
+      Map<String, Object> attributes = new LinkedHashMap<>(attributeNames.length);
+      for (int i = 0; i < attributeNames.length; i++) {
+        attributes.put(attributeNames[i], attributeValues[i]);
+      }
+      modifiedAttributes = attributes;
+      attributeNames = NO_NAMES;
+      attributeValues = NO_VALUES;
+    }
+    return modifiedAttributes;
+  }
+
+  private void setAttributes(Map<String, Object> attributes) {
+    if (attributes == null || attributes.isEmpty()) {
+      return;
+    }
+    String[] names = new String[attributes.size()];
+    Object[] values = new Object[attributes.size()];
+    int i = 0;
+    for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+      names[i] = CompactKeys.intern(entry.getKey());
+      values[i] = entry.getValue();
+      i++;
+    }
+    // values are published before names, readers only look at values through names
+    attributeValues = values;
+    attributeNames = names;
+  }
+
+  /**
+   * A map view over parallel key and value arrays. Unless {@link #modify()} is overridden, the view
+   * is read-only; otherwise the first modification goes to the map it returns, which serves every
+   * later read.
+   */
+  private static class ArrayMap<V> extends AbstractMap<String, V> {
+    private final String[] keys;
+    private final V[] values;
+
+    @SuppressWarnings("unchecked")
+    ArrayMap(String[] keys, Object[] values) {
+      this.keys = keys;
+      this.values = (V[]) values;
+    }
+
+    /** @return the map holding modifications, if the view was modified */
+    Map<String, V> modified() {
+      return null;
+    }
+
+    /** @return the map to apply a modification to */
+    Map<String, V> modify() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int size() {
+      Map<String, V> modified = modified();
+      return modified != null ? modified.size() : keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      Map<String, V> modified = modified();
+      return modified != null ? modified.containsKey(key) : indexOf(key) != -1;
+    }
+
+    @Override
+    public V get(Object key) {
+      Map<String, V> modified = modified();
+      if (modified != null) {
+        return modified.get(key);
+      }
+      int idx = indexOf(key);
+      return idx == -1 ? null : values[idx];
+    }
+
+    @Override
+    public V put(String key, V value) {
+      return modify().put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+      return modify().remove(key);
+    }
+
+    @Override
+    public void clear() {
+      modify().clear();
+    }
+
+    private int indexOf(Object key) {
+      for (int i = 0; i < keys.length; i++) {
+        if (keys[i].equals(key)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+      Map<String, V> modified = modified();
+      if (modified != null) {
+        return modified.entrySet();
+      }
+
+      return new AbstractSet<Entry<String, V>>() {
+        @Override
+        public Iterator<Entry<String, V>> iterator() {
+          return new Iterator<Entry<String, V>>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+              return next < keys.length;
+            }
+
+            @Override
+            public Entry<String, V> next() {
+              if (!hasNext()) {
+                throw new NoSuchElementException();
+              }
+              int i = next++;
+              return new SimpleEntry<>(keys[i], values[i]) {
+                @Override
+                public V setValue(V value) {
+                  super.setValue(value);
+                  return modify().put(getKey(), value);
+                }
+              };
+            }
+
+            @Override
+            public void remove() {
+              if (next == 0) {
+                throw new IllegalStateException();
+              }
+              modify().remove(keys[next - 1]);
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return keys.length;
+        }
+      };
+    }
+  }
+}
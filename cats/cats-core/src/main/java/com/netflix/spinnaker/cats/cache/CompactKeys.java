@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.cats.cache;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of cache keys stored as (prefix, suffix) tuples split at the last {@code :}.
+ *
+ * <p>Both parts are interned, so the prefix shared by all keys of a relationship type (e.g. {@code
+ * aws:instances:prod:us-east-1:}) is held once per process and a key referenced from many items
+ * only stores its suffix once. Keys are re-assembled on access.
+ */
+final class CompactKeys extends AbstractList<String> implements RandomAccess {
+  private static final Interner<String> PARTS = Interners.newWeakInterner();
+
+  private static final String[] EMPTY = new String[0];
+
+  private final String[] prefixes;
+  private final String[] suffixes;
+
+  private CompactKeys(String[] prefixes, String[] suffixes) {
+    this.prefixes = prefixes;
+    this.suffixes = suffixes;
+  }
+
+  static CompactKeys copyOf(Collection<String> keys) {
+    if (keys instanceof CompactKeys) {
+      return (CompactKeys) keys;
+    }
+    if (keys.isEmpty()) {
+      return new CompactKeys(EMPTY, EMPTY);
+    }
+
+    String[] prefixes = new String[keys.size()];
+    String[] suffixes = new String[keys.size()];
+    int i = 0;
+    for (String key : keys) {
+      int idx = key.lastIndexOf(':') + 1;
+      prefixes[i] = intern(key.substring(0, idx));
+      suffixes[i] = intern(key.substring(idx));
+      i++;
+    }
+    return new CompactKeys(prefixes, suffixes);
+  }
+
+  static String intern(String value) {
+    return value == null ? null : PARTS.intern(value);
+  }
+
+  @Override
+  public String get(int index) {
+    return prefixes[index].concat(suffixes[index]);
+  }
+
+  @Override
+  public int size() {
+    return suffixes.length;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return indexOf(o) != -1;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    if (!(o instanceof String)) {
+      return -1;
+    }
+    String key = (String) o;
+    for (int i = 0; i < suffixes.length; i++) {
+      if (key.length() == prefixes[i].length() + suffixes[i].length()
+          && key.startsWith(prefixes[i])
+          && key.endsWith(suffixes[i])) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
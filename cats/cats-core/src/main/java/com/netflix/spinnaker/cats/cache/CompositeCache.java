@@ -151,6 +151,20 @@ public class CompositeCache implements Cache {
     return allItems;
   }
 
+  @Override
+  public boolean supportsVersions() {
+    return caches.stream().allMatch(Cache::supportsVersions);
+  }
+
+  @Override
+  public String getVersion(String type) {
+    StringJoiner version = new StringJoiner(",");
+    for (Cache cache : caches) {
+      version.add(cache.getVersion(type));
+    }
+    return version.toString();
+  }
+
   Map<String, CacheData> merge(
       Map<String, CacheData> existingItems, Collection<CacheData> results) {
     final Map<String, CacheData> allItems =
@@ -0,0 +1,360 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.cats.cluster;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.netflix.spectator.api.Id;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spinnaker.cats.agent.AccountAware;
+import com.netflix.spinnaker.cats.agent.Agent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs caching agents on a fixed number of threads, sharing them fairly between providers.
+ *
+ * <p>Agents that are waiting for a thread are queued by provider and, within a provider, by
+ * account. Whenever a thread is free it runs the next agent of the provider that has had the
+ * smallest share of the threads relative to its weight, taking the accounts of that provider in
+ * turn. A provider with many slow agents, such as a Kubernetes account with hundreds of namespaces,
+ * therefore only delays the agents of other providers by its share of the threads instead of all of
+ * them.
+ *
+ * <p>Providers are identified by the name of their provider without its package, for example
+ * {@code kubernetes} or {@code AwsProvider}, and weigh 1 unless configured otherwise.
+ *
+ * <p>The time each agent waits for a thread is recorded as the {@code queueWaitTime} timer. Note
+ * that agents are queued after the scheduler acquired their lock, so that time counts towards the
+ * agent's timeout.
+ */
+public class FairAgentExecutor extends AbstractExecutorService {
+  /** A task running an agent, which is queued with the other agents of its provider and account. */
+  public interface AgentTask extends Runnable {
+    Agent getAgent();
+  }
+
+  private static final Logger log = LoggerFactory.getLogger(FairAgentExecutor.class);
+
+  private static final String UNKNOWN = "unknown";
+
+  private final Map<String, Integer> providerWeights;
+  private final Registry registry;
+  private final Id queueWaitId;
+  private final List<Thread> workers;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition terminated = lock.newCondition();
+  private final Map<String, ProviderQueue> providers = new HashMap<>();
+  private double virtualTime = 0;
+  private int queued = 0;
+  private int liveWorkers;
+  private boolean shutdown = false;
+
+  public FairAgentExecutor(int threads, Map<String, Integer> providerWeights, Registry registry) {
+    if (threads <= 0) {
+      throw new IllegalArgumentException("Argument 'threads' must be positive.");
+    }
+    this.providerWeights = new HashMap<>(providerWeights);
+    this.registry = registry;
+    this.queueWaitId =
+        registry
+            .createId("queueWaitTime")
+            .withTag("className", FairAgentExecutor.class.getSimpleName());
+
+    ThreadFactory threadFactory =
+        new ThreadFactoryBuilder()
+            .setNameFormat(FairAgentExecutor.class.getSimpleName() + "-%d")
+            .build();
+    List<Thread> workers = new ArrayList<>(threads);
+    for (int i = 0; i < threads; i++) {
+      workers.add(threadFactory.newThread(this::work));
+    }
+    this.workers = Collections.unmodifiableList(workers);
+    this.liveWorkers = threads;
+    workers.forEach(Thread::start);
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    Agent agent = command instanceof AgentTask ? ((AgentTask) command).getAgent() : null;
+    String provider = agent == null ? UNKNOWN : providerName(agent);
+    String account =
+        agent instanceof AccountAware ? ((AccountAware) agent).getAccountName() : UNKNOWN;
+
+    lock.lock();
+    try {
+      if (shutdown) {
+        throw new RejectedExecutionException("Agent executor has been shut down");
+      }
+      ProviderQueue queue =
+          providers.computeIfAbsent(
+              provider, p -> new ProviderQueue(providerWeights.getOrDefault(p, 1)));
+      if (queue.isEmpty()) {
+        // an idle provider doesn't save up a share of the threads for later
+        queue.pass = Math.max(queue.pass, virtualTime);
+      }
+      queue.add(account, new QueuedTask(command, agent, System.nanoTime()));
+      queued++;
+      notEmpty.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+    if (runnable instanceof AgentTask) {
+      return new AgentFutureTask<>(runnable, value, ((AgentTask) runnable).getAgent());
+    }
+    return super.newTaskFor(runnable, value);
+  }
+
+  private void work() {
+    try {
+      QueuedTask task;
+      while ((task = take()) != null) {
+        if (task.agent != null) {
+          registry
+              .timer(queueWaitId.withTag("agent", agentName(task.agent)))
+              .record(System.nanoTime() - task.queuedAt, TimeUnit.NANOSECONDS);
+        }
+        try {
+          task.command.run();
+        } catch (Throwable t) {
+          log.error("Failed running agent task {}", task.command, t);
+        }
+        // don't carry an interrupt aimed at this task over to the next one
+        Thread.interrupted();
+      }
+    } finally {
+      lock.lock();
+      try {
+        liveWorkers--;
+        if (liveWorkers == 0) {
+          terminated.signalAll();
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /** Takes the next task to run, or returns null once the executor is shut down and drained. */
+  private QueuedTask take() {
+    lock.lock();
+    try {
+      while (queued == 0) {
+        if (shutdown) {
+          return null;
+        }
+        try {
+          notEmpty.await();
+        } catch (InterruptedException e) {
+          if (shutdown) {
+            return null;
+          }
+        }
+      }
+
+      ProviderQueue next = null;
+      for (ProviderQueue queue : providers.values()) {
+        if (!queue.isEmpty() && (next == null || queue.pass < next.pass)) {
+          next = queue;
+        }
+      }
+      virtualTime = next.pass;
+      next.pass += 1.0 / next.weight;
+      queued--;
+      return next.poll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    lock.lock();
+    try {
+      shutdown = true;
+      notEmpty.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    List<Runnable> pending = new ArrayList<>();
+    lock.lock();
+    try {
+      shutdown = true;
+      for (ProviderQueue queue : providers.values()) {
+        QueuedTask task;
+        while ((task = queue.poll()) != null) {
+          pending.add(task.command);
+        }
+      }
+      queued = 0;
+      notEmpty.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    workers.forEach(Thread::interrupt);
+    return pending;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    lock.lock();
+    try {
+      return shutdown;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean isTerminated() {
+    lock.lock();
+    try {
+      return shutdown && liveWorkers == 0;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    lock.lock();
+    try {
+      while (!(shutdown && liveWorkers == 0)) {
+        if (nanos <= 0) {
+          return false;
+        }
+        nanos = terminated.awaitNanos(nanos);
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Returns the number of agents waiting for a thread, by provider. */
+  public Map<String, Integer> getQueuedAgents() {
+    lock.lock();
+    try {
+      Map<String, Integer> result = new HashMap<>();
+      providers.forEach((name, queue) -> result.put(name, queue.size));
+      return result;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static String providerName(Agent agent) {
+    String providerName = agent.getProviderName();
+    return providerName == null
+        ? UNKNOWN
+        : providerName.substring(providerName.lastIndexOf('.') + 1);
+  }
+
+  private static String agentName(Agent agent) {
+    return String.format("%s/%s", providerName(agent), agent.getAgentType());
+  }
+
+  private static final class QueuedTask {
+    private final Runnable command;
+    private final Agent agent;
+    private final long queuedAt;
+
+    QueuedTask(Runnable command, Agent agent, long queuedAt) {
+      this.command = command;
+      this.agent = agent;
+      this.queuedAt = queuedAt;
+    }
+  }
+
+  /** The agents of a provider waiting for a thread, taking its accounts in turn. */
+  private static final class ProviderQueue {
+    private final int weight;
+    private final LinkedHashMap<String, Deque<QueuedTask>> accounts = new LinkedHashMap<>();
+    private double pass = 0;
+    private int size = 0;
+
+    ProviderQueue(int weight) {
+      this.weight = Math.max(weight, 1);
+    }
+
+    boolean isEmpty() {
+      return size == 0;
+    }
+
+    void add(String account, QueuedTask task) {
+      accounts.computeIfAbsent(account, a -> new ArrayDeque<>()).add(task);
+      size++;
+    }
+
+    QueuedTask poll() {
+      Iterator<Map.Entry<String, Deque<QueuedTask>>> iterator = accounts.entrySet().iterator();
+      if (!iterator.hasNext()) {
+        return null;
+      }
+      Map.Entry<String, Deque<QueuedTask>> next = iterator.next();
+      iterator.remove();
+      QueuedTask task = next.getValue().poll();
+      if (!next.getValue().isEmpty()) {
+        // the account goes to the back of the line
+        accounts.put(next.getKey(), next.getValue());
+      }
+      size--;
+      return task;
+    }
+  }
+
+  private static final class AgentFutureTask<T> extends FutureTask<T> implements AgentTask {
+    private final Agent agent;
+
+    AgentFutureTask(Runnable runnable, T result, Agent agent) {
+      super(runnable, result);
+      this.agent = agent;
+    }
+
+    @Override
+    public Agent getAgent() {
+      return agent;
+    }
+  }
+}
@@ -18,6 +18,7 @@ package com.netflix.spinnaker.cats.mem;
 
 import com.netflix.spinnaker.cats.cache.CacheData;
 import com.netflix.spinnaker.cats.cache.CacheFilter;
+import com.netflix.spinnaker.cats.cache.CompactCacheData;
 import com.netflix.spinnaker.cats.cache.DefaultCacheData;
 import com.netflix.spinnaker.cats.cache.WriteableCache;
 import java.util.ArrayList;
@@ -34,14 +35,20 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
-/** A WriteableCache that stores objects in an in-memory map. */
+/**
+ * A WriteableCache that stores objects in an in-memory map.
+ *
+ * <p>Items are held as {@link CompactCacheData}, which shares attribute names and relationship key
+ * parts between items, and are replaced as a whole on every merge.
+ */
 public class InMemoryCache implements WriteableCache {
   private ConcurrentMap<String, ConcurrentMap<String, CacheData>> typeMap =
       new ConcurrentHashMap<>();
 
   @Override
   public void merge(String type, CacheData cacheData) {
-    merge(getOrCreate(type, cacheData.getId()), cacheData);
+    getTypeMap(type)
+        .compute(cacheData.getId(), (id, existing) -> merge(id, existing, cacheData));
   }
 
   @Override
@@ -142,10 +149,6 @@ public class InMemoryCache implements WriteableCache {
     return matches;
   }
 
-  private CacheData getOrCreate(String type, String id) {
-    return getCacheData(getTypeMap(type), id);
-  }
-
   private ConcurrentMap<String, CacheData> getTypeMap(String type) {
     ConcurrentMap<String, CacheData> newValue = new ConcurrentHashMap<>();
     ConcurrentMap<String, CacheData> existing = typeMap.putIfAbsent(type, newValue);
@@ -161,38 +164,39 @@ public class InMemoryCache implements WriteableCache {
       return null;
     }
 
-    Map<String, Collection<String>> relationships = data.getRelationships();
+    // relationship keys are decoded into mutable collections, as the other cache implementations
+    // return them
+    Map<String, Collection<String>> stored = data.getRelationships();
+    Collection<String> relationshipTypes = stored.keySet();
     if (cacheFilter != null) {
-      relationships = new HashMap<>();
-      for (String relationship :
-          cacheFilter.filter(CacheFilter.Type.RELATIONSHIP, data.getRelationships().keySet())) {
-        relationships.put(relationship, data.getRelationships().get(relationship));
-      }
+      relationshipTypes = cacheFilter.filter(CacheFilter.Type.RELATIONSHIP, relationshipTypes);
     }
-
-    return new DefaultCacheData(data.getId(), data.getAttributes(), relationships);
-  }
-
-  private CacheData getCacheData(ConcurrentMap<String, CacheData> map, String id) {
-    CacheData newValue = new BackingData(id);
-    CacheData existing = map.putIfAbsent(id, newValue);
-    if (existing == null) {
-      return newValue;
+    Map<String, Collection<String>> relationships = new HashMap<>();
+    for (String relationship : relationshipTypes) {
+      Collection<String> keys = stored.get(relationship);
+      relationships.put(relationship, keys == null ? null : new ArrayList<>(keys));
     }
 
-    return existing;
+    return new DefaultCacheData(data.getId(), data.getAttributes(), relationships);
   }
 
-  private void merge(CacheData existing, CacheData update) {
+  /**
+   * Attributes are replaced by those of the update, relationships are replaced per relationship
+   * type. Null values remove the corresponding attribute or relationship type.
+   */
+  private static CacheData merge(String id, CacheData existing, CacheData update) {
     MapMutation<String, Object> attributes = new MapMutation<>(update.getAttributes());
     MapMutation<String, Collection<String>> relationships =
         new MapMutation<>(update.getRelationships());
 
-    Set<String> missingAttributes = new HashSet<>(existing.getAttributes().keySet());
-    missingAttributes.removeAll(update.getAttributes().keySet());
-    attributes.apply(existing.getAttributes());
-    existing.getAttributes().keySet().removeAll(missingAttributes);
-    relationships.apply(existing.getRelationships());
+    Map<String, Object> mergedAttributes = new HashMap<>();
+    attributes.apply(mergedAttributes);
+
+    Map<String, Collection<String>> mergedRelationships =
+        existing == null ? new HashMap<>() : new HashMap<>(existing.getRelationships());
+    relationships.apply(mergedRelationships);
+
+    return new CompactCacheData(id, -1, mergedAttributes, mergedRelationships);
   }
 
   /**
@@ -226,37 +230,6 @@ public class InMemoryCache implements WriteableCache {
     }
   }
 
-  private static class BackingData implements CacheData {
-    private final ConcurrentMap<String, Object> attributes = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, Collection<String>> relationships =
-        new ConcurrentHashMap<>();
-    private final String id;
-
-    public BackingData(String id) {
-      this.id = id;
-    }
-
-    @Override
-    public String getId() {
-      return id;
-    }
-
-    @Override
-    public int getTtlSeconds() {
-      return -1;
-    }
-
-    @Override
-    public Map<String, Object> getAttributes() {
-      return attributes;
-    }
-
-    @Override
-    public Map<String, Collection<String>> getRelationships() {
-      return relationships;
-    }
-  }
-
   public static class Glob {
     private static final String TOKENS = "*?[]\\";
 
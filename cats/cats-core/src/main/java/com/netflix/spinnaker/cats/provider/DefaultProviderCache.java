@@ -220,7 +220,7 @@ public class DefaultProviderCache implements ProviderCache {
     if (relationship == null) {
       return new HashSet<>();
     }
-    return relationship;
+    return new HashSet<>(relationship);
   }
 
   private void cacheDataType(String type, String sourceAgentType, Collection<CacheData> items) {
@@ -16,6 +16,7 @@
 
 package com.netflix.spinnaker.cats.agent
 
+import com.netflix.spinnaker.cats.cache.CacheData
 import spock.lang.Specification
 
 class CompositeExecutionInstrumentationSpec extends Specification {
@@ -49,4 +50,27 @@ class CompositeExecutionInstrumentationSpec extends Specification {
         1 * e1.executionFailed(agent, cause, 100)
         1 * e2.executionFailed(agent, cause, 100)
     }
+
+    def 'reports the phases recorded while an agent executes'() {
+        setup:
+        ExecutionInstrumentation e1 = Mock(ExecutionInstrumentation)
+        ExecutionInstrumentation e2 = Mock(ExecutionInstrumentation)
+        CompositeExecutionInstrumentation subj = new CompositeExecutionInstrumentation(Arrays.asList(e1, e2))
+        CachingAgent agent = Stub(CachingAgent)
+        CacheResult result = new DefaultCacheResult([serverGroups: [Stub(CacheData), Stub(CacheData)]])
+
+        when:
+        subj.executionStarted(agent)
+        ExecutionPhaseRecorder.record(ExecutionPhase.PUT_CACHE_RESULT, {
+            ExecutionPhaseRecorder.addBytesWritten(42)
+            result
+        }, ExecutionPhaseRecorder.&itemCount)
+        subj.executionCompleted(agent, 100)
+        ExecutionPhaseRecorder.record(ExecutionPhase.LOAD_DATA, 10, 1)
+
+        then:
+        1 * e1.executionPhaseCompleted(agent, ExecutionPhase.PUT_CACHE_RESULT, _, 2, 42)
+        1 * e2.executionPhaseCompleted(agent, ExecutionPhase.PUT_CACHE_RESULT, _, 2, 42)
+        0 * e1.executionPhaseCompleted(agent, ExecutionPhase.LOAD_DATA, _, _, _)
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.cats.cache
+
+import spock.lang.Specification
+
+import java.util.function.Supplier
+
+class CompactCacheDataSpec extends Specification {
+
+  def "should expose attributes and relationships of the source data"() {
+    given:
+    def source = new DefaultCacheData(
+      "aws:serverGroups:app-main:prod:us-east-1:app-main-v001",
+      [name: "app-main-v001", capacity: [min: 1, max: 3]],
+      [
+        instances    : ["aws:instances:prod:us-east-1:i-1", "aws:instances:prod:us-east-1:i-2"],
+        applications : ["app"],
+        loadBalancers: []
+      ]
+    )
+
+    when:
+    def cacheData = CompactCacheData.copyOf(source)
+
+    then:
+    cacheData.id == source.id
+    cacheData.attributes == source.attributes
+    cacheData.attributes.capacity.max == 3
+    cacheData.relationships.keySet() == ["instances", "applications", "loadBalancers"] as Set
+    cacheData.relationships.instances as List == ["aws:instances:prod:us-east-1:i-1", "aws:instances:prod:us-east-1:i-2"]
+    cacheData.relationships.applications as List == ["app"]
+    cacheData.relationships.loadBalancers.isEmpty()
+    cacheData.relationships.instances.contains("aws:instances:prod:us-east-1:i-2")
+    !cacheData.relationships.instances.contains("aws:instances:prod:us-east-1:i-3")
+  }
+
+  def "should share relationship key parts between items"() {
+    given:
+    def first = CompactCacheData.copyOf(new DefaultCacheData("sg1", [:], [instances: [new String("aws:instances:prod:us-east-1:i-1")]]))
+    def second = CompactCacheData.copyOf(new DefaultCacheData("sg2", [:], [instances: [new String("aws:instances:prod:us-east-1:i-1")]]))
+
+    expect:
+    first.relationships.instances.@prefixes[0].is(second.relationships.instances.@prefixes[0])
+    first.relationships.instances.@suffixes[0].is(second.relationships.instances.@suffixes[0])
+  }
+
+  def "should decode lazy attributes once on first access"() {
+    given:
+    def source = Mock(Supplier)
+    def cacheData = CompactCacheData.lazy("id", -1, source, [rel: ["a:b"]])
+
+    when:
+    cacheData.relationships
+
+    then:
+    0 * source.get()
+
+    when:
+    def attributes = cacheData.attributes
+    cacheData.attributes
+
+    then:
+    1 * source.get() >> [name: "value"]
+    attributes == [name: "value"]
+  }
+
+  def "should keep modifications of attributes read before them"() {
+    given:
+    def cacheData = CompactCacheData.lazy("id", -1, { [name: "value", processedCount: 1] } as Supplier, [:])
+    def attributes = cacheData.attributes
+
+    when:
+    attributes.put("processedTime", 1000L)
+    attributes.compute("processedCount", { key, count -> count + 1 })
+    attributes.remove("name")
+
+    then:
+    cacheData.attributes == [processedCount: 2, processedTime: 1000L]
+    attributes == cacheData.attributes
+  }
+
+  def "should modify attributes through their entries"() {
+    given:
+    def cacheData = new CompactCacheData("id", -1, [name: "value", other: "value"], [:])
+
+    when:
+    def iterator = cacheData.attributes.entrySet().iterator()
+    iterator.next().setValue("changed")
+    iterator.next()
+    iterator.remove()
+
+    then:
+    cacheData.attributes == [name: "changed"]
+  }
+
+  def "should have read-only relationships"() {
+    given:
+    def cacheData = new CompactCacheData("id", -1, [name: "value"], [rel: ["a:b"]])
+
+    when:
+    operation.call(cacheData)
+
+    then:
+    thrown(UnsupportedOperationException)
+
+    where:
+    operation << [
+      { CacheData it -> it.relationships.put("other", []) },
+      { CacheData it -> it.relationships.rel.add("a:c") }
+    ]
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.cats.cluster
+
+import com.netflix.spectator.api.DefaultRegistry
+import com.netflix.spinnaker.cats.agent.AccountAware
+import com.netflix.spinnaker.cats.agent.Agent
+import com.netflix.spinnaker.cats.agent.AgentExecution
+import com.netflix.spinnaker.cats.provider.ProviderRegistry
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class FairAgentExecutorSpec extends Specification {
+
+  def registry = new DefaultRegistry()
+  FairAgentExecutor executor
+
+  def cleanup() {
+    executor?.shutdownNow()
+  }
+
+  def 'should not run more agents at a time than it has threads'() {
+    given:
+    executor = new FairAgentExecutor(2, [:], registry)
+    def running = new AtomicInteger()
+    def maxRunning = new AtomicInteger()
+    def done = new CountDownLatch(10)
+
+    when:
+    10.times { i ->
+      executor.execute(task(agent('kubernetes', "agent-$i", 'prod')) {
+        maxRunning.accumulateAndGet(running.incrementAndGet()) { a, b -> Math.max(a, b) }
+        Thread.sleep(20)
+        running.decrementAndGet()
+        done.countDown()
+      })
+    }
+
+    then:
+    done.await(10, TimeUnit.SECONDS)
+    maxRunning.get() <= 2
+  }
+
+  def 'should share threads between providers by weight'() {
+    given:
+    executor = new FairAgentExecutor(1, [kubernetes: 2], registry)
+    def started = new CountDownLatch(1)
+    def release = new CountDownLatch(1)
+    def order = new ConcurrentLinkedQueue<String>()
+    def done = new CountDownLatch(12)
+
+    when:
+    executor.execute({ started.countDown(); release.await() } as Runnable)
+    started.await()
+    6.times { i ->
+      executor.execute(task(agent('aws', "aws-$i", 'prod')) { order << 'aws'; done.countDown() })
+      executor.execute(task(agent('kubernetes', "k8s-$i", 'prod')) { order << 'kubernetes'; done.countDown() })
+    }
+
+    then:
+    executor.queuedAgents == [aws: 6, kubernetes: 6, unknown: 0]
+
+    when:
+    release.countDown()
+
+    then:
+    done.await(10, TimeUnit.SECONDS)
+    order.take(6).countBy { it } == [kubernetes: 4, aws: 2]
+  }
+
+  def 'should take the accounts of a provider in turn'() {
+    given:
+    executor = new FairAgentExecutor(1, [:], registry)
+    def started = new CountDownLatch(1)
+    def release = new CountDownLatch(1)
+    def order = new ConcurrentLinkedQueue<String>()
+    def done = new CountDownLatch(4)
+
+    when:
+    executor.execute({ started.countDown(); release.await() } as Runnable)
+    started.await()
+    ['big', 'big', 'big', 'small'].eachWithIndex { account, i ->
+      executor.execute(task(agent('kubernetes', "agent-$i", account)) { order << account; done.countDown() })
+    }
+    release.countDown()
+
+    then:
+    done.await(10, TimeUnit.SECONDS)
+    order as List == ['big', 'small', 'big', 'big']
+  }
+
+  def 'should record the time agents wait for a thread'() {
+    given:
+    executor = new FairAgentExecutor(1, [:], registry)
+    def done = new CountDownLatch(1)
+
+    when:
+    executor.submit(task(agent('com.netflix.spinnaker.clouddriver.aws.provider.AwsProvider', 'ClusterCachingAgent', 'prod')) {
+      done.countDown()
+    }).get(10, TimeUnit.SECONDS)
+
+    then:
+    registry.timer(
+      registry.createId('queueWaitTime')
+        .withTag('className', 'FairAgentExecutor')
+        .withTag('agent', 'AwsProvider/ClusterCachingAgent')).count() == 1
+  }
+
+  def 'should finish queued agents and reject new ones once shut down'() {
+    given:
+    executor = new FairAgentExecutor(1, [:], registry)
+    def ran = new AtomicInteger()
+
+    when:
+    3.times { i -> executor.execute(task(agent('aws', "agent-$i", 'prod')) { ran.incrementAndGet() }) }
+    executor.shutdown()
+
+    then:
+    executor.awaitTermination(10, TimeUnit.SECONDS)
+    executor.terminated
+    ran.get() == 3
+
+    when:
+    executor.execute(task(agent('aws', 'agent', 'prod')) {})
+
+    then:
+    thrown(RejectedExecutionException)
+  }
+
+  private static FairAgentExecutor.AgentTask task(Agent agent, Closure body) {
+    return new FairAgentExecutor.AgentTask() {
+      @Override
+      Agent getAgent() {
+        return agent
+      }
+
+      @Override
+      void run() {
+        body.call()
+      }
+    }
+  }
+
+  private static Agent agent(String providerName, String agentType, String accountName) {
+    return new TestAgent(providerName: providerName, agentType: agentType, accountName: accountName)
+  }
+
+  static class TestAgent implements Agent, AccountAware {
+    String providerName
+    String agentType
+    String accountName
+
+    @Override
+    AgentExecution getAgentExecution(ProviderRegistry providerRegistry) {
+      return null
+    }
+  }
+}
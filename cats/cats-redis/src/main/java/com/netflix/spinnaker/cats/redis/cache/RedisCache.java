@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.hash.Hashing;
+import com.netflix.spinnaker.cats.agent.ExecutionPhaseRecorder;
 import com.netflix.spinnaker.cats.cache.CacheData;
 import com.netflix.spinnaker.cats.cache.DefaultCacheData;
 import com.netflix.spinnaker.kork.jedis.RedisClientDelegate;
@@ -108,6 +109,7 @@ public class RedisCache extends AbstractRedisCache {
 
     final Map<String, Integer> ttlSecondsByKey = new HashMap<>();
     int skippedWrites = 0;
+    long bytesWritten = 0;
 
     final Map<String, String> hashes = getHashes(type, items);
 
@@ -120,6 +122,10 @@ public class RedisCache extends AbstractRedisCache {
       idSet.add(item.getId());
       updatedHashes.putAll(op.hashesToSet);
       skippedWrites += op.skippedWrites;
+      // keysToSet alternates between keys and their serialized values
+      for (int i = 1; i < op.keysToSet.size(); i += 2) {
+        bytesWritten += op.keysToSet.get(i).length();
+      }
 
       if (item.getTtlSeconds() > 0) {
         for (String key : op.keysToSet) {
@@ -185,6 +191,7 @@ public class RedisCache extends AbstractRedisCache {
           });
     }
 
+    ExecutionPhaseRecorder.addBytesWritten(bytesWritten);
     cacheMetrics.merge(
         prefix,
         type,
@@ -26,6 +26,7 @@ import com.netflix.spinnaker.cats.agent.AgentScheduler;
 import com.netflix.spinnaker.cats.agent.AgentSchedulerAware;
 import com.netflix.spinnaker.cats.agent.ExecutionInstrumentation;
 import com.netflix.spinnaker.cats.cluster.AgentIntervalProvider;
+import com.netflix.spinnaker.cats.cluster.FairAgentExecutor;
 import com.netflix.spinnaker.cats.cluster.NodeIdentity;
 import com.netflix.spinnaker.cats.cluster.NodeStatusProvider;
 import com.netflix.spinnaker.cats.cluster.ShardingFilter;
@@ -386,7 +387,7 @@ public class ClusteredAgentScheduler extends CatsModuleAware
     }
   }
 
-  private static class AgentJob implements Runnable {
+  private static class AgentJob implements FairAgentExecutor.AgentTask {
     private final NextAttempt lockReleaseTime;
     private final AgentExecutionAction action;
     private final ClusteredAgentScheduler scheduler;
@@ -398,6 +399,11 @@ public class ClusteredAgentScheduler extends CatsModuleAware
       this.scheduler = scheduler;
     }
 
+    @Override
+    public Agent getAgent() {
+      return action.getAgent();
+    }
+
     @Override
     public void run() {
       Status status = Status.FAILURE;
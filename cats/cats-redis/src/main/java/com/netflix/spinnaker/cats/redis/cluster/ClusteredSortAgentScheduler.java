@@ -27,7 +27,9 @@ import com.netflix.spinnaker.cats.agent.AgentSchedulerAware;
 import com.netflix.spinnaker.cats.agent.CacheResult;
 import com.netflix.spinnaker.cats.agent.CachingAgent;
 import com.netflix.spinnaker.cats.agent.ExecutionInstrumentation;
+import com.netflix.spinnaker.cats.agent.ExecutionPhaseRecorder;
 import com.netflix.spinnaker.cats.cluster.AgentIntervalProvider;
+import com.netflix.spinnaker.cats.cluster.FairAgentExecutor;
 import com.netflix.spinnaker.cats.cluster.NodeStatusProvider;
 import com.netflix.spinnaker.cats.module.CatsModuleAware;
 import java.util.ArrayList;
@@ -95,6 +97,23 @@ public class ClusteredSortAgentScheduler extends CatsModuleAware
       NodeStatusProvider nodeStatusProvider,
       AgentIntervalProvider intervalProvider,
       Integer parallelism) {
+    this(
+        jedisPool,
+        nodeStatusProvider,
+        intervalProvider,
+        parallelism,
+        Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder()
+                .setNameFormat(AgentWorker.class.getSimpleName() + "-%d")
+                .build()));
+  }
+
+  public ClusteredSortAgentScheduler(
+      JedisPool jedisPool,
+      NodeStatusProvider nodeStatusProvider,
+      AgentIntervalProvider intervalProvider,
+      Integer parallelism,
+      ExecutorService agentWorkPool) {
     this.jedisPool = jedisPool;
     this.nodeStatusProvider = nodeStatusProvider;
     this.agents = new ConcurrentHashMap<>();
@@ -113,11 +132,7 @@ public class ClusteredSortAgentScheduler extends CatsModuleAware
     scriptShas = new ConcurrentHashMap<>();
     storeScripts();
 
-    this.agentWorkPool =
-        Executors.newCachedThreadPool(
-            new ThreadFactoryBuilder()
-                .setNameFormat(AgentWorker.class.getSimpleName() + "-%d")
-                .build());
+    this.agentWorkPool = agentWorkPool;
     Executors.newSingleThreadScheduledExecutor(
             new ThreadFactoryBuilder()
                 .setNameFormat(ClusteredSortAgentScheduler.class.getSimpleName() + "-%d")
@@ -440,7 +455,7 @@ public class ClusteredSortAgentScheduler extends CatsModuleAware
     }
   }
 
-  private static class AgentWorker implements Runnable {
+  private static class AgentWorker implements FairAgentExecutor.AgentTask {
     private final Agent agent;
     private final CachingAgent.CacheExecution agentExecution;
     private final ExecutionInstrumentation executionInstrumentation;
@@ -458,6 +473,11 @@ public class ClusteredSortAgentScheduler extends CatsModuleAware
       this.scheduler = scheduler;
     }
 
+    @Override
+    public Agent getAgent() {
+      return agent;
+    }
+
     public void setScore(String score) {
       acquireScore = score;
     }
@@ -482,7 +502,13 @@ public class ClusteredSortAgentScheduler extends CatsModuleAware
         scheduler.runningAgents.ifPresent(Semaphore::release);
         if (scheduler.conditionalReleaseAgent(agent, acquireScore, status) != null
             && result != null) {
-          agentExecution.storeAgentResult(agent, result);
+          // the execution has completed, but storing its result is still part of its profile
+          ExecutionPhaseRecorder.bind(agent, executionInstrumentation);
+          try {
+            agentExecution.storeAgentResult(agent, result);
+          } finally {
+            ExecutionPhaseRecorder.unbind(agent);
+          }
         }
       }
     }
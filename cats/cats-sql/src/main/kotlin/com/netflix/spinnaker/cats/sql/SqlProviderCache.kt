@@ -7,6 +7,7 @@ import com.netflix.spinnaker.cats.cache.DefaultCacheData
 import com.netflix.spinnaker.cats.cache.WriteableCache
 import com.netflix.spinnaker.cats.provider.ProviderCache
 import com.netflix.spinnaker.cats.sql.cache.SqlCache
+import com.netflix.spinnaker.cats.sql.cache.TypeMerge
 import com.netflix.spinnaker.clouddriver.core.provider.agent.Namespace.*
 import org.slf4j.LoggerFactory
 import org.slf4j.MDC
@@ -103,6 +104,15 @@ class SqlProviderCache(private val backingStore: WriteableCache) : ProviderCache
     return backingStore.getAllByApplication(types, application, filters)
   }
 
+  override fun supportsVersions(): Boolean {
+    return backingStore.supportsVersions()
+  }
+
+  override fun getVersion(type: String): String {
+    validateTypes(type)
+    return backingStore.getVersion(type)
+  }
+
   /**
    * Retrieves the items for the specified type matching the provided identifiers
    *
@@ -184,6 +194,7 @@ class SqlProviderCache(private val backingStore: WriteableCache) : ProviderCache
         }
 
       val cachedTypes = mutableSetOf<String>()
+      val merges = mutableListOf<TypeMerge>()
       // Update resource table from Authoritative sources only
       when {
         // OnDemand agents should only be treated as authoritative and don't use standard eviction logic
@@ -194,7 +205,7 @@ class SqlProviderCache(private val backingStore: WriteableCache) : ProviderCache
               it.key.contains(ON_DEMAND.ns, ignoreCase = true)
             }
             .forEach {
-              cacheDataType(it.key, source, it.value, authoritative = true, cleanup = false)
+              merges.add(typeMerge(it.key, source, it.value, authoritative = true, cleanup = false))
             }
         authoritativeTypes.isNotEmpty() ->
           cacheResult.cacheResults
@@ -202,13 +213,15 @@ class SqlProviderCache(private val backingStore: WriteableCache) : ProviderCache
               authoritativeTypes.contains(it.key) || globalTypes.contains(it.key)
             }
             .forEach {
-              cacheDataType(it.key, source, it.value, authoritative = true, cleanup = !globalTypes.contains(it.key))
+              merges.add(
+                typeMerge(it.key, source, it.value, authoritative = true, cleanup = !globalTypes.contains(it.key))
+              )
               cachedTypes.add(it.key)
             }
         else -> // If there are no authoritative types in cacheResult, override all as authoritative without cleanup
           cacheResult.cacheResults
             .forEach {
-              cacheDataType(it.key, source, it.value, authoritative = true, cleanup = false)
+              merges.add(typeMerge(it.key, source, it.value, authoritative = true, cleanup = false))
               cachedTypes.add(it.key)
             }
       }
@@ -220,10 +233,12 @@ class SqlProviderCache(private val backingStore: WriteableCache) : ProviderCache
             !cachedTypes.contains(it.key)
           }
           .forEach {
-            cacheDataType(it.key, source, it.value, authoritative = false)
+            merges.add(typeMerge(it.key, source, it.value, authoritative = false, cleanup = true))
           }
       }
 
+      store(merges)
+
       if (cacheResult.evictions.isNotEmpty()) {
         cacheResult.evictions.forEach {
           evictDeletedItems(it.key, it.value)
@@ -245,6 +260,7 @@ class SqlProviderCache(private val backingStore: WriteableCache) : ProviderCache
       authoritativeTypes.addAll(getGlobalTypes(source, authoritativeTypes, cacheResult));
 
       val cachedTypes = mutableSetOf<String>()
+      val merges = mutableListOf<TypeMerge>()
 
       if (authoritativeTypes.isNotEmpty()) {
         cacheResult.cacheResults
@@ -252,7 +268,7 @@ class SqlProviderCache(private val backingStore: WriteableCache) : ProviderCache
             authoritativeTypes.contains(it.key)
           }
           .forEach {
-            cacheDataType(it.key, source, it.value, authoritative = true, cleanup = false)
+            merges.add(typeMerge(it.key, source, it.value, authoritative = true, cleanup = false))
             cachedTypes.add(it.key)
           }
       }
@@ -260,8 +276,10 @@ class SqlProviderCache(private val backingStore: WriteableCache) : ProviderCache
       cacheResult.cacheResults
         .filter { !cachedTypes.contains(it.key) }
         .forEach {
-          cacheDataType(it.key, source, it.value, authoritative = false, cleanup = false)
+          merges.add(typeMerge(it.key, source, it.value, authoritative = false, cleanup = false))
         }
+
+      store(merges)
     } finally {
       MDC.remove("agentClass")
     }
@@ -280,6 +298,10 @@ class SqlProviderCache(private val backingStore: WriteableCache) : ProviderCache
     return (backingStore as SqlCache).cleanOnDemand(maxAgeMs)
   }
 
+  fun backfillRelationshipColumn(type: String, limit: Int): Int {
+    return (backingStore as SqlCache).backfillRelationshipColumn(type, limit)
+  }
+
   private fun validateTypes(type: String) {
     validateTypes(listOf(type))
   }
@@ -295,17 +317,24 @@ class SqlProviderCache(private val backingStore: WriteableCache) : ProviderCache
     }
   }
 
-  private fun cacheDataType(type: String, agent: String, items: Collection<CacheData>, authoritative: Boolean) {
-    cacheDataType(type, agent, items, authoritative, cleanup = true)
+  /**
+   * Types are stored concurrently when SqlCache is configured to, apart from on demand types which are
+   * only stored once the resources they refer to have been.
+   */
+  private fun store(merges: List<TypeMerge>) {
+    val (onDemandMerges, resourceMerges) = merges.partition { it.type.contains(ON_DEMAND.ns, ignoreCase = true) }
+    val sqlCache = backingStore as SqlCache
+    sqlCache.mergeAll(resourceMerges)
+    sqlCache.mergeAll(onDemandMerges)
   }
 
-  private fun cacheDataType(
+  private fun typeMerge(
     type: String,
     agent: String,
     items: Collection<CacheData>,
     authoritative: Boolean,
     cleanup: Boolean
-  ) {
+  ): TypeMerge {
     val toStore = ArrayList<CacheData>(items.size + 1)
     items.forEach {
       toStore.add(uniqueifyRelationships(it, agent))
@@ -319,7 +348,7 @@ class SqlProviderCache(private val backingStore: WriteableCache) : ProviderCache
         cleanup
       }
 
-    (backingStore as SqlCache).mergeAll(type, agent, toStore, authoritative, cleanupOverride)
+    return TypeMerge(type, agent, toStore, authoritative, cleanupOverride)
   }
 
   private fun uniqueifyRelationships(source: CacheData, sourceAgentType: String): CacheData {
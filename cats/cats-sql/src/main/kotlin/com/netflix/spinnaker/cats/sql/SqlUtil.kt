@@ -48,6 +48,57 @@ object SqlUtil {
     }
   }
 
+  fun hasColumn(jooq: DSLContext, tableName: String, columnName: String): Boolean {
+    val schema = when (jooq.dialect()) {
+      SQLDialect.POSTGRES -> DSL.field("current_schema()")
+      else -> DSL.field("database()")
+    }
+    return jooq.fetchExists(
+      jooq.selectOne()
+        .from(DSL.table("information_schema.columns"))
+        .where(
+          DSL.field("table_schema").eq(schema),
+          DSL.lower(DSL.field("table_name", String::class.java)).eq(tableName.toLowerCase()),
+          DSL.lower(DSL.field("column_name", String::class.java)).eq(columnName.toLowerCase())
+        )
+    )
+  }
+
+  /**
+   * Adds a nullable text column to an existing table. Per-type cache tables are created from the
+   * templates on demand, so columns added to a template later need to be added to each table.
+   */
+  fun addTextColumn(jooq: DSLContext, tableName: String, columnName: String) {
+    when (jooq.dialect()) {
+      SQLDialect.POSTGRES ->
+        jooq.execute("ALTER TABLE $tableName ADD COLUMN IF NOT EXISTS $columnName text")
+      else ->
+        jooq.execute("ALTER TABLE $tableName ADD COLUMN $columnName longtext")
+    }
+  }
+
+  /**
+   * Increments the version of [type] kept in [tableName], starting it at [initial] if the type has no
+   * version yet.
+   */
+  fun incrementVersion(jooq: DSLContext, tableName: String, type: String, initial: Long) {
+    when (jooq.dialect()) {
+      SQLDialect.POSTGRES ->
+        jooq.execute(
+          "INSERT INTO $tableName (type, version) VALUES (?, ?) " +
+            "ON CONFLICT (type) DO UPDATE SET version = $tableName.version + 1",
+          type,
+          initial
+        )
+      else ->
+        jooq.execute(
+          "INSERT INTO $tableName (type, version) VALUES (?, ?) ON DUPLICATE KEY UPDATE version = version + 1",
+          type,
+          initial
+        )
+    }
+  }
+
   fun <T> excluded(values: Field<T>): Field<T> {
     return DSL.field("excluded.{0}", values.dataType, values)
   }
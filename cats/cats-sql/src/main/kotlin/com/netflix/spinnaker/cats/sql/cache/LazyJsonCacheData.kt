@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.cats.sql.cache
+
+import com.fasterxml.jackson.core.JsonParser
+import com.fasterxml.jackson.core.JsonToken
+import com.fasterxml.jackson.core.type.TypeReference
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.netflix.spinnaker.cats.cache.CacheData
+import java.io.IOException
+import java.io.UncheckedIOException
+import java.time.Clock
+
+/**
+ * A CacheData read from a SqlCache body that keeps the raw body and only decodes its attributes on
+ * first access. Id, ttl and relationships are read eagerly in a single streaming pass that skips
+ * over the attributes.
+ *
+ * Behaves like [com.netflix.spinnaker.cats.cache.DefaultJsonCacheData] once decoded, including
+ * the `cacheExpiry` / ttl handling.
+ */
+class LazyJsonCacheData private constructor(
+  private val mapper: ObjectMapper,
+  private val id: String,
+  private val ttlSeconds: Int,
+  private val expiresAt: Long?,
+  private val relationships: MutableMap<String, MutableCollection<String>>,
+  @Volatile private var body: String?
+) : CacheData {
+
+  companion object {
+    private const val CACHE_EXPIRY = "cacheExpiry"
+
+    private val relationshipsType = object : TypeReference<MutableMap<String, MutableCollection<String>>>() {}
+
+    fun parse(mapper: ObjectMapper, body: String, clock: Clock): LazyJsonCacheData {
+      var id: String? = null
+      var ttlSeconds = -1
+      var cacheExpiry: Long? = null
+      var relationships: MutableMap<String, MutableCollection<String>>? = null
+
+      mapper.factory.createParser(body).use { parser ->
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+          throw IllegalArgumentException("Expected a JSON object, got ${parser.currentToken}")
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          val field = parser.currentName
+          val token = parser.nextToken()
+          when {
+            field == "id" -> id = parser.valueAsString
+            field == "ttlSeconds" -> ttlSeconds = parser.valueAsInt
+            field == "relationships" && token == JsonToken.START_OBJECT ->
+              relationships = mapper.readValue(parser, relationshipsType)
+            field == "attributes" && token == JsonToken.START_OBJECT -> cacheExpiry = findCacheExpiry(parser)
+            else -> parser.skipChildren()
+          }
+        }
+      }
+
+      val now = clock.millis()
+      val expiresAt = if (ttlSeconds > 0) now + ttlSeconds * 1000 else null
+      if (ttlSeconds < 0 && cacheExpiry != null) {
+        ttlSeconds = (now - cacheExpiry!!).toInt() * -1 / 1000
+      }
+
+      return LazyJsonCacheData(
+        mapper,
+        id ?: throw IllegalArgumentException("Cached value has no id"),
+        ttlSeconds,
+        expiresAt,
+        relationships ?: mutableMapOf(),
+        body
+      )
+    }
+
+    private fun findCacheExpiry(parser: JsonParser): Long? {
+      var cacheExpiry: Long? = null
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        val name = parser.currentName
+        if (parser.nextToken().isNumeric && name == CACHE_EXPIRY) {
+          cacheExpiry = parser.longValue
+        } else {
+          parser.skipChildren()
+        }
+      }
+      return cacheExpiry
+    }
+  }
+
+  @Volatile
+  private var attributes: MutableMap<String, Any?>? = null
+
+  override fun getId(): String = id
+
+  override fun getTtlSeconds(): Int = ttlSeconds
+
+  override fun getRelationships(): MutableMap<String, MutableCollection<String>> = relationships
+
+  override fun getAttributes(): MutableMap<String, Any?> {
+    attributes?.let { return it }
+
+    synchronized(this) {
+      attributes?.let { return it }
+
+      val decoded = decodeAttributes(body!!)
+      attributes = decoded
+      body = null
+      return decoded
+    }
+  }
+
+  private fun decodeAttributes(body: String): MutableMap<String, Any?> {
+    val decoded = HashMap<String, Any?>()
+    try {
+      mapper.factory.createParser(body).use { parser ->
+        parser.nextToken()
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          val field = parser.currentName
+          if (parser.nextToken() != JsonToken.START_OBJECT || field != "attributes") {
+            parser.skipChildren()
+            continue
+          }
+
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            val name = parser.currentName
+            parser.nextToken()
+            decoded[name] = mapper.readValue(parser, Any::class.java)
+          }
+        }
+      }
+    } catch (e: IOException) {
+      throw UncheckedIOException("Failed to decode attributes of $id", e)
+    }
+
+    if (expiresAt != null) {
+      decoded[CACHE_EXPIRY] = expiresAt
+    }
+    return decoded
+  }
+}
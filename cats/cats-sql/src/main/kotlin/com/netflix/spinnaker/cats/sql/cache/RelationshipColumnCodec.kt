@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.cats.sql.cache
+
+import com.fasterxml.jackson.core.type.TypeReference
+import com.fasterxml.jackson.databind.ObjectMapper
+
+/**
+ * Encodes the relationships of a single resource into the denormalized `rel_body` column.
+ *
+ * Relationship keys of one type almost always share a long prefix (e.g.
+ * `aws:instances:prod:us-east-1:`), so each type is stored as that common prefix plus the
+ * remaining suffixes:
+ *
+ * ```
+ * {"instances":{"p":"aws:instances:prod:us-east-1:","s":["i-1","i-2"]}}
+ * ```
+ */
+object RelationshipColumnCodec {
+
+  private val typeRef = object : TypeReference<Map<String, EncodedKeys>>() {}
+
+  fun encode(mapper: ObjectMapper, relationships: Map<String, Collection<String>>): String {
+    val encoded = relationships
+      .filterValues { it.isNotEmpty() }
+      .mapValues { (_, keys) ->
+        val prefix = commonPrefix(keys)
+        EncodedKeys(prefix, keys.map { it.substring(prefix.length) })
+      }
+    return mapper.writeValueAsString(encoded)
+  }
+
+  fun decode(mapper: ObjectMapper, relBody: String): Map<String, List<String>> {
+    return mapper.readValue(relBody, typeRef)
+      .mapValues { (_, keys) -> keys.s.map { keys.p + it } }
+  }
+
+  private fun commonPrefix(keys: Collection<String>): String {
+    var prefix = keys.first()
+    for (key in keys) {
+      if (prefix.isEmpty()) {
+        break
+      }
+      prefix = prefix.commonPrefixWith(key)
+    }
+    return if (keys.size == 1) "" else prefix
+  }
+
+  data class EncodedKeys(
+    var p: String = "",
+    var s: List<String> = emptyList()
+  )
+}
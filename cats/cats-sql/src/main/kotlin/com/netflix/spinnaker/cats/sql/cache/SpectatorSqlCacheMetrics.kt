@@ -18,6 +18,7 @@ package com.netflix.spinnaker.cats.sql.cache
 import com.netflix.spectator.api.BasicTag
 import com.netflix.spectator.api.Registry
 import com.netflix.spectator.api.Tag
+import java.util.concurrent.TimeUnit
 
 class SpectatorSqlCacheMetrics(
   private val registry: Registry
@@ -46,6 +47,15 @@ class SpectatorSqlCacheMetrics(
     registry.counter(id("cats.sqlCache.merge", "duplicates", tags)).increment(duplicates.toLong())
   }
 
+  override fun mergeDuration(
+    prefix: String,
+    type: String,
+    durationMs: Long
+  ) {
+    registry.timer(id("cats.sqlCache.merge", "duration", tags(prefix, type)))
+      .record(durationMs, TimeUnit.MILLISECONDS)
+  }
+
   override fun evict(
     prefix: String,
     type: String,
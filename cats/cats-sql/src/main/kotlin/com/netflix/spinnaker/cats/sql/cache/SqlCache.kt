@@ -1,8 +1,10 @@
 package com.netflix.spinnaker.cats.sql.cache
 
 import com.fasterxml.jackson.databind.ObjectMapper
+import com.netflix.spinnaker.cats.agent.ExecutionPhaseRecorder
 import com.netflix.spinnaker.cats.cache.CacheData
 import com.netflix.spinnaker.cats.cache.CacheFilter
+import com.netflix.spinnaker.cats.cache.CompactCacheData
 import com.netflix.spinnaker.cats.cache.DefaultJsonCacheData
 import com.netflix.spinnaker.cats.cache.RelationshipCacheFilter
 import com.netflix.spinnaker.cats.cache.WriteableCache
@@ -24,7 +26,10 @@ import java.sql.SQLSyntaxErrorException
 import java.time.Clock
 import java.time.Duration
 import java.util.Arrays
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
 import java.util.concurrent.ConcurrentSkipListSet
+import java.util.concurrent.TimeUnit
 import java.util.concurrent.atomic.AtomicInteger
 import javax.annotation.PreDestroy
 import kotlin.contracts.ExperimentalContracts
@@ -35,6 +40,7 @@ import kotlinx.coroutines.Job
 import kotlinx.coroutines.async
 import kotlinx.coroutines.awaitAll
 import kotlinx.coroutines.runBlocking
+import kotlinx.coroutines.slf4j.MDCContext
 import org.jooq.Condition
 import org.jooq.DSLContext
 import org.jooq.SQLDialect
@@ -44,6 +50,7 @@ import org.jooq.impl.DSL.field
 import org.jooq.impl.DSL.noCondition
 import org.jooq.impl.DSL.sql
 import org.jooq.impl.DSL.table
+import org.jooq.impl.DSL.using
 import org.jooq.util.mysql.MySQLDSL
 import org.slf4j.LoggerFactory
 import org.springframework.jdbc.BadSqlGrammarException
@@ -60,7 +67,9 @@ class SqlCache(
   private val cacheMetrics: SqlCacheMetrics,
   private val dynamicConfigService: DynamicConfigService,
   private val sqlConstraints: SqlConstraints,
-  private val providerCacheConfiguration: ProviderCacheConfiguration
+  private val providerCacheConfiguration: ProviderCacheConfiguration,
+  private val relationshipColumnEnabled: Boolean,
+  private val lazyAttributesEnabled: Boolean
 ) : WriteableCache {
 
   companion object {
@@ -72,6 +81,9 @@ class SqlCache(
     private val cleanRegexp =
       """\.+\*""".toRegex()
 
+    private const val relationshipColumn = "rel_body"
+    private val relationshipColumnRecheckMillis = Duration.ofMinutes(1).toMillis()
+
     private val log = LoggerFactory.getLogger(SqlCache::class.java)
   }
 
@@ -79,6 +91,14 @@ class SqlCache(
 
   private var createdTables = ConcurrentSkipListSet<String>()
 
+  // types whose resource table is known to have the denormalized relationship column, and the last
+  // time a type was found without it (tables are migrated by whichever pod first writes the type)
+  private val relationshipColumnTypes = ConcurrentSkipListSet<String>()
+  private val missingRelationshipColumnChecks = ConcurrentHashMap<String, Long>()
+
+  // the last version read of each type, and when it was read
+  private val versions = ConcurrentHashMap<String, Pair<Long, String>>()
+
   private val hexStrings: List<String>
 
   init {
@@ -98,8 +118,17 @@ class SqlCache(
    * Only evicts cache records but not relationship rows
    */
   override fun evictAll(type: String, ids: Collection<String>) {
+    if (deleteResources(type, ids) > 0) {
+      bumpVersions(listOf(type))
+    }
+  }
+
+  /**
+   * @return the number of ids whose deletion was committed
+   */
+  private fun deleteResources(type: String, ids: Collection<String>): Int {
     if (ids.isEmpty()) {
-      return
+      return 0
     }
 
     log.info("evicting ${ids.size} $type records")
@@ -127,6 +156,8 @@ class SqlCache(
       itemsDeleted = deletedCount,
       deleteOperations = opCount
     )
+
+    return deletedCount
   }
 
   fun mergeAll(
@@ -135,6 +166,22 @@ class SqlCache(
     items: MutableCollection<CacheData>?,
     authoritative: Boolean,
     cleanup: Boolean
+  ) {
+    val changedTypes = ConcurrentHashMap.newKeySet<String>()
+    try {
+      mergeType(type, agentHint, items, authoritative, cleanup, changedTypes)
+    } finally {
+      bumpVersions(changedTypes)
+    }
+  }
+
+  private fun mergeType(
+    type: String,
+    agentHint: String?,
+    items: MutableCollection<CacheData>?,
+    authoritative: Boolean,
+    cleanup: Boolean,
+    changedTypes: MutableSet<String>
   ) {
     if (type.isEmpty()) {
       return
@@ -168,10 +215,12 @@ class SqlCache(
       log.debug("warning: null agent for type $type")
     }
 
-    val storeResult = if (authoritative) {
-      storeAuthoritative(type, agent, items ?: mutableListOf(), cleanup)
+    val startTime = System.nanoTime()
+    val storeResult = StoreResult(changedTypes)
+    if (authoritative) {
+      storeAuthoritative(type, agent, items ?: mutableListOf(), cleanup, storeResult)
     } else {
-      storeInformative(type, items ?: mutableListOf(), cleanup)
+      storeInformative(type, items ?: mutableListOf(), cleanup, storeResult)
     }
 
     cacheMetrics.merge(
@@ -186,12 +235,61 @@ class SqlCache(
       deleteOperations = storeResult.deleteQueries.get(),
       duplicates = storeResult.duplicates.get()
     )
+    cacheMetrics.mergeDuration(
+      prefix = name,
+      type = type,
+      durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)
+    )
   }
 
   override fun mergeAll(type: String, items: MutableCollection<CacheData>?) {
     mergeAll(type, null, items, true, true)
   }
 
+  /**
+   * Merges the items of several distinct types. With a coroutine context configured, up to
+   * sql.cache.max-write-concurrency types are written concurrently, otherwise one after another.
+   * The versions of the types that changed are bumped once all of them have been written.
+   */
+  fun mergeAll(merges: Collection<TypeMerge>) {
+    val changedTypes = ConcurrentHashMap.newKeySet<String>()
+    try {
+      mergeTypes(merges, changedTypes)
+    } finally {
+      bumpVersions(changedTypes)
+    }
+  }
+
+  private fun mergeTypes(merges: Collection<TypeMerge>, changedTypes: MutableSet<String>) {
+    val maxConcurrency = dynamicConfigService.getConfig(Int::class.java, "sql.cache.max-write-concurrency", 1)
+
+    if (merges.size > 1 && coroutineContext.useAsync { maxConcurrency > 1 }) {
+      val scope = CatsCoroutineScope(coroutineContext)
+      val writes = ConcurrentLinkedQueue(merges.map { ExecutionPhaseRecorder.propagate(Runnable { mergeType(it, changedTypes) }) })
+
+      // each worker takes the next type as soon as it is done with one, so no type waits for a batch
+      val deferred = (1..minOf(maxConcurrency, merges.size)).map {
+        scope.async(MDCContext()) {
+          var write = writes.poll()
+          while (write != null) {
+            write.run()
+            write = writes.poll()
+          }
+        }
+      }
+
+      runBlocking {
+        deferred.awaitAll()
+      }
+    } else {
+      merges.forEach { mergeType(it, changedTypes) }
+    }
+  }
+
+  private fun mergeType(merge: TypeMerge, changedTypes: MutableSet<String>) {
+    mergeType(merge.type, merge.agent, merge.items, merge.authoritative, merge.cleanup, changedTypes)
+  }
+
   /**
    * Retrieves all the items for the specified type
    *
@@ -350,6 +448,42 @@ class SqlCache(
     return result
   }
 
+  override fun supportsVersions(): Boolean {
+    return true
+  }
+
+  /**
+   * The version of a type is a counter that is incremented once by every merge or eviction that wrote
+   * its resource or relationship rows, after those writes have been committed, see [bumpVersions].
+   *
+   * Versions are reused for sql.cache.version-ttl-ms (default 2000) so that frequently polled endpoints don't query
+   * the table on every request.
+   */
+  override fun getVersion(type: String): String {
+    val now = clock.millis()
+    val ttl = dynamicConfigService.getConfig(Long::class.java, "sql.cache.version-ttl-ms", 2000L)
+    val cached = versions[type]
+    if (cached != null && now - cached.first < ttl) {
+      return cached.second
+    }
+
+    val version = try {
+      withRetry(RetryCategory.READ) {
+        jooq.select(field("version"))
+          .from(table(sqlNames.versionTableName()))
+          .where(field("type").eq(type))
+          .fetchOne(0, Long::class.java)
+          ?.toString()
+      } ?: "0"
+    } catch (e: BadSqlGrammarException) {
+      suppressedLog("Failed getting version for type $type", e)
+      "0"
+    }
+
+    versions[type] = Pair(now, version)
+    return version
+  }
+
   override fun merge(type: String, cacheData: CacheData) {
     mergeAll(type, null, mutableListOf(cacheData), true, false)
   }
@@ -526,9 +660,9 @@ class SqlCache(
     type: String,
     agentHint: String?,
     items: MutableCollection<CacheData>,
-    cleanup: Boolean
-  ): StoreResult {
-    val result = StoreResult()
+    cleanup: Boolean,
+    result: StoreResult
+  ) {
     result.itemCount.addAndGet(items.size)
 
     val agent = if (type == ON_DEMAND.ns) {
@@ -634,6 +768,7 @@ class SqlCache(
         withRetry(RetryCategory.WRITE) {
           insert.execute()
         }
+        result.changedTypes.add(type)
         result.itemsStored.addAndGet(chunk.size)
         result.writeQueries.incrementAndGet()
       } catch (e: DataAccessException) {
@@ -659,6 +794,7 @@ class SqlCache(
                 .where(field("id").eq(it), field("agent").eq(sqlNames.checkAgentName(agent)))
                 .execute()
             }
+            result.changedTypes.add(type)
             result.writeQueries.incrementAndGet()
             result.itemsStored.incrementAndGet()
           } else {
@@ -680,6 +816,7 @@ class SqlCache(
                 clock.millis()
               ).execute()
             }
+            result.changedTypes.add(type)
             result.writeQueries.incrementAndGet()
             result.itemsStored.incrementAndGet()
           }
@@ -687,8 +824,15 @@ class SqlCache(
       }
     }
 
+    ExecutionPhaseRecorder.addBytesWritten(bodies.values.sumOf { it.length.toLong() })
+
+    if (relationshipColumnEnabled) {
+      // rows that already existed keep their relationship column, rel rows are not touched here
+      refreshRelationshipColumn(type, toStore.filter { !existingIds.contains(it) }, result)
+    }
+
     if (!cleanup) {
-      return result
+      return
     }
 
     val toDelete = existingIds
@@ -696,13 +840,17 @@ class SqlCache(
       .filter { !currentIds.contains(it) }
       .toSet()
 
-    evictAll(type, toDelete)
-
-    return result
+    if (deleteResources(type, toDelete) > 0) {
+      result.changedTypes.add(type)
+    }
   }
 
-  private fun storeInformative(type: String, items: MutableCollection<CacheData>, cleanup: Boolean): StoreResult {
-    val result = StoreResult()
+  private fun storeInformative(
+    type: String,
+    items: MutableCollection<CacheData>,
+    cleanup: Boolean,
+    result: StoreResult
+  ) {
 
     val sourceAgents = items.filter { it.relationships.isNotEmpty() }
       .map { it.relationships.keys }
@@ -711,7 +859,7 @@ class SqlCache(
 
     if (sourceAgents.isEmpty()) {
       log.info("no relationships found for type $type")
-      return result
+      return
     }
 
     val existingFwdRelIds = sourceAgents
@@ -762,6 +910,7 @@ class SqlCache(
     val currentIds = mutableSetOf<String>()
     val newFwdRelPointers = mutableMapOf<String, MutableList<RelPointer>>()
     val newRevRelIds = mutableSetOf<String>()
+    val changedRelIds = mutableMapOf<String, MutableSet<String>>() // type to ids whose rel rows changed
 
     items
       .filter { it.id != "_ALL_" && it.id.length <= sqlConstraints.maxIdLength }
@@ -795,28 +944,19 @@ class SqlCache(
 
       pointers.chunked(dynamicConfigService.getConfig(Int::class.java, "sql.cache.write-batch-size", 100)) { chunk ->
         try {
-          val insert = jooq.insertInto(
-            table(sqlNames.relTableName(type)),
-            field("uuid"),
-            field("id"),
-            field("rel_id"),
-            field("rel_agent"),
-            field("rel_type"),
-            field("last_updated")
-          )
-
-          insert.apply {
-            chunk.forEach {
-              values(ulid.toString(), it.id, it.rel_id, sqlNames.checkAgentName(it.rel_type), relType, now)
-              ulid = ULID().nextMonotonicValue(ulid)
-            }
+          val values = chunk.map {
+            val row = listOf(ulid.toString(), it.id, it.rel_id, sqlNames.checkAgentName(it.rel_type), relType, now)
+            ulid = ULID().nextMonotonicValue(ulid)
+            row
           }
 
           withRetry(RetryCategory.WRITE) {
-            insert.execute()
+            insertRelationships(type, values)
           }
+          result.changedTypes.add(type)
           result.writeQueries.incrementAndGet()
           result.relationshipsStored.addAndGet(chunk.size)
+          changedRelIds.getOrPut(type) { mutableSetOf() }.addAll(chunk.map { it.id })
         } catch (e: Exception) {
           log.error("Error inserting forward relationships for $type -> $relType", e)
         }
@@ -825,36 +965,32 @@ class SqlCache(
       pointers.asSequence().filter { newRevRelIds.contains("${it.rel_id}|${it.id}") }
         .chunked(dynamicConfigService.getConfig(Int::class.java, "sql.cache.write-batch-size", 100)) { chunk ->
           try {
-            val insert = jooq.insertInto(
-              table(sqlNames.relTableName(relType)),
-              field("uuid"),
-              field("id"),
-              field("rel_id"),
-              field("rel_agent"),
-              field("rel_type"),
-              field("last_updated")
-            )
-
-            insert.apply {
-              chunk.forEach {
-                values(ulid.toString(), it.rel_id, it.id, sqlNames.checkAgentName(it.rel_type), type, now)
-                ulid = ULID().nextMonotonicValue(ulid)
-              }
+            val values = chunk.map {
+              val row = listOf(ulid.toString(), it.rel_id, it.id, sqlNames.checkAgentName(it.rel_type), type, now)
+              ulid = ULID().nextMonotonicValue(ulid)
+              row
             }
 
             withRetry(RetryCategory.WRITE) {
-              insert.execute()
+              insertRelationships(relType, values)
             }
+            result.changedTypes.add(relType)
             result.writeQueries.incrementAndGet()
             result.relationshipsStored.addAndGet(chunk.size)
+            changedRelIds.getOrPut(relType) { mutableSetOf() }.addAll(chunk.map { it.rel_id })
           } catch (e: Exception) {
             log.error("Error inserting reverse relationships for $relType -> $type", e)
           }
         }.toList()
     }
 
+    if (relationshipColumnEnabled) {
+      changedRelIds.forEach { (changedType, ids) -> refreshRelationshipColumn(changedType, ids, result) }
+      changedRelIds.clear()
+    }
+
     if (!cleanup) {
-      return result
+      return
     }
 
     val fwdToDelete = oldFwdIds.filter { !currentIds.contains(it.key) }
@@ -868,16 +1004,21 @@ class SqlCache(
               .where(field("uuid").eq(it.value))
               .execute()
           }
+          result.changedTypes.add(type)
           result.deleteQueries.incrementAndGet()
+          changedRelIds.getOrPut(type) { mutableSetOf() }.add(it.key.substringBefore("|"))
         }
         revToDelete.forEach {
           if (oldRevIdsToType.getOrDefault(it.key, "").isNotBlank()) {
+            val revType = oldRevIdsToType[it.key]!!
             withRetry(RetryCategory.WRITE) {
-              jooq.deleteFrom(table(sqlNames.relTableName(oldRevIdsToType[it.key]!!)))
+              jooq.deleteFrom(table(sqlNames.relTableName(revType)))
                 .where(field("uuid").eq(it.value))
                 .execute()
             }
+            result.changedTypes.add(revType)
             result.deleteQueries.incrementAndGet()
+            changedRelIds.getOrPut(revType) { mutableSetOf() }.add(it.key.substringBefore("|"))
           } else {
             log.warn("Couldn't delete ${it.key}, no mapping to type")
           }
@@ -887,7 +1028,9 @@ class SqlCache(
       }
     }
 
-    return result
+    if (relationshipColumnEnabled) {
+      changedRelIds.forEach { (changedType, ids) -> refreshRelationshipColumn(changedType, ids, result) }
+    }
   }
 
   private fun createTables(type: String) {
@@ -897,12 +1040,26 @@ class SqlCache(
           SqlUtil.createTableLike(jooq, sqlNames.resourceTableName(type), "cats_v${schemaVersion}_resource_template")
           SqlUtil.createTableLike(jooq, sqlNames.relTableName(type), "cats_v${schemaVersion}_rel_template")
         }
+        if (relationshipColumnEnabled) {
+          addRelationshipColumn(type)
+        }
 
         createdTables.add(type)
       } catch (e: Exception) {
         log.error("Error creating tables for type $type", e)
       }
     }
+    if (!createdTables.contains(sqlNames.versionTableName())) {
+      try {
+        withRetry(RetryCategory.WRITE) {
+          SqlUtil.createTableLike(jooq, sqlNames.versionTableName(), "cats_v${schemaVersion}_version_template")
+        }
+
+        createdTables.add(sqlNames.versionTableName())
+      } catch (e: Exception) {
+        log.error("Error creating versions table", e)
+      }
+    }
     if (!createdTables.contains(onDemandType)) {
       // TODO not sure if best schema for onDemand
       try {
@@ -931,6 +1088,14 @@ class SqlCache(
     }
   }
 
+  private fun readCacheData(body: String): CacheData {
+    return if (lazyAttributesEnabled) {
+      LazyJsonCacheData.parse(mapper, body, clock)
+    } else {
+      mapper.readValue(body, DefaultJsonCacheData::class.java)
+    }
+  }
+
   private fun getHash(body: String?): String? {
     if (body.isNullOrBlank()) {
       return null
@@ -1013,7 +1178,7 @@ class SqlCache(
               .fetch()
               .getValues(0)
               .asSequence()
-              .map { mapper.readValue(it as String, DefaultJsonCacheData::class.java) }
+              .map { readCacheData(it as String) }
               .toList()
           )
         }
@@ -1076,7 +1241,7 @@ class SqlCache(
             .fetch()
             .getValues(0)
             .asSequence()
-            .map { mapper.readValue(it as String, DefaultJsonCacheData::class.java) }
+            .map { readCacheData(it as String) }
             .toList()
         )
       }
@@ -1106,6 +1271,9 @@ class SqlCache(
     application: String,
     relationshipPrefixes: List<String>
   ): DataWithRelationshipPointersResult {
+    if (useRelationshipColumn(type)) {
+      return getDataWithRelationshipColumn(type, emptyList(), relationshipPrefixes, application)
+    }
 
     /*
       select body, null as id, null as rel_id, null as rel_type from cats_v1_b_instances
@@ -1187,6 +1355,10 @@ class SqlCache(
     ids: Collection<String>,
     relationshipPrefixes: List<String>
   ): DataWithRelationshipPointersResult {
+    if (useRelationshipColumn(type)) {
+      return getDataWithRelationshipColumn(type, ids, relationshipPrefixes)
+    }
+
     val cacheData = mutableListOf<CacheData>()
     val relPointers = mutableSetOf<RelPointer>()
     var selectQueries = 0
@@ -1290,7 +1462,7 @@ class SqlCache(
         .where(field("ID").`in`(*ids.toTypedArray()))
         .fetch()
         .getValues(0)
-        .map { mapper.readValue(it as String, DefaultJsonCacheData::class.java) }
+        .map { readCacheData(it as String) }
         .toList()
     }
   }
@@ -1329,6 +1501,330 @@ class SqlCache(
     }
   }
 
+  /**
+   * Reads bodies together with the denormalized relationship column instead of joining the rel
+   * table. Rows whose column has not been populated yet fall back to the rel table for those ids.
+   */
+  private fun getDataWithRelationshipColumn(
+    type: String,
+    ids: Collection<String>,
+    relationshipPrefixes: List<String>,
+    application: String? = null
+  ): DataWithRelationshipPointersResult {
+    val cacheData = mutableListOf<CacheData>()
+    val relPointers = mutableSetOf<RelPointer>()
+    var selectQueries = 0
+    var withAsync = false
+    val batchSize = dynamicConfigService.getConfig(Int::class.java, "sql.cache.read-batch-size", 500)
+
+    try {
+      if (ids.isEmpty()) {
+        val where = if (application == null) noCondition() else field("application").eq(application)
+        val result = selectBodiesWithRelationshipColumn(type, relationshipPrefixes, where)
+        cacheData.addAll(result.data)
+        relPointers.addAll(result.relPointers)
+        selectQueries += result.selectQueries
+      } else {
+        if (coroutineContext.useAsync(ids.size, this::useAsync)) {
+          withAsync = true
+
+          ids.chunked(batchSize).chunked(
+            dynamicConfigService.getConfig(Int::class.java, "sql.cache.max-query-concurrency", 4)
+          ) { batch ->
+            val scope = CatsCoroutineScope(coroutineContext)
+
+            val deferred = batch.map { chunk ->
+              scope.async {
+                selectBodiesWithRelationshipColumn(type, relationshipPrefixes, field("ID").`in`(*chunk.toTypedArray()))
+              }
+            }
+
+            runBlocking {
+              deferred.awaitAll()
+            }.forEach { result ->
+              cacheData.addAll(result.data)
+              relPointers.addAll(result.relPointers)
+              selectQueries += result.selectQueries
+            }
+          }
+        } else {
+          ids.chunked(batchSize) { chunk ->
+            val result =
+              selectBodiesWithRelationshipColumn(type, relationshipPrefixes, field("ID").`in`(*chunk.toTypedArray()))
+            cacheData.addAll(result.data)
+            relPointers.addAll(result.relPointers)
+            selectQueries += result.selectQueries
+          }
+        }
+      }
+      return DataWithRelationshipPointersResult(cacheData, relPointers, selectQueries, withAsync)
+    } catch (e: Exception) {
+      suppressedLog("Failed selecting ids for type $type", e)
+
+      cacheMetrics.get(
+        prefix = name,
+        type = type,
+        itemCount = 0,
+        requestedSize = -1,
+        relationshipsRequested = -1,
+        selectOperations = selectQueries,
+        async = withAsync
+      )
+
+      selectQueries = -1
+
+      return DataWithRelationshipPointersResult(mutableListOf(), mutableSetOf(), selectQueries, withAsync)
+    }
+  }
+
+  private fun selectBodiesWithRelationshipColumn(
+    type: String,
+    relationshipPrefixes: List<String>,
+    where: Condition
+  ): DataWithRelationshipPointersResult {
+    val cacheData = mutableListOf<CacheData>()
+    val relPointers = mutableSetOf<RelPointer>()
+    val filter = relationshipPrefixes.isNotEmpty() && !relationshipPrefixes.contains("ALL")
+    val decodedIds = mutableSetOf<String>()
+    val missingIds = mutableSetOf<String>()
+
+    val records = withRetry(RetryCategory.READ) {
+      jooq.select(field("id"), field("body"), field(relationshipColumn))
+        .from(table(sqlNames.resourceTableName(type)))
+        .where(where)
+        .fetch()
+    }
+    var selectQueries = 1
+
+    records.forEach { record ->
+      val id = record.value1() as String
+      try {
+        cacheData.add(readCacheData(record.value2() as String))
+      } catch (e: Exception) {
+        log.error("Failed to deserialize cached value: type $type, body ${record.value2()}", e)
+      }
+
+      val relBody = record.value3() as String?
+      if (relBody == null) {
+        missingIds.add(id)
+      } else if (decodedIds.add(id)) {
+        RelationshipColumnCodec.decode(mapper, relBody).forEach { (relType, relIds) ->
+          if (!filter || relationshipPrefixes.any { relType.startsWith(it) }) {
+            relIds.forEach { relPointers.add(RelPointer(id, it, relType)) }
+          }
+        }
+      }
+    }
+
+    missingIds.removeAll(decodedIds)
+    missingIds.chunked(dynamicConfigService.getConfig(Int::class.java, "sql.cache.read-batch-size", 500)) { chunk ->
+      withRetry(RetryCategory.READ) {
+        jooq.select(field("id"), field("rel_id"), field("rel_type"))
+          .from(table(sqlNames.relTableName(type)))
+          .where(getRelWhere(relationshipPrefixes, field("id").`in`(*chunk.toTypedArray())))
+          .fetch()
+      }.forEach {
+        relPointers.add(RelPointer(it.value1() as String, it.value2() as String, it.value3() as String))
+      }
+      selectQueries += 1
+    }
+
+    return DataWithRelationshipPointersResult(cacheData, relPointers, selectQueries)
+  }
+
+  /**
+   * Increments the versions of [types] once their writes have been committed, so that a version is
+   * never read before the writes it accounts for, whichever pod made them and whatever their clocks.
+   * Each merge or eviction bumps every type it changed once, in a single transaction, rather than
+   * once per written chunk: the version rows are shared by every agent on every pod. Types are
+   * locked in a consistent order so that concurrent bumps don't deadlock.
+   */
+  private fun bumpVersions(types: Collection<String>) {
+    if (types.isEmpty()) {
+      return
+    }
+
+    withRetry(RetryCategory.WRITE) {
+      jooq.transaction { configuration ->
+        val tx = using(configuration)
+        types.sorted().forEach {
+          // the first version of a type is seeded from the clock, so versions don't repeat if the table is truncated
+          SqlUtil.incrementVersion(tx, sqlNames.versionTableName(), it, clock.millis())
+        }
+      }
+    }
+  }
+
+  private fun insertRelationships(type: String, rows: List<List<Any?>>): Int {
+    val insert = jooq.insertInto(
+      table(sqlNames.relTableName(type)),
+      field("uuid"),
+      field("id"),
+      field("rel_id"),
+      field("rel_agent"),
+      field("rel_type"),
+      field("last_updated")
+    )
+
+    insert.apply {
+      rows.forEach { values(it) }
+    }
+
+    return insert.execute()
+  }
+
+  /**
+   * Recomputes the denormalized relationship column of [ids] from the rel table. Ids without any
+   * relationships are stored as an empty encoding so reads can tell them apart from rows that have
+   * not been populated yet.
+   *
+   * The resource rows are locked before the rel table is read, so concurrent refreshes of the same
+   * ids are serialized and the last one to commit has seen every rel write that preceded it.
+   */
+  private fun refreshRelationshipColumn(type: String, ids: Collection<String>, result: StoreResult) {
+    if (ids.isEmpty() || !hasRelationshipColumn(type)) {
+      return
+    }
+
+    val batchSize = dynamicConfigService.getConfig(Int::class.java, "sql.cache.write-batch-size", 100)
+    // a consistent lock order keeps overlapping refreshes from deadlocking
+    ids.distinct().sorted().chunked(batchSize) { chunk ->
+      try {
+        withRetry(RetryCategory.WRITE) {
+          jooq.transaction { configuration ->
+            val tx = using(configuration)
+            tx.select(field("id"))
+              .from(table(sqlNames.resourceTableName(type)))
+              .where(field("id").`in`(*chunk.toTypedArray()))
+              .orderBy(field("id"))
+              .forUpdate()
+              .fetch()
+
+            val relationships = mutableMapOf<String, MutableMap<String, MutableSet<String>>>()
+            tx.select(field("id"), field("rel_id"), field("rel_type"))
+              .from(table(sqlNames.relTableName(type)))
+              .where(field("id").`in`(*chunk.toTypedArray()))
+              .fetch()
+              .forEach {
+                val relType = it.value3() as String? ?: return@forEach
+                relationships
+                  .getOrPut(it.value1() as String) { mutableMapOf() }
+                  .getOrPut(relType) { mutableSetOf() }
+                  .add(it.value2() as String)
+              }
+
+            val updates = chunk.map {
+              tx.update(table(sqlNames.resourceTableName(type)))
+                .set(field(relationshipColumn), RelationshipColumnCodec.encode(mapper, relationships[it] ?: emptyMap()))
+                .where(field("id").eq(it))
+            }
+            tx.batch(updates).execute()
+          }
+        }
+        result.changedTypes.add(type)
+        result.selectQueries.addAndGet(2)
+        result.writeQueries.incrementAndGet()
+      } catch (e: Exception) {
+        log.error("Error refreshing relationship column for $type", e)
+        clearRelationshipColumn(type, chunk)
+      }
+    }
+  }
+
+  /**
+   * A stale column is worse than none: cleared rows are read through the rel table until they are
+   * backfilled.
+   */
+  private fun clearRelationshipColumn(type: String, ids: List<String>) {
+    try {
+      withRetry(RetryCategory.WRITE) {
+        jooq.update(table(sqlNames.resourceTableName(type)))
+          .set(field(relationshipColumn), null as Any?)
+          .where(field("id").`in`(*ids.toTypedArray()))
+          .execute()
+      }
+    } catch (e: Exception) {
+      log.error("Error clearing relationship column for $type", e)
+    }
+  }
+
+  /**
+   * Populates the relationship column for up to [limit] rows of [type] that don't have it yet,
+   * e.g. rows written before the column was added.
+   *
+   * @return the number of ids that were backfilled
+   */
+  fun backfillRelationshipColumn(type: String, limit: Int): Int {
+    if (!relationshipColumnEnabled || !hasRelationshipColumn(type)) {
+      return 0
+    }
+
+    val ids = withRetry(RetryCategory.READ) {
+      jooq.selectDistinct(field("id"))
+        .from(table(sqlNames.resourceTableName(type)))
+        .where(field(relationshipColumn).isNull())
+        .limit(limit)
+        .fetch()
+        .getValues(0, String::class.java)
+    }
+
+    val result = StoreResult(ConcurrentHashMap.newKeySet())
+    refreshRelationshipColumn(type, ids, result)
+    bumpVersions(result.changedTypes)
+    return ids.size
+  }
+
+  private fun useRelationshipColumn(type: String): Boolean {
+    return relationshipColumnEnabled && hasRelationshipColumn(type)
+  }
+
+  private fun hasRelationshipColumn(type: String): Boolean {
+    if (relationshipColumnTypes.contains(type)) {
+      return true
+    }
+
+    val lastChecked = missingRelationshipColumnChecks[type]
+    if (lastChecked != null && clock.millis() - lastChecked < relationshipColumnRecheckMillis) {
+      return false
+    }
+
+    val exists = try {
+      withRetry(RetryCategory.READ) {
+        SqlUtil.hasColumn(jooq, sqlNames.resourceTableName(type), relationshipColumn)
+      }
+    } catch (e: Exception) {
+      suppressedLog("Failed checking for $relationshipColumn column of type $type", e)
+      false
+    }
+
+    if (exists) {
+      relationshipColumnTypes.add(type)
+      missingRelationshipColumnChecks.remove(type)
+    } else {
+      missingRelationshipColumnChecks[type] = clock.millis()
+    }
+    return exists
+  }
+
+  private fun addRelationshipColumn(type: String) {
+    missingRelationshipColumnChecks.remove(type)
+    if (hasRelationshipColumn(type)) {
+      return
+    }
+
+    try {
+      log.info("Adding $relationshipColumn column to ${sqlNames.resourceTableName(type)}")
+      withRetry(RetryCategory.WRITE) {
+        SqlUtil.addTextColumn(jooq, sqlNames.resourceTableName(type), relationshipColumn)
+      }
+    } catch (e: Exception) {
+      // another pod may have added it concurrently, which the check below picks up
+      log.warn("Failed adding $relationshipColumn column for type $type", e)
+    }
+    missingRelationshipColumnChecks.remove(type)
+    hasRelationshipColumn(type)
+  }
+
   private fun selectIdentifiers(type: String, ids: List<String>): MutableCollection<String> {
     return withRetry(RetryCategory.READ) {
       jooq.select(field("id"))
@@ -1348,7 +1844,7 @@ class SqlCache(
     while (resultSet.next()) {
       if (!resultSet.getString(1).isNullOrBlank()) {
         try {
-          cacheData.add(mapper.readValue(resultSet.getString(1), DefaultJsonCacheData::class.java))
+          cacheData.add(readCacheData(resultSet.getString(1)))
         } catch (e: Exception) {
           log.error("Failed to deserialize cached value: type $type, body ${resultSet.getString(1)}", e)
         }
@@ -1451,6 +1947,18 @@ class SqlCache(
       }
     }
 
+    // Results share attribute names and relationship key parts between items in this mode, which pays
+    // off for callers holding on to large result sets. Attributes are copied if a caller modifies them
+    if (dynamicConfigService.isEnabled("sql.cache.compact-cache-data", false)) {
+      return data.values.mapTo(ArrayList(data.size)) {
+        if (it is LazyJsonCacheData) {
+          CompactCacheData.lazy(it.id, it.ttlSeconds, { it.attributes }, it.relationships)
+        } else {
+          CompactCacheData.copyOf(it)
+        }
+      }
+    }
+
     return data.values
   }
 
@@ -1590,7 +2098,7 @@ class SqlCache(
     val withAsync: Boolean = false
   )
 
-  private inner class StoreResult {
+  private inner class StoreResult(val changedTypes: MutableSet<String>) {
     val itemCount = AtomicInteger(0)
     val itemsStored = AtomicInteger(0)
     val relationshipCount = AtomicInteger(0)
@@ -1620,6 +2128,17 @@ fun CoroutineContext?.useAsync(useAsync: () -> Boolean): Boolean {
   return this != null && useAsync.invoke()
 }
 
+/**
+ * The items of a type to merge, see [SqlCache.mergeAll].
+ */
+data class TypeMerge(
+  val type: String,
+  val agent: String?,
+  val items: MutableCollection<CacheData>,
+  val authoritative: Boolean,
+  val cleanup: Boolean
+)
+
 class CatsCoroutineScope(context: CoroutineContext) : CoroutineScope {
   override val coroutineContext = context
   private val jobs = Job()
@@ -29,6 +29,12 @@ interface SqlCacheMetrics {
     duplicates: Int
   ) {}
 
+  fun mergeDuration(
+    prefix: String,
+    type: String,
+    durationMs: Long
+  ) {}
+
   fun evict(
     prefix: String,
     type: String,
@@ -21,7 +21,9 @@ class SqlNamedCacheFactory(
   private val prefix: String?,
   private val cacheMetrics: SqlCacheMetrics,
   private val dynamicConfigService: DynamicConfigService,
-  private val sqlConstraints: SqlConstraints
+  private val sqlConstraints: SqlConstraints,
+  private val relationshipColumnEnabled: Boolean,
+  private val lazyAttributesEnabled: Boolean
 ) : NamedCacheFactory {
 
   @ExperimentalContracts
@@ -42,7 +44,9 @@ class SqlNamedCacheFactory(
       cacheMetrics,
       dynamicConfigService,
       sqlConstraints,
-      providerCacheConfiguration
+      providerCacheConfiguration,
+      relationshipColumnEnabled,
+      lazyAttributesEnabled
     )
   }
 
@@ -39,6 +39,12 @@ class SqlNames(
   fun relTableName(type: String): String =
     checkTableName("cats_v${schemaVersion}_", sanitizeType(type), "_rel")
 
+  /**
+   * Get the name of the table holding the version of each type.
+   */
+  fun versionTableName(): String =
+    checkTableName("cats_v${schemaVersion}_", "", "versions")
+
   private fun sanitizeType(type: String): String {
     return type.replace(typeSanitization, "_")
   }
@@ -0,0 +1,72 @@
+package com.netflix.spinnaker.cats.sql.cache
+
+import com.netflix.spectator.api.Registry
+import com.netflix.spinnaker.cats.agent.CachingAgent
+import com.netflix.spinnaker.cats.agent.RunnableAgent
+import com.netflix.spinnaker.cats.module.CatsModule
+import com.netflix.spinnaker.cats.sql.SqlProviderCache
+import com.netflix.spinnaker.clouddriver.cache.CustomScheduledAgent
+import com.netflix.spinnaker.clouddriver.core.provider.CoreProvider
+import com.netflix.spinnaker.clouddriver.sql.SqlAgent
+import java.time.Clock
+import java.util.concurrent.TimeUnit
+import kotlin.contracts.ExperimentalContracts
+import org.slf4j.LoggerFactory
+import org.springframework.context.ApplicationContext
+
+/**
+ * Incrementally populates the denormalized relationship column (`sql.cache.relationship-column`)
+ * for rows written before it was enabled, a bounded number of rows per type and run.
+ */
+@ExperimentalContracts
+class SqlRelationshipColumnBackfillAgent(
+  private val applicationContext: ApplicationContext,
+  private val registry: Registry,
+  private val clock: Clock,
+  private val maxRowsPerType: Int
+) : RunnableAgent, CustomScheduledAgent, SqlAgent {
+
+  companion object {
+    private val DEFAULT_POLL_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5)
+    private val DEFAULT_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(10)
+
+    private val log = LoggerFactory.getLogger(SqlRelationshipColumnBackfillAgent::class.java)
+  }
+
+  private val countId = registry.createId("cats.sqlCache.relationshipColumnBackfill.count")
+  private val timeId = registry.createId("cats.sqlCache.relationshipColumnBackfill.time")
+
+  override fun run() {
+    val start = clock.millis()
+    val catsModule = applicationContext.getBean(CatsModule::class.java)
+    val cache = catsModule.providerRegistry.providerCaches.first() as SqlProviderCache
+
+    val types = catsModule.providerRegistry.providers
+      .flatMap { it.agents }
+      .filterIsInstance<CachingAgent>()
+      .flatMap { it.providedDataTypes }
+      .map { it.typeName }
+      .toSortedSet()
+
+    var backfilled = 0
+    types.forEach { type ->
+      try {
+        val count = cache.backfillRelationshipColumn(type, maxRowsPerType)
+        registry.counter(countId.withTag("type", type)).increment(count.toLong())
+        backfilled += count
+      } catch (e: Exception) {
+        log.error("Failed backfilling relationship column for type $type", e)
+      }
+    }
+
+    registry.gauge(timeId).set((clock.millis() - start).toDouble())
+    if (backfilled > 0) {
+      log.info("Backfilled relationship column of $backfilled rows across ${types.size} types")
+    }
+  }
+
+  override fun getAgentType(): String = javaClass.simpleName
+  override fun getProviderName(): String = CoreProvider.PROVIDER_NAME
+  override fun getPollIntervalMillis(): Long = DEFAULT_POLL_INTERVAL_MILLIS
+  override fun getTimeoutMillis(): Long = DEFAULT_TIMEOUT_MILLIS
+}
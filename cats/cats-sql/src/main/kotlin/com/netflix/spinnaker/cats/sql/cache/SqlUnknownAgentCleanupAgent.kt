@@ -43,7 +43,8 @@ class SqlUnknownAgentCleanupAgent(
   private val providerRegistry: ObjectProvider<ProviderRegistry>,
   private val jooq: DSLContext,
   private val registry: Registry,
-  private val sqlNames: SqlNames
+  private val sqlNames: SqlNames,
+  private val relationshipColumnEnabled: Boolean = false
 ) : RunnableAgent, CustomScheduledAgent, SqlAgent {
 
   private val log by lazy { LoggerFactory.getLogger(javaClass) }
@@ -62,6 +63,11 @@ class SqlUnknownAgentCleanupAgent(
 
     var failures = 0
     withPool(ConnectionPools.CACHE_WRITER.value) {
+      SqlUtil.createTableLike(
+        jooq,
+        sqlNames.versionTableName(),
+        "cats_v${SqlSchemaVersion.current()}_version_template"
+      )
       agentDataTypes.forEachIndexed { i, dataType ->
         log.info("Scanning '$dataType' (${i + 1}/$numDataTypes) cache records to cleanup")
         try {
@@ -107,11 +113,15 @@ class SqlUnknownAgentCleanupAgent(
 
     val cleanedAgentTypes = mutableSetOf<String>()
     val idsToClean = mutableListOf<String>()
+    val resourceIdsToInvalidate = mutableSetOf<String>()
     while (rs.next()) {
       val agentType = processRelAgentTypeValue(rs.getString(2))
       if (!state.agentTypes.contains(agentType)) {
         idsToClean.add(rs.getString(1))
         cleanedAgentTypes.add(agentType)
+        if (cacheTable == CacheTable.RELATIONSHIP) {
+          resourceIdsToInvalidate.add(rs.getString(3))
+        }
       }
     }
 
@@ -120,11 +130,17 @@ class SqlUnknownAgentCleanupAgent(
         "Found ${idsToClean.size} records to cleanup from '$tableName' for data type '$dataType'. " +
           "Reason: Data generated by unknown caching agents ($cleanedAgentTypes})"
       )
-      idsToClean.chunked(100) { chunk ->
-        jooq.deleteFrom(table(tableName))
-          .where(field(cacheTable.idColumn()).`in`(*chunk.toTypedArray()))
-          .execute()
+      try {
+        idsToClean.chunked(100) { chunk ->
+          jooq.deleteFrom(table(tableName))
+            .where(field(cacheTable.idColumn()).`in`(*chunk.toTypedArray()))
+            .execute()
+        }
+      } finally {
+        // responses tagged with the version of the data type must not outlive these records
+        SqlUtil.incrementVersion(jooq, sqlNames.versionTableName(), dataType, System.currentTimeMillis())
       }
+      invalidateRelationshipColumn(dataType, resourceIdsToInvalidate)
     }
 
     state.touchedTables.add(tableName)
@@ -134,6 +150,24 @@ class SqlUnknownAgentCleanupAgent(
       .increment(idsToClean.size.toLong())
   }
 
+  /**
+   * Resources whose rel rows were deleted can no longer trust their denormalized relationship
+   * column; clearing it makes SqlCache read the rel table for them until they are backfilled.
+   */
+  private fun invalidateRelationshipColumn(dataType: String, ids: Collection<String>) {
+    val tableName = sqlNames.resourceTableName(dataType)
+    if (!relationshipColumnEnabled || ids.isEmpty() || !SqlUtil.hasColumn(jooq, tableName, "rel_body")) {
+      return
+    }
+
+    ids.chunked(100) { chunk ->
+      jooq.update(table(tableName))
+        .set(field("rel_body"), null as Any?)
+        .where(field("id").`in`(*chunk.toTypedArray()))
+        .execute()
+    }
+  }
+
   /**
    * The "rel_agent" column value is a little wonky. It uses a format of `{dataType}:{agentName}`, but we only want the
    * agent name, so we'll split on the colon value, removing the first element.
@@ -197,7 +231,7 @@ class SqlUnknownAgentCleanupAgent(
    */
   private enum class CacheTable(val fields: Array<Field<*>>) {
     RESOURCE(arrayOf(field("id"), field("agent"))),
-    RELATIONSHIP(arrayOf(field("uuid"), field("rel_agent")));
+    RELATIONSHIP(arrayOf(field("uuid"), field("rel_agent"), field("id")));
 
     fun idColumn(): String =
       when (this) {
@@ -24,6 +24,7 @@ import com.netflix.spinnaker.cats.agent.AgentSchedulerAware
 import com.netflix.spinnaker.cats.agent.ExecutionInstrumentation
 import com.netflix.spinnaker.cats.agent.ExecutionInstrumentation.elapsedTimeMs
 import com.netflix.spinnaker.cats.cluster.AgentIntervalProvider
+import com.netflix.spinnaker.cats.cluster.FairAgentExecutor
 import com.netflix.spinnaker.cats.cluster.NodeIdentity
 import com.netflix.spinnaker.cats.cluster.NodeStatusProvider
 import com.netflix.spinnaker.cats.cluster.ShardingFilter
@@ -59,9 +60,7 @@ class SqlClusteredAgentScheduler(
   private val disabledAgentsConfig: List<String>,
   agentLockAcquisitionIntervalSeconds: Long? = null,
   private val tableNamespace: String? = null,
-  private val agentExecutionPool: ExecutorService = Executors.newCachedThreadPool(
-    ThreadFactoryBuilder().setNameFormat(AgentExecutionAction::class.java.simpleName + "-%d").build()
-  ),
+  agentExecutionPool: ExecutorService? = null,
   lockPollingScheduler: ScheduledExecutorService = Executors.newSingleThreadScheduledExecutor(
     ThreadFactoryBuilder().setNameFormat(SqlClusteredAgentScheduler::class.java.simpleName + "-%d").build()
   ),
@@ -70,6 +69,10 @@ class SqlClusteredAgentScheduler(
 
   private val log = LoggerFactory.getLogger(javaClass)
 
+  private val agentExecutionPool: ExecutorService = agentExecutionPool ?: Executors.newCachedThreadPool(
+    ThreadFactoryBuilder().setNameFormat(AgentExecutionAction::class.java.simpleName + "-%d").build()
+  )
+
   private val agents: MutableMap<String, AgentExecutionAction> = ConcurrentHashMap()
   private val activeAgents: MutableMap<String, NextAttempt> = ConcurrentHashMap()
   private val activeAgentsFutures: MutableMap<String, Future<*>> = ConcurrentHashMap()
@@ -343,7 +346,9 @@ private class AgentJob(
   private val lockReleaseTime: NextAttempt,
   private val action: AgentExecutionAction,
   private val schedulerCallback: (agentType: String, nextExecutionTime: Long) -> Unit
-) : Runnable {
+) : FairAgentExecutor.AgentTask {
+
+  override fun getAgent(): Agent = action.agent
 
   override fun run() {
     var status = Status.FAILURE
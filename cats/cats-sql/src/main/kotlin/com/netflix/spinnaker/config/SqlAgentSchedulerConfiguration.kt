@@ -18,10 +18,12 @@ package com.netflix.spinnaker.config
 import com.netflix.spinnaker.cats.agent.AgentScheduler
 import com.netflix.spinnaker.cats.cluster.AgentIntervalProvider
 import com.netflix.spinnaker.cats.cluster.DefaultNodeIdentity
+import com.netflix.spinnaker.cats.cluster.FairAgentExecutor
 import com.netflix.spinnaker.cats.cluster.NodeStatusProvider
 import com.netflix.spinnaker.cats.cluster.ShardingFilter
 import com.netflix.spinnaker.cats.sql.cluster.SqlClusteredAgentScheduler
 import com.netflix.spinnaker.kork.dynamicconfig.DynamicConfigService
+import java.util.Optional
 import org.jooq.DSLContext
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
@@ -46,7 +48,8 @@ class SqlAgentSchedulerConfiguration {
     dynamicConfigService: DynamicConfigService,
     @Value("\${sql.table-namespace:#{null}}") tableNamespace: String?,
     sqlAgentProperties: SqlAgentProperties,
-    shardingFilter: ShardingFilter
+    shardingFilter: ShardingFilter,
+    fairAgentExecutor: Optional<FairAgentExecutor>
   ): AgentScheduler<*> {
     return SqlClusteredAgentScheduler(
       jooq = jooq,
@@ -58,6 +61,7 @@ class SqlAgentSchedulerConfiguration {
       disabledAgentsConfig = sqlAgentProperties.disabledAgents,
       tableNamespace = tableNamespace,
       agentLockAcquisitionIntervalSeconds = sqlAgentProperties.agentLockAcquisitionIntervalSeconds,
+      agentExecutionPool = fairAgentExecutor.orElse(null),
       shardingFilter = shardingFilter
     )
   }
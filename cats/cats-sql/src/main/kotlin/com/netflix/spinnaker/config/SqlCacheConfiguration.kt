@@ -16,6 +16,7 @@ import com.netflix.spinnaker.cats.sql.cache.SqlCacheMetrics
 import com.netflix.spinnaker.cats.sql.cache.SqlCleanupStaleOnDemandCachesAgent
 import com.netflix.spinnaker.cats.sql.cache.SqlNamedCacheFactory
 import com.netflix.spinnaker.cats.sql.cache.SqlNames
+import com.netflix.spinnaker.cats.sql.cache.SqlRelationshipColumnBackfillAgent
 import com.netflix.spinnaker.cats.sql.cache.SqlTableMetricsAgent
 import com.netflix.spinnaker.cats.sql.cache.SqlUnknownAgentCleanupAgent
 import com.netflix.spinnaker.cats.cluster.NoopShardingFilter
@@ -95,6 +96,21 @@ class SqlCacheConfiguration {
    * sql.tableNamespace: Name spaces data tables, as well as the agent lock table if using the SqlAgentScheduler.
    * Table namespacing allows flipping to new/empty data tables within the same master if necessary to rebuild
    * the cache from scratch, such as after disabling caching agents for an account/region.
+   *
+   * sql.cache.relationshipColumn.enabled: Additionally keeps each resource's relationships encoded in a `rel_body`
+   * column of its resource table so reads can skip the rel table join. The column is added to existing tables on
+   * first write and backfilled by the SqlRelationshipColumnBackfillAgent. The column is not maintained while this
+   * is disabled, so clear it (`update ... set rel_body = null`) before enabling it again.
+   *
+   * sql.cache.lazy-attributes.enabled: Reads only decode the id and relationships of a body up front, attributes
+   * are decoded on first access.
+   *
+   * sql.cache.compact-cache-data.enabled (dynamic): Returns read results as CompactCacheData, which interns
+   * attribute names and relationship key parts to reduce the heap held by large result sets. Their attributes are
+   * copied on the first modification and their relationships are read-only.
+   *
+   * sql.cache.version-ttl-ms (dynamic): How long the version of a type (a counter incremented with every write to
+   * it) is reused before being read again, which bounds how stale conditional responses tagged with it can be.
    */
   @ObsoleteCoroutinesApi
   @Bean
@@ -107,7 +123,9 @@ class SqlCacheConfiguration {
     sqlConstraints: SqlConstraints,
     mapper: ObjectMapper,
     @Value("\${sql.cache.async-pool-size:0}") poolSize: Int,
-    @Value("\${sql.table-namespace:#{null}}") tableNamespace: String?
+    @Value("\${sql.table-namespace:#{null}}") tableNamespace: String?,
+    @Value("\${sql.cache.relationship-column.enabled:false}") relationshipColumnEnabled: Boolean,
+    @Value("\${sql.cache.lazy-attributes.enabled:false}") lazyAttributesEnabled: Boolean
   ): NamedCacheFactory {
     if (tableNamespace != null && !tableNamespace.matches("""^\w+$""".toRegex())) {
       throw IllegalArgumentException("tableNamespace can only contain characters [a-z, A-Z, 0-9, _]")
@@ -139,7 +157,9 @@ class SqlCacheConfiguration {
       tableNamespace,
       cacheMetrics,
       dynamicConfigService,
-      sqlConstraints
+      sqlConstraints,
+      relationshipColumnEnabled,
+      lazyAttributesEnabled
     )
   }
 
@@ -178,9 +198,26 @@ class SqlCacheConfiguration {
     jooq: DSLContext,
     registry: Registry,
     sqlConstraints: SqlConstraints,
-    @Value("\${sql.table-namespace:#{null}}") tableNamespace: String?
+    @Value("\${sql.table-namespace:#{null}}") tableNamespace: String?,
+    @Value("\${sql.cache.relationship-column.enabled:false}") relationshipColumnEnabled: Boolean
   ): SqlUnknownAgentCleanupAgent =
-    SqlUnknownAgentCleanupAgent(providerRegistry, jooq, registry, SqlNames(tableNamespace, sqlConstraints))
+    SqlUnknownAgentCleanupAgent(
+      providerRegistry,
+      jooq,
+      registry,
+      SqlNames(tableNamespace, sqlConstraints),
+      relationshipColumnEnabled
+    )
+
+  @Bean
+  @ConditionalOnExpression("!\${sql.read-only:false} && \${sql.cache.relationship-column.enabled:false}")
+  fun sqlRelationshipColumnBackfillAgent(
+    applicationContext: ApplicationContext,
+    registry: Registry,
+    clock: Clock,
+    @Value("\${sql.cache.relationship-column.backfill-batch-size:5000}") maxRowsPerType: Int
+  ): SqlRelationshipColumnBackfillAgent =
+    SqlRelationshipColumnBackfillAgent(applicationContext, registry, clock, maxRowsPerType)
 
   @Bean
   @ConditionalOnExpression("\${sql.read-only:false} == false")
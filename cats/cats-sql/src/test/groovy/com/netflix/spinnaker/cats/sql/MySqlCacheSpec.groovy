@@ -64,7 +64,9 @@ class MySqlCacheSpec extends SqlCacheSpec {
       Mock(SqlCacheMetrics),
       dynamicConfigService,
       new SqlConstraintsInitializer().getDefaultSqlConstraints(SQLDialect.MYSQL),
-      providerCacheConfiguration
+      providerCacheConfiguration,
+      false,
+      false
     )
   }
 
@@ -61,7 +61,9 @@ class PostgreSqlCacheSpec extends SqlCacheSpec {
       Mock(SqlCacheMetrics),
       dynamicConfigService,
       new SqlConstraintsInitializer().getDefaultSqlConstraints(SQLDialect.POSTGRES),
-      new StaticProviderCacheConfiguration(supportsFullEviction: false)
+      new StaticProviderCacheConfiguration(supportsFullEviction: false),
+      false,
+      false
     )
   }
 
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.cats.sql
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.netflix.spinnaker.cats.cache.CacheData
+import com.netflix.spinnaker.cats.cache.DefaultCacheData
+import com.netflix.spinnaker.cats.cache.RelationshipCacheFilter
+import com.netflix.spinnaker.cats.sql.cache.RelationshipColumnCodec
+import com.netflix.spinnaker.cats.sql.cache.SqlCache
+import com.netflix.spinnaker.cats.sql.cache.SqlCacheMetrics
+import com.netflix.spinnaker.cats.sql.cache.SqlNamedCacheFactory
+import com.netflix.spinnaker.cats.sql.cache.SqlNames
+import com.netflix.spinnaker.cats.sql.cache.TypeMerge
+import com.netflix.spinnaker.config.SqlConstraintsInitializer
+import com.netflix.spinnaker.kork.dynamicconfig.DynamicConfigService
+import com.netflix.spinnaker.kork.sql.config.RetryProperties
+import com.netflix.spinnaker.kork.sql.config.SqlRetryProperties
+import com.netflix.spinnaker.kork.sql.test.SqlTestUtil
+import com.zaxxer.hikari.HikariDataSource
+import kotlinx.coroutines.ExecutorCoroutineDispatcher
+import kotlinx.coroutines.ExecutorsKt
+import org.jooq.DSLContext
+import org.jooq.SQLDialect
+import org.testcontainers.DockerClientFactory
+import spock.lang.AutoCleanup
+import spock.lang.Requires
+import spock.lang.Specification
+
+import java.time.Clock
+import java.time.Instant
+import java.time.ZoneId
+import java.util.concurrent.Executors
+
+import static org.jooq.impl.DSL.field
+import static org.jooq.impl.DSL.table
+
+@Requires({ DockerClientFactory.instance().isDockerAvailable() })
+class SqlCacheConcurrentMergeSpec extends Specification {
+
+  def mapper = new ObjectMapper()
+  def sqlNames = new SqlNames(null, SqlConstraintsInitializer.getDefaultSqlConstraints(SQLDialect.MYSQL))
+
+  DSLContext context
+
+  @AutoCleanup("close")
+  HikariDataSource dataSource
+
+  @AutoCleanup("close")
+  ExecutorCoroutineDispatcher dispatcher = ExecutorsKt.from(Executors.newFixedThreadPool(4))
+
+  SqlCache cache
+
+  def setup() {
+    def dynamicConfigService = Stub(DynamicConfigService) {
+      getConfig(_ as Class, "sql.cache.max-write-concurrency", _) >> 2
+      getConfig(_ as Class, _ as String, _) >> 10
+    }
+
+    SqlTestUtil.TestDatabase testDatabase = SqlTestUtil.initTcMysqlDatabase()
+    context = testDatabase.context
+    dataSource = testDatabase.dataSource
+
+    cache = new SqlCache(
+      "test",
+      context,
+      mapper,
+      dispatcher,
+      new Clock.FixedClock(Instant.EPOCH, ZoneId.of("UTC")),
+      new SqlRetryProperties(new RetryProperties(1, 10), new RetryProperties(1, 10)),
+      "test",
+      Mock(SqlCacheMetrics),
+      dynamicConfigService,
+      SqlConstraintsInitializer.getDefaultSqlConstraints(SQLDialect.MYSQL),
+      new SqlNamedCacheFactory.DefaultProviderCacheConfiguration(),
+      true,
+      false
+    )
+  }
+
+  def cleanup() {
+    SqlTestUtil.cleanupDb(context)
+  }
+
+  def 'authoritative and informative types merged concurrently keep resources and relationships consistent'() {
+    given:
+    def ids = (1..20)
+    def serverGroups = ids.collect { data("sg-$it", [instances: ["i-$it"]]) }
+    def instances = ids.collect { data("i-$it", [serverGroups: ["sg-$it"]]) }
+    def loadBalancers = [data('lb-1', ['serverGroup:test-agent': ids.collect { "sg-$it".toString() }])]
+    def clusters = [data('c-1', ['serverGroup:test-agent': ids.collect { "sg-$it".toString() }])]
+
+    when:
+    cache.mergeAll([
+      new TypeMerge('serverGroup', 'test-agent', serverGroups, true, true),
+      new TypeMerge('instances', 'test-agent', instances, true, true),
+      new TypeMerge('loadBalancer', 'test-agent', loadBalancers, false, true),
+      new TypeMerge('cluster', 'test-agent', clusters, false, true)
+    ])
+
+    then: 'every resource was stored'
+    cache.getIdentifiers('serverGroup').sort() == ids.collect { "sg-$it".toString() }.sort()
+    cache.getIdentifiers('instances').sort() == ids.collect { "i-$it".toString() }.sort()
+
+    and: 'authoritative and informative relationships are read back'
+    ids.every {
+      def serverGroup = cache.get(
+        'serverGroup', "sg-$it".toString(), RelationshipCacheFilter.include('instances', 'loadBalancer', 'cluster')
+      )
+      serverGroup.relationships.instances == ["i-$it".toString()] &&
+        serverGroup.relationships.loadBalancer == ['lb-1'] &&
+        serverGroup.relationships.cluster == ['c-1']
+    }
+
+    and: 'the relationship column matches the rel table'
+    context.select(field('id'), field('rel_body'))
+      .from(table(sqlNames.resourceTableName('serverGroup')))
+      .fetch()
+      .every {
+        it.value2() != null &&
+          RelationshipColumnCodec.INSTANCE.decode(mapper, it.value2() as String) == [loadBalancer: ['lb-1'], cluster: ['c-1']]
+      }
+  }
+
+  private static CacheData data(String id, Map<String, Collection<String>> relationships) {
+    new DefaultCacheData(id, [name: id], relationships)
+  }
+}
@@ -119,4 +119,56 @@ abstract class SqlCacheSpec extends WriteableCacheSpec {
     RelationshipCacheFilter.include("images")              || DSL.field("meowdy").eq("partner") || "(\n  meowdy = 'partner'\n  and rel_type like 'images%'\n)"
     null                                                   || null                              || "1 = 1"
   }
+
+  def 'the version of a type changes with every write to its items or relationships'() {
+    given:
+    def sqlCache = (SqlCache) cache
+    sqlCache.merge('foo', createData('blerp', [a: 'b']))
+    def stored = version('foo')
+
+    when: 'an unchanged item is merged again'
+    sqlCache.merge('foo', createData('blerp', [a: 'b']))
+
+    then:
+    version('foo') == stored
+
+    when: 'only relationships to the type are written'
+    sqlCache.mergeAll('bar', 'agent', [createData('bar-1', [:], ['foo:agent': ['blerp']])], false, false)
+    def related = version('foo')
+
+    then:
+    related > stored
+
+    when:
+    sqlCache.evict('foo', 'blerp')
+
+    then:
+    version('foo') > related
+  }
+
+  def 'the version of a type is bumped once per merge or eviction, whatever the number of chunks'() {
+    given:
+    def sqlCache = (SqlCache) cache
+    sqlCache.merge('foo', createData('blerp', [a: 'b']))
+    def stored = version('foo')
+
+    when:
+    sqlCache.mergeAll('foo', 'agent', (1..10).collect { createData("fnord-$it") }, true, false)
+
+    then:
+    version('foo') == stored + 1
+
+    when:
+    sqlCache.evictAll('foo', (1..10).collect { "fnord-$it".toString() })
+
+    then:
+    version('foo') == stored + 2
+  }
+
+  private Long version(String type) {
+    context.select(DSL.field('version'))
+      .from(DSL.table('cats_v1_test_versions'))
+      .where(DSL.field('type').eq(type))
+      .fetchOne(0, Long)
+  }
 }
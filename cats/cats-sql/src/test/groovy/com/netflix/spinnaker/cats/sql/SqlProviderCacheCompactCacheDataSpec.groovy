@@ -0,0 +1,32 @@
+package com.netflix.spinnaker.cats.sql
+
+import com.netflix.spinnaker.cats.cache.CompactCacheData
+import org.testcontainers.DockerClientFactory
+import spock.lang.Requires
+
+/**
+ * Runs the provider cache behaviour against a cache that returns compact read results.
+ */
+@Requires({ DockerClientFactory.instance().isDockerAvailable() })
+class SqlProviderCacheCompactCacheDataSpec extends SqlProviderCacheSpec {
+
+  @Override
+  boolean isCompactCacheDataEnabled() {
+    true
+  }
+
+  def 'items read back can be modified and stored again'() {
+    setup:
+    populateOne('serverGroup', 'foo', createData('foo', [name: "foo", processedCount: 0], [:]))
+
+    when: 'a caching agent updates an item it read back, as agents do with the on demand entries they keep'
+    def serverGroup = cache.get('serverGroup', 'foo')
+    serverGroup.attributes.put('processedTime', 1000)
+    serverGroup.attributes.compute('processedCount', { key, count -> count + 1 })
+    populateOne('serverGroup', 'foo', serverGroup)
+
+    then:
+    serverGroup instanceof CompactCacheData
+    cache.get('serverGroup', 'foo').attributes == [name: "foo", processedCount: 1, processedTime: 1000]
+  }
+}
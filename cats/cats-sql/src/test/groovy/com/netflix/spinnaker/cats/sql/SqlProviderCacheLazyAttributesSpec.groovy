@@ -0,0 +1,16 @@
+package com.netflix.spinnaker.cats.sql
+
+import org.testcontainers.DockerClientFactory
+import spock.lang.Requires
+
+/**
+ * Runs the provider cache behaviour against a cache that decodes attributes lazily.
+ */
+@Requires({ DockerClientFactory.instance().isDockerAvailable() })
+class SqlProviderCacheLazyAttributesSpec extends SqlProviderCacheSpec {
+
+  @Override
+  boolean isLazyAttributesEnabled() {
+    true
+  }
+}
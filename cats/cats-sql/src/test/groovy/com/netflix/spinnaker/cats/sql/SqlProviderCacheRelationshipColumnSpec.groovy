@@ -0,0 +1,93 @@
+package com.netflix.spinnaker.cats.sql
+
+import com.netflix.spinnaker.cats.agent.DefaultCacheResult
+import com.netflix.spinnaker.cats.cache.RelationshipCacheFilter
+import com.netflix.spinnaker.cats.sql.cache.SqlNames
+import com.netflix.spinnaker.config.SqlConstraintsInitializer
+import org.jooq.SQLDialect
+import org.testcontainers.DockerClientFactory
+import spock.lang.Requires
+
+import java.util.concurrent.Executors
+
+import static org.jooq.impl.DSL.field
+import static org.jooq.impl.DSL.table
+
+/**
+ * Runs the provider cache behaviour against a cache that reads relationships from the
+ * denormalized relationship column.
+ */
+@Requires({ DockerClientFactory.instance().isDockerAvailable() })
+class SqlProviderCacheRelationshipColumnSpec extends SqlProviderCacheSpec {
+
+  def sqlNames = new SqlNames(null, SqlConstraintsInitializer.getDefaultSqlConstraints(SQLDialect.MYSQL))
+
+  @Override
+  boolean isRelationshipColumnEnabled() {
+    true
+  }
+
+  def 'relationships are read from the relationship column'() {
+    setup:
+    populateOne('serverGroup', 'foo', createData('foo', [canhaz: "attributes"], [instances: ["i-1", "i-2"]]))
+
+    when: 'the rel table is emptied behind the cache'
+    context.truncate(table(sqlNames.relTableName('serverGroup'))).execute()
+
+    then:
+    cache.get('serverGroup', 'foo', RelationshipCacheFilter.include('instances')).relationships.instances.sort() == ["i-1", "i-2"]
+  }
+
+  def 'rows without a populated relationship column fall back to the rel table until backfilled'() {
+    setup:
+    populateOne('serverGroup', 'foo', createData('foo', [canhaz: "attributes"], [instances: ["i-1"]]))
+    context.update(table(sqlNames.resourceTableName('serverGroup')))
+      .set(field('rel_body'), (Object) null)
+      .execute()
+
+    expect:
+    cache.get('serverGroup', 'foo', RelationshipCacheFilter.include('instances')).relationships.instances == ["i-1"]
+
+    when:
+    int backfilled = defaultProviderCache.backfillRelationshipColumn('serverGroup', 100)
+
+    then:
+    backfilled == 1
+    context.select(field('rel_body'))
+      .from(table(sqlNames.resourceTableName('serverGroup')))
+      .fetchOne(0, String) != null
+  }
+
+  def 'concurrent writers leave the relationship column consistent with the rel table'() {
+    setup:
+    populateOne('serverGroup', 'foo', createData('foo', [canhaz: "attributes"], [:]))
+    def writers = 8
+    def rounds = 5
+    def executor = Executors.newFixedThreadPool(writers)
+
+    when: 'every writer replaces its load balancer pointing at the same server group in each round'
+    (1..rounds).each { round ->
+      (1..writers).collect { writer ->
+        executor.submit {
+          defaultProviderCache.putCacheResult(
+            "lbAgent$writer",
+            ['informative'],
+            new DefaultCacheResult(loadBalancer: [createData("lb-$writer-$round", [:], [serverGroup: ['foo']])])
+          )
+        }
+      }*.get()
+    }
+
+    then:
+    def expected = (1..writers).collect { "lb-$it-$rounds".toString() }.sort()
+    context.select(field('rel_id'))
+      .from(table(sqlNames.relTableName('serverGroup')))
+      .where(field('id').eq('foo'))
+      .fetch(0, String)
+      .sort() == expected
+    cache.get('serverGroup', 'foo', RelationshipCacheFilter.include('loadBalancer')).relationships.loadBalancer.sort() == expected
+
+    cleanup:
+    executor.shutdownNow()
+  }
+}
@@ -41,6 +41,18 @@ class SqlProviderCacheSpec extends ProviderCacheSpec {
 
   WriteableCache backingStore
 
+  boolean isRelationshipColumnEnabled() {
+    false
+  }
+
+  boolean isLazyAttributesEnabled() {
+    false
+  }
+
+  boolean isCompactCacheDataEnabled() {
+    false
+  }
+
   def cleanup() {
     SqlTestUtil.cleanupDb(context)
   }
@@ -58,6 +70,7 @@ class SqlProviderCacheSpec extends ProviderCacheSpec {
     def sqlMetrics = new SpectatorSqlCacheMetrics(new NoopRegistry())
     def dynamicConfigService = Mock(DynamicConfigService) {
       getConfig(_ as Class, _ as String, _) >> 10
+      isEnabled("sql.cache.compact-cache-data", _) >> isCompactCacheDataEnabled()
     }
 
     SqlTestUtil.TestDatabase testDatabase = SqlTestUtil.initTcMysqlDatabase()
@@ -75,7 +88,9 @@ class SqlProviderCacheSpec extends ProviderCacheSpec {
       sqlMetrics,
       dynamicConfigService,
       new SqlConstraintsInitializer().getDefaultSqlConstraints(SQLDialect.MYSQL),
-      new SqlNamedCacheFactory.DefaultProviderCacheConfiguration()
+      new SqlNamedCacheFactory.DefaultProviderCacheConfiguration(),
+      isRelationshipColumnEnabled(),
+      isLazyAttributesEnabled()
     )
 
     return new SqlProviderCache(backingStore)
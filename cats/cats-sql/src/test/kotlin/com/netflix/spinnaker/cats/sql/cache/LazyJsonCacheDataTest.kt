@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.cats.sql.cache
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.netflix.spinnaker.cats.cache.DefaultCacheData
+import com.netflix.spinnaker.cats.cache.DefaultJsonCacheData
+import dev.minutest.junit.JUnit5Minutests
+import dev.minutest.rootContext
+import java.time.Clock
+import java.time.Instant
+import java.time.ZoneOffset
+import strikt.api.expectThat
+import strikt.assertions.isEqualTo
+
+class LazyJsonCacheDataTest : JUnit5Minutests {
+
+  private val clock = Clock.fixed(Instant.ofEpochMilli(1_000_000), ZoneOffset.UTC)
+
+  private fun ObjectMapper.body(attributes: Map<String, Any?>): String =
+    writeValueAsString(
+      DefaultCacheData(
+        "aws:serverGroups:app-main:prod:us-east-1:app-main-v001",
+        -1,
+        attributes,
+        mapOf("instances" to listOf("aws:instances:prod:us-east-1:i-1")),
+        clock
+      )
+    )
+
+  fun tests() = rootContext<ObjectMapper> {
+    fixture {
+      ObjectMapper()
+    }
+
+    test("decodes like DefaultJsonCacheData") {
+      val body = body(
+        mapOf(
+          "name" to "app-main-v001",
+          "capacity" to mapOf("min" to 1, "max" to 3),
+          "loadBalancers" to listOf("lb-1"),
+          "nothing" to null
+        )
+      )
+
+      val lazy = LazyJsonCacheData.parse(this, body, clock)
+      val eager = readValue(body, DefaultJsonCacheData::class.java)
+
+      expectThat(lazy.id).isEqualTo(eager.id)
+      expectThat(lazy.ttlSeconds).isEqualTo(eager.ttlSeconds)
+      expectThat(lazy.relationships).isEqualTo(eager.relationships)
+      expectThat(lazy.attributes).isEqualTo(eager.attributes)
+    }
+
+    test("derives the ttl from cacheExpiry without decoding attributes") {
+      val body = """{"id":"id","ttlSeconds":-1,"attributes":{"name":"n","cacheExpiry":1060000},"relationships":{}}"""
+
+      val lazy = LazyJsonCacheData.parse(this, body, clock)
+
+      expectThat(lazy.ttlSeconds).isEqualTo(60)
+      expectThat(lazy.attributes).isEqualTo(mutableMapOf<String, Any?>("name" to "n", "cacheExpiry" to 1060000))
+    }
+  }
+}
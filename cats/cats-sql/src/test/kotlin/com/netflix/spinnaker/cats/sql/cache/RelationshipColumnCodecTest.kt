@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.cats.sql.cache
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import dev.minutest.junit.JUnit5Minutests
+import dev.minutest.rootContext
+import strikt.api.expectThat
+import strikt.assertions.contains
+import strikt.assertions.isEqualTo
+
+class RelationshipColumnCodecTest : JUnit5Minutests {
+
+  fun tests() = rootContext<ObjectMapper> {
+    fixture {
+      ObjectMapper()
+    }
+
+    test("relationships survive a round trip") {
+      val relationships = mapOf(
+        "instances" to listOf("aws:instances:prod:us-east-1:i-1", "aws:instances:prod:us-east-1:i-2"),
+        "loadBalancers" to listOf("aws:loadBalancers:prod:us-east-1:lb"),
+        "clusters" to listOf("aws:clusters:app:prod:app-main", "aws:clusters:other:prod:other-main")
+      )
+
+      expectThat(RelationshipColumnCodec.decode(this, RelationshipColumnCodec.encode(this, relationships)))
+        .isEqualTo(relationships)
+    }
+
+    test("keys of a type are stored as a common prefix and suffixes") {
+      val encoded = RelationshipColumnCodec.encode(
+        this,
+        mapOf("instances" to listOf("aws:instances:prod:us-east-1:i-1", "aws:instances:prod:us-east-1:i-2"))
+      )
+
+      expectThat(encoded).contains("\"p\":\"aws:instances:prod:us-east-1:i-\"")
+      expectThat(encoded).contains("\"s\":[\"1\",\"2\"]")
+    }
+
+    test("a single key is stored without a prefix") {
+      val encoded = RelationshipColumnCodec.encode(this, mapOf("instances" to listOf("aws:instances:prod:us-east-1:i-1")))
+
+      expectThat(encoded).isEqualTo("{\"instances\":{\"p\":\"\",\"s\":[\"aws:instances:prod:us-east-1:i-1\"]}}")
+    }
+
+    test("types without keys are dropped") {
+      val encoded = RelationshipColumnCodec.encode(this, mapOf("instances" to emptyList()))
+
+      expectThat(encoded).isEqualTo("{}")
+      expectThat(RelationshipColumnCodec.decode(this, encoded)).isEqualTo(emptyMap())
+    }
+  }
+}
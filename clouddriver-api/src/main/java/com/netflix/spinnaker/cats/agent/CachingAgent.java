@@ -84,7 +84,10 @@ public interface CachingAgent extends Agent {
       CachingAgent cachingAgent = (CachingAgent) agent;
       ProviderCache cache = providerRegistry.getProviderCache(cachingAgent.getProviderName());
 
-      return cachingAgent.loadData(cache);
+      return ExecutionPhaseRecorder.record(
+          ExecutionPhase.LOAD_DATA,
+          () -> cachingAgent.loadData(cache),
+          ExecutionPhaseRecorder::itemCount);
     }
 
     public void storeAgentResult(Agent agent, CacheResult result) {
@@ -135,11 +138,17 @@ public interface CachingAgent extends Agent {
         }
       }
 
-      if (result.isPartialResult()) {
-        cache.addCacheResult(agent.getAgentType(), authoritative, result);
-      } else {
-        cache.putCacheResult(agent.getAgentType(), authoritative, result);
-      }
+      ExecutionPhaseRecorder.record(
+          ExecutionPhase.PUT_CACHE_RESULT,
+          () -> {
+            if (result.isPartialResult()) {
+              cache.addCacheResult(agent.getAgentType(), authoritative, result);
+            } else {
+              cache.putCacheResult(agent.getAgentType(), authoritative, result);
+            }
+            return result;
+          },
+          ExecutionPhaseRecorder::itemCount);
     }
   }
 }
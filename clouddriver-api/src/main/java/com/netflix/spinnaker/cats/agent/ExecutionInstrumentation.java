@@ -26,6 +26,17 @@ public interface ExecutionInstrumentation {
 
   void executionFailed(Agent agent, Throwable cause, long elapsedMs);
 
+  /**
+   * Called when a phase of an agent's execution completed, see {@link ExecutionPhaseRecorder}.
+   *
+   * @param itemCount the number of cache entries the phase produced or stored
+   * @param bytesWritten the number of bytes the phase wrote to the cache
+   */
+  default void executionPhaseCompleted(
+      Agent agent, ExecutionPhase phase, long elapsedMs, long itemCount, long bytesWritten) {
+    // do nothing
+  }
+
   static long elapsedTimeMs(long startTimeMs) {
     return System.currentTimeMillis() - startTimeMs;
   }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.cats.agent;
+
+import com.netflix.spinnaker.kork.annotations.Beta;
+
+/** A phase of a caching agent's execution, reported to {@link ExecutionInstrumentation}. */
+@Beta
+public enum ExecutionPhase {
+  /** Loading the agent's data, from calling the cloud provider to returning its CacheResult. */
+  LOAD_DATA("loadData"),
+
+  /** Converting the resources returned by the cloud provider into a CacheResult. */
+  BUILD_CACHE_RESULT("buildCacheResult"),
+
+  /** Storing the CacheResult of the agent in its provider's cache. */
+  PUT_CACHE_RESULT("putCacheResult"),
+
+  /** Merging pending on demand cache entries into the agent's results. */
+  ON_DEMAND_MERGE("onDemandMerge");
+
+  private final String phaseName;
+
+  ExecutionPhase(String phaseName) {
+    this.phaseName = phaseName;
+  }
+
+  /** The name of the phase in metrics and profiles. */
+  public String getPhaseName() {
+    return phaseName;
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.cats.agent;
+
+import com.netflix.spinnaker.kork.annotations.Beta;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Reports the phases of the caching agent that is executing on the current thread to the {@link
+ * ExecutionInstrumentation} it was bound to.
+ *
+ * <p>Agents, their executions and provider caches record phases without having to know which
+ * instrumentation, if any, is listening; outside of a bound execution recording does nothing.
+ * Provider caches report the bytes they write with {@link #addBytesWritten(long)}, which are
+ * attributed to the phase that is being recorded.
+ */
+@Beta
+public final class ExecutionPhaseRecorder {
+  private static final ThreadLocal<Execution> CURRENT = new ThreadLocal<>();
+
+  private ExecutionPhaseRecorder() {}
+
+  /** Reports the phases recorded on this thread for the given agent to the instrumentation. */
+  public static void bind(Agent agent, ExecutionInstrumentation instrumentation) {
+    CURRENT.set(new Execution(agent, instrumentation));
+  }
+
+  /** Stops reporting the phases recorded on this thread, if they are reported for the agent. */
+  public static void unbind(Agent agent) {
+    Execution execution = CURRENT.get();
+    if (execution != null && execution.agent == agent) {
+      CURRENT.remove();
+    }
+  }
+
+  /**
+   * Runs the action as the given phase of the current execution.
+   *
+   * @param itemCount the number of items in the result of the action
+   */
+  public static <T> T record(
+      ExecutionPhase phase, Supplier<T> action, ToLongFunction<T> itemCount) {
+    Execution execution = CURRENT.get();
+    if (execution == null) {
+      return action.get();
+    }
+
+    long bytesWrittenBefore = execution.bytesWritten.get();
+    long startTimeMs = System.currentTimeMillis();
+    T result = action.get();
+    execution.instrumentation.executionPhaseCompleted(
+        execution.agent,
+        phase,
+        ExecutionInstrumentation.elapsedTimeMs(startTimeMs),
+        result == null ? 0 : itemCount.applyAsLong(result),
+        execution.bytesWritten.get() - bytesWrittenBefore);
+    return result;
+  }
+
+  /** Records a phase of the current execution that was timed by the caller. */
+  public static void record(ExecutionPhase phase, long elapsedMs, long itemCount) {
+    Execution execution = CURRENT.get();
+    if (execution != null) {
+      execution.instrumentation.executionPhaseCompleted(
+          execution.agent, phase, elapsedMs, itemCount, 0);
+    }
+  }
+
+  /** Adds to the bytes written to the cache by the current execution. */
+  public static void addBytesWritten(long bytes) {
+    Execution execution = CURRENT.get();
+    if (execution != null) {
+      execution.bytesWritten.addAndGet(bytes);
+    }
+  }
+
+  /**
+   * Returns a task that attributes the bytes it writes to the current execution, for work that an
+   * execution hands off to other threads.
+   */
+  public static Runnable propagate(Runnable task) {
+    Execution execution = CURRENT.get();
+    if (execution == null) {
+      return task;
+    }
+    return () -> {
+      Execution previous = CURRENT.get();
+      CURRENT.set(execution);
+      try {
+        task.run();
+      } finally {
+        if (previous == null) {
+          CURRENT.remove();
+        } else {
+          CURRENT.set(previous);
+        }
+      }
+    };
+  }
+
+  /** Returns the number of cache entries in the result. */
+  public static long itemCount(CacheResult result) {
+    return result.getCacheResults().values().stream().mapToLong(Collection::size).sum();
+  }
+
+  private static final class Execution {
+    private final Agent agent;
+    private final ExecutionInstrumentation instrumentation;
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    Execution(Agent agent, ExecutionInstrumentation instrumentation) {
+      this.agent = agent;
+      this.instrumentation = instrumentation;
+    }
+  }
+}
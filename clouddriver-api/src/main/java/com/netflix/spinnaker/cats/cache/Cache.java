@@ -172,4 +172,24 @@ public interface Cache {
       Collection<String> types, String application, Map<String, CacheFilter> cacheFilters) {
     throw new UnsupportedCacheMethodException("Method only implemented for StoreType.SQL");
   }
+
+  /** Returns whether or not {@link #getVersion(String)} is supported */
+  default boolean supportsVersions() {
+    return false;
+  }
+
+  /**
+   * Returns an opaque version of the items of a type, which changes whenever one of them or their
+   * relationships are stored or evicted. Versions are cheap to compare but may lag behind changes
+   * for a few seconds.
+   *
+   * <p>Clients should check {@link #supportsVersions()} to check if this method is supported
+   * before calling it.
+   *
+   * @param type the type for which to retrieve the version
+   * @return the version of the items of the type
+   */
+  default String getVersion(String type) {
+    throw new UnsupportedCacheMethodException("Method only implemented for StoreType.SQL");
+  }
 }
@@ -36,6 +36,24 @@ public interface AtomicOperationConverter extends VersionedCloudProviderOperatio
   @Nullable
   AtomicOperation convertOperation(Map<String, Object> input);
 
+  /**
+   * This method creates an {@link AtomicOperation} instance for a description that has already
+   * been created from the same input by {@link #convertDescription(Map)}.
+   *
+   * <p>Converters whose operation wraps their description should override this, so that large
+   * inputs (e.g. manifests or templates) are only converted once. By default the input is converted
+   * again.
+   *
+   * @param input
+   * @param description the description created from the input, which may have been validated
+   * @return atomic operation
+   */
+  @Nullable
+  default AtomicOperation convertOperation(
+      Map<String, Object> input, OperationDescription description) {
+    return convertOperation(input);
+  }
+
   /**
    * This method takes a Map input and creates a description object, that will often be used by an
    * {@link AtomicOperation}.
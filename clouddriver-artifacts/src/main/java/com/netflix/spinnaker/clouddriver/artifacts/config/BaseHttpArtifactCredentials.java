@@ -19,6 +19,7 @@ package com.netflix.spinnaker.clouddriver.artifacts.config;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.squareup.okhttp.*;
 import java.io.IOException;
+import java.util.Map;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 
@@ -81,4 +82,17 @@ public abstract class BaseHttpArtifactCredentials<T extends ArtifactAccount> {
     }
     return downloadResponse.body();
   }
+
+  /**
+   * Requests a url with additional headers, e.g. to make a conditional request. Unlike {@link
+   * #fetchUrl(HttpUrl)} the response is returned whatever its status, and the caller is
+   * responsible for closing its body.
+   */
+  protected Response executeRequest(String url, Map<String, String> additionalHeaders)
+      throws IOException {
+    Headers.Builder headers = getHeaders(account).newBuilder();
+    additionalHeaders.forEach(headers::set);
+    Request request = new Request.Builder().headers(headers.build()).url(parseUrl(url)).build();
+    return okHttpClient.newCall(request).execute();
+  }
 }
@@ -248,6 +248,72 @@ public class GitJobExecutor {
     new CommandChain(localClone).addCommand(cmd).runAllOrFail();
   }
 
+  /**
+   * Creates a bare mirror of the repository at mirrorPath, or fetches the changes since the last
+   * fetch if the mirror already exists. All branches and tags of the repository are mirrored, so a
+   * single mirror serves every version of it.
+   */
+  public void cloneOrFetchMirror(String repoUrl, Path mirrorPath) throws IOException {
+    if (mirrorPath.resolve("HEAD").toFile().exists()) {
+      log.info("Fetching git/repo {} into mirror {}", repoUrl, mirrorPath.toString());
+      new CommandChain(mirrorPath)
+          .addCommand(gitExecutable + " fetch --prune origin")
+          .runAllOrFail();
+      return;
+    }
+
+    if (!isValidReference(repoUrl)) {
+      throw new IllegalArgumentException(
+          "Git reference \""
+              + repoUrl
+              + "\" is invalid for credentials with auth type "
+              + authType);
+    }
+
+    File mirrorFile = mirrorPath.toFile();
+    if (mirrorFile.exists()) {
+      FileUtils.deleteDirectory(mirrorFile);
+    }
+    FileUtils.forceMkdir(mirrorPath.getParent().toFile());
+
+    log.info("Creating mirror of git/repo {} in {}", repoUrl, mirrorPath.toString());
+    new CommandChain(mirrorPath.getParent())
+        .addCommand(
+            gitExecutable
+                + " clone --mirror "
+                + repoUrlWithAuth(repoUrl)
+                + " "
+                + mirrorPath.getFileName().toString())
+        .runAllOrFail();
+  }
+
+  /** Fetches a single commit that is not reachable from the branches and tags of a mirror. */
+  public void fetchCommit(Path mirrorPath, String sha) throws IOException {
+    new CommandChain(mirrorPath).addCommand(gitExecutable + " fetch origin " + sha).runAllOrFail();
+  }
+
+  public boolean hasCommit(Path mirrorPath, String sha) {
+    JobResult<String> result =
+        new CommandChain(mirrorPath)
+            .addCommand(gitExecutable + " cat-file -e " + sha + "^{commit}")
+            .runAll();
+    return result.getResult() == JobResult.Result.SUCCESS;
+  }
+
+  /** Resolves a branch, tag or (short) commit SHA to the full SHA of the commit in the mirror. */
+  public String resolveCommit(Path mirrorPath, String version) throws IOException {
+    JobResult<String> result =
+        new CommandChain(mirrorPath)
+            .addCommand(gitExecutable + " rev-parse --verify --quiet " + version + "^{commit}")
+            .runAll();
+    if (result.getResult() != JobResult.Result.SUCCESS
+        || !FULL_SHA_PATTERN.matcher(result.getOutput().trim()).matches()) {
+      throw new IOException(
+          "Unable to resolve version " + version + " in git/repo mirror " + mirrorPath.toString());
+    }
+    return result.getOutput().trim();
+  }
+
   /**
    * For SSH authentication if the private key is password protected, SSH_ASKPASS binary is used to
    * supply the password. https://git-scm.com/docs/gitcredentials#_requesting_credentials
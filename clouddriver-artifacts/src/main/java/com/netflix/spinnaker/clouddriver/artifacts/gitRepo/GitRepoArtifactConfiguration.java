@@ -40,7 +40,8 @@ class GitRepoArtifactConfiguration {
       gitCredentialsProperties(
           @Value("${artifacts.git-repo.git-executable:git}") String gitExecutable,
           JobExecutor jobExecutor,
-          GitRepoFileSystem gitRepoFileSystem) {
+          GitRepoFileSystem gitRepoFileSystem,
+          GitRepoMirrorCache gitRepoMirrorCache) {
     return CredentialsTypeProperties.<GitRepoArtifactCredentials, GitRepoArtifactAccount>builder()
         .type(GitRepoArtifactCredentials.CREDENTIALS_TYPE)
         .credentialsClass(GitRepoArtifactCredentials.class)
@@ -50,7 +51,9 @@ class GitRepoArtifactConfiguration {
             a -> {
               try {
                 return new GitRepoArtifactCredentials(
-                    new GitJobExecutor(a, jobExecutor, gitExecutable), gitRepoFileSystem);
+                    new GitJobExecutor(a, jobExecutor, gitExecutable),
+                    gitRepoFileSystem,
+                    gitRepoMirrorCache);
               } catch (IOException e) {
                 log.warn("Failure instantiating git artifact account {}: ", a, e);
                 return null;
@@ -63,4 +66,9 @@ class GitRepoArtifactConfiguration {
   public GitRepoFileSystem gitRepoFileSystem() {
     return new GitRepoFileSystem(gitRepoArtifactProviderProperties);
   }
+
+  @Bean
+  public GitRepoMirrorCache gitRepoMirrorCache() {
+    return new GitRepoMirrorCache(gitRepoArtifactProviderProperties);
+  }
 }
@@ -28,6 +28,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import javax.annotation.Nullable;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
@@ -44,10 +45,19 @@ public class GitRepoArtifactCredentials implements ArtifactCredentials {
 
   private final GitJobExecutor executor;
   private final GitRepoFileSystem gitRepoFileSystem;
+  @Nullable private final GitRepoMirrorCache gitRepoMirrorCache;
 
   public GitRepoArtifactCredentials(GitJobExecutor executor, GitRepoFileSystem gitRepoFileSystem) {
+    this(executor, gitRepoFileSystem, null);
+  }
+
+  public GitRepoArtifactCredentials(
+      GitJobExecutor executor,
+      GitRepoFileSystem gitRepoFileSystem,
+      @Nullable GitRepoMirrorCache gitRepoMirrorCache) {
     this.executor = executor;
     this.gitRepoFileSystem = gitRepoFileSystem;
+    this.gitRepoMirrorCache = gitRepoMirrorCache;
     this.name = this.executor.getAccount().getName();
   }
 
@@ -61,6 +71,21 @@ public class GitRepoArtifactCredentials implements ArtifactCredentials {
     String repoUrl = artifact.getReference();
     String subPath = artifactSubPath(artifact);
     String branch = artifactVersion(artifact);
+
+    if (gitRepoMirrorCache != null && gitRepoMirrorCache.isEnabled()) {
+      try {
+        return gitRepoMirrorCache.download(executor, repoUrl, branch, subPath);
+      } catch (InterruptedException e) {
+        throw new IOException(
+            "Interrupted while waiting to acquire mirror lock for "
+                + repoUrl
+                + " (branch "
+                + branch
+                + ").",
+            e);
+      }
+    }
+
     Path stagingPath = gitRepoFileSystem.getLocalClonePath(repoUrl, branch);
     String repoBasename = getRepoBasename(repoUrl);
     Path outputFile = Paths.get(stagingPath.toString(), repoBasename + ".tgz");
@@ -32,5 +32,12 @@ public class GitRepoArtifactProviderProperties implements ArtifactProvider<GitRe
   private int cloneRetentionCheckMs = DEFAULT_CLONE_RETENTION_CHECK_MS;
   private long cloneRetentionMaxBytes = 1024 * 1024 * 100; // 100 MB
   private int cloneWaitLockTimeoutSec = 60;
+  /**
+   * Serve artifacts from a bare mirror per repository that is fetched incrementally, instead of a
+   * clone per repository and branch.
+   */
+  private boolean useMirrorCache = false;
+  /** Number of archives created from mirrors that are kept, by commit SHA and sub path. */
+  private int mirrorArchiveCacheMaxEntries = 100;
   private List<GitRepoArtifactAccount> accounts = new ArrayList<>();
 }
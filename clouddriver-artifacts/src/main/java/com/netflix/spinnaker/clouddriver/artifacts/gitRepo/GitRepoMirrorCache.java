@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.netflix.spinnaker.clouddriver.artifacts.gitRepo;
+
+import com.google.common.hash.Hashing;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Serves git/repo artifacts from one bare mirror per repository instead of a clone per repository
+ * and branch.
+ *
+ * <p>Each download fetches the changes to the mirror since the last fetch, resolves the requested
+ * version to a commit and archives that commit straight from the mirror. Fetching takes the write
+ * lock of the mirror, while resolving and archiving only take the read lock, so requests for
+ * different versions of the same repository archive in parallel. A fetch that started after a
+ * request arrived already covers that request, so requests that queue up behind a fetch don't
+ * fetch again, and a full commit SHA that is already in the mirror is served without fetching.
+ *
+ * <p>Archives are kept by commit SHA and sub path, up to {@code mirrorArchiveCacheMaxEntries} of
+ * them, so the same version is only archived once.
+ *
+ * <p>Mirrors, and the archives made from them, are kept per artifact account: a mirror is only
+ * ever fetched with the credentials of its account, so an account is never served content that
+ * was fetched with the credentials of another one.
+ */
+@Slf4j
+public class GitRepoMirrorCache {
+  private static final Path MIRRORS_HOME =
+      Paths.get(System.getProperty("java.io.tmpdir"), "gitmirrors");
+  private static final Pattern FULL_SHA_PATTERN = Pattern.compile("[0-9a-f]{40}");
+
+  private final GitRepoArtifactProviderProperties config;
+  private final Path reposHome;
+  private final Path archivesHome;
+  private final Map<String, Mirror> mirrors = new ConcurrentHashMap<>();
+  private final Map<String, Path> archives = new LinkedHashMap<>(16, 0.75f, true);
+
+  public GitRepoMirrorCache(GitRepoArtifactProviderProperties properties) {
+    this(properties, MIRRORS_HOME);
+  }
+
+  GitRepoMirrorCache(GitRepoArtifactProviderProperties properties, Path home) {
+    this.config = properties;
+    this.reposHome = home.resolve("repos");
+    this.archivesHome = home.resolve("archives");
+    // archives from a previous run aren't tracked, start from scratch
+    FileUtils.deleteQuietly(archivesHome.toFile());
+  }
+
+  public boolean isEnabled() {
+    return config.isUseMirrorCache();
+  }
+
+  public InputStream download(
+      GitJobExecutor executor, String repoUrl, String version, String subPath)
+      throws IOException, InterruptedException {
+    String mirrorKey = hash(executor.getAccount().getName() + "\n" + repoUrl);
+    Mirror mirror = mirrors.computeIfAbsent(mirrorKey, k -> new Mirror(k, reposHome.resolve(k)));
+    long requestedAt = System.nanoTime();
+
+    if (!isCommitInMirror(executor, mirror, repoUrl, version)) {
+      update(executor, mirror, repoUrl, version, requestedAt);
+    }
+
+    Lock readLock = lock(mirror.lock.readLock(), repoUrl);
+    try {
+      String sha = executor.resolveCommit(mirror.path, version);
+      return archive(executor, mirror, sha, subPath);
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  private boolean isCommitInMirror(
+      GitJobExecutor executor, Mirror mirror, String repoUrl, String version)
+      throws InterruptedException, IOException {
+    if (!FULL_SHA_PATTERN.matcher(version).matches()) {
+      return false;
+    }
+    Lock readLock = lock(mirror.lock.readLock(), repoUrl);
+    try {
+      return mirror.path.resolve("HEAD").toFile().exists()
+          && executor.hasCommit(mirror.path, version);
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  private void update(
+      GitJobExecutor executor, Mirror mirror, String repoUrl, String version, long requestedAt)
+      throws InterruptedException, IOException {
+    Lock writeLock = lock(mirror.lock.writeLock(), repoUrl);
+    try {
+      if (mirror.lastFetchStartedAt - requestedAt >= 0) {
+        log.debug("Mirror of git/repo {} was fetched while waiting, not fetching again", repoUrl);
+        return;
+      }
+      long fetchStartedAt = System.nanoTime();
+      executor.cloneOrFetchMirror(repoUrl, mirror.path);
+      if (FULL_SHA_PATTERN.matcher(version).matches()
+          && !executor.hasCommit(mirror.path, version)) {
+        // commits that aren't reachable from any branch or tag aren't mirrored
+        executor.fetchCommit(mirror.path, version);
+      }
+      mirror.lastFetchStartedAt = fetchStartedAt;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  private InputStream archive(GitJobExecutor executor, Mirror mirror, String sha, String subPath)
+      throws IOException {
+    String key = hash(mirror.key + "-" + sha + "-" + subPath);
+    synchronized (archives) {
+      Path cached = archives.get(key);
+      if (cached != null && cached.toFile().exists()) {
+        log.debug("Serving cached archive of commit {} (sub path '{}')", sha, subPath);
+        // opened while holding the lock so the archive can't be evicted before it is opened
+        return new FileInputStream(cached.toFile());
+      }
+    }
+
+    FileUtils.forceMkdir(archivesHome.toFile());
+    Path outputFile = archivesHome.resolve(key + ".tgz");
+    Path tempFile = Files.createTempFile(archivesHome, key, ".tmp");
+    try {
+      log.info("Creating archive of commit {} for git/repo mirror {}", sha, mirror.path);
+      executor.archive(mirror.path, sha, subPath, tempFile);
+      Files.move(
+          tempFile,
+          outputFile,
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+
+    synchronized (archives) {
+      InputStream archive = new FileInputStream(outputFile.toFile());
+      archives.put(key, outputFile);
+      evictArchives();
+      return archive;
+    }
+  }
+
+  private void evictArchives() {
+    Iterator<Map.Entry<String, Path>> iterator = archives.entrySet().iterator();
+    while (archives.size() > Math.max(config.getMirrorArchiveCacheMaxEntries(), 1)
+        && iterator.hasNext()) {
+      Path evicted = iterator.next().getValue();
+      iterator.remove();
+      // a stream that is still reading the archive keeps it until closed
+      FileUtils.deleteQuietly(evicted.toFile());
+    }
+  }
+
+  private Lock lock(Lock lock, String repoUrl) throws InterruptedException, IOException {
+    if (!lock.tryLock(config.getCloneWaitLockTimeoutSec(), TimeUnit.SECONDS)) {
+      throw new IOException(
+          "Timeout waiting to acquire mirror lock for "
+              + repoUrl
+              + ". Waited "
+              + config.getCloneWaitLockTimeoutSec()
+              + " seconds.");
+    }
+    return lock;
+  }
+
+  private static String hash(String value) {
+    return Hashing.sha256().hashString(value, StandardCharsets.UTF_8).toString();
+  }
+
+  private static final class Mirror {
+    private final String key;
+    private final Path path;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile long lastFetchStartedAt;
+
+    Mirror(String key, Path path) {
+      this.key = key;
+      this.path = path;
+      this.lastFetchStartedAt = System.nanoTime() - Long.MAX_VALUE / 2;
+    }
+  }
+}
@@ -17,6 +17,7 @@
 
 package com.netflix.spinnaker.clouddriver.artifacts.helm;
 
+import com.netflix.spectator.api.Registry;
 import com.netflix.spinnaker.credentials.CredentialsTypeProperties;
 import com.squareup.okhttp.OkHttpClient;
 import lombok.RequiredArgsConstructor;
@@ -36,7 +37,7 @@ class HelmArtifactConfiguration {
 
   @Bean
   public CredentialsTypeProperties<HelmArtifactCredentials, HelmArtifactAccount>
-      helmCredentialsProperties(OkHttpClient okHttpClient) {
+      helmCredentialsProperties(OkHttpClient okHttpClient, Registry registry) {
     return CredentialsTypeProperties.<HelmArtifactCredentials, HelmArtifactAccount>builder()
         .type(HelmArtifactCredentials.CREDENTIALS_TYPE)
         .credentialsClass(HelmArtifactCredentials.class)
@@ -45,7 +46,8 @@ class HelmArtifactConfiguration {
         .credentialsParser(
             a -> {
               try {
-                return new HelmArtifactCredentials(a, okHttpClient);
+                return new HelmArtifactCredentials(
+                    a, okHttpClient, helmArtifactProviderProperties, registry);
               } catch (Exception e) {
                 log.warn("Failure instantiating Helm artifact account {}: ", a, e);
                 return null;
@@ -19,6 +19,8 @@ package com.netflix.spinnaker.clouddriver.artifacts.helm;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.common.collect.ImmutableList;
+import com.netflix.spectator.api.NoopRegistry;
+import com.netflix.spectator.api.Registry;
 import com.netflix.spinnaker.clouddriver.artifacts.config.ArtifactCredentials;
 import com.netflix.spinnaker.clouddriver.artifacts.config.BaseHttpArtifactCredentials;
 import com.netflix.spinnaker.clouddriver.artifacts.exceptions.FailedDownloadException;
@@ -26,10 +28,14 @@ import com.netflix.spinnaker.kork.annotations.NonnullByDefault;
 import com.netflix.spinnaker.kork.artifacts.model.Artifact;
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
 import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.Response;
 import com.squareup.okhttp.ResponseBody;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.time.Clock;
 import java.util.List;
+import java.util.Map;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -42,6 +48,7 @@ public class HelmArtifactCredentials extends BaseHttpArtifactCredentials<HelmArt
   @Getter private final ImmutableList<String> types = ImmutableList.of("helm/chart", "helm/index");
 
   @JsonIgnore private final IndexParser indexParser;
+  @JsonIgnore private final HelmIndexCache indexCache;
 
   @Override
   public boolean handlesType(String type) {
@@ -49,20 +56,44 @@ public class HelmArtifactCredentials extends BaseHttpArtifactCredentials<HelmArt
   }
 
   public HelmArtifactCredentials(HelmArtifactAccount account, OkHttpClient okHttpClient) {
+    this(account, okHttpClient, new HelmArtifactProviderProperties(), new NoopRegistry());
+  }
+
+  HelmArtifactCredentials(
+      HelmArtifactAccount account,
+      OkHttpClient okHttpClient,
+      HelmArtifactProviderProperties helmArtifactProviderProperties,
+      Registry registry) {
+    this(account, okHttpClient, helmArtifactProviderProperties, registry, Clock.systemUTC());
+  }
+
+  HelmArtifactCredentials(
+      HelmArtifactAccount account,
+      OkHttpClient okHttpClient,
+      HelmArtifactProviderProperties helmArtifactProviderProperties,
+      Registry registry,
+      Clock clock) {
     super(okHttpClient, account);
     this.name = account.getName();
     this.indexParser = new IndexParser(account.getRepository());
+    this.indexCache =
+        new HelmIndexCache(
+            name,
+            this::fetchIndex,
+            indexParser::parse,
+            helmArtifactProviderProperties.getIndexMaxAge(),
+            registry,
+            clock);
   }
 
   @Override
   public InputStream download(Artifact artifact) throws IOException {
-    InputStream index = downloadIndex();
-
     if ("helm/index".equals(artifact.getType())) {
-      return index;
+      return downloadIndex();
     }
 
-    List<String> urls = indexParser.findUrls(index, artifact.getName(), artifact.getVersion());
+    List<String> urls =
+        indexParser.findUrls(indexCache.get(), artifact.getName(), artifact.getVersion());
     ResponseBody downloadResponse;
     for (String url : urls) {
       try {
@@ -76,11 +107,9 @@ public class HelmArtifactCredentials extends BaseHttpArtifactCredentials<HelmArt
   }
 
   public List<String> getArtifactNames() {
-    InputStream index;
     List<String> names;
     try {
-      index = downloadIndex();
-      names = indexParser.findNames(index);
+      names = indexParser.findNames(indexCache.get());
     } catch (IOException e) {
       throw new NotFoundException("Failed to download chart names for '" + name + "' account", e);
     }
@@ -88,11 +117,9 @@ public class HelmArtifactCredentials extends BaseHttpArtifactCredentials<HelmArt
   }
 
   public List<String> getArtifactVersions(String artifactName) {
-    InputStream index;
     List<String> versions;
     try {
-      index = downloadIndex();
-      versions = indexParser.findVersions(index, artifactName);
+      versions = indexParser.findVersions(indexCache.get(), artifactName);
     } catch (IOException e) {
       throw new NotFoundException(
           "Failed to download chart versions for '" + name + "' account", e);
@@ -111,6 +138,24 @@ public class HelmArtifactCredentials extends BaseHttpArtifactCredentials<HelmArt
     }
   }
 
+  private Response fetchIndex(Map<String, String> headers) throws IOException {
+    try {
+      Response response = executeRequest(indexParser.indexPath(), headers);
+      if (!response.isSuccessful() && response.code() != HttpURLConnection.HTTP_NOT_MODIFIED) {
+        response.body().close();
+        throw new IOException(
+            String.format(
+                "Received %d status code from %s",
+                response.code(), response.request().httpUrl().host()));
+      }
+      return response;
+    } catch (IOException e) {
+      throw new FailedDownloadException(
+          "Failed to download index.yaml file in '" + indexParser.getRepository() + "' repository",
+          e);
+    }
+  }
+
   @Override
   public String getType() {
     return CREDENTIALS_TYPE;
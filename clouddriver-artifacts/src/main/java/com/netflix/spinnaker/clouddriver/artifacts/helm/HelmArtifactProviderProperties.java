@@ -18,6 +18,7 @@
 package com.netflix.spinnaker.clouddriver.artifacts.helm;
 
 import com.netflix.spinnaker.clouddriver.artifacts.config.ArtifactProvider;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Data;
@@ -28,4 +29,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 final class HelmArtifactProviderProperties implements ArtifactProvider<HelmArtifactAccount> {
   private boolean enabled;
   private List<HelmArtifactAccount> accounts = new ArrayList<>();
+  /**
+   * How long a downloaded index.yaml is used before it is revalidated with the repository. By
+   * default every use revalidates it, which only downloads it again if it has changed.
+   */
+  private Duration indexMaxAge = Duration.ZERO;
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.artifacts.helm;
+
+import com.netflix.spectator.api.Id;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spinnaker.kork.annotations.NonnullByDefault;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds the parsed index.yaml of a single Helm repository.
+ *
+ * <p>The index is used as is for {@code maxAge} after it was last validated. After that, the next
+ * caller revalidates it with a conditional request using the ETag and Last-Modified headers of the
+ * last download, and the index is only downloaded and parsed again if the repository reports it
+ * has changed. Callers that need the index while it is being loaded wait for that load rather than
+ * starting their own.
+ */
+@NonnullByDefault
+@Slf4j
+final class HelmIndexCache {
+  interface IndexFetcher {
+    /**
+     * Requests the index with the given additional headers. Responses other than 2xx and 304 Not
+     * Modified are expected to be reported as an exception.
+     */
+    Response fetch(Map<String, String> headers) throws IOException;
+  }
+
+  interface IndexReader {
+    IndexConfig read(InputStream in) throws IOException;
+  }
+
+  private final IndexFetcher fetcher;
+  private final IndexReader reader;
+  private final Duration maxAge;
+  private final Registry registry;
+  private final Clock clock;
+
+  private final Id requestsId;
+  private final Id downloadedBytesId;
+  private final Id parseTimeId;
+
+  @Nullable private volatile Entry entry;
+  @Nullable private CompletableFuture<Entry> inFlight;
+
+  HelmIndexCache(
+      String account,
+      IndexFetcher fetcher,
+      IndexReader reader,
+      Duration maxAge,
+      Registry registry,
+      Clock clock) {
+    this.fetcher = fetcher;
+    this.reader = reader;
+    this.maxAge = maxAge;
+    this.registry = registry;
+    this.clock = clock;
+    this.requestsId = registry.createId("artifacts.helm.index.requests", "account", account);
+    this.downloadedBytesId =
+        registry.createId("artifacts.helm.index.downloadedBytes", "account", account);
+    this.parseTimeId = registry.createId("artifacts.helm.index.parseTime", "account", account);
+  }
+
+  IndexConfig get() throws IOException {
+    Entry current = entry;
+    if (isFresh(current)) {
+      registry.counter(requestsId.withTag("result", "cached")).increment();
+      return current.index;
+    }
+
+    CompletableFuture<Entry> load;
+    boolean loader = false;
+    synchronized (this) {
+      current = entry;
+      if (isFresh(current)) {
+        registry.counter(requestsId.withTag("result", "cached")).increment();
+        return current.index;
+      }
+      if (inFlight == null) {
+        inFlight = new CompletableFuture<>();
+        loader = true;
+      }
+      load = inFlight;
+    }
+
+    if (loader) {
+      try {
+        Entry loaded = load(current);
+        entry = loaded;
+        load.complete(loaded);
+      } catch (IOException | RuntimeException e) {
+        load.completeExceptionally(e);
+      } finally {
+        synchronized (this) {
+          inFlight = null;
+        }
+      }
+    }
+
+    try {
+      return load.join().index;
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw e;
+    }
+  }
+
+  private boolean isFresh(@Nullable Entry current) {
+    return current != null && clock.millis() - current.validatedAt < maxAge.toMillis();
+  }
+
+  private Entry load(@Nullable Entry current) throws IOException {
+    Map<String, String> headers = new HashMap<>();
+    if (current != null) {
+      if (current.etag != null) {
+        headers.put("If-None-Match", current.etag);
+      }
+      if (current.lastModified != null) {
+        headers.put("If-Modified-Since", current.lastModified);
+      }
+    }
+
+    Response response = fetcher.fetch(headers);
+    try (ResponseBody body = response.body()) {
+      if (current != null && response.code() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+        registry.counter(requestsId.withTag("result", "notModified")).increment();
+        return new Entry(current.index, current.etag, current.lastModified, clock.millis());
+      }
+
+      byte[] bytes = body.bytes();
+      registry.counter(downloadedBytesId).increment(bytes.length);
+
+      long start = System.nanoTime();
+      IndexConfig index = reader.read(new ByteArrayInputStream(bytes));
+      registry.timer(parseTimeId).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      registry.counter(requestsId.withTag("result", "downloaded")).increment();
+      log.debug("Downloaded and parsed {} bytes of Helm index", bytes.length);
+
+      return new Entry(
+          index, response.header("ETag"), response.header("Last-Modified"), clock.millis());
+    }
+  }
+
+  private static final class Entry {
+    private final IndexConfig index;
+    @Nullable private final String etag;
+    @Nullable private final String lastModified;
+    private final long validatedAt;
+
+    Entry(
+        IndexConfig index, @Nullable String etag, @Nullable String lastModified, long validatedAt) {
+      this.index = index;
+      this.etag = etag;
+      this.lastModified = lastModified;
+      this.validatedAt = validatedAt;
+    }
+  }
+}
@@ -33,6 +33,8 @@ import org.apache.maven.artifact.versioning.ComparableVersion;
 @Slf4j
 @Data
 public class IndexParser {
+  private static final ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
+
   private String repository;
 
   public IndexParser(String repository) {
@@ -44,25 +46,36 @@ public class IndexParser {
   }
 
   public List<String> findNames(InputStream in) throws IOException {
-    IndexConfig indexConfig = buildIndexConfig(in);
+    return findNames(parse(in));
+  }
+
+  List<String> findNames(IndexConfig indexConfig) {
     return new ArrayList<>(indexConfig.getEntries().keySet());
   }
 
   public List<String> findVersions(InputStream in, String name) throws IOException {
+    return findVersions(parse(in), name);
+  }
+
+  List<String> findVersions(IndexConfig indexConfig, String name) {
     if (name == null || name.isEmpty()) {
       throw new IllegalArgumentException("Artifact name field should not be empty");
     }
-    List<EntryConfig> configs = buildEntryConfigsByName(buildIndexConfig(in), name);
+    List<EntryConfig> configs = buildEntryConfigsByName(indexConfig, name);
     List<String> versions = new ArrayList<>();
     configs.forEach(e -> versions.add(e.getVersion()));
     return versions;
   }
 
   public List<String> findUrls(InputStream in, String name, String version) throws IOException {
+    return findUrls(parse(in), name, version);
+  }
+
+  List<String> findUrls(IndexConfig indexConfig, String name, String version) {
     if (name == null || name.isEmpty()) {
       throw new IllegalArgumentException("Artifact name field should not be empty");
     }
-    List<EntryConfig> configs = buildEntryConfigsByName(buildIndexConfig(in), name);
+    List<EntryConfig> configs = buildEntryConfigsByName(indexConfig, name);
     String validVersion = StringUtils.isBlank(version) ? findLatestVersion(configs) : version;
     return resolveReferenceUrls(findUrlsByVersion(configs, validVersion));
   }
@@ -110,8 +123,7 @@ public class IndexParser {
         .toString();
   }
 
-  private IndexConfig buildIndexConfig(InputStream in) throws IOException {
-    ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
+  IndexConfig parse(InputStream in) throws IOException {
     IndexConfig indexConfig;
     try {
       indexConfig = mapper.readValue(in, IndexConfig.class);
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.netflix.spinnaker.clouddriver.artifacts.gitRepo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+
+@ExtendWith({TempDirectory.class})
+public class GitRepoMirrorCacheTest {
+  private static final String REPO_URL = "https://git.example.com/org/repo.git";
+  private static final String MASTER_SHA = "0123456789abcdef0123456789abcdef01234567";
+  private static final String RELEASE_SHA = "89abcdef0123456789abcdef0123456789abcdef";
+
+  private GitJobExecutor executor;
+  private GitRepoMirrorCache mirrorCache;
+
+  @BeforeEach
+  void setUp(@TempDirectory.TempDir Path tempDir) throws IOException {
+    executor = executor("gitRepo-account");
+    GitRepoArtifactProviderProperties properties = new GitRepoArtifactProviderProperties();
+    properties.setUseMirrorCache(true);
+    properties.setMirrorArchiveCacheMaxEntries(2);
+    mirrorCache = new GitRepoMirrorCache(properties, tempDir);
+  }
+
+  @Test
+  void servesAllVersionsFromOneMirror() throws Exception {
+    assertThat(read(mirrorCache.download(executor, REPO_URL, "master", "")))
+        .isEqualTo(MASTER_SHA + ":");
+    assertThat(read(mirrorCache.download(executor, REPO_URL, "release", "charts")))
+        .isEqualTo(RELEASE_SHA + ":charts");
+
+    verify(executor, times(2)).cloneOrFetchMirror(eq(REPO_URL), any());
+    verify(executor).archive(any(), eq(MASTER_SHA), eq(""), any());
+    verify(executor).archive(any(), eq(RELEASE_SHA), eq("charts"), any());
+  }
+
+  @Test
+  void reusesArchiveOfSameCommitAndSubPath() throws Exception {
+    read(mirrorCache.download(executor, REPO_URL, "master", "charts"));
+    assertThat(read(mirrorCache.download(executor, REPO_URL, "master", "charts")))
+        .isEqualTo(MASTER_SHA + ":charts");
+
+    verify(executor, times(1)).archive(any(), eq(MASTER_SHA), eq("charts"), any());
+  }
+
+  @Test
+  void doesNotFetchCommitAlreadyInMirror() throws Exception {
+    read(mirrorCache.download(executor, REPO_URL, "master", ""));
+    when(executor.hasCommit(any(), eq(MASTER_SHA))).thenReturn(true);
+
+    assertThat(read(mirrorCache.download(executor, REPO_URL, MASTER_SHA, "")))
+        .isEqualTo(MASTER_SHA + ":");
+
+    verify(executor, times(1)).cloneOrFetchMirror(eq(REPO_URL), any());
+    verify(executor, never()).fetchCommit(any(), anyString());
+  }
+
+  @Test
+  void fetchesCommitMissingFromMirror() throws Exception {
+    read(mirrorCache.download(executor, REPO_URL, MASTER_SHA, ""));
+
+    verify(executor).cloneOrFetchMirror(eq(REPO_URL), any());
+    verify(executor).fetchCommit(any(), eq(MASTER_SHA));
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedArchives() throws Exception {
+    read(mirrorCache.download(executor, REPO_URL, "master", "a"));
+    read(mirrorCache.download(executor, REPO_URL, "master", "b"));
+    read(mirrorCache.download(executor, REPO_URL, "master", "a"));
+    read(mirrorCache.download(executor, REPO_URL, "master", "c"));
+    read(mirrorCache.download(executor, REPO_URL, "master", "a"));
+    read(mirrorCache.download(executor, REPO_URL, "master", "b"));
+
+    verify(executor, times(1)).archive(any(), eq(MASTER_SHA), eq("a"), any());
+    verify(executor, times(2)).archive(any(), eq(MASTER_SHA), eq("b"), any());
+  }
+
+  @Test
+  void keepsMirrorsAndArchivesPerAccount() throws Exception {
+    GitJobExecutor otherExecutor = executor("other-account");
+    read(mirrorCache.download(executor, REPO_URL, "master", ""));
+    when(executor.hasCommit(any(), eq(MASTER_SHA))).thenReturn(true);
+
+    assertThat(read(mirrorCache.download(otherExecutor, REPO_URL, MASTER_SHA, "")))
+        .isEqualTo(MASTER_SHA + ":");
+
+    verify(otherExecutor).cloneOrFetchMirror(eq(REPO_URL), any());
+    verify(otherExecutor).fetchCommit(any(), eq(MASTER_SHA));
+    verify(otherExecutor).archive(any(), eq(MASTER_SHA), eq(""), any());
+    verify(executor, times(1)).cloneOrFetchMirror(eq(REPO_URL), any());
+  }
+
+  private static GitJobExecutor executor(String account) throws IOException {
+    GitJobExecutor executor = mock(GitJobExecutor.class);
+    when(executor.getAccount()).thenReturn(GitRepoArtifactAccount.builder().name(account).build());
+    doAnswer(
+            invocation -> {
+              Path mirrorPath = invocation.getArgument(1);
+              Files.createDirectories(mirrorPath);
+              Files.write(mirrorPath.resolve("HEAD"), "ref: refs/heads/master".getBytes());
+              return null;
+            })
+        .when(executor)
+        .cloneOrFetchMirror(eq(REPO_URL), any());
+    doAnswer(
+            invocation -> {
+              String contents = invocation.getArgument(1) + ":" + invocation.getArgument(2);
+              Files.write(invocation.getArgument(3), contents.getBytes(StandardCharsets.UTF_8));
+              return null;
+            })
+        .when(executor)
+        .archive(any(), anyString(), anyString(), any());
+    when(executor.resolveCommit(any(), eq("master"))).thenReturn(MASTER_SHA);
+    when(executor.resolveCommit(any(), eq("release"))).thenReturn(RELEASE_SHA);
+    when(executor.resolveCommit(any(), eq(MASTER_SHA))).thenReturn(MASTER_SHA);
+    return executor;
+  }
+
+  private static String read(InputStream inputStream) throws IOException {
+    try (InputStream in = inputStream) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
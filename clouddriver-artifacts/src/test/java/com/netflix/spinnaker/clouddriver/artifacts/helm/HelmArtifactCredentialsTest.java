@@ -24,6 +24,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.MappingBuilder;
 import com.github.tomakehurst.wiremock.http.Fault;
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.Registry;
 import com.netflix.spinnaker.kork.artifacts.model.Artifact;
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
 import com.squareup.okhttp.OkHttpClient;
@@ -31,8 +33,15 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.commons.io.Charsets;
 import org.assertj.core.api.Condition;
 import org.junit.jupiter.api.Test;
@@ -50,6 +59,7 @@ class HelmArtifactCredentialsTest {
   private final String CHART_NAME = "my-chart";
   private final String CHART_VERSION = "1.0.0";
   private final String FILE_CONTENTS = "file contents";
+  private final String INDEX_PATH = "/" + REPOSITORY + "/index.yaml";
 
   @Test
   void downloadWithBasicAuth(@WiremockResolver.Wiremock WireMockServer server) throws IOException {
@@ -105,6 +115,108 @@ class HelmArtifactCredentialsTest {
         server, account, m -> m.withHeader("Authorization", absent()));
   }
 
+  @Test
+  void reusesIndexWithinMaxAge(@WiremockResolver.Wiremock WireMockServer server)
+      throws IOException {
+    HelmArtifactProviderProperties properties = new HelmArtifactProviderProperties();
+    properties.setIndexMaxAge(Duration.ofMinutes(5));
+    HelmArtifactCredentials credentials =
+        new HelmArtifactCredentials(
+            account(server), okHttpClient, properties, new DefaultRegistry());
+
+    prepareServer(server, m -> m);
+
+    assertThat(credentials.getArtifactNames()).containsExactly(CHART_NAME);
+    assertThat(credentials.getArtifactVersions(CHART_NAME)).containsExactly(CHART_VERSION);
+    assertThat(credentials.getArtifactNames()).containsExactly(CHART_NAME);
+
+    server.verify(1, getRequestedFor(urlPathEqualTo(INDEX_PATH)));
+  }
+
+  @Test
+  void revalidatesIndexWithETag(@WiremockResolver.Wiremock WireMockServer server)
+      throws IOException {
+    Registry registry = new DefaultRegistry();
+    HelmArtifactCredentials credentials =
+        new HelmArtifactCredentials(
+            account(server), okHttpClient, new HelmArtifactProviderProperties(), registry);
+
+    String index = objectMapper.writeValueAsString(getIndexConfig(server.baseUrl()));
+    server.stubFor(
+        get(urlPathEqualTo(INDEX_PATH))
+            .willReturn(aResponse().withHeader("ETag", "\"v1\"").withBody(index)));
+    server.stubFor(
+        get(urlPathEqualTo(INDEX_PATH))
+            .withHeader("If-None-Match", equalTo("\"v1\""))
+            .willReturn(aResponse().withStatus(304)));
+
+    assertThat(credentials.getArtifactNames()).containsExactly(CHART_NAME);
+    assertThat(credentials.getArtifactNames()).containsExactly(CHART_NAME);
+    assertThat(credentials.getArtifactVersions(CHART_NAME)).containsExactly(CHART_VERSION);
+
+    server.verify(3, getRequestedFor(urlPathEqualTo(INDEX_PATH)));
+    server.verify(
+        2,
+        getRequestedFor(urlPathEqualTo(INDEX_PATH))
+            .withHeader("If-None-Match", equalTo("\"v1\"")));
+    assertThat(
+            registry
+                .counter(
+                    "artifacts.helm.index.requests",
+                    "account",
+                    "my-helm-account",
+                    "result",
+                    "notModified")
+                .count())
+        .isEqualTo(2);
+    assertThat(
+            registry
+                .counter("artifacts.helm.index.downloadedBytes", "account", "my-helm-account")
+                .count())
+        .isEqualTo(index.length());
+  }
+
+  @Test
+  void concurrentCallersShareIndexDownload(@WiremockResolver.Wiremock WireMockServer server)
+      throws Exception {
+    HelmArtifactProviderProperties properties = new HelmArtifactProviderProperties();
+    properties.setIndexMaxAge(Duration.ofMinutes(5));
+    HelmArtifactCredentials credentials =
+        new HelmArtifactCredentials(
+            account(server), okHttpClient, properties, new DefaultRegistry());
+
+    server.stubFor(
+        get(urlPathEqualTo(INDEX_PATH))
+            .willReturn(
+                aResponse()
+                    .withFixedDelay(500)
+                    .withBody(
+                        objectMapper.writeValueAsString(getIndexConfig(server.baseUrl())))));
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<CompletableFuture<List<String>>> names =
+          IntStream.range(0, 4)
+              .mapToObj(
+                  i -> CompletableFuture.supplyAsync(credentials::getArtifactNames, executor))
+              .collect(Collectors.toList());
+      for (CompletableFuture<List<String>> future : names) {
+        assertThat(future.get()).containsExactly(CHART_NAME);
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    server.verify(1, getRequestedFor(urlPathEqualTo(INDEX_PATH)));
+  }
+
+  private HelmArtifactAccount account(WireMockServer server) {
+    return HelmArtifactAccount.builder()
+        .repository(server.baseUrl() + "/" + REPOSITORY)
+        .name("my-helm-account")
+        .build();
+  }
+
   private void runGetArtifactNamesWithFailureTestCase(
       WireMockServer server,
       HelmArtifactAccount account,
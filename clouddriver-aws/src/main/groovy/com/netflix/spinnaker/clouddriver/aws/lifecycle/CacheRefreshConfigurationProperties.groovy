@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.aws.lifecycle
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+/**
+ * Configures the agents refreshing the cache from the EC2 and Auto Scaling state-change events
+ * that an EventBridge rule sends to an SQS queue.
+ */
+@ConfigurationProperties("aws.lifecycle-subscribers.cache-refresh")
+class CacheRefreshConfigurationProperties {
+  String accountName
+  String queueARN
+
+  int maxMessagesPerCycle = 1000
+  int visibilityTimeout = 30
+  int waitTimeSeconds = 5
+  int pollIntervalSeconds = 30
+
+  CacheRefreshConfigurationProperties() {
+    // default constructor
+  }
+
+  CacheRefreshConfigurationProperties(String accountName,
+                                      String queueARN,
+                                      int maxMessagesPerCycle,
+                                      int visibilityTimeout,
+                                      int waitTimeSeconds,
+                                      int pollIntervalSeconds) {
+    this.accountName = accountName
+    this.queueARN = queueARN
+    this.maxMessagesPerCycle = maxMessagesPerCycle
+    this.visibilityTimeout = visibilityTimeout
+    this.waitTimeSeconds = waitTimeSeconds
+    this.pollIntervalSeconds = pollIntervalSeconds
+  }
+}
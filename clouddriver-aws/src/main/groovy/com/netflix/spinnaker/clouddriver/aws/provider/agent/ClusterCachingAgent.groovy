@@ -60,6 +60,8 @@ import static com.netflix.spinnaker.cats.agent.AgentDataType.Authority.*
 import static com.netflix.spinnaker.clouddriver.core.provider.agent.Namespace.*
 import com.netflix.spinnaker.cats.agent.CacheResult
 import com.netflix.spinnaker.cats.agent.DefaultCacheResult
+import com.netflix.spinnaker.cats.agent.ExecutionPhase
+import com.netflix.spinnaker.cats.agent.ExecutionPhaseRecorder
 import com.netflix.spinnaker.cats.cache.CacheData
 import com.netflix.spinnaker.clouddriver.aws.provider.AwsProvider
 
@@ -430,6 +432,7 @@ class ClusterCachingAgent implements CachingAgent, OnDemandAgent, AccountAware,
     def evictableOnDemandCacheDatas = []
     def usableOnDemandCacheDatas = []
 
+    long onDemandMergeStart = System.currentTimeMillis()
     def serverGroupKeys = asgs.collect { Keys.getServerGroupKey(it.autoScalingGroupName, account.name, region) } as Set<String>
     def pendingOnDemandRequestKeys = providerCache
       .filterIdentifiers(ON_DEMAND.ns, Keys.getServerGroupKey("*", "*", account.name, region))
@@ -457,7 +460,14 @@ class ClusterCachingAgent implements CachingAgent, OnDemandAgent, AccountAware,
       }
     }
 
-    CacheResult result = buildCacheResult(asgs, scalingPolicies, scheduledActions, getSubnetToVpcIdMap(clients), usableOnDemandCacheDatas.collectEntries { [it.id, it] }, evictableOnDemandCacheDatas*.id)
+    ExecutionPhaseRecorder.record(
+      ExecutionPhase.ON_DEMAND_MERGE, System.currentTimeMillis() - onDemandMergeStart, pendingOnDemandRequestsForServerGroups.size())
+
+    def subnetMap = getSubnetToVpcIdMap(clients)
+    long buildStart = System.currentTimeMillis()
+    CacheResult result = buildCacheResult(asgs, scalingPolicies, scheduledActions, subnetMap, usableOnDemandCacheDatas.collectEntries { [it.id, it] }, evictableOnDemandCacheDatas*.id)
+    ExecutionPhaseRecorder.record(
+      ExecutionPhase.BUILD_CACHE_RESULT, System.currentTimeMillis() - buildStart, ExecutionPhaseRecorder.itemCount(result))
     recordDrift(start)
     def cacheResults = result.cacheResults
     log.debug("Caching ${cacheResults[APPLICATIONS.ns]?.size()} applications in ${agentType}")
@@ -17,14 +17,17 @@
 package com.netflix.spinnaker.clouddriver.aws.provider.agent
 
 import com.amazonaws.services.ec2.model.DescribeInstancesRequest
+import com.amazonaws.services.ec2.model.Filter
 import com.amazonaws.services.ec2.model.Instance
 import com.amazonaws.services.ec2.model.InstanceState
 import com.amazonaws.services.ec2.model.InstanceStateName
 import com.amazonaws.services.ec2.model.StateReason
+import com.amazonaws.services.ec2.model.Tag
 import com.fasterxml.jackson.core.type.TypeReference
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.fasterxml.jackson.databind.SerializationFeature
 import com.google.common.collect.Lists
+import com.google.common.util.concurrent.ThreadFactoryBuilder
 import com.netflix.spectator.api.Registry
 import com.netflix.spinnaker.cats.agent.AccountAware
 import com.netflix.spinnaker.cats.agent.AgentDataType
@@ -38,9 +41,19 @@ import com.netflix.spinnaker.clouddriver.aws.security.NetflixAmazonCredentials
 import com.netflix.spinnaker.clouddriver.model.HealthState
 import com.netflix.spinnaker.clouddriver.aws.data.Keys
 import com.netflix.spinnaker.clouddriver.aws.provider.AwsProvider
+import groovy.transform.CompileStatic
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
 
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.Semaphore
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.function.BiConsumer
+
 import static com.netflix.spinnaker.cats.agent.AgentDataType.Authority.AUTHORITATIVE
 import static com.netflix.spinnaker.cats.agent.AgentDataType.Authority.INFORMATIVE
 import static com.netflix.spinnaker.clouddriver.core.provider.agent.Namespace.HEALTH
@@ -50,7 +63,9 @@ import static com.netflix.spinnaker.clouddriver.core.provider.agent.Namespace.SE
 
 class InstanceCachingAgent implements CachingAgent, AccountAware, DriftMetric {
   final Logger log = LoggerFactory.getLogger(getClass())
-  private static final TypeReference<Map<String, Object>> ATTRIBUTES = new TypeReference<Map<String, Object>>() {}
+  private static final int MAX_FILTER_VALUES = 200
+  // described pages that are waiting for or being converted, beyond which describing waits
+  private static final int MAX_PENDING_PAGES = 2
 
   final Set<AgentDataType> types = Collections.unmodifiableSet([
     AUTHORITATIVE.forType(INSTANCES.ns),
@@ -64,12 +79,23 @@ class InstanceCachingAgent implements CachingAgent, AccountAware, DriftMetric {
   final ObjectMapper objectMapper
   final Registry registry
 
+  // converts the described pages of a run, one at a time; its thread stops between runs
+  private final ExecutorService conversionExecutor
+
   InstanceCachingAgent(AmazonClientProvider amazonClientProvider, NetflixAmazonCredentials account, String region, ObjectMapper objectMapper, Registry registry) {
     this.amazonClientProvider = amazonClientProvider
     this.account = account
     this.region = region
     this.objectMapper = objectMapper.enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
     this.registry = registry
+
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+      new ThreadFactoryBuilder()
+        .setNameFormat("${InstanceCachingAgent.simpleName}-${account.name}-${region}-%d")
+        .setDaemon(true)
+        .build())
+    executor.allowCoreThreadTimeOut(true)
+    this.conversionExecutor = executor
   }
 
   @Override
@@ -110,134 +136,201 @@ class InstanceCachingAgent implements CachingAgent, AccountAware, DriftMetric {
 
     Long start = null
     def request = new DescribeInstancesRequest().withMaxResults(500)
-    List<Instance> awsInstances = []
-    while (true) {
+    def builder = new InstanceCacheDataBuilder(account.name, region, objectMapper)
+
+    // each page is converted while the next one is being described, and is released once converted
+    Semaphore pendingPages = new Semaphore(MAX_PENDING_PAGES)
+    CompletableFuture<Void> conversion = CompletableFuture.completedFuture(null)
+    while (!conversion.isCompletedExceptionally()) {
       def resp = amazonEC2.describeInstances(request)
       if (account.eddaEnabled) {
         start = amazonClientProvider.lastModified ?: 0
       }
-      awsInstances.addAll(resp.reservations.collectMany { it.instances })
+      List<Instance> page = resp.reservations.collectMany { it.instances }
+      pendingPages.acquire()
+      conversion = conversion.thenRunAsync({ builder.add(page) } as Runnable, conversionExecutor)
+      // also released when the page is skipped because an earlier one failed to convert
+      conversion.whenComplete({ result, error -> pendingPages.release() } as BiConsumer<Void, Throwable>)
       if (resp.nextToken) {
         request.withNextToken(resp.nextToken)
       } else {
         break
       }
     }
-
-    Closure<Map<String, CacheData>> cache = {
-      [:].withDefault { String id -> new MutableCacheData(id) }
+    try {
+      conversion.join()
+    } catch (CompletionException e) {
+      throw e.cause
     }
 
-    Map<String, CacheData> serverGroups = cache()
-    Map<String, CacheData> instances = cache()
-    Map<String, CacheData> images = cache()
+    recordDrift(start)
+    log.info("Caching ${builder.instances.size()} instances in ${agentType}")
+    log.info("Caching ${builder.serverGroups.size()} server groups in ${agentType}")
+    log.info("Caching ${builder.images.size()} images in ${agentType}")
+
+    log.info("Skipping ${builder.skipIds.size()} non-running instances in ${agentType}")
+    log.debug("Skipped instanceIds in ${agentType}: ${builder.skipIds}")
 
-    List<String> skipIds =  []
+    new DefaultCacheResult(
+      (SERVER_GROUPS.ns): builder.serverGroups.values(),
+      (INSTANCES.ns): builder.instances.values(),
+      (IMAGES.ns): builder.images.values())
+  }
 
-    Lists.partition(awsInstances, 1000).each { List<Instance> partition ->
-      Map<String, Map<String, Object>> convertedInstancesById = ((List<Map>) objectMapper.convertValue(
-        partition,
-        new TypeReference<List<Map<String, Object>>>() {}
-      )).collectEntries {
-        [it.instanceId, it]
+  /**
+   * Describes the given instances and adds them to the cache, evicting the ones that no longer
+   * exist or are no longer running. Used to apply changes to the cache between runs of this agent.
+   */
+  void refreshInstances(ProviderCache providerCache, Collection<String> instanceIds) {
+    def amazonEC2 = amazonClientProvider.getAmazonEC2(account, region, true)
+    def builder = new InstanceCacheDataBuilder(account.name, region, objectMapper)
+
+    Lists.partition(instanceIds as List<String>, MAX_FILTER_VALUES).each { List<String> ids ->
+      def request = new DescribeInstancesRequest().withFilters(new Filter("instance-id", ids))
+      while (true) {
+        def resp = amazonEC2.describeInstances(request)
+        builder.add(resp.reservations.collectMany { it.instances })
+        if (resp.nextToken) {
+          request.withNextToken(resp.nextToken)
+        } else {
+          break
+        }
       }
+    }
+
+    Collection<String> evictions = instanceIds
+      .collect { Keys.getInstanceKey(it, account.name, region) }
+      .findAll { !builder.instances.containsKey(it) }
+
+    log.info("Refreshing ${builder.instances.size()} and evicting ${evictions.size()} instances in ${agentType}")
+    providerCache.addCacheResult(agentType, [INSTANCES.ns], new DefaultCacheResult((INSTANCES.ns): builder.instances.values()))
+    if (evictions) {
+      providerCache.evictDeletedItems(INSTANCES.ns, evictions)
+    }
+  }
+
+  /**
+   * Converts pages of described instances to cache data. Pages are added one at a time, so only
+   * the cache data outlives them.
+   *
+   * The attributes of an instance are still those Jackson serializes the SDK {@link Instance} to,
+   * as the cached attributes are served as they are and have to keep every property of the SDK
+   * model. Jackson builds the serializer of each class once and reuses it for every instance.
+   */
+  @CompileStatic
+  private static class InstanceCacheDataBuilder {
+    private static final Logger log = LoggerFactory.getLogger(InstanceCachingAgent)
+    private static final TypeReference<List<Map<String, Object>>> INSTANCE_ATTRIBUTES =
+      new TypeReference<List<Map<String, Object>>>() {}
+
+    final Map<String, MutableCacheData> serverGroups = [:]
+    final Map<String, MutableCacheData> instances = [:]
+    final Map<String, MutableCacheData> images = [:]
+    final List<String> skipIds = []
+
+    private final String account
+    private final String region
+    private final ObjectMapper objectMapper
+
+    InstanceCacheDataBuilder(String account, String region, ObjectMapper objectMapper) {
+      this.account = account
+      this.region = region
+      this.objectMapper = objectMapper
+    }
 
-      partition.each { Instance instance ->
-        def data = new InstanceData(instance, account.name, region)
+    void add(List<Instance> page) {
+      List<Map<String, Object>> converted = objectMapper.convertValue(page, INSTANCE_ATTRIBUTES)
+      for (int i = 0; i < page.size(); i++) {
+        Instance instance = page.get(i)
+        InstanceData data = new InstanceData(instance, account, region)
         if (instances.containsKey(data.instanceId)) {
           log.warn("Duplicate instance for ${data.instanceId}")
         }
         if (data.cache) {
-          cacheImage(data, images)
-          cacheServerGroup(data, serverGroups)
-          cacheInstance(data, convertedInstancesById.get(data.instance.instanceId), instances)
+          cacheImage(data)
+          cacheServerGroup(data)
+          cacheInstance(data, converted.get(i))
         } else {
-          skipIds.add(data.instance.instanceId)
+          skipIds.add(instance.instanceId)
         }
       }
     }
 
-    recordDrift(start)
-    log.info("Caching ${instances.size()} instances in ${agentType}")
-    log.info("Caching ${serverGroups.size()} server groups in ${agentType}")
-    log.info("Caching ${images.size()} images in ${agentType}")
-
-    log.info("Skipping ${skipIds.size()} non-running instances in ${agentType}")
-    log.debug("Skipped instanceIds in ${agentType}: ${skipIds}")
-
-    new DefaultCacheResult(
-      (SERVER_GROUPS.ns): serverGroups.values(),
-      (INSTANCES.ns): instances.values(),
-      (IMAGES.ns): images.values())
-  }
-
-  private void cacheImage(InstanceData data, Map<String, CacheData> images) {
-    images[data.imageId].with {
-      relationships[INSTANCES.ns].add(data.instanceId)
+    private void cacheImage(InstanceData data) {
+      MutableCacheData image = get(images, data.imageId)
+      image.relationships[INSTANCES.ns].add(data.instanceId)
       if (data.serverGroup) {
-        relationships[SERVER_GROUPS.ns].add(data.serverGroup)
+        image.relationships[SERVER_GROUPS.ns].add(data.serverGroup)
       }
     }
-  }
 
-  private void cacheServerGroup(InstanceData data, Map<String, CacheData> serverGroups) {
-    if (data.serverGroup) {
-      serverGroups[data.serverGroup].with {
-        relationships[INSTANCES.ns].add(data.instanceId)
-        relationships[IMAGES.ns].add(data.imageId)
+    private void cacheServerGroup(InstanceData data) {
+      if (data.serverGroup) {
+        MutableCacheData serverGroup = get(serverGroups, data.serverGroup)
+        serverGroup.relationships[INSTANCES.ns].add(data.instanceId)
+        serverGroup.relationships[IMAGES.ns].add(data.imageId)
       }
     }
-  }
 
-  private void cacheInstance(InstanceData data, Map<String, Object> instanceAttributes, Map<String, CacheData> instances) {
-    instances[data.instanceId].with {
-      attributes.putAll(instanceAttributes)
-      attributes.put(HEALTH.ns, [getAmazonHealth(data.instance)])
-      relationships[IMAGES.ns].add(data.imageId)
+    private void cacheInstance(InstanceData data, Map<String, Object> instanceAttributes) {
+      MutableCacheData cached = get(instances, data.instanceId)
+      cached.attributes.putAll(instanceAttributes)
+      cached.attributes.put(HEALTH.ns, [getAmazonHealth(data.instance)])
+      cached.relationships[IMAGES.ns].add(data.imageId)
       if (data.serverGroup) {
-        relationships[SERVER_GROUPS.ns].add(data.serverGroup)
+        cached.relationships[SERVER_GROUPS.ns].add(data.serverGroup)
 
-        def application = Keys.parse(data.serverGroup).get("application")
+        String application = Keys.parse(data.serverGroup).get("application")
         if (application != null) {
-          attributes.put("application", application)
+          cached.attributes.put("application", application)
         }
       } else {
-        relationships[SERVER_GROUPS.ns].clear()
+        cached.relationships[SERVER_GROUPS.ns].clear()
       }
-      def capacityType = getCapacityType(data.instance)
+      String capacityType = getCapacityType(data.instance)
       if (capacityType) {
-        attributes.put("capacityType", capacityType)
+        cached.attributes.put("capacityType", capacityType)
       }
     }
-  }
 
-  private Map<String, String>  getAmazonHealth(Instance instance) {
-    InstanceState state = instance.state
-    StateReason stateReason = instance.stateReason
-    HealthState amazonState = state?.name == InstanceStateName.Running.toString() ? HealthState.Unknown : HealthState.Down
-    Map<String, String> awsInstanceHealth = [
-      type: 'Amazon',
-      healthClass: 'platform',
-      state: amazonState.toString()
-    ]
-    if (stateReason) {
-      awsInstanceHealth.description = stateReason.message
+    private static MutableCacheData get(Map<String, MutableCacheData> cache, String id) {
+      MutableCacheData data = cache.get(id)
+      if (data == null) {
+        data = new MutableCacheData(id)
+        cache.put(id, data)
+      }
+      return data
     }
-    awsInstanceHealth
-  }
 
-  private String getCapacityType(Instance instance) {
-    if (instance.instanceLifecycle == null) {
-      return "on-demand"
+    private static Map<String, String> getAmazonHealth(Instance instance) {
+      InstanceState state = instance.state
+      StateReason stateReason = instance.stateReason
+      HealthState amazonState = state?.name == InstanceStateName.Running.toString() ? HealthState.Unknown : HealthState.Down
+      Map<String, String> awsInstanceHealth = [
+        type: 'Amazon',
+        healthClass: 'platform',
+        state: amazonState.toString()
+      ]
+      if (stateReason) {
+        awsInstanceHealth.put('description', stateReason.message)
+      }
+      awsInstanceHealth
     }
 
-    if (instance.instanceLifecycle.toString().equalsIgnoreCase("spot")) {
-      return "spot"
-    }
+    private static String getCapacityType(Instance instance) {
+      if (instance.instanceLifecycle == null) {
+        return "on-demand"
+      }
+
+      if (instance.instanceLifecycle.toString().equalsIgnoreCase("spot")) {
+        return "spot"
+      }
 
-    return null
+      return null
+    }
   }
 
+  @CompileStatic
   private static class InstanceData {
     static final String ASG_TAG_NAME = "aws:autoscaling:groupName"
     static final String SHUTTING_DOWN = InstanceStateName.ShuttingDown.toString()
@@ -253,7 +346,7 @@ class InstanceCachingAgent implements CachingAgent, AccountAware, DriftMetric {
       this.instance = instance
       cache = !(instance.state.name == SHUTTING_DOWN || instance.state.name == TERMINATED)
       this.instanceId = Keys.getInstanceKey(instance.instanceId, account, region)
-      String sgTag = instance.tags?.find { it.key == ASG_TAG_NAME }?.value
+      String sgTag = instance.tags?.find { Tag tag -> tag.key == ASG_TAG_NAME }?.value
       this.serverGroup = sgTag ? Keys.getServerGroupKey(sgTag, account, region) : null
       this.imageId = Keys.getImageKey(instance.imageId, account, region)
     }
@@ -30,6 +30,7 @@ import com.fasterxml.jackson.databind.module.SimpleModule
 import com.google.common.cache.CacheBuilder
 import com.google.common.cache.CacheLoader
 import com.google.common.cache.LoadingCache
+import com.google.common.collect.Lists
 import com.netflix.spectator.api.Id
 import com.netflix.spectator.api.Registry
 import com.netflix.spinnaker.cats.agent.AgentDataType
@@ -45,6 +46,7 @@ import com.netflix.spinnaker.clouddriver.aws.model.AmazonReservationReport
 import com.netflix.spinnaker.clouddriver.aws.model.AmazonReservationReport.OverallReservationDetail
 import com.netflix.spinnaker.clouddriver.aws.model.AmazonReservationReportBuilder
 import com.netflix.spinnaker.clouddriver.aws.provider.AwsProvider
+import com.netflix.spinnaker.clouddriver.aws.provider.config.ReservationReportConfigurationProperties
 import com.netflix.spinnaker.clouddriver.aws.provider.view.AmazonS3DataProvider
 import com.netflix.spinnaker.clouddriver.aws.security.AmazonClientProvider
 import com.netflix.spinnaker.clouddriver.aws.security.AmazonCredentials
@@ -62,6 +64,7 @@ import java.util.concurrent.atomic.AtomicInteger
 import java.util.function.ToDoubleFunction
 
 import static com.netflix.spinnaker.cats.agent.AgentDataType.Authority.AUTHORITATIVE
+import static com.netflix.spinnaker.clouddriver.core.provider.agent.Namespace.INSTANCES
 import static com.netflix.spinnaker.clouddriver.core.provider.agent.Namespace.RESERVATION_REPORTS
 import static com.netflix.spinnaker.clouddriver.core.provider.agent.Namespace.RESERVED_INSTANCES
 
@@ -69,6 +72,8 @@ import static com.netflix.spinnaker.clouddriver.core.provider.agent.Namespace.RE
 class ReservationReportCachingAgent implements CachingAgent, CustomScheduledAgent {
   private static final long DEFAULT_POLL_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1)
   private static final long DEFAULT_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5)
+  private static final int CACHED_INSTANCES_BATCH_SIZE = 1000
+  private static final Set<String> ALLOWED_STATES = ["pending", "running"] as Set<String>
 
   final Collection<AgentDataType> types = Collections.unmodifiableCollection([
     AUTHORITATIVE.forType(RESERVATION_REPORTS.ns)
@@ -77,6 +82,7 @@ class ReservationReportCachingAgent implements CachingAgent, CustomScheduledAgen
   private final ExecutorService reservationReportPool
   private final ApplicationContext ctx
   private Cache cacheView
+  private ReservationReportConfigurationProperties reservationReportConfigurationProperties
 
   final AmazonClientProvider amazonClientProvider
   final AmazonS3DataProvider amazonS3DataProvider
@@ -293,41 +299,49 @@ class ReservationReportCachingAgent implements CachingAgent, CustomScheduledAgen
             reservation.getAccount(credentials.name).reservedVpc.addAndGet(it.instanceCount)
           }
 
-          startTime = System.currentTimeMillis()
-          def fetchedInstanceCount = 0
-          def describeInstancesRequest = new DescribeInstancesRequest().withMaxResults(500)
-          def allowedStates = ["pending", "running"] as Set<String>
-          while (true) {
-            log.debug("Describing instances for ${credentials.name}/${region.name}")
-            def result = amazonEC2.describeInstances(describeInstancesRequest)
-            log.debug("Described instances for ${credentials.name}/${region.name}")
-
-            result.reservations.each {
-              it.getInstances().each {
-                if (!allowedStates.contains(it.state.name.toLowerCase())) {
-                  return
-                }
+          def countInstance = { String stateName, String availabilityZone, String platform, String instanceType, String vpcId ->
+            if (!ALLOWED_STATES.contains(stateName?.toLowerCase())) {
+              return
+            }
 
-                def osTypeName = operatingSystemType(it.platform ? "Windows" : "Linux/UNIX").name
-                def reservation = getReservation(it.placement.availabilityZone[0..-2], it.placement.availabilityZone, osTypeName, it.instanceType)
-                reservation.totalUsed.incrementAndGet()
+            def osTypeName = operatingSystemType(platform ? "Windows" : "Linux/UNIX").name
+            def reservation = getReservation(availabilityZone[0..-2], availabilityZone, osTypeName, instanceType)
+            reservation.totalUsed.incrementAndGet()
+
+            if (vpcId) {
+              reservation.getAccount(credentials.name).usedVpc.incrementAndGet()
+            } else {
+              reservation.getAccount(credentials.name).used.incrementAndGet()
+            }
+          }
 
-                if (it.vpcId) {
-                  reservation.getAccount(credentials.name).usedVpc.incrementAndGet()
-                } else {
-                  reservation.getAccount(credentials.name).used.incrementAndGet()
+          startTime = System.currentTimeMillis()
+          if (getReservationReportConfigurationProperties().useCachedInstances && isInstanceCachingAgentScheduled(credentials.name, region.name)) {
+            def cachedInstanceCount = countCachedInstances(credentials.name, region.name, countInstance)
+            log.debug("Counted ${cachedInstanceCount} cached instances in ${credentials.name}/${region.name}")
+          } else {
+            def fetchedInstanceCount = 0
+            def describeInstancesRequest = new DescribeInstancesRequest().withMaxResults(500)
+            while (true) {
+              log.debug("Describing instances for ${credentials.name}/${region.name}")
+              def result = amazonEC2.describeInstances(describeInstancesRequest)
+              log.debug("Described instances for ${credentials.name}/${region.name}")
+
+              result.reservations.each {
+                it.getInstances().each {
+                  countInstance(it.state.name, it.placement.availabilityZone, it.platform, it.instanceType, it.vpcId)
                 }
-              }
 
-              fetchedInstanceCount += it.getInstances().size()
-            }
+                fetchedInstanceCount += it.getInstances().size()
+              }
 
-            log.debug("Fetched ${fetchedInstanceCount} instances in ${credentials.name}/${region.name} (nextToken: ${result.nextToken})")
+              log.debug("Fetched ${fetchedInstanceCount} instances in ${credentials.name}/${region.name} (nextToken: ${result.nextToken})")
 
-            if (result.nextToken) {
-              describeInstancesRequest.withNextToken(result.nextToken)
-            } else {
-              break
+              if (result.nextToken) {
+                describeInstancesRequest.withNextToken(result.nextToken)
+              } else {
+                break
+              }
             }
           }
         } catch (Exception e) {
@@ -338,6 +352,36 @@ class ReservationReportCachingAgent implements CachingAgent, CustomScheduledAgen
       }
   }
 
+  /**
+   * Counts the instances that InstanceCachingAgent cached for an account and region, reading them
+   * in batches so that a large region isn't loaded at once.
+   *
+   * @return the number of cached instances
+   */
+  private int countCachedInstances(String account, String region, Closure countInstance) {
+    def cacheView = getCacheView()
+    def identifiers = cacheView.filterIdentifiers(INSTANCES.ns, Keys.getInstanceKey('*', account, region)) as List<String>
+    Lists.partition(identifiers, CACHED_INSTANCES_BATCH_SIZE).each { List<String> batch ->
+      cacheView.getAll(INSTANCES.ns, batch, RelationshipCacheFilter.none()).each { CacheData instance ->
+        Map<String, Object> attributes = instance.attributes
+        countInstance(
+          attributes.state?.name as String,
+          attributes.placement?.availabilityZone as String,
+          attributes.platform as String,
+          attributes.instanceType as String,
+          attributes.vpcId as String
+        )
+      }
+    }
+    return identifiers.size()
+  }
+
+  private boolean isInstanceCachingAgentScheduled(String account, String region) {
+    return ctx.getBean(AwsProvider).agents.any {
+      it instanceof InstanceCachingAgent && it.accountName == account && it.region == region
+    }
+  }
+
   static void recordError(Registry registry,
                           ConcurrentHashMap<String, Collection<String>> errorsByRegion,
                           NetflixAmazonCredentials credentials,
@@ -392,6 +436,13 @@ class ReservationReportCachingAgent implements CachingAgent, CustomScheduledAgen
     }
   }
 
+  private ReservationReportConfigurationProperties getReservationReportConfigurationProperties() {
+    if (!this.reservationReportConfigurationProperties) {
+      this.reservationReportConfigurationProperties = ctx.getBean(ReservationReportConfigurationProperties)
+    }
+    this.reservationReportConfigurationProperties
+  }
+
   private Cache getCacheView() {
     if (!this.cacheView) {
       this.cacheView = ctx.getBean(Cache)
@@ -21,4 +21,11 @@ import org.springframework.boot.context.properties.ConfigurationProperties
 @ConfigurationProperties('reports.reservation')
 class ReservationReportConfigurationProperties {
   int threadPoolSize = 5
+
+  /**
+   * Count the instances of an account and region from the instances cached by their
+   * InstanceCachingAgent instead of describing them again. Accounts and regions without instance
+   * caching are still described.
+   */
+  boolean useCachedInstances = false
 }
@@ -21,6 +21,7 @@ import com.netflix.spinnaker.clouddriver.aws.deploy.description.DeployCloudForma
 import com.netflix.spinnaker.clouddriver.aws.deploy.ops.DeployCloudFormationAtomicOperation;
 import com.netflix.spinnaker.clouddriver.orchestration.AtomicOperation;
 import com.netflix.spinnaker.clouddriver.orchestration.AtomicOperations;
+import com.netflix.spinnaker.clouddriver.orchestration.OperationDescription;
 import com.netflix.spinnaker.clouddriver.security.AbstractAtomicOperationsCredentialsSupport;
 import java.util.Map;
 import org.springframework.stereotype.Component;
@@ -34,6 +35,11 @@ public class DeployCloudFormationAtomicOperationConverter
     return new DeployCloudFormationAtomicOperation(convertDescription(input));
   }
 
+  @Override
+  public AtomicOperation convertOperation(Map input, OperationDescription description) {
+    return new DeployCloudFormationAtomicOperation((DeployCloudFormationDescription) description);
+  }
+
   @Override
   public DeployCloudFormationDescription convertDescription(Map input) {
     input = fixTemplateBody(input);
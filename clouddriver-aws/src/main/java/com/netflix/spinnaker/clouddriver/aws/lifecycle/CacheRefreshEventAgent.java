@@ -0,0 +1,339 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.aws.lifecycle;
+
+import com.amazonaws.services.sqs.AmazonSQS;
+import com.amazonaws.services.sqs.model.Message;
+import com.amazonaws.services.sqs.model.ReceiptHandleIsInvalidException;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.spinnaker.cats.agent.Agent;
+import com.netflix.spinnaker.cats.agent.AgentExecution;
+import com.netflix.spinnaker.cats.provider.ProviderCache;
+import com.netflix.spinnaker.cats.provider.ProviderRegistry;
+import com.netflix.spinnaker.clouddriver.aws.provider.AwsProvider;
+import com.netflix.spinnaker.clouddriver.aws.provider.agent.ClusterCachingAgent;
+import com.netflix.spinnaker.clouddriver.aws.provider.agent.InstanceCachingAgent;
+import com.netflix.spinnaker.clouddriver.aws.security.AmazonClientProvider;
+import com.netflix.spinnaker.clouddriver.aws.security.NetflixAmazonCredentials;
+import com.netflix.spinnaker.clouddriver.cache.CustomScheduledAgent;
+import com.netflix.spinnaker.clouddriver.cache.OnDemandAgent;
+import com.netflix.spinnaker.credentials.CredentialsRepository;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An Agent that subscribes to an SQS queue receiving the EC2 and Auto Scaling state-change events
+ * of an EventBridge rule, and refreshes the cached instances and server groups they are about
+ * without waiting for the next run of their caching agents.
+ *
+ * <p>Instances are described again and added to the cache, or evicted once they are no longer
+ * running. Server groups are refreshed the same way as an on-demand cache update, by the caching
+ * agents of their account and region. As with on-demand cache updates, these agents are used
+ * whichever node schedules them.
+ *
+ * <p>Messages are only deleted once everything in the account and region of their event has been
+ * refreshed, or once it turns out there is nothing to refresh for them. Messages of a refresh that
+ * failed are received again after their visibility timeout.
+ */
+class CacheRefreshEventAgent implements Agent, CustomScheduledAgent {
+  private static final Logger log = LoggerFactory.getLogger(CacheRefreshEventAgent.class);
+
+  private static final String EC2_SOURCE = "aws.ec2";
+  private static final String AUTO_SCALING_SOURCE = "aws.autoscaling";
+  private static final int AWS_MAX_NUMBER_OF_MESSAGES = 10;
+
+  private final ObjectMapper objectMapper;
+  private final AmazonClientProvider amazonClientProvider;
+  private final CredentialsRepository<NetflixAmazonCredentials> credentialsRepository;
+  private final CacheRefreshConfigurationProperties properties;
+  private final AwsProvider awsProvider;
+
+  private final ARN queueARN;
+
+  CacheRefreshEventAgent(
+      ObjectMapper objectMapper,
+      AmazonClientProvider amazonClientProvider,
+      NetflixAmazonCredentials netflixAmazonCredentials,
+      CredentialsRepository<NetflixAmazonCredentials> credentialsRepository,
+      CacheRefreshConfigurationProperties properties,
+      AwsProvider awsProvider) {
+    this.objectMapper = objectMapper;
+    this.amazonClientProvider = amazonClientProvider;
+    this.credentialsRepository = credentialsRepository;
+    this.properties = properties;
+    this.awsProvider = awsProvider;
+
+    this.queueARN = new ARN(netflixAmazonCredentials, properties.getQueueARN());
+  }
+
+  @Override
+  public String getAgentType() {
+    return queueARN.account.getName()
+        + "/"
+        + queueARN.region
+        + "/"
+        + CacheRefreshEventAgent.class.getSimpleName();
+  }
+
+  @Override
+  public String getProviderName() {
+    return AwsProvider.class.getName();
+  }
+
+  @Override
+  public long getPollIntervalMillis() {
+    return TimeUnit.SECONDS.toMillis(properties.getPollIntervalSeconds());
+  }
+
+  @Override
+  public long getTimeoutMillis() {
+    return -1;
+  }
+
+  @Override
+  public AgentExecution getAgentExecution(ProviderRegistry providerRegistry) {
+    return agent -> run(providerRegistry.getProviderCache(getProviderName()));
+  }
+
+  void run(ProviderCache providerCache) {
+    AmazonSQS amazonSQS = amazonClientProvider.getAmazonSQS(queueARN.account, queueARN.region);
+    String queueUrl = amazonSQS.getQueueUrl(queueARN.name).getQueueUrl();
+
+    Map<String, Refresh> refreshes = new HashMap<>();
+    int messagesProcessed = 0;
+    while (messagesProcessed < properties.getMaxMessagesPerCycle()) {
+      ReceiveMessageResult receiveMessageResult =
+          amazonSQS.receiveMessage(
+              new ReceiveMessageRequest(queueUrl)
+                  .withMaxNumberOfMessages(AWS_MAX_NUMBER_OF_MESSAGES)
+                  .withVisibilityTimeout(properties.getVisibilityTimeout())
+                  .withWaitTimeSeconds(properties.getWaitTimeSeconds()));
+
+      for (Message message : receiveMessageResult.getMessages()) {
+        Refresh refresh = null;
+        try {
+          refresh =
+              addRefresh(
+                  refreshes, objectMapper.readValue(message.getBody(), StateChangeEvent.class));
+        } catch (IOException e) {
+          log.error("Unable to convert StateChangeEvent (body: {})", message.getBody(), e);
+        }
+
+        if (refresh != null) {
+          refresh.messages.add(message);
+        } else {
+          // nothing will ever be refreshed for it
+          deleteMessage(amazonSQS, queueUrl, message);
+        }
+        messagesProcessed++;
+      }
+
+      if (receiveMessageResult.getMessages().isEmpty()) {
+        // no messages received, stop polling.
+        break;
+      }
+    }
+
+    // events of the same instance or server group are refreshed once
+    if (!refreshes.isEmpty()) {
+      Map<String, CachingAgents> cachingAgents = getCachingAgents();
+      for (Refresh refresh : refreshes.values()) {
+        if (refresh(providerCache, cachingAgents, refresh)) {
+          refresh.messages.forEach(message -> deleteMessage(amazonSQS, queueUrl, message));
+        }
+      }
+    }
+
+    log.info("Processed {} messages (queueARN: {})", messagesProcessed, queueARN.arn);
+  }
+
+  private static Refresh addRefresh(Map<String, Refresh> refreshes, StateChangeEvent event) {
+    if (event.account == null || event.region == null || event.detail == null) {
+      return null;
+    }
+
+    Object instanceId;
+    Object serverGroupName = null;
+    if (EC2_SOURCE.equals(event.source)) {
+      instanceId = event.detail.get("instance-id");
+    } else if (AUTO_SCALING_SOURCE.equals(event.source)) {
+      instanceId = event.detail.get("EC2InstanceId");
+      serverGroupName = event.detail.get("AutoScalingGroupName");
+    } else {
+      return null;
+    }
+
+    Refresh refresh =
+        refreshes.computeIfAbsent(
+            event.account + "/" + event.region, key -> new Refresh(event.account, event.region));
+    if (instanceId != null) {
+      refresh.instanceIds.add(instanceId.toString());
+    }
+    if (serverGroupName != null) {
+      refresh.serverGroupNames.add(serverGroupName.toString());
+    }
+    return refresh;
+  }
+
+  /**
+   * The instance and cluster caching agents of the AWS provider, by account name and region.
+   * Resolved once per run, as agents come and go with accounts.
+   */
+  private Map<String, CachingAgents> getCachingAgents() {
+    Map<String, CachingAgents> cachingAgents = new HashMap<>();
+    for (Agent agent : awsProvider.getAgents()) {
+      if (agent instanceof InstanceCachingAgent) {
+        InstanceCachingAgent instanceCachingAgent = (InstanceCachingAgent) agent;
+        String key = instanceCachingAgent.getAccountName() + "/" + instanceCachingAgent.getRegion();
+        cachingAgents
+            .computeIfAbsent(key, k -> new CachingAgents())
+            .instanceCachingAgents
+            .add(instanceCachingAgent);
+      } else if (agent instanceof ClusterCachingAgent) {
+        ClusterCachingAgent clusterCachingAgent = (ClusterCachingAgent) agent;
+        String key = clusterCachingAgent.getAccountName() + "/" + clusterCachingAgent.getRegion();
+        cachingAgents
+            .computeIfAbsent(key, k -> new CachingAgents())
+            .clusterCachingAgents
+            .add(clusterCachingAgent);
+      }
+    }
+    return cachingAgents;
+  }
+
+  /** @return whether everything that could be refreshed was refreshed */
+  private boolean refresh(
+      ProviderCache providerCache, Map<String, CachingAgents> cachingAgents, Refresh refresh) {
+    boolean refreshed = true;
+    for (NetflixAmazonCredentials credentials : credentialsRepository.getAll()) {
+      if (!refresh.accountId.equals(credentials.getAccountId())
+          || credentials.getRegions().stream()
+              .noneMatch(region -> refresh.region.equals(region.getName()))) {
+        continue;
+      }
+
+      CachingAgents agents = cachingAgents.get(credentials.getName() + "/" + refresh.region);
+      if (agents == null) {
+        log.debug(
+            "Not refreshing {}/{}, it has no caching agents",
+            credentials.getName(),
+            refresh.region);
+        continue;
+      }
+
+      if (!refresh.instanceIds.isEmpty()) {
+        for (InstanceCachingAgent agent : agents.instanceCachingAgents) {
+          refreshed &= refreshInstances(providerCache, agent, refresh.instanceIds);
+        }
+      }
+      for (ClusterCachingAgent agent : agents.clusterCachingAgents) {
+        for (String serverGroupName : refresh.serverGroupNames) {
+          refreshed &= refreshServerGroup(providerCache, agent, serverGroupName);
+        }
+      }
+    }
+    return refreshed;
+  }
+
+  private static boolean refreshInstances(
+      ProviderCache providerCache, InstanceCachingAgent agent, Collection<String> instanceIds) {
+    try {
+      agent.refreshInstances(providerCache, instanceIds);
+      return true;
+    } catch (Exception e) {
+      log.warn("Failed to refresh instances {} ({})", instanceIds, agent.getAgentType(), e);
+      return false;
+    }
+  }
+
+  private static boolean refreshServerGroup(
+      ProviderCache providerCache, ClusterCachingAgent agent, String serverGroupName) {
+    try {
+      Map<String, Object> data = new HashMap<>();
+      data.put("serverGroupName", serverGroupName);
+      data.put("account", agent.getAccountName());
+      data.put("region", agent.getRegion());
+
+      OnDemandAgent.OnDemandResult result = agent.handle(providerCache, data);
+      if (result == null) {
+        return true;
+      }
+      if (result.getCacheResult() != null) {
+        if (result.getCacheResult().isPartialResult()) {
+          providerCache.addCacheResult(
+              result.getSourceAgentType(),
+              result.getAuthoritativeTypes(),
+              result.getCacheResult());
+        } else {
+          providerCache.putCacheResult(
+              result.getSourceAgentType(),
+              result.getAuthoritativeTypes(),
+              result.getCacheResult());
+        }
+      }
+      if (result.getEvictions() != null) {
+        result.getEvictions().forEach(providerCache::evictDeletedItems);
+      }
+      return true;
+    } catch (Exception e) {
+      log.warn("Failed to refresh server group {} ({})", serverGroupName, agent.getAgentType(), e);
+      return false;
+    }
+  }
+
+  private static void deleteMessage(AmazonSQS amazonSQS, String queueUrl, Message message) {
+    try {
+      amazonSQS.deleteMessage(queueUrl, message.getReceiptHandle());
+    } catch (ReceiptHandleIsInvalidException e) {
+      log.warn(
+          "Error deleting state-change message, reason: {} (receiptHandle: {})",
+          e.getMessage(),
+          message.getReceiptHandle());
+    }
+  }
+
+  /** The instances and server groups to refresh in a region of an AWS account. */
+  private static class Refresh {
+    private final String accountId;
+    private final String region;
+    private final Set<String> instanceIds = new TreeSet<>();
+    private final Set<String> serverGroupNames = new TreeSet<>();
+    private final List<Message> messages = new ArrayList<>();
+
+    Refresh(String accountId, String region) {
+      this.accountId = accountId;
+      this.region = region;
+    }
+  }
+
+  /** The instance and cluster caching agents of an account and region. */
+  private static class CachingAgents {
+    private final List<InstanceCachingAgent> instanceCachingAgents = new ArrayList<>();
+    private final List<ClusterCachingAgent> clusterCachingAgents = new ArrayList<>();
+  }
+}
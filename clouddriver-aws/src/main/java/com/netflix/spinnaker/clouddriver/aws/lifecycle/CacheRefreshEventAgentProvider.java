@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.aws.lifecycle;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.spinnaker.cats.agent.Agent;
+import com.netflix.spinnaker.cats.agent.AgentProvider;
+import com.netflix.spinnaker.clouddriver.aws.provider.AwsProvider;
+import com.netflix.spinnaker.clouddriver.aws.security.AmazonClientProvider;
+import com.netflix.spinnaker.clouddriver.aws.security.NetflixAmazonCredentials;
+import com.netflix.spinnaker.credentials.Credentials;
+import com.netflix.spinnaker.credentials.CredentialsRepository;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class CacheRefreshEventAgentProvider implements AgentProvider {
+  private static final String REGION_TEMPLATE_PATTERN = Pattern.quote("{{region}}");
+  private static final String ACCOUNT_ID_TEMPLATE_PATTERN = Pattern.quote("{{accountId}}");
+
+  private final ObjectMapper objectMapper;
+  private final AmazonClientProvider amazonClientProvider;
+  private final CredentialsRepository<NetflixAmazonCredentials> credentialsRepository;
+  private final CacheRefreshConfigurationProperties properties;
+  private final AwsProvider awsProvider;
+
+  CacheRefreshEventAgentProvider(
+      ObjectMapper objectMapper,
+      AmazonClientProvider amazonClientProvider,
+      CredentialsRepository<NetflixAmazonCredentials> credentialsRepository,
+      CacheRefreshConfigurationProperties properties,
+      AwsProvider awsProvider) {
+    this.objectMapper = objectMapper;
+    this.amazonClientProvider = amazonClientProvider;
+    this.credentialsRepository = credentialsRepository;
+    this.properties = properties;
+    this.awsProvider = awsProvider;
+  }
+
+  @Override
+  public boolean supports(String providerName) {
+    return providerName.equalsIgnoreCase(AwsProvider.class.getName());
+  }
+
+  @Override
+  public Collection<Agent> agents(Credentials credentials) {
+    NetflixAmazonCredentials netflixAmazonCredentials = (NetflixAmazonCredentials) credentials;
+
+    if (!credentials.getName().equals(properties.getAccountName())) {
+      // CacheRefreshEventAgent only supports the account specified in
+      // `properties.getAccountName()`
+      return Collections.emptyList();
+    }
+
+    // an agent for each region in the specified account
+    List<Agent> agents =
+        netflixAmazonCredentials.getRegions().stream()
+            .map(
+                region ->
+                    new CacheRefreshEventAgent(
+                        objectMapper,
+                        amazonClientProvider,
+                        netflixAmazonCredentials,
+                        credentialsRepository,
+                        new CacheRefreshConfigurationProperties(
+                            properties.getAccountName(),
+                            properties
+                                .getQueueARN()
+                                .replaceAll(REGION_TEMPLATE_PATTERN, region.getName())
+                                .replaceAll(
+                                    ACCOUNT_ID_TEMPLATE_PATTERN,
+                                    netflixAmazonCredentials.getAccountId()),
+                            properties.getMaxMessagesPerCycle(),
+                            properties.getVisibilityTimeout(),
+                            properties.getWaitTimeSeconds(),
+                            properties.getPollIntervalSeconds()),
+                        awsProvider))
+            .collect(Collectors.toList());
+
+    return agents;
+  }
+}
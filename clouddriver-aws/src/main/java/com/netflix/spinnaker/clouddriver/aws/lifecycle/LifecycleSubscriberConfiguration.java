@@ -33,7 +33,8 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 @EnableConfigurationProperties({
   LaunchFailureConfigurationProperties.class,
-  InstanceTerminationConfigurationProperties.class
+  InstanceTerminationConfigurationProperties.class,
+  CacheRefreshConfigurationProperties.class
 })
 class LifecycleSubscriberConfiguration {
 
@@ -54,4 +55,16 @@ class LifecycleSubscriberConfiguration {
     return new LaunchFailureNotificationAgentProvider(
         objectMapper, amazonClientProvider, credentialsRepository, properties, entityTagger);
   }
+
+  @Bean
+  @ConditionalOnProperty("aws.lifecycle-subscribers.cache-refresh.enabled")
+  CacheRefreshEventAgentProvider cacheRefreshEventAgentProvider(
+      @Qualifier("amazonObjectMapper") ObjectMapper objectMapper,
+      AmazonClientProvider amazonClientProvider,
+      CredentialsRepository<NetflixAmazonCredentials> credentialsRepository,
+      CacheRefreshConfigurationProperties properties,
+      AwsProvider awsProvider) {
+    return new CacheRefreshEventAgentProvider(
+        objectMapper, amazonClientProvider, credentialsRepository, properties, awsProvider);
+  }
 }
@@ -20,6 +20,8 @@ import static com.netflix.spinnaker.clouddriver.aws.provider.view.AmazonS3Static
 import static com.netflix.spinnaker.clouddriver.aws.provider.view.AmazonS3StaticDataProviderConfiguration.StaticRecord;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.cache.CacheBuilder;
@@ -124,6 +126,15 @@ public class AmazonS3DataProvider implements DataProvider {
   @Override
   public void getAdhocData(
       String groupId, String bucketId, String objectId, OutputStream outputStream) {
+    try (AdhocObject adhocObject = openAdhocData(groupId, bucketId, objectId)) {
+      adhocObject.writeTo(outputStream);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Override
+  public AdhocObject openAdhocData(String groupId, String bucketId, String objectId) {
     String[] bucketCoordinates = bucketId.split(":");
     if (bucketCoordinates.length != 3) {
       throw new IllegalArgumentException(
@@ -143,12 +154,7 @@ public class AmazonS3DataProvider implements DataProvider {
           "Access denied (bucket: " + bucketName + ", object: " + objectId + ")");
     }
 
-    try {
-      S3Object s3Object = fetchObject(bucketAccount, bucketRegion, bucketName, objectId);
-      IOUtils.copy(s3Object.getObjectContent(), outputStream);
-    } catch (IOException e) {
-      throw new IllegalStateException(e);
-    }
+    return new S3AdhocObject(fetchObject(bucketAccount, bucketRegion, bucketName, objectId));
   }
 
   @Override
@@ -189,6 +195,52 @@ public class AmazonS3DataProvider implements DataProvider {
     return amazonS3.getObject(bucketName, objectId);
   }
 
+  /**
+   * Copies an S3 object from its content stream as it is received, without holding more of it than
+   * the copy buffer in memory.
+   */
+  private static class S3AdhocObject implements AdhocObject {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final S3Object s3Object;
+    private final ObjectMetadata metadata;
+
+    S3AdhocObject(S3Object s3Object) {
+      this.s3Object = s3Object;
+      this.metadata =
+          s3Object.getObjectMetadata() != null
+              ? s3Object.getObjectMetadata()
+              : new ObjectMetadata();
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+      IOUtils.copyLarge(s3Object.getObjectContent(), outputStream, new byte[BUFFER_SIZE]);
+    }
+
+    @Override
+    public String getContentType() {
+      return metadata.getContentType();
+    }
+
+    @Override
+    public long getContentLength() {
+      return metadata.getRawMetadataValue(Headers.CONTENT_LENGTH) != null
+          ? metadata.getContentLength()
+          : -1;
+    }
+
+    @Override
+    public String getContentEncoding() {
+      return metadata.getContentEncoding();
+    }
+
+    @Override
+    public void close() throws IOException {
+      s3Object.close();
+    }
+  }
+
   private String getAccountName(String accountIdOrName) {
     return accountCredentialsRepository.getAll().stream()
         .filter(
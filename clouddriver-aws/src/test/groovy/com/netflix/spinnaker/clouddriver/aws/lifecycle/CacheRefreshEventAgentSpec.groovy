@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.aws.lifecycle
+
+import com.amazonaws.services.sqs.AmazonSQS
+import com.amazonaws.services.sqs.model.GetQueueUrlResult
+import com.amazonaws.services.sqs.model.Message
+import com.amazonaws.services.sqs.model.ReceiveMessageResult
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.netflix.spinnaker.cats.agent.DefaultCacheResult
+import com.netflix.spinnaker.cats.provider.ProviderCache
+import com.netflix.spinnaker.cats.provider.ProviderRegistry
+import com.netflix.spinnaker.clouddriver.aws.provider.AwsProvider
+import com.netflix.spinnaker.clouddriver.aws.provider.agent.ClusterCachingAgent
+import com.netflix.spinnaker.clouddriver.aws.provider.agent.InstanceCachingAgent
+import com.netflix.spinnaker.clouddriver.aws.security.AmazonClientProvider
+import com.netflix.spinnaker.clouddriver.aws.security.AmazonCredentials
+import com.netflix.spinnaker.clouddriver.aws.security.NetflixAmazonCredentials
+import com.netflix.spinnaker.clouddriver.cache.OnDemandAgent
+import com.netflix.spinnaker.credentials.CredentialsRepository
+import spock.lang.Specification
+
+class CacheRefreshEventAgentSpec extends Specification {
+  def mgmtCredentials = Stub(NetflixAmazonCredentials) {
+    getAccountId() >> "100"
+    getName() >> "mgmt"
+  }
+  def prodCredentials = Stub(NetflixAmazonCredentials) {
+    getAccountId() >> "200"
+    getName() >> "prod"
+    getRegions() >> [new AmazonCredentials.AWSRegion("us-west-2", ["us-west-2a"])]
+  }
+
+  def amazonSQS = Mock(AmazonSQS)
+  def providerCache = Mock(ProviderCache)
+  def instanceCachingAgent = Mock(InstanceCachingAgent) {
+    getAccountName() >> "prod"
+    getRegion() >> "us-west-2"
+  }
+  def clusterCachingAgent = Mock(ClusterCachingAgent) {
+    getAccountName() >> "prod"
+    getRegion() >> "us-west-2"
+  }
+
+  CacheRefreshEventAgent agent
+
+  def setup() {
+    def amazonClientProvider = Stub(AmazonClientProvider) {
+      getAmazonSQS(mgmtCredentials, "us-west-2") >> amazonSQS
+    }
+    def credentialsRepository = Stub(CredentialsRepository) {
+      getAll() >> [mgmtCredentials, prodCredentials]
+    }
+    def awsProvider = new AwsProvider(credentialsRepository)
+    awsProvider.addAgents([instanceCachingAgent, clusterCachingAgent])
+
+    agent = new CacheRefreshEventAgent(
+      new ObjectMapper(),
+      amazonClientProvider,
+      mgmtCredentials,
+      credentialsRepository,
+      new CacheRefreshConfigurationProperties(queueARN: "arn:aws:sqs:us-west-2:100:queueName"),
+      awsProvider
+    )
+  }
+
+  void "should refresh the instances and server groups of received events once"() {
+    given:
+    def onDemandResult = new OnDemandAgent.OnDemandResult(
+      sourceAgentType: "prod/us-west-2/ClusterCachingAgent",
+      authoritativeTypes: [],
+      cacheResult: new DefaultCacheResult([:]),
+      evictions: [instances: ["aws:instances:prod:us-west-2:i-3"]]
+    )
+
+    when:
+    agent.getAgentExecution(Stub(ProviderRegistry) {
+      getProviderCache(AwsProvider.name) >> providerCache
+    }).executeAgent(agent)
+
+    then:
+    1 * amazonSQS.getQueueUrl("queueName") >> new GetQueueUrlResult().withQueueUrl("queueUrl")
+    2 * amazonSQS.receiveMessage(_) >>> [
+      new ReceiveMessageResult().withMessages(
+        message("1", instanceEvent("200", "i-1", "running")),
+        message("2", instanceEvent("200", "i-1", "stopping")),
+        message("3", instanceEvent("300", "i-2", "running")),
+        message("4", serverGroupEvent("200", "app-v001", "i-3")),
+        message("5", "not an event")
+      ),
+      new ReceiveMessageResult()
+    ]
+    5 * amazonSQS.deleteMessage("queueUrl", _)
+
+    1 * instanceCachingAgent.refreshInstances(providerCache, ["i-1", "i-3"] as Set)
+    1 * clusterCachingAgent.handle(providerCache, [serverGroupName: "app-v001", account: "prod", region: "us-west-2"]) >> onDemandResult
+    1 * providerCache.putCacheResult("prod/us-west-2/ClusterCachingAgent", [], onDemandResult.cacheResult)
+    1 * providerCache.evictDeletedItems("instances", ["aws:instances:prod:us-west-2:i-3"])
+  }
+
+  void "should only delete the messages of refreshes that succeeded"() {
+    when:
+    agent.run(providerCache)
+
+    then:
+    1 * amazonSQS.getQueueUrl("queueName") >> new GetQueueUrlResult().withQueueUrl("queueUrl")
+    2 * amazonSQS.receiveMessage(_) >>> [
+      new ReceiveMessageResult().withMessages(
+        message("1", instanceEvent("200", "i-1", "running")),
+        message("2", instanceEvent("300", "i-2", "running"))
+      ),
+      new ReceiveMessageResult()
+    ]
+    1 * instanceCachingAgent.refreshInstances(providerCache, ["i-1"] as Set) >> {
+      throw new IllegalStateException("throttled")
+    }
+    1 * amazonSQS.deleteMessage("queueUrl", "2")
+    0 * amazonSQS.deleteMessage("queueUrl", "1")
+  }
+
+  void "should keep the messages of server groups that failed to refresh"() {
+    when:
+    agent.run(providerCache)
+
+    then:
+    1 * amazonSQS.getQueueUrl("queueName") >> new GetQueueUrlResult().withQueueUrl("queueUrl")
+    2 * amazonSQS.receiveMessage(_) >>> [
+      new ReceiveMessageResult().withMessages(message("1", serverGroupEvent("200", "app-v001", "i-3"))),
+      new ReceiveMessageResult()
+    ]
+    1 * instanceCachingAgent.refreshInstances(providerCache, ["i-3"] as Set)
+    1 * clusterCachingAgent.handle(providerCache, [serverGroupName: "app-v001", account: "prod", region: "us-west-2"]) >> {
+      throw new IllegalStateException("throttled")
+    }
+    0 * amazonSQS.deleteMessage("queueUrl", "1")
+  }
+
+  private static Message message(String receiptHandle, String body) {
+    new Message().withReceiptHandle(receiptHandle).withBody(body)
+  }
+
+  private static String instanceEvent(String accountId, String instanceId, String state) {
+    """{
+      "source": "aws.ec2",
+      "detail-type": "EC2 Instance State-change Notification",
+      "account": "$accountId",
+      "region": "us-west-2",
+      "detail": { "instance-id": "$instanceId", "state": "$state" }
+    }"""
+  }
+
+  private static String serverGroupEvent(String accountId, String serverGroupName, String instanceId) {
+    """{
+      "source": "aws.autoscaling",
+      "detail-type": "EC2 Instance Terminate Successful",
+      "account": "$accountId",
+      "region": "us-west-2",
+      "detail": { "AutoScalingGroupName": "$serverGroupName", "EC2InstanceId": "$instanceId" }
+    }"""
+  }
+}
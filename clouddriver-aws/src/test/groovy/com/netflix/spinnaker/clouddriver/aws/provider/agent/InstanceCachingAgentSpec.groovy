@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.aws.provider.agent
+
+import com.amazonaws.services.ec2.AmazonEC2
+import com.amazonaws.services.ec2.model.DescribeInstancesRequest
+import com.amazonaws.services.ec2.model.DescribeInstancesResult
+import com.amazonaws.services.ec2.model.Instance
+import com.amazonaws.services.ec2.model.InstanceState
+import com.amazonaws.services.ec2.model.Placement
+import com.amazonaws.services.ec2.model.Reservation
+import com.amazonaws.services.ec2.model.Tag
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.netflix.spectator.api.DefaultRegistry
+import com.netflix.spinnaker.cats.provider.ProviderCache
+import com.netflix.spinnaker.clouddriver.aws.data.Keys
+import com.netflix.spinnaker.clouddriver.aws.security.AmazonClientProvider
+import com.netflix.spinnaker.clouddriver.aws.security.NetflixAmazonCredentials
+import spock.lang.Specification
+import spock.lang.Subject
+
+import static com.netflix.spinnaker.clouddriver.core.provider.agent.Namespace.HEALTH
+import static com.netflix.spinnaker.clouddriver.core.provider.agent.Namespace.IMAGES
+import static com.netflix.spinnaker.clouddriver.core.provider.agent.Namespace.INSTANCES
+import static com.netflix.spinnaker.clouddriver.core.provider.agent.Namespace.SERVER_GROUPS
+
+class InstanceCachingAgentSpec extends Specification {
+  static String region = 'us-east-1'
+  static String account = 'test'
+
+  AmazonEC2 ec2 = Mock(AmazonEC2)
+
+  @Subject
+  InstanceCachingAgent agent
+
+  def setup() {
+    def creds = Stub(NetflixAmazonCredentials) {
+      getName() >> account
+    }
+    def acp = Stub(AmazonClientProvider) {
+      getAmazonEC2(creds, region) >> ec2
+    }
+    agent = new InstanceCachingAgent(acp, creds, region, new ObjectMapper(), new DefaultRegistry())
+  }
+
+  void "should cache the instances of every page"() {
+    when:
+    def result = agent.loadData(Mock(ProviderCache))
+
+    then:
+    1 * ec2.describeInstances({ DescribeInstancesRequest request -> request.nextToken == null }) >> page('next',
+      instance('i-1', 'running', 'app-v001'),
+      instance('i-2', 'terminated', 'app-v001'))
+    1 * ec2.describeInstances({ DescribeInstancesRequest request -> request.nextToken == 'next' }) >> page(null,
+      instance('i-3', 'stopped', null))
+
+    def instances = result.cacheResults[INSTANCES.ns].collectEntries { [it.id, it] }
+    instances.keySet() == [instanceKey('i-1'), instanceKey('i-3')] as Set
+
+    with(instances[instanceKey('i-1')]) {
+      attributes.instanceId == 'i-1'
+      attributes.state.name == 'running'
+      attributes.placement.availabilityZone == 'us-east-1a'
+      attributes.application == 'app'
+      attributes.capacityType == 'on-demand'
+      attributes[HEALTH.ns] == [[type: 'Amazon', healthClass: 'platform', state: 'Unknown']]
+      relationships[SERVER_GROUPS.ns] == [serverGroupKey] as Set
+      relationships[IMAGES.ns] == [imageKey] as Set
+    }
+    with(instances[instanceKey('i-3')]) {
+      attributes[HEALTH.ns] == [[type: 'Amazon', healthClass: 'platform', state: 'Down']]
+      relationships[SERVER_GROUPS.ns].isEmpty()
+    }
+
+    with(result.cacheResults[SERVER_GROUPS.ns].find { it.id == serverGroupKey }) {
+      relationships[INSTANCES.ns] == [instanceKey('i-1')] as Set
+    }
+    with(result.cacheResults[IMAGES.ns].find { it.id == imageKey }) {
+      relationships[INSTANCES.ns] == [instanceKey('i-1'), instanceKey('i-3')] as Set
+      relationships[SERVER_GROUPS.ns] == [serverGroupKey] as Set
+    }
+  }
+
+  void "should fail when a page can not be described"() {
+    when:
+    agent.loadData(Mock(ProviderCache))
+
+    then:
+    1 * ec2.describeInstances(_) >> page('next', instance('i-1', 'running', 'app-v001'))
+    1 * ec2.describeInstances(_) >> { throw new IllegalStateException('throttled') }
+    thrown(IllegalStateException)
+  }
+
+  void "should fail when a page can not be converted"() {
+    when:
+    agent.loadData(Mock(ProviderCache))
+
+    then:
+    1 * ec2.describeInstances({ DescribeInstancesRequest request -> request.nextToken == null }) >> page('next',
+      new Instance().withInstanceId('i-1'))
+    // describing stops as soon as the conversion of the first page has failed
+    (0..1) * ec2.describeInstances({ DescribeInstancesRequest request -> request.nextToken == 'next' }) >> page(null,
+      instance('i-2', 'running', 'app-v001'))
+    thrown(NullPointerException)
+  }
+
+  private static String getServerGroupKey() {
+    Keys.getServerGroupKey('app-v001', account, region)
+  }
+
+  private static String getImageKey() {
+    Keys.getImageKey('ami-1', account, region)
+  }
+
+  private static String instanceKey(String instanceId) {
+    Keys.getInstanceKey(instanceId, account, region)
+  }
+
+  private static DescribeInstancesResult page(String nextToken, Instance... instances) {
+    new DescribeInstancesResult()
+      .withReservations(new Reservation().withInstances(instances))
+      .withNextToken(nextToken)
+  }
+
+  private static Instance instance(String instanceId, String state, String serverGroup) {
+    def instance = new Instance()
+      .withInstanceId(instanceId)
+      .withImageId('ami-1')
+      .withState(new InstanceState().withName(state))
+      .withPlacement(new Placement().withAvailabilityZone('us-east-1a'))
+    if (serverGroup) {
+      instance.withTags(new Tag('aws:autoscaling:groupName', serverGroup))
+    }
+    instance
+  }
+}
@@ -17,17 +17,32 @@
 
 package com.netflix.spinnaker.clouddriver.aws.provider.agent
 
+import com.amazonaws.services.ec2.AmazonEC2
+import com.fasterxml.jackson.databind.ObjectMapper
 import com.netflix.spectator.api.Counter
+import com.netflix.spectator.api.DefaultRegistry
 import com.netflix.spectator.api.Id
 import com.netflix.spectator.api.Registry
+import com.netflix.spinnaker.cats.cache.Cache
+import com.netflix.spinnaker.cats.cache.CacheData
+import com.netflix.spinnaker.cats.cache.DefaultCacheData
+import com.netflix.spinnaker.clouddriver.aws.data.Keys
 import com.netflix.spinnaker.clouddriver.aws.model.AmazonReservationReport
+import com.netflix.spinnaker.clouddriver.aws.provider.AwsProvider
+import com.netflix.spinnaker.clouddriver.aws.provider.config.ReservationReportConfigurationProperties
+import com.netflix.spinnaker.clouddriver.aws.security.AmazonClientProvider
 import com.netflix.spinnaker.clouddriver.aws.security.AmazonCredentials
 import com.netflix.spinnaker.clouddriver.aws.security.NetflixAmazonCredentials
+import com.netflix.spinnaker.credentials.CredentialsRepository
+import org.springframework.context.ApplicationContext
 import spock.lang.Specification
 import spock.lang.Unroll
 
 import java.util.concurrent.ConcurrentHashMap
 
+import static com.netflix.spinnaker.clouddriver.core.provider.agent.Namespace.INSTANCES
+import static com.netflix.spinnaker.clouddriver.core.provider.agent.Namespace.RESERVED_INSTANCES
+
 class ReservationReportCachingAgentSpec extends Specification {
   def registry = Mock(Registry)
   def registryId = Mock(Id)
@@ -68,4 +83,59 @@ class ReservationReportCachingAgentSpec extends Specification {
     3 * registry.counter(registryId) >> counter
     3 * counter.increment()
   }
+
+  def "should count the cached instances of accounts with instance caching"() {
+    given:
+    def credentials = Stub(NetflixAmazonCredentials) {
+      getName() >> "test"
+      getRegions() >> [new AmazonCredentials.AWSRegion("us-west-1", ["us-west-1a"])]
+    }
+    def awsProvider = new AwsProvider(Stub(CredentialsRepository))
+    awsProvider.addAgents([new InstanceCachingAgent(Stub(AmazonClientProvider), credentials, "us-west-1", new ObjectMapper(), registry)])
+    def amazonEC2 = Mock(AmazonEC2)
+    def amazonClientProvider = Stub(AmazonClientProvider) {
+      getAmazonEC2(credentials, "us-west-1") >> amazonEC2
+    }
+    def instanceKeys = (1..3).collect { Keys.getInstanceKey("i-$it", "test", "us-west-1") }
+    def cache = Stub(Cache) {
+      filterIdentifiers(RESERVED_INSTANCES.ns, _) >> []
+      getAll(RESERVED_INSTANCES.ns, _, _) >> []
+      filterIdentifiers(INSTANCES.ns, Keys.getInstanceKey("*", "test", "us-west-1")) >> instanceKeys
+      getAll(INSTANCES.ns, instanceKeys, _) >> [
+        instance(instanceKeys[0], "running", null),
+        instance(instanceKeys[1], "running", "vpc-1"),
+        instance(instanceKeys[2], "stopped", "vpc-1")
+      ]
+    }
+    def ctx = Stub(ApplicationContext) {
+      getBean(Cache) >> cache
+      getBean(AwsProvider) >> awsProvider
+      getBean(ReservationReportConfigurationProperties) >> new ReservationReportConfigurationProperties(useCachedInstances: true)
+    }
+    def agent = new ReservationReportCachingAgent(
+      new DefaultRegistry(), amazonClientProvider, null, Stub(CredentialsRepository), new ObjectMapper(), null, ctx
+    )
+    def reservations = new ConcurrentHashMap<String, AmazonReservationReport.OverallReservationDetail>()
+
+    when:
+    agent.extractReservations(reservations, new ConcurrentHashMap(), credentials)
+
+    then:
+    0 * amazonEC2.describeInstances(_)
+    reservations.keySet() == ["us-west-1a:LINUX:m5.large"] as Set
+    with(reservations["us-west-1a:LINUX:m5.large"]) {
+      totalUsed.get() == 2
+      getAccount("test").used.get() == 1
+      getAccount("test").usedVpc.get() == 1
+    }
+  }
+
+  private static CacheData instance(String id, String state, String vpcId) {
+    return new DefaultCacheData(id, [
+      state       : [name: state, code: 16],
+      placement   : [availabilityZone: "us-west-1a"],
+      instanceType: "m5.large",
+      vpcId       : vpcId
+    ], [:])
+  }
 }
@@ -16,6 +16,7 @@
 
 package com.netflix.spinnaker.clouddriver.aws.provider.view
 
+import com.amazonaws.services.s3.model.ObjectMetadata
 import com.amazonaws.services.s3.model.S3Object
 import com.amazonaws.services.s3.model.S3ObjectInputStream
 import com.fasterxml.jackson.databind.ObjectMapper
@@ -125,6 +126,38 @@ class AmazonS3DataProviderSpec extends Specification {
     new String(outputStream.toByteArray(), "UTF-8") == "my example output!"
   }
 
+  def "should open adhoc results with their metadata and release them once written"() {
+    given:
+    def metadata = new ObjectMetadata()
+    metadata.setContentType("application/json")
+    metadata.setContentLength(18)
+    def outputStream = new ByteArrayOutputStream()
+
+    when:
+    def adhocObject = dataProvider.openAdhocData("adhocId", "accountName:us-east-1:my_restricted_bucket", "magic/my_object")
+
+    then:
+    1 * dataProvider.fetchObject("accountName", "us-east-1", "my_restricted_bucket", "magic/my_object") >> {
+      return s3Object
+    }
+    _ * s3Object.getObjectMetadata() >> metadata
+    0 * s3Object.getObjectContent()
+    adhocObject.contentType == "application/json"
+    adhocObject.contentLength == 18
+    adhocObject.contentEncoding == null
+
+    when:
+    adhocObject.writeTo(outputStream)
+    adhocObject.close()
+
+    then:
+    1 * s3Object.getObjectContent() >> {
+      return new S3ObjectInputStream(new ByteArrayInputStream("my example output!".bytes), null)
+    }
+    1 * s3Object.close()
+    new String(outputStream.toByteArray(), "UTF-8") == "my example output!"
+  }
+
   def "should deny requests to fetch adhoc results from non-whitelisted buckets or keys"() {
     when: "the object key is not whitelisted"
     dataProvider.getAdhocData("adhocId", "accountName:us-east-1:my_restricted_bucket", "my_object", null)
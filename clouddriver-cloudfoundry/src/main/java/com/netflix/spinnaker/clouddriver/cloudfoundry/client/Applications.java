@@ -67,6 +67,7 @@ public class Applications {
   private final Integer resultsPerPage;
   private final boolean onlySpinnakerManaged;
   private final ForkJoinPool forkJoinPool;
+  private final PageFetcher pageFetcher;
   private final LoadingCache<String, CloudFoundryServerGroup> serverGroupCache;
 
   public Applications(
@@ -79,6 +80,7 @@ public class Applications {
       Integer resultsPerPage,
       boolean onlySpinnakerManaged,
       ForkJoinPool forkJoinPool,
+      PageFetcher pageFetcher,
       CloudFoundryConfigurationProperties.LocalCacheConfig localCacheConfig) {
     this.account = account;
     this.appsManagerUri = appsManagerUri;
@@ -89,6 +91,7 @@ public class Applications {
     this.resultsPerPage = resultsPerPage;
     this.onlySpinnakerManaged = onlySpinnakerManaged;
     this.forkJoinPool = forkJoinPool;
+    this.pageFetcher = pageFetcher;
 
     CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder();
     if (localCacheConfig.getApplicationsAccessExpirySeconds() >= 0) {
@@ -133,7 +136,8 @@ public class Applications {
         spaceGuids == null || spaceGuids.isEmpty() ? null : String.join(",", spaceGuids);
 
     List<Application> newCloudFoundryAppList =
-        collectPages("applications", page -> api.all(page, resultsPerPage, null, spaceGuidsQ));
+        pageFetcher.collectPages(
+            "applications", page -> api.all(page, resultsPerPage, null, spaceGuidsQ));
 
     log.debug(
         "Fetched {} total apps from foundation account {}",
@@ -127,6 +127,8 @@ public class HttpCloudFoundryClient implements CloudFoundryClient {
     this.spaces = new Spaces(retrofit.create(SpaceService.class), organizations);
     this.processes = new Processes(retrofit.create(ProcessesService.class));
 
+    PageFetcher pageFetcher = new PageFetcher(account, clientConfig.getMaxConcurrentPageRequests());
+
     this.applications =
         new Applications(
             account,
@@ -138,6 +140,7 @@ public class HttpCloudFoundryClient implements CloudFoundryClient {
             resultsPerPage,
             onlySpinnakerManaged,
             forkJoinPool,
+            pageFetcher,
             localCacheConfig);
     this.domains = new Domains(retrofit.create(DomainService.class), organizations);
     this.serviceInstances =
@@ -154,6 +157,7 @@ public class HttpCloudFoundryClient implements CloudFoundryClient {
             spaces,
             resultsPerPage,
             forkJoinPool,
+            pageFetcher,
             localCacheConfig);
     this.serviceKeys = new ServiceKeys(retrofit.create(ServiceKeyService.class), spaces);
     this.tasks = new Tasks(retrofit.create(TaskService.class));
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.cloudfoundry.client;
+
+import static com.netflix.spinnaker.clouddriver.cloudfoundry.client.CloudFoundryClientUtils.safelyCall;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.netflix.spinnaker.clouddriver.cloudfoundry.client.model.v2.Page;
+import com.netflix.spinnaker.clouddriver.cloudfoundry.client.model.v2.Resource;
+import com.netflix.spinnaker.clouddriver.cloudfoundry.client.model.v3.Pagination;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import lombok.extern.slf4j.Slf4j;
+import retrofit2.Call;
+
+/**
+ * Collects every page of a paginated Cloud Foundry listing. The first page is fetched on the
+ * calling thread to learn {@code total_pages}; the remaining pages are then fetched concurrently
+ * on a dedicated I/O executor, with at most {@code maxConcurrentRequests} requests in flight
+ * against a single foundation regardless of how many listings are being collected at once.
+ */
+@Slf4j
+public class PageFetcher {
+  private static final ExecutorService SHARED_EXECUTOR =
+      Executors.newCachedThreadPool(
+          new ThreadFactoryBuilder()
+              .setNameFormat(PageFetcher.class.getSimpleName() + "-%d")
+              .setDaemon(true)
+              .build());
+
+  private final String account;
+  private final int maxConcurrentRequests;
+  private final Semaphore permits;
+  private final ExecutorService executor;
+
+  public PageFetcher(String account, int maxConcurrentRequests) {
+    this(account, maxConcurrentRequests, SHARED_EXECUTOR);
+  }
+
+  PageFetcher(String account, int maxConcurrentRequests, ExecutorService executor) {
+    this.account = account;
+    this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
+    this.permits = new Semaphore(this.maxConcurrentRequests, true);
+    this.executor = executor;
+  }
+
+  /** Fetches pages one after another on the calling thread. */
+  public static PageFetcher sequential(String account) {
+    return new PageFetcher(account, 1);
+  }
+
+  public <R> List<R> collectPages(
+      String resourceNamePluralized, Function<Integer, Call<Pagination<R>>> fetchPage)
+      throws CloudFoundryApiException {
+    return collect(
+        resourceNamePluralized,
+        fetchPage,
+        page -> page.getPagination().getTotalPages(),
+        Pagination::getResources);
+  }
+
+  public <R> List<Resource<R>> collectPageResources(
+      String resourceNamePluralized, Function<Integer, Call<Page<R>>> fetchPage)
+      throws CloudFoundryApiException {
+    return collect(resourceNamePluralized, fetchPage, Page::getTotalPages, Page::getResources);
+  }
+
+  private <P, R> List<R> collect(
+      String resourceNamePluralized,
+      Function<Integer, Call<P>> fetchPage,
+      ToIntFunction<P> totalPagesOf,
+      Function<P, List<R>> resourcesOf) {
+    P firstPage = fetch(resourceNamePluralized, fetchPage, null);
+    int totalPages = totalPagesOf.applyAsInt(firstPage);
+
+    List<R> allResources = new ArrayList<>(resourcesOf.apply(firstPage));
+    if (totalPages < 2) {
+      return allResources;
+    }
+
+    if (maxConcurrentRequests == 1) {
+      for (int page = 2; page <= totalPages; page++) {
+        allResources.addAll(resourcesOf.apply(fetch(resourceNamePluralized, fetchPage, page)));
+      }
+      return allResources;
+    }
+
+    // pages are claimed from a shared counter so only as many tasks as the concurrency cap are
+    // ever submitted, rather than one (mostly blocked) task per page
+    List<List<R>> remainingPages = new ArrayList<>(totalPages - 1);
+    for (int i = 2; i <= totalPages; i++) {
+      remainingPages.add(null);
+    }
+    AtomicInteger nextPage = new AtomicInteger(2);
+    int workers = Math.min(maxConcurrentRequests, totalPages - 1);
+    List<Future<?>> futures = new ArrayList<>(workers);
+    for (int i = 0; i < workers; i++) {
+      futures.add(
+          executor.submit(
+              () -> {
+                for (int page = nextPage.getAndIncrement();
+                    page <= totalPages;
+                    page = nextPage.getAndIncrement()) {
+                  List<R> resources =
+                      resourcesOf.apply(fetchWithPermit(resourceNamePluralized, fetchPage, page));
+                  synchronized (remainingPages) {
+                    remainingPages.set(page - 2, resources);
+                  }
+                }
+                return null;
+              }));
+    }
+
+    try {
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      futures.forEach(f -> f.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new CloudFoundryApiException(e, "Interrupted retrieving " + resourceNamePluralized);
+    } catch (ExecutionException e) {
+      futures.forEach(f -> f.cancel(true));
+      if (e.getCause() instanceof CloudFoundryApiException) {
+        throw (CloudFoundryApiException) e.getCause();
+      }
+      throw new CloudFoundryApiException(
+          e.getCause(), "Unable to retrieve " + resourceNamePluralized);
+    }
+
+    log.debug(
+        "Fetched {} pages of {} from foundation account {} with up to {} concurrent requests",
+        totalPages,
+        resourceNamePluralized,
+        account,
+        workers);
+
+    synchronized (remainingPages) {
+      remainingPages.forEach(allResources::addAll);
+    }
+    return allResources;
+  }
+
+  private <P> P fetchWithPermit(
+      String resourceNamePluralized, Function<Integer, Call<P>> fetchPage, int page)
+      throws InterruptedException {
+    permits.acquire();
+    try {
+      return fetch(resourceNamePluralized, fetchPage, page);
+    } finally {
+      permits.release();
+    }
+  }
+
+  private static <P> P fetch(
+      String resourceNamePluralized, Function<Integer, Call<P>> fetchPage, Integer page) {
+    return safelyCall(() -> fetchPage.apply(page))
+        .orElseThrow(
+            () -> new CloudFoundryApiException("Unable to retrieve " + resourceNamePluralized));
+  }
+}
@@ -60,6 +60,7 @@ public class Routes {
   private final Integer resultsPerPage;
 
   private final ForkJoinPool forkJoinPool;
+  private final PageFetcher pageFetcher;
   private final LoadingCache<String, List<RouteMapping>> routeMappings;
 
   public Routes(
@@ -70,6 +71,7 @@ public class Routes {
       Spaces spaces,
       Integer resultsPerPage,
       ForkJoinPool forkJoinPool,
+      PageFetcher pageFetcher,
       CloudFoundryConfigurationProperties.LocalCacheConfig localCacheConfig) {
     this.account = account;
     this.api = api;
@@ -78,6 +80,7 @@ public class Routes {
     this.spaces = spaces;
     this.resultsPerPage = resultsPerPage;
     this.forkJoinPool = forkJoinPool;
+    this.pageFetcher = pageFetcher;
 
     CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder();
     if (localCacheConfig.getRoutesAccessExpirySeconds() >= 0) {
@@ -192,7 +195,8 @@ public class Routes {
         return forkJoinPool
             .submit(
                 () ->
-                    collectPageResources(
+                    pageFetcher
+                        .collectPageResources(
                             "routes", pg -> api.all(pg, resultsPerPage, singletonList(orgFilter)))
                         .parallelStream()
                         .map(this::map)
@@ -203,7 +207,8 @@ public class Routes {
         return forkJoinPool
             .submit(
                 () ->
-                    collectPageResources("routes", pg -> api.all(pg, resultsPerPage, null))
+                    pageFetcher
+                        .collectPageResources("routes", pg -> api.all(pg, resultsPerPage, null))
                         .parallelStream()
                         .map(this::map)
                         .collect(Collectors.toList()))
@@ -83,6 +83,12 @@ public class CloudFoundryConfigurationProperties implements DisposableBean {
     private int writeTimeout = 10000;
     private int readTimeout = 10000;
     private int maxRetries = 3;
+
+    /**
+     * Maximum number of listing pages (applications, routes) requested concurrently from one
+     * foundation. A value of 1 fetches pages sequentially.
+     */
+    private int maxConcurrentPageRequests = 4;
   }
 
   @Data
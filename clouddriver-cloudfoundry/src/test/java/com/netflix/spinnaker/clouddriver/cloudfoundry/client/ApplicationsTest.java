@@ -60,6 +60,7 @@ class ApplicationsTest {
           resultsPerPage,
           true,
           ForkJoinPool.commonPool(),
+          PageFetcher.sequential("pws"),
           new CloudFoundryConfigurationProperties.LocalCacheConfig());
   private final String spaceId = "space-guid";
   private final CloudFoundrySpace cloudFoundrySpace =
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.cloudfoundry.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.netflix.spinnaker.clouddriver.cloudfoundry.client.model.v2.Domain;
+import com.netflix.spinnaker.clouddriver.cloudfoundry.client.model.v2.Page;
+import com.netflix.spinnaker.clouddriver.cloudfoundry.client.model.v2.Resource;
+import com.netflix.spinnaker.clouddriver.cloudfoundry.client.model.v3.Application;
+import com.netflix.spinnaker.clouddriver.cloudfoundry.client.model.v3.Pagination;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import retrofit2.Call;
+import retrofit2.Response;
+import retrofit2.mock.Calls;
+
+class PageFetcherTest {
+  private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+  @AfterEach
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void collectPagesReturnsAllPagesInOrder() {
+    int totalPages = 25;
+    PageFetcher pageFetcher = new PageFetcher("pws", 4, executor);
+
+    List<Application> results =
+        pageFetcher.collectPages("applications", page -> applicationPage(page, totalPages));
+
+    assertThat(results)
+        .extracting(Application::getName)
+        .containsExactlyElementsOf(
+            IntStream.rangeClosed(1, totalPages)
+                .mapToObj(i -> "app-" + i)
+                .collect(Collectors.toList()));
+  }
+
+  @Test
+  void collectPagesNeverExceedsConcurrencyLimit() {
+    int totalPages = 40;
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    PageFetcher pageFetcher = new PageFetcher("pws", 3, executor);
+
+    List<Application> results =
+        pageFetcher.collectPages(
+            "applications",
+            page -> {
+              int current = inFlight.incrementAndGet();
+              maxInFlight.accumulateAndGet(current, Math::max);
+              try {
+                Thread.sleep(5);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              inFlight.decrementAndGet();
+              return applicationPage(page, totalPages);
+            });
+
+    assertThat(results).hasSize(totalPages);
+    assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+  }
+
+  @Test
+  void collectPageResourcesReturnsAllPagesInOrder() {
+    PageFetcher pageFetcher = new PageFetcher("pws", 2, executor);
+
+    List<Resource<Domain>> results =
+        pageFetcher.collectPageResources(
+            "shared domains",
+            page -> {
+              int p = page == null ? 1 : page;
+              Page<Domain> domains =
+                  Page.singleton(new Domain().setName("domain-" + p), "domain-guid-" + p)
+                      .setTotalPages(3)
+                      .setTotalResults(3);
+              return Calls.response(Response.success(domains));
+            });
+
+    assertThat(results)
+        .extracting(r -> r.getEntity().getName())
+        .containsExactly("domain-1", "domain-2", "domain-3");
+  }
+
+  @Test
+  void collectPagesPropagatesFailureOfAnyPage() {
+    PageFetcher pageFetcher = new PageFetcher("pws", 4, executor);
+
+    assertThatThrownBy(
+            () ->
+                pageFetcher.collectPages(
+                    "applications",
+                    page ->
+                        page != null && page == 7
+                            ? Calls.response(
+                                Response.error(
+                                    401,
+                                    ResponseBody.create(MediaType.get("application/json"), "{}")))
+                            : applicationPage(page, 10)))
+        .isInstanceOf(CloudFoundryApiException.class)
+        .hasMessageContaining("Unauthorized");
+  }
+
+  private static Call<Pagination<Application>> applicationPage(Integer page, int totalPages) {
+    int p = page == null ? 1 : page;
+    Pagination<Application> pagination = new Pagination<>();
+    pagination.setPagination(new Pagination.Details().setTotalPages(totalPages));
+    pagination.setResources(Collections.singletonList(new Application().setName("app-" + p)));
+    return Calls.response(Response.success(pagination));
+  }
+}
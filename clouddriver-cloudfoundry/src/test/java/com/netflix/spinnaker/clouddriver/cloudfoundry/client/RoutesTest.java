@@ -75,6 +75,7 @@ class RoutesTest {
             spaces,
             500,
             ForkJoinPool.commonPool(),
+            PageFetcher.sequential("pws"),
             new CloudFoundryConfigurationProperties.LocalCacheConfig());
     RouteId routeId = routes.toRouteId("demo1-prod.apps.calabasas.cf-app.com/path/v1.0");
     assertThat(routeId).isNotNull();
@@ -94,6 +95,7 @@ class RoutesTest {
             null,
             500,
             ForkJoinPool.commonPool(),
+            null,
             new CloudFoundryConfigurationProperties.LocalCacheConfig());
     assertNull(routes.toRouteId("demo1-pro cf-app.com/path"));
   }
@@ -165,6 +167,7 @@ class RoutesTest {
             spaces,
             500,
             ForkJoinPool.commonPool(),
+            PageFetcher.sequential("pws"),
             new CloudFoundryConfigurationProperties.LocalCacheConfig());
 
     CloudFoundryLoadBalancer loadBalancer =
@@ -17,10 +17,13 @@
 package com.netflix.spinnaker.clouddriver.cache
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder
+import com.netflix.spectator.api.NoopRegistry
+import com.netflix.spectator.api.Registry
 import com.netflix.spinnaker.cats.cache.Cache
 import com.netflix.spinnaker.cats.provider.ProviderRegistry
 import com.netflix.spinnaker.clouddriver.search.SearchProvider
 import com.netflix.spinnaker.clouddriver.search.SearchResultSet
+import com.netflix.spinnaker.clouddriver.security.RequestPermissionCache
 import com.netflix.spinnaker.fiat.shared.FiatPermissionEvaluator
 import groovy.text.SimpleTemplateEngine
 import groovy.text.Template
@@ -56,7 +59,7 @@ class CatsSearchProvider implements SearchProvider, Runnable {
     [:]
   )
 
-  private final FiatPermissionEvaluator permissionEvaluator
+  private final RequestPermissionCache permissionCache
   private final List<KeyParser> keyParsers
 
   private final ScheduledExecutorService scheduledExecutorService
@@ -67,11 +70,21 @@ class CatsSearchProvider implements SearchProvider, Runnable {
                      ProviderRegistry providerRegistry,
                      Optional<FiatPermissionEvaluator> permissionEvaluator,
                      Optional<List<KeyParser>> keyParsers) {
+    this(catsInMemorySearchProperties, cacheView, providers, providerRegistry, permissionEvaluator, keyParsers, new NoopRegistry())
+  }
+
+  CatsSearchProvider(CatsInMemorySearchProperties catsInMemorySearchProperties,
+                     Cache cacheView,
+                     List<SearchableProvider> providers,
+                     ProviderRegistry providerRegistry,
+                     Optional<FiatPermissionEvaluator> permissionEvaluator,
+                     Optional<List<KeyParser>> keyParsers,
+                     Registry registry) {
     this.catsInMemorySearchProperties = catsInMemorySearchProperties
     this.cacheView = cacheView
     this.providers = providers
 
-    this.permissionEvaluator = permissionEvaluator.orElse(null)
+    this.permissionCache = permissionEvaluator.map { new RequestPermissionCache(it, registry) }.orElse(null)
     this.keyParsers = keyParsers.orElse(Collections.emptyList())
     this.providerRegistry = providerRegistry
 
@@ -168,7 +181,7 @@ class CatsSearchProvider implements SearchProvider, Runnable {
     types = defaultCaches.intersect(types)
 
     List<String> matches = findMatches(query, types, filters)
-    if (permissionEvaluator) {
+    if (permissionCache) {
       Authentication auth = SecurityContextHolder.context.authentication
 
       matches = new ArrayList(matches).findResults { String key ->
@@ -180,10 +193,10 @@ class CatsSearchProvider implements SearchProvider, Runnable {
 
         boolean canView = true
         if (result.application) {
-          canView = permissionEvaluator.hasPermission(auth, result.application as String, 'APPLICATION', 'READ')
+          canView = permissionCache.hasPermission(auth, result.application as String, 'APPLICATION', 'READ')
         }
         if (canView && result.account) {
-          canView = permissionEvaluator.hasPermission(auth, result.account as String, 'ACCOUNT', 'READ')
+          canView = permissionCache.hasPermission(auth, result.account as String, 'ACCOUNT', 'READ')
         }
         return canView ? key : null
       }
@@ -24,4 +24,30 @@ import org.springframework.boot.context.properties.ConfigurationProperties
 class Front50ConfigurationProperties {
   boolean enabled = true
   String baseUrl
+
+  MetadataCache metadataCache = new MetadataCache()
+
+  /**
+   * Application and project attributes that are shared by everything in clouddriver that reads
+   * them, instead of being requested from front50 for every traffic guard check or deployment.
+   */
+  @Canonical
+  static class MetadataCache {
+    boolean enabled = false
+
+    /**
+     * How long attributes are used for after they have been loaded. Keep this longer than
+     * warmUpIntervalMs, so that applications from the warm-up do not expire between warm-ups.
+     */
+    long ttlMs = 600000
+
+    /** How old attributes are before they are reloaded in the background when they are used. */
+    long refreshAfterMs = 60000
+
+    /** How often the attributes of all applications are loaded at once. */
+    long warmUpIntervalMs = 300000
+
+    /** How long a lookup waits for another caller's load of the same attributes. */
+    long loadTimeoutMs = 10000
+  }
 }
@@ -36,6 +36,9 @@ interface Front50Service {
   @GET('/v2/applications?restricted=false')
   Set<Front50Application> getAllApplicationsUnrestricted()
 
+  @GET('/v2/applications?restricted=false')
+  List<Map<String, Object>> getAllApplicationAttributesUnrestricted()
+
   @GET('/v2/projects/{project}')
   Map getProject(@Path('project') String project)
 
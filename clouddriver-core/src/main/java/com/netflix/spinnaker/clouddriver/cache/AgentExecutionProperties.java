@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Runs caching agents on a fixed number of threads shared fairly between providers, instead of a
+ * thread per running agent.
+ */
+@Data
+@ConfigurationProperties("caching.agent-execution")
+public class AgentExecutionProperties {
+  private boolean enabled = false;
+
+  /** The number of threads running caching agents on this instance. */
+  private int threads = 100;
+
+  /**
+   * The share of the threads of each provider relative to the others, keyed by provider name
+   * without its package, e.g. {@code kubernetes: 2}. Providers that aren't listed weigh 1.
+   */
+  private Map<String, Integer> providerWeights = new HashMap<>();
+}
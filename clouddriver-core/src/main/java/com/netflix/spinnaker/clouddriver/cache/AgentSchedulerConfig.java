@@ -15,9 +15,12 @@
  */
 package com.netflix.spinnaker.clouddriver.cache;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.netflix.spectator.api.Registry;
 import com.netflix.spinnaker.cats.agent.AgentScheduler;
 import com.netflix.spinnaker.cats.cluster.AgentIntervalProvider;
 import com.netflix.spinnaker.cats.cluster.DefaultNodeIdentity;
+import com.netflix.spinnaker.cats.cluster.FairAgentExecutor;
 import com.netflix.spinnaker.cats.cluster.NodeStatusProvider;
 import com.netflix.spinnaker.cats.cluster.ShardingFilter;
 import com.netflix.spinnaker.cats.redis.cluster.ClusteredAgentScheduler;
@@ -26,16 +29,30 @@ import com.netflix.spinnaker.clouddriver.core.RedisConfigurationProperties;
 import com.netflix.spinnaker.kork.dynamicconfig.DynamicConfigService;
 import com.netflix.spinnaker.kork.jedis.RedisClientDelegate;
 import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.Executors;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import redis.clients.jedis.JedisPool;
 
 @Configuration
 @ConditionalOnProperty(value = "caching.write-enabled", matchIfMissing = true)
+@EnableConfigurationProperties(AgentExecutionProperties.class)
 public class AgentSchedulerConfig {
 
+  @Bean(destroyMethod = "shutdownNow")
+  @ConditionalOnProperty("caching.agent-execution.enabled")
+  FairAgentExecutor fairAgentExecutor(
+      AgentExecutionProperties agentExecutionProperties, Registry registry) {
+    return new FairAgentExecutor(
+        agentExecutionProperties.getThreads(),
+        agentExecutionProperties.getProviderWeights(),
+        registry);
+  }
+
   @Bean
   @ConditionalOnExpression("${redis.enabled:true} && ${redis.scheduler.enabled:true}")
   AgentScheduler redisAgentScheduler(
@@ -45,7 +62,8 @@ public class AgentSchedulerConfig {
       AgentIntervalProvider agentIntervalProvider,
       NodeStatusProvider nodeStatusProvider,
       DynamicConfigService dynamicConfigService,
-      ShardingFilter shardingFilter) {
+      ShardingFilter shardingFilter,
+      Optional<FairAgentExecutor> fairAgentExecutor) {
     if (redisConfigurationProperties.getScheduler().equalsIgnoreCase("default")) {
       URI redisUri = URI.create(redisConfigurationProperties.getConnection());
       String redisHost = redisUri.getHost();
@@ -53,6 +71,22 @@ public class AgentSchedulerConfig {
       if (redisPort == -1) {
         redisPort = 6379;
       }
+      if (fairAgentExecutor.isPresent()) {
+        return new ClusteredAgentScheduler(
+            redisClientDelegate,
+            new DefaultNodeIdentity(redisHost, redisPort),
+            agentIntervalProvider,
+            nodeStatusProvider,
+            Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder()
+                    .setNameFormat(ClusteredAgentScheduler.class.getSimpleName() + "-%d")
+                    .build()),
+            fairAgentExecutor.get(),
+            redisConfigurationProperties.getAgent().getEnabledPattern(),
+            redisConfigurationProperties.getAgent().getAgentLockAcquisitionIntervalSeconds(),
+            dynamicConfigService,
+            shardingFilter);
+      }
       return new ClusteredAgentScheduler(
           redisClientDelegate,
           new DefaultNodeIdentity(redisHost, redisPort),
@@ -63,11 +97,22 @@ public class AgentSchedulerConfig {
           dynamicConfigService,
           shardingFilter);
     } else if (redisConfigurationProperties.getScheduler().equalsIgnoreCase("sort")) {
-      return new ClusteredSortAgentScheduler(
-          jedisPool,
-          nodeStatusProvider,
-          agentIntervalProvider,
-          redisConfigurationProperties.getParallelism());
+      return fairAgentExecutor
+          .map(
+              executor ->
+                  new ClusteredSortAgentScheduler(
+                      jedisPool,
+                      nodeStatusProvider,
+                      agentIntervalProvider,
+                      redisConfigurationProperties.getParallelism(),
+                      executor))
+          .orElseGet(
+              () ->
+                  new ClusteredSortAgentScheduler(
+                      jedisPool,
+                      nodeStatusProvider,
+                      agentIntervalProvider,
+                      redisConfigurationProperties.getParallelism()));
     } else {
       throw new IllegalStateException("redis.scheduler must be one of 'default', 'sort', or ''.");
     }
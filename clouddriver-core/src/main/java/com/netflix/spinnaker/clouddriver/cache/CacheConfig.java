@@ -101,6 +101,11 @@ public class CacheConfig {
     return new MetricInstrumentation(registry);
   }
 
+  @Bean
+  ProfilingInstrumentation profilingInstrumentation() {
+    return new ProfilingInstrumentation();
+  }
+
   @Bean
   OnDemandCacheUpdater catsOnDemandCacheUpdater(
       List<Provider> providers,
@@ -117,14 +122,16 @@ public class CacheConfig {
       List<SearchableProvider> providers,
       ProviderRegistry providerRegistry,
       Optional<FiatPermissionEvaluator> permissionEvaluator,
-      Optional<List<KeyParser>> keyParsers) {
+      Optional<List<KeyParser>> keyParsers,
+      Registry registry) {
     return new CatsSearchProvider(
         catsInMemorySearchProperties,
         cacheView,
         providers,
         providerRegistry,
         permissionEvaluator,
-        keyParsers);
+        keyParsers,
+        registry);
   }
 
   @Bean
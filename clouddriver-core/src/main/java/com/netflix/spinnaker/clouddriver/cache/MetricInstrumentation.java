@@ -20,6 +20,7 @@ import com.netflix.spectator.api.Id;
 import com.netflix.spectator.api.Registry;
 import com.netflix.spinnaker.cats.agent.Agent;
 import com.netflix.spinnaker.cats.agent.ExecutionInstrumentation;
+import com.netflix.spinnaker.cats.agent.ExecutionPhase;
 import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -27,6 +28,9 @@ class MetricInstrumentation implements ExecutionInstrumentation {
 
   private final Registry registry;
   private final Id timingId;
+  private final Id phaseTimingId;
+  private final Id phaseItemsId;
+  private final Id phaseBytesWrittenId;
 
   @Autowired
   MetricInstrumentation(Registry registry) {
@@ -35,6 +39,18 @@ class MetricInstrumentation implements ExecutionInstrumentation {
         registry
             .createId("executionTime")
             .withTag("className", MetricInstrumentation.class.getSimpleName());
+    phaseTimingId =
+        registry
+            .createId("executionPhaseTime")
+            .withTag("className", MetricInstrumentation.class.getSimpleName());
+    phaseItemsId =
+        registry
+            .createId("executionPhaseItems")
+            .withTag("className", MetricInstrumentation.class.getSimpleName());
+    phaseBytesWrittenId =
+        registry
+            .createId("executionPhaseBytesWritten")
+            .withTag("className", MetricInstrumentation.class.getSimpleName());
   }
 
   private static String stripPackageName(String className) {
@@ -64,4 +80,23 @@ class MetricInstrumentation implements ExecutionInstrumentation {
         .timer(timingId.withTag("agent", agentName(agent)).withTag("success", "false"))
         .record(elapsedMs, TimeUnit.MILLISECONDS);
   }
+
+  @Override
+  public void executionPhaseCompleted(
+      Agent agent, ExecutionPhase phase, long elapsedMs, long itemCount, long bytesWritten) {
+    String agentName = agentName(agent);
+    String phaseName = phase.getPhaseName();
+    registry
+        .timer(phaseTimingId.withTag("agent", agentName).withTag("phase", phaseName))
+        .record(elapsedMs, TimeUnit.MILLISECONDS);
+    registry
+        .distributionSummary(phaseItemsId.withTag("agent", agentName).withTag("phase", phaseName))
+        .record(itemCount);
+    if (bytesWritten > 0) {
+      registry
+          .distributionSummary(
+              phaseBytesWrittenId.withTag("agent", agentName).withTag("phase", phaseName))
+          .record(bytesWritten);
+    }
+  }
 }
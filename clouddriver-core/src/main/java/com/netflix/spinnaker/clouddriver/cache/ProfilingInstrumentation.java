@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.cache;
+
+import com.netflix.spinnaker.cats.agent.Agent;
+import com.netflix.spinnaker.cats.agent.ExecutionInstrumentation;
+import com.netflix.spinnaker.cats.agent.ExecutionPhase;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.Value;
+
+/**
+ * Keeps a profile of the executions of each caching agent on this instance: how long its last
+ * execution took, and how much of that went into each {@link ExecutionPhase}, along with the number
+ * of items and bytes each phase handled.
+ *
+ * <p>Comparing the phases tells whether a slow agent spends its time calling the cloud provider,
+ * building its cache result, or storing it.
+ */
+public class ProfilingInstrumentation implements ExecutionInstrumentation {
+  private final Map<String, AgentProfileRecorder> profiles = new ConcurrentHashMap<>();
+
+  @Override
+  public void executionStarted(Agent agent) {
+    // do nothing
+  }
+
+  @Override
+  public void executionCompleted(Agent agent, long elapsedMs) {
+    recorder(agent).executionFinished(elapsedMs, true);
+  }
+
+  @Override
+  public void executionFailed(Agent agent, Throwable cause, long elapsedMs) {
+    recorder(agent).executionFinished(elapsedMs, false);
+  }
+
+  @Override
+  public void executionPhaseCompleted(
+      Agent agent, ExecutionPhase phase, long elapsedMs, long itemCount, long bytesWritten) {
+    recorder(agent).phaseCompleted(phase, elapsedMs, itemCount, bytesWritten);
+  }
+
+  /** Returns the profiles of all agents, slowest last execution first. */
+  public List<AgentProfile> getProfiles() {
+    return profiles.values().stream()
+        .map(AgentProfileRecorder::snapshot)
+        .sorted(Comparator.comparingLong(AgentProfile::getLastExecutionDurationMs).reversed())
+        .collect(Collectors.toList());
+  }
+
+  private AgentProfileRecorder recorder(Agent agent) {
+    return profiles.computeIfAbsent(
+        agent.getProviderName() + "/" + agent.getAgentType(),
+        key -> new AgentProfileRecorder(agent.getProviderName(), agent.getAgentType()));
+  }
+
+  @Value
+  public static class AgentProfile {
+    String provider;
+    String agentType;
+    long executions;
+    long failures;
+    long lastExecutionDurationMs;
+    boolean lastExecutionSucceeded;
+    Map<String, PhaseProfile> phases;
+  }
+
+  @Value
+  public static class PhaseProfile {
+    long count;
+    long lastElapsedMs;
+    long maxElapsedMs;
+    long totalElapsedMs;
+    long lastItemCount;
+    long lastBytesWritten;
+    long totalBytesWritten;
+  }
+
+  private static class AgentProfileRecorder {
+    private final String provider;
+    private final String agentType;
+    private final Map<ExecutionPhase, PhaseProfile> phases = new EnumMap<>(ExecutionPhase.class);
+    private long executions;
+    private long failures;
+    private long lastExecutionDurationMs;
+    private boolean lastExecutionSucceeded;
+
+    AgentProfileRecorder(String provider, String agentType) {
+      this.provider = provider;
+      this.agentType = agentType;
+    }
+
+    synchronized void executionFinished(long elapsedMs, boolean succeeded) {
+      executions++;
+      if (!succeeded) {
+        failures++;
+      }
+      lastExecutionDurationMs = elapsedMs;
+      lastExecutionSucceeded = succeeded;
+    }
+
+    synchronized void phaseCompleted(
+        ExecutionPhase phase, long elapsedMs, long itemCount, long bytesWritten) {
+      PhaseProfile previous = phases.getOrDefault(phase, new PhaseProfile(0, 0, 0, 0, 0, 0, 0));
+      phases.put(
+          phase,
+          new PhaseProfile(
+              previous.getCount() + 1,
+              elapsedMs,
+              Math.max(previous.getMaxElapsedMs(), elapsedMs),
+              previous.getTotalElapsedMs() + elapsedMs,
+              itemCount,
+              bytesWritten,
+              previous.getTotalBytesWritten() + bytesWritten));
+    }
+
+    synchronized AgentProfile snapshot() {
+      Map<String, PhaseProfile> phaseProfiles = new LinkedHashMap<>();
+      phases.forEach((phase, profile) -> phaseProfiles.put(phase.getPhaseName(), profile));
+      return new AgentProfile(
+          provider,
+          agentType,
+          executions,
+          failures,
+          lastExecutionDurationMs,
+          lastExecutionSucceeded,
+          phaseProfiles);
+    }
+  }
+}
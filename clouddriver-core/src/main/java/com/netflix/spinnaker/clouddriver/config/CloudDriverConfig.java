@@ -32,6 +32,8 @@ import com.netflix.spinnaker.clouddriver.cache.CacheConfig;
 import com.netflix.spinnaker.clouddriver.cache.NoopOnDemandCacheUpdater;
 import com.netflix.spinnaker.clouddriver.cache.OnDemandCacheUpdater;
 import com.netflix.spinnaker.clouddriver.core.CloudProvider;
+import com.netflix.spinnaker.clouddriver.core.Front50ConfigurationProperties;
+import com.netflix.spinnaker.clouddriver.core.Front50MetadataCache;
 import com.netflix.spinnaker.clouddriver.core.NoopAtomicOperationConverter;
 import com.netflix.spinnaker.clouddriver.core.NoopCloudProvider;
 import com.netflix.spinnaker.clouddriver.core.ProjectClustersService;
@@ -115,6 +117,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -347,11 +350,21 @@ class CloudDriverConfig {
   }
 
   @Bean
-  ProjectClustersService projectClustersService(
+  @ConditionalOnProperty(name = "services.front50.enabled", matchIfMissing = true)
+  Front50MetadataCache front50MetadataCache(
       Front50Service front50Service,
+      Registry registry,
+      Front50ConfigurationProperties front50ConfigurationProperties) {
+    return new Front50MetadataCache(
+        front50Service, registry, front50ConfigurationProperties.getMetadataCache());
+  }
+
+  @Bean
+  ProjectClustersService projectClustersService(
+      Front50MetadataCache front50MetadataCache,
       ObjectMapper objectMapper,
       Provider<List<ClusterProvider>> clusterProviders) {
-    return new ProjectClustersService(front50Service, objectMapper, clusterProviders);
+    return new ProjectClustersService(front50MetadataCache, objectMapper, clusterProviders);
   }
 
   @Bean
@@ -106,7 +106,6 @@ class DeployConfiguration {
       AccountCredentialsRepository accountCredentialsRepository,
       Optional<SagaRepository> sagaRepository,
       Registry registry,
-      ObjectMapper objectMapper,
       ExceptionMessageDecorator exceptionMessageDecorator) {
     return new OperationsService(
         atomicOperationsRegistry,
@@ -116,7 +115,6 @@ class DeployConfiguration {
         accountCredentialsRepository,
         sagaRepository,
         registry,
-        objectMapper,
         exceptionMessageDecorator);
   }
 }
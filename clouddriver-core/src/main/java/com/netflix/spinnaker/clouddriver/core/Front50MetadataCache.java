@@ -0,0 +1,330 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.core;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.netflix.spectator.api.Id;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spinnaker.clouddriver.core.services.Front50Service;
+import com.netflix.spinnaker.kork.retrofit.exceptions.SpinnakerHttpException;
+import com.netflix.spinnaker.security.AuthenticatedRequest;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Application and project attributes from Front50, shared by everything in clouddriver that reads
+ * them.
+ *
+ * <p>Attributes are used for {@code ttlMs} after they have been loaded, and reloaded in the
+ * background once they are older than {@code refreshAfterMs}. The attributes of all applications
+ * are loaded at once every {@code warmUpIntervalMs}, so that most applications never need a
+ * request of their own; as long as {@code ttlMs} is longer than {@code warmUpIntervalMs}, they
+ * never expire between warm-ups.
+ *
+ * <p>Any other load is made on the caller's thread, with the caller's credentials, and shared with
+ * concurrent lookups of the same application or project. Attributes are shared by all callers once
+ * loaded, just like those of the warm-up, so a caller may see the attributes of an application it
+ * could not read itself. Failures are never cached. A caller that waited on another caller's load
+ * for more than {@code loadTimeoutMs}, or whose shared load was forbidden (403), loads the
+ * attributes itself without caching them, so that it is never given less access than its own.
+ *
+ * <p>When the cache is disabled every lookup is a request to Front50.
+ *
+ * <p>The {@code front50.metadataCache.requests} counter records every lookup by type and result:
+ * {@code hit} and {@code shared} lookups are the requests to Front50 that have been saved.
+ */
+public class Front50MetadataCache {
+  private static final Logger log = LoggerFactory.getLogger(Front50MetadataCache.class);
+
+  private final Front50Service front50Service;
+  private final Registry registry;
+  private final Front50ConfigurationProperties.MetadataCache properties;
+  private final Clock clock;
+  private final Id requestsId;
+  private final ExecutorService refreshExecutor;
+
+  private final Metadata applications;
+  private final Metadata projects;
+
+  private volatile Set<String> applicationNames;
+  private volatile long lastWarmUp = 0;
+
+  public Front50MetadataCache(
+      Front50Service front50Service,
+      Registry registry,
+      Front50ConfigurationProperties.MetadataCache properties) {
+    this(front50Service, registry, properties, Clock.systemUTC());
+  }
+
+  Front50MetadataCache(
+      Front50Service front50Service,
+      Registry registry,
+      Front50ConfigurationProperties.MetadataCache properties,
+      Clock clock) {
+    this.front50Service = front50Service;
+    this.registry = registry;
+    this.properties = properties;
+    this.clock = clock;
+    this.requestsId = registry.createId("front50.metadataCache.requests");
+    this.refreshExecutor =
+        Executors.newFixedThreadPool(
+            2,
+            new ThreadFactoryBuilder()
+                .setNameFormat(Front50MetadataCache.class.getSimpleName() + "-%d")
+                .setDaemon(true)
+                .build());
+    this.applications = new Metadata("application", front50Service::getApplication);
+    this.projects = new Metadata("project", front50Service::getProject);
+  }
+
+  public boolean isEnabled() {
+    return properties.isEnabled();
+  }
+
+  /**
+   * @return the attributes of the application, as returned by {@link
+   *     Front50Service#getApplication(String)}
+   */
+  @Nullable
+  public Map getApplication(String name) {
+    return applications.get(name);
+  }
+
+  /**
+   * @return the attributes of the project, as returned by {@link Front50Service#getProject(String)}
+   */
+  @Nullable
+  public Map getProject(String name) {
+    return projects.get(name);
+  }
+
+  /**
+   * @return the names of all applications known to Front50, as of the last warm-up
+   */
+  public Set<String> getApplicationNames() {
+    Set<String> applicationNames = this.applicationNames;
+    if (!isEnabled()
+        || applicationNames == null
+        || clock.millis() - lastWarmUp >= properties.getWarmUpIntervalMs()) {
+      return warmUp();
+    }
+    record("applications", "hit");
+    return applicationNames;
+  }
+
+  /** Loads the attributes of all applications at once. */
+  @Scheduled(fixedDelayString = "${services.front50.metadata-cache.warm-up-interval-ms:300000}")
+  public void scheduledWarmUp() {
+    if (!isEnabled()) {
+      return;
+    }
+    try {
+      warmUp();
+    } catch (Exception e) {
+      log.warn("Failed to load the attributes of all applications from Front50", e);
+    }
+  }
+
+  private synchronized Set<String> warmUp() {
+    if (isEnabled()
+        && applicationNames != null
+        && clock.millis() - lastWarmUp < properties.getWarmUpIntervalMs()) {
+      // another thread has just warmed up the cache
+      record("applications", "shared");
+      return applicationNames;
+    }
+
+    record("applications", "load");
+    long startTime = clock.millis();
+    List<Map<String, Object>> allApplications =
+        AuthenticatedRequest.allowAnonymous(
+            front50Service::getAllApplicationAttributesUnrestricted);
+    Set<String> names =
+        allApplications.stream()
+            .map(application -> (String) application.get("name"))
+            .filter(name -> name != null)
+            .collect(Collectors.toUnmodifiableSet());
+
+    if (isEnabled()) {
+      Map<String, Map> attributesByName = new HashMap<>();
+      for (Map<String, Object> application : allApplications) {
+        if (application.get("name") != null) {
+          attributesByName.put((String) application.get("name"), application);
+        }
+      }
+      applications.putAll(attributesByName, startTime);
+      applicationNames = names;
+      lastWarmUp = startTime;
+      log.debug(
+          "Loaded the attributes of {} applications in {}ms",
+          names.size(),
+          clock.millis() - startTime);
+    }
+    return names;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    refreshExecutor.shutdownNow();
+  }
+
+  private static boolean isForbidden(Throwable e) {
+    return e instanceof SpinnakerHttpException
+        && ((SpinnakerHttpException) e).getResponseCode() == 403;
+  }
+
+  private void record(String type, String result) {
+    registry.counter(requestsId.withTags("type", type, "result", result)).increment();
+  }
+
+  private static final class Entry {
+    private final Map value;
+    private final long loadedAt;
+
+    Entry(Map value, long loadedAt) {
+      this.value = value;
+      this.loadedAt = loadedAt;
+    }
+  }
+
+  /** The cached attributes of one type of Front50 object, by case-insensitive name. */
+  private final class Metadata {
+    private final String type;
+    private final Function<String, Map> loader;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Map>> loads = new ConcurrentHashMap<>();
+
+    Metadata(String type, Function<String, Map> loader) {
+      this.type = type;
+      this.loader = loader;
+    }
+
+    Map get(String name) {
+      if (!isEnabled()) {
+        record(type, "load");
+        return loader.apply(name);
+      }
+
+      String key = name.toLowerCase(Locale.ROOT);
+      Entry entry = entries.get(key);
+      long age = entry == null ? Long.MAX_VALUE : clock.millis() - entry.loadedAt;
+      if (age < properties.getTtlMs()) {
+        record(type, "hit");
+        if (age >= properties.getRefreshAfterMs()) {
+          refresh(key, name);
+        }
+        return entry.value;
+      }
+
+      CompletableFuture<Map> load = new CompletableFuture<>();
+      CompletableFuture<Map> existing = loads.putIfAbsent(key, load);
+      if (existing == null) {
+        return load(key, name, load);
+      }
+
+      record(type, "shared");
+      try {
+        return existing.get(properties.getLoadTimeoutMs(), TimeUnit.MILLISECONDS);
+      } catch (TimeoutException e) {
+        log.warn("Timed out waiting for the attributes of {} {}, loading them again", type, name);
+      } catch (ExecutionException e) {
+        if (!isForbidden(e.getCause())) {
+          if (e.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) e.getCause();
+          }
+          throw new IllegalStateException(e.getCause());
+        }
+        // the other caller may have had less access to the attributes than this one
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      }
+
+      // not cached, as it is not shared with the callers of the failed load
+      record(type, "load");
+      return loader.apply(name);
+    }
+
+    /** Reloads the attributes in the background, with the caller's credentials. */
+    private void refresh(String key, String name) {
+      CompletableFuture<Map> refresh = new CompletableFuture<>();
+      if (loads.putIfAbsent(key, refresh) != null) {
+        return;
+      }
+
+      Callable<Map> load = AuthenticatedRequest.propagate(() -> load(key, name, refresh));
+      try {
+        refreshExecutor.execute(
+            () -> {
+              try {
+                load.call();
+              } catch (Exception e) {
+                log.warn("Failed to refresh the attributes of {} {}", type, name, e);
+              }
+            });
+      } catch (RejectedExecutionException e) {
+        loads.remove(key, refresh);
+        refresh.completeExceptionally(e);
+      }
+    }
+
+    /**
+     * Loads the attributes on the current thread, into a load that has already been added to
+     * {@code loads}.
+     */
+    private Map load(String key, String name, CompletableFuture<Map> load) {
+      record(type, "load");
+      try {
+        long loadedAt = clock.millis();
+        Map value = loader.apply(name);
+        entries.put(key, new Entry(value, loadedAt));
+        load.complete(value);
+        return value;
+      } catch (RuntimeException e) {
+        load.completeExceptionally(e);
+        throw e;
+      } finally {
+        loads.remove(key, load);
+      }
+    }
+
+    void putAll(Map<String, Map> attributesByName, long loadedAt) {
+      attributesByName.forEach(
+          (name, value) -> entries.put(name.toLowerCase(Locale.ROOT), new Entry(value, loadedAt)));
+    }
+  }
+}
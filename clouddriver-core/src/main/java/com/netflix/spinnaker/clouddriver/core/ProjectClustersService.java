@@ -19,7 +19,6 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.netflix.frigga.Names;
-import com.netflix.spinnaker.clouddriver.core.services.Front50Service;
 import com.netflix.spinnaker.clouddriver.model.Cluster;
 import com.netflix.spinnaker.clouddriver.model.ClusterProvider;
 import com.netflix.spinnaker.clouddriver.model.ServerGroup;
@@ -35,15 +34,15 @@ public class ProjectClustersService {
 
   private static final Logger log = LoggerFactory.getLogger(ProjectClustersService.class);
 
-  private final Front50Service front50Service;
+  private final Front50MetadataCache front50MetadataCache;
   private final ObjectMapper objectMapper;
   private final Provider<List<ClusterProvider>> clusterProviders;
 
   public ProjectClustersService(
-      Front50Service front50Service,
+      Front50MetadataCache front50MetadataCache,
       ObjectMapper objectMapper,
       Provider<List<ClusterProvider>> clusterProviders) {
-    this.front50Service = front50Service;
+    this.front50MetadataCache = front50MetadataCache;
     this.objectMapper =
         objectMapper.copy().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
     this.clusterProviders = clusterProviders;
@@ -54,7 +53,7 @@ public class ProjectClustersService {
 
     for (String projectName : projectNames) {
       try {
-        Map projectMap = front50Service.getProject(projectName);
+        Map projectMap = front50MetadataCache.getProject(projectName);
 
         Project project;
         try {
@@ -80,7 +79,7 @@ public class ProjectClustersService {
   }
 
   public List<ClusterModel> getProjectClusters(String projectName) {
-    Map projectData = front50Service.getProject(projectName);
+    Map projectData = front50MetadataCache.getProject(projectName);
 
     if (projectData == null) {
       return null;
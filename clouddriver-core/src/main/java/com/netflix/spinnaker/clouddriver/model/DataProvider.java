@@ -16,8 +16,11 @@
 
 package com.netflix.spinnaker.clouddriver.model;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Map;
+import javax.annotation.Nullable;
 
 public interface DataProvider {
   enum IdentifierType {
@@ -41,6 +44,18 @@ public interface DataProvider {
    */
   void getAdhocData(String groupId, String bucketId, String objectId, OutputStream outputStream);
 
+  /**
+   * Open a specified object from a bucket without reading it, so that its contents can be copied
+   * straight from the source to the response.
+   *
+   * <p>Implementations should verify access to the object when opening it, so that a denied request
+   * fails before any of the response has been written. The default implementation defers to {@link
+   * #getAdhocData(String, String, String, OutputStream)} when the object is written.
+   */
+  default AdhocObject openAdhocData(String groupId, String bucketId, String objectId) {
+    return outputStream -> getAdhocData(groupId, bucketId, objectId, outputStream);
+  }
+
   /**
    * @return true if this identifier is supported by the data provider
    */
@@ -50,4 +65,34 @@ public interface DataProvider {
    * @return the account name corresponding to the provided identifier
    */
   String getAccountForIdentifier(IdentifierType identifierType, String id);
+
+  /** An opened ad-hoc object whose contents have not been read yet. */
+  interface AdhocObject extends Closeable {
+    /** Copies the contents of the object, as stored, to the output stream. */
+    void writeTo(OutputStream outputStream) throws IOException;
+
+    @Nullable
+    default String getContentType() {
+      return null;
+    }
+
+    /**
+     * @return the length of the contents as stored, or -1 if unknown
+     */
+    default long getContentLength() {
+      return -1;
+    }
+
+    /**
+     * @return the encoding the contents are stored with (e.g. gzip), or null if not encoded
+     */
+    @Nullable
+    default String getContentEncoding() {
+      return null;
+    }
+
+    /** Releases the source of the object, whether or not it has been written. */
+    @Override
+    default void close() throws IOException {}
+  }
 }
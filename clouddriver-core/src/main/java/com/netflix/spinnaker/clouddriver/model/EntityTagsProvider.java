@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public interface EntityTagsProvider {
   /**
@@ -44,6 +45,14 @@ public interface EntityTagsProvider {
   /** Fetch EntityTags by {@code id} AND {@code tags}, both must match */
   Optional<EntityTags> get(String id, Map<String, Object> tags);
 
+  /**
+   * Fetch the EntityTags of each of the given {@code ids} that exists, in as few lookups as
+   * possible
+   */
+  default Collection<EntityTags> getAll(Collection<String> ids) {
+    return ids.stream().map(this::get).flatMap(Optional::stream).collect(Collectors.toList());
+  }
+
   /** Index an EntityTags */
   void index(EntityTags entityTags);
 
@@ -15,7 +15,6 @@
  */
 package com.netflix.spinnaker.clouddriver.orchestration;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Splitter;
 import com.netflix.spectator.api.Id;
 import com.netflix.spectator.api.Registry;
@@ -42,6 +41,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -58,6 +58,9 @@ public class OperationsService {
 
   private final Splitter COMMA_SPLITTER = Splitter.on(",");
 
+  /** The description type of each converter, which determines the preprocessors to apply. */
+  private static final Map<Class<?>, Class<?>> DESCRIPTION_TYPES = new ConcurrentHashMap<>();
+
   private final AtomicOperationsRegistry atomicOperationsRegistry;
   private final List<DescriptionAuthorizer> descriptionAuthorizers;
   private final Collection<AllowedAccountsValidator> allowedAccountValidators;
@@ -66,7 +69,6 @@ public class OperationsService {
   private final AccountCredentialsRepository accountCredentialsRepository;
   private final Optional<SagaRepository> sagaRepository;
   private final Registry registry;
-  private final ObjectMapper objectMapper;
   private final ExceptionMessageDecorator exceptionMessageDecorator;
 
   private final Id validationErrorsCounterId;
@@ -80,7 +82,6 @@ public class OperationsService {
       AccountCredentialsRepository accountCredentialsRepository,
       Optional<SagaRepository> sagaRepository,
       Registry registry,
-      ObjectMapper objectMapper,
       ExceptionMessageDecorator exceptionMessageDecorator) {
     this.atomicOperationsRegistry = atomicOperationsRegistry;
     this.descriptionAuthorizers = descriptionAuthorizers;
@@ -90,7 +91,6 @@ public class OperationsService {
     this.accountCredentialsRepository = accountCredentialsRepository;
     this.sagaRepository = sagaRepository;
     this.registry = registry;
-    this.objectMapper = objectMapper;
     this.exceptionMessageDecorator = exceptionMessageDecorator;
 
     validationErrorsCounterId = registry.createId("validationErrors");
@@ -135,11 +135,11 @@ public class OperationsService {
                         e -> {
                           final String descriptionName = e.getKey();
                           final Map<String, Object> descriptionInput = e.getValue();
-                          final OperationInput operationInput =
-                              objectMapper.convertValue(descriptionInput, OperationInput.class);
+                          // only the cloud provider is needed from the raw input, which can be
+                          // too large (e.g. manifests) to convert just for that
                           final String provider =
                               Optional.ofNullable(cloudProvider)
-                                  .orElse(operationInput.cloudProvider);
+                                  .orElse((String) descriptionInput.get("cloudProvider"));
 
                           AtomicOperationConverter converter =
                               atomicOperationsRegistry.getAtomicOperationConverter(
@@ -196,11 +196,10 @@ public class OperationsService {
                             descriptionAuthorizer.authorize(description, errors);
                           }
 
-                          // TODO(rz): This is so bad. We convert the description input twice (once
-                          // above) and then once inside of this convertOperation procedure. This
-                          // means that we do a bunch of serde work twice without needing to.
+                          // the operation is created from the description that has been
+                          // validated and authorized, rather than converting the input again
                           AtomicOperation atomicOperation =
-                              converter.convertOperation(processedInput);
+                              converter.convertOperation(processedInput, description);
                           if (atomicOperation == null) {
                             throw new AtomicOperationNotFoundException(descriptionName);
                           }
@@ -321,15 +320,9 @@ public class OperationsService {
       AtomicOperationConverter converter,
       Map<String, Object> descriptionInput) {
 
-    Method convertDescriptionMethod;
-    try {
-      convertDescriptionMethod = converter.getClass().getMethod("convertDescription", Map.class);
-    } catch (NoSuchMethodException e) {
-      throw new SystemException("Could not find convertDescription method on converter", e);
-    }
-
     Class<?> convertDescriptionReturnType =
-        ResolvableType.forMethodReturnType(convertDescriptionMethod).getRawClass();
+        DESCRIPTION_TYPES.computeIfAbsent(
+            converter.getClass(), OperationsService::getConvertDescriptionReturnType);
 
     for (AtomicOperationDescriptionPreProcessor preProcessor : descriptionPreProcessors) {
       if (preProcessor.supports(convertDescriptionReturnType)) {
@@ -340,26 +333,23 @@ public class OperationsService {
     return descriptionInput;
   }
 
+  private static Class<?> getConvertDescriptionReturnType(Class<?> converterClass) {
+    Method convertDescriptionMethod;
+    try {
+      convertDescriptionMethod = converterClass.getMethod("convertDescription", Map.class);
+    } catch (NoSuchMethodException e) {
+      throw new SystemException("Could not find convertDescription method on converter", e);
+    }
+
+    return ResolvableType.forMethodReturnType(convertDescriptionMethod).getRawClass();
+  }
+
   @Value
   public static class AtomicOperationBindingResult {
     private AtomicOperation atomicOperation;
     private Errors errors;
   }
 
-  @Data
-  private static class OperationInput {
-    @Nullable private String credentials;
-    @Nullable private String accountName;
-    @Nullable private String account;
-    @Nullable private String cloudProvider;
-
-    @Nullable
-    public String computeAccountName() {
-      return Optional.ofNullable(credentials)
-          .orElse(Optional.ofNullable(accountName).orElse(account));
-    }
-  }
-
   @Data
   @AllArgsConstructor
   private static class SagaAndSnapshot {
@@ -21,7 +21,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
-import com.netflix.spinnaker.clouddriver.core.services.Front50Service;
+import com.netflix.spinnaker.clouddriver.core.Front50MetadataCache;
 import com.netflix.spinnaker.clouddriver.event.CompositeSpinnakerEvent;
 import com.netflix.spinnaker.clouddriver.event.EventMetadata;
 import com.netflix.spinnaker.clouddriver.event.SpinnakerEvent;
@@ -83,12 +83,12 @@ public class LoadFront50App implements SagaAction<LoadFront50App.LoadFront50AppC
 
   private static final Logger log = LoggerFactory.getLogger(LoadFront50App.class);
 
-  private final Front50Service front50Service;
+  private final Front50MetadataCache front50MetadataCache;
   private final ObjectMapper objectMapper;
 
   @Autowired
-  public LoadFront50App(Front50Service front50Service, ObjectMapper objectMapper) {
-    this.front50Service = front50Service;
+  public LoadFront50App(Front50MetadataCache front50MetadataCache, ObjectMapper objectMapper) {
+    this.front50MetadataCache = front50MetadataCache;
     this.objectMapper = objectMapper;
   }
 
@@ -109,7 +109,7 @@ public class LoadFront50App implements SagaAction<LoadFront50App.LoadFront50AppC
   @Override
   public Result apply(@Nonnull LoadFront50AppCommand command, @Nonnull Saga saga) {
     try {
-      Map response = front50Service.getApplication(command.getAppName());
+      Map response = front50MetadataCache.getApplication(command.getAppName());
       try {
         return new Result(
             Optional.ofNullable(response)
@@ -22,7 +22,7 @@ import com.google.common.collect.ImmutableMap;
 import com.netflix.spectator.api.Id;
 import com.netflix.spectator.api.Registry;
 import com.netflix.spectator.impl.Preconditions;
-import com.netflix.spinnaker.clouddriver.core.services.Front50Service;
+import com.netflix.spinnaker.clouddriver.core.Front50MetadataCache;
 import com.netflix.spinnaker.clouddriver.exceptions.TrafficGuardException;
 import com.netflix.spinnaker.clouddriver.model.Cluster;
 import com.netflix.spinnaker.clouddriver.model.ClusterProvider;
@@ -52,7 +52,7 @@ public class TrafficGuard {
   private final Logger log = LoggerFactory.getLogger(getClass());
 
   private final List<ClusterProvider<?>> clusterProviders;
-  private final Front50Service front50Service;
+  private final Front50MetadataCache front50MetadataCache;
   private final Registry registry;
   private final DynamicConfigService dynamicConfigService;
 
@@ -61,11 +61,11 @@ public class TrafficGuard {
   @Autowired
   public TrafficGuard(
       List<ClusterProvider<?>> clusterProviders,
-      Optional<Front50Service> front50Service,
+      Optional<Front50MetadataCache> front50MetadataCache,
       Registry registry,
       DynamicConfigService dynamicConfigService) {
     this.clusterProviders = clusterProviders;
-    this.front50Service = front50Service.orElse(null);
+    this.front50MetadataCache = front50MetadataCache.orElse(null);
     this.registry = registry;
     this.dynamicConfigService = dynamicConfigService;
     this.savesId = registry.createId("trafficGuard.saves");
@@ -338,14 +338,14 @@ public class TrafficGuard {
   }
 
   public boolean hasDisableLock(Moniker clusterMoniker, String account, String location) {
-    if (front50Service == null) {
+    if (front50MetadataCache == null) {
       log.warn(
           "Front50 has not been configured, no way to check disable lock. Fix this by setting front50.enabled: true");
       return false;
     }
     Map application;
     try {
-      application = front50Service.getApplication(clusterMoniker.getApp());
+      application = front50MetadataCache.getApplication(clusterMoniker.getApp());
     } catch (SpinnakerHttpException e) {
       // ignore an unknown (404) or unauthorized (403) application
       if (Arrays.asList(404, 403).contains(e.getResponseCode())) {
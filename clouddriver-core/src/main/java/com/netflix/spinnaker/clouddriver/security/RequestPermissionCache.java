@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.security;
+
+import com.netflix.spectator.api.Id;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spinnaker.fiat.shared.FiatPermissionEvaluator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import lombok.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Memoizes {@link FiatPermissionEvaluator#hasPermission(Authentication, java.io.Serializable,
+ * String, Object)} for the duration of the current web request.
+ *
+ * <p>Filtering a large list checks the same handful of accounts and applications for every item in
+ * it; within a request each distinct (principal, resource type, resource name, authorization) is
+ * only evaluated once. Outside of a web request every check is evaluated.
+ *
+ * <p>Reports the number of evaluations and cache hits by resource type as {@code
+ * permissions.request.evaluations} and {@code permissions.request.hits}.
+ */
+public class RequestPermissionCache {
+  private static final String ATTRIBUTE = RequestPermissionCache.class.getName() + ".permissions";
+
+  private final FiatPermissionEvaluator permissionEvaluator;
+  private final Registry registry;
+  private final Id evaluationsId;
+  private final Id hitsId;
+
+  public RequestPermissionCache(FiatPermissionEvaluator permissionEvaluator, Registry registry) {
+    this.permissionEvaluator = permissionEvaluator;
+    this.registry = registry;
+    this.evaluationsId = registry.createId("permissions.request.evaluations");
+    this.hitsId = registry.createId("permissions.request.hits");
+  }
+
+  public boolean hasPermission(
+      @Nullable Authentication authentication,
+      @Nullable String resourceName,
+      String resourceType,
+      String authorization) {
+    Map<Key, Boolean> permissions = requestPermissions();
+    if (permissions == null) {
+      return evaluate(authentication, resourceName, resourceType, authorization);
+    }
+
+    Key key =
+        new Key(
+            authentication == null ? null : authentication.getName(),
+            resourceType,
+            resourceName,
+            authorization);
+    Boolean permitted = permissions.get(key);
+    if (permitted != null) {
+      registry.counter(hitsId.withTag("resourceType", resourceType)).increment();
+      return permitted;
+    }
+
+    permitted = evaluate(authentication, resourceName, resourceType, authorization);
+    permissions.put(key, permitted);
+    return permitted;
+  }
+
+  private boolean evaluate(
+      @Nullable Authentication authentication,
+      @Nullable String resourceName,
+      String resourceType,
+      String authorization) {
+    registry.counter(evaluationsId.withTag("resourceType", resourceType)).increment();
+    return permissionEvaluator.hasPermission(
+        authentication, resourceName, resourceType, authorization);
+  }
+
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private static Map<Key, Boolean> requestPermissions() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes == null) {
+      return null;
+    }
+    Map<Key, Boolean> permissions =
+        (Map<Key, Boolean>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    if (permissions == null) {
+      permissions = new ConcurrentHashMap<>();
+      attributes.setAttribute(ATTRIBUTE, permissions, RequestAttributes.SCOPE_REQUEST);
+    }
+    return permissions;
+  }
+
+  @Value
+  private static class Key {
+    @Nullable String principal;
+    String resourceType;
+    @Nullable String resourceName;
+    String authorization;
+  }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.core
+
+import com.netflix.spectator.api.DefaultRegistry
+import com.netflix.spinnaker.clouddriver.core.services.Front50Service
+import com.netflix.spinnaker.kork.common.Header
+import com.netflix.spinnaker.kork.retrofit.exceptions.SpinnakerHttpException
+import com.netflix.spinnaker.security.AuthenticatedRequest
+import org.slf4j.MDC
+import retrofit.RetrofitError
+import retrofit.client.Response
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.Clock
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class Front50MetadataCacheSpec extends Specification {
+
+  def front50Service = Mock(Front50Service)
+  def registry = new DefaultRegistry()
+  def clock = Stub(Clock) {
+    millis() >> { now }
+  }
+  def properties = new Front50ConfigurationProperties.MetadataCache(enabled: true)
+  long now = 0
+
+  @Subject
+  def metadataCache = new Front50MetadataCache(front50Service, registry, properties, clock)
+
+  def application = [name: "APP", email: "app@example.com"]
+
+  def cleanup() {
+    metadataCache.shutdown()
+  }
+
+  def "should load every application when disabled"() {
+    given:
+    properties.enabled = false
+
+    when:
+    metadataCache.getApplication("app")
+    metadataCache.getApplication("app")
+
+    then:
+    2 * front50Service.getApplication("app") >> application
+  }
+
+  def "should share applications until they expire"() {
+    when:
+    def first = metadataCache.getApplication("app")
+    def second = metadataCache.getApplication("APP")
+
+    then:
+    1 * front50Service.getApplication("app") >> application
+    first == application
+    second == application
+    requests("application", "hit") == 1
+
+    when:
+    now = properties.ttlMs
+    metadataCache.getApplication("app")
+
+    then:
+    1 * front50Service.getApplication("app") >> application
+  }
+
+  def "should not share failures"() {
+    when:
+    metadataCache.getApplication("app")
+
+    then:
+    1 * front50Service.getApplication("app") >> { throw new IllegalStateException("front50 is down") }
+    thrown(IllegalStateException)
+
+    when:
+    def result = metadataCache.getApplication("app")
+
+    then:
+    1 * front50Service.getApplication("app") >> application
+    result == application
+  }
+
+  def "should share concurrent loads of the same project"() {
+    given:
+    def loading = new CountDownLatch(1)
+    def release = new CountDownLatch(1)
+    def executor = Executors.newFixedThreadPool(2)
+
+    when:
+    def first = executor.submit({ metadataCache.getProject("project") } as Callable)
+    loading.await()
+    def second = executor.submit({ metadataCache.getProject("project") } as Callable)
+    while (requests("project", "shared") == 0) {
+      Thread.sleep(10)
+    }
+    release.countDown()
+
+    then:
+    1 * front50Service.getProject("project") >> {
+      loading.countDown()
+      release.await()
+      return [name: "project"]
+    }
+    first.get(10, TimeUnit.SECONDS) == [name: "project"]
+    second.get(10, TimeUnit.SECONDS) == [name: "project"]
+
+    cleanup:
+    executor.shutdownNow()
+  }
+
+  def "should warm up from the list of applications"() {
+    when:
+    def names = metadataCache.applicationNames
+    def result = metadataCache.getApplication("app")
+    def cachedNames = metadataCache.applicationNames
+
+    then:
+    1 * front50Service.getAllApplicationAttributesUnrestricted() >> [application, [name: "OTHER"]]
+    0 * front50Service.getApplication(_)
+    names == ["APP", "OTHER"] as Set
+    cachedNames == names
+    result == application
+  }
+
+  def "should load applications with the caller's credentials"() {
+    given:
+    String user = null
+
+    when:
+    MDC.put(Header.USER.header, "user@example.com")
+    def result = metadataCache.getApplication("app")
+
+    then:
+    1 * front50Service.getApplication("app") >> {
+      user = AuthenticatedRequest.spinnakerUser.orElse(null)
+      return application
+    }
+    result == application
+    user == "user@example.com"
+
+    cleanup:
+    MDC.remove(Header.USER.header)
+  }
+
+  def "should rethrow a 403 to the caller without sharing it"() {
+    when:
+    metadataCache.getApplication("app")
+
+    then:
+    1 * front50Service.getApplication("app") >> { throw httpException(403) }
+    def e = thrown(SpinnakerHttpException)
+    e.responseCode == 403
+
+    when:
+    def result = metadataCache.getApplication("app")
+
+    then:
+    1 * front50Service.getApplication("app") >> application
+    result == application
+  }
+
+  def "should refresh an application in the background once"() {
+    given:
+    def refreshing = new CountDownLatch(1)
+    def release = new CountDownLatch(1)
+
+    when:
+    metadataCache.getApplication("app")
+    now = properties.refreshAfterMs
+    def first = metadataCache.getApplication("app")
+    refreshing.await()
+    def second = metadataCache.getApplication("app")
+    release.countDown()
+
+    then:
+    1 * front50Service.getApplication("app") >> application
+    1 * front50Service.getApplication("app") >> {
+      refreshing.countDown()
+      release.await()
+      return application
+    }
+    first == application
+    second == application
+    requests("application", "load") == 2
+    requests("application", "hit") == 2
+  }
+
+  def "should load an application again when a shared load is forbidden"() {
+    given:
+    def loading = new CountDownLatch(1)
+    def release = new CountDownLatch(1)
+    def executor = Executors.newFixedThreadPool(2)
+
+    when:
+    def first = executor.submit({ metadataCache.getApplication("app") } as Callable)
+    loading.await()
+    def second = executor.submit({ metadataCache.getApplication("app") } as Callable)
+    while (requests("application", "shared") == 0) {
+      Thread.sleep(10)
+    }
+    release.countDown()
+    def failure = null
+    try {
+      first.get(10, TimeUnit.SECONDS)
+    } catch (ExecutionException e) {
+      failure = e.cause
+    }
+
+    then:
+    1 * front50Service.getApplication("app") >> {
+      loading.countDown()
+      release.await()
+      throw httpException(403)
+    }
+    1 * front50Service.getApplication("app") >> application
+    failure instanceof SpinnakerHttpException
+    second.get(10, TimeUnit.SECONDS) == application
+
+    when: "the attributes loaded by the second caller are not shared"
+    metadataCache.getApplication("app")
+
+    then:
+    1 * front50Service.getApplication("app") >> application
+
+    cleanup:
+    executor.shutdownNow()
+  }
+
+  def "should load an application again when a shared load takes too long"() {
+    given:
+    properties.loadTimeoutMs = 100
+    def loading = new CountDownLatch(1)
+    def release = new CountDownLatch(1)
+    def executor = Executors.newFixedThreadPool(2)
+
+    when:
+    def first = executor.submit({ metadataCache.getApplication("app") } as Callable)
+    loading.await()
+    def second = metadataCache.getApplication("app")
+    release.countDown()
+
+    then:
+    1 * front50Service.getApplication("app") >> {
+      loading.countDown()
+      release.await()
+      return application
+    }
+    1 * front50Service.getApplication("app") >> [name: "APP"]
+    second == [name: "APP"]
+    first.get(10, TimeUnit.SECONDS) == application
+
+    cleanup:
+    executor.shutdownNow()
+  }
+
+  def "should keep using an application without refreshing it once shut down"() {
+    when:
+    metadataCache.getApplication("app")
+
+    then:
+    1 * front50Service.getApplication("app") >> application
+
+    when:
+    metadataCache.shutdown()
+    now = properties.refreshAfterMs
+    def result = metadataCache.getApplication("app")
+
+    then:
+    0 * front50Service.getApplication(_)
+    result == application
+  }
+
+  private static SpinnakerHttpException httpException(int status) {
+    return new SpinnakerHttpException(
+      new RetrofitError(null, null, new Response("http://front50", status, "reason", [], null), null, null, null, null))
+  }
+
+  private long requests(String type, String result) {
+    return registry.counter("front50.metadataCache.requests", "type", type, "result", result).count()
+  }
+}
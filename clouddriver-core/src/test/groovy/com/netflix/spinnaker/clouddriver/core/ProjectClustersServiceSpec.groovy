@@ -16,6 +16,7 @@
 package com.netflix.spinnaker.clouddriver.core
 
 import com.fasterxml.jackson.databind.ObjectMapper
+import com.netflix.spectator.api.NoopRegistry
 import com.netflix.spinnaker.clouddriver.core.services.Front50Service
 import com.netflix.spinnaker.clouddriver.model.Cluster
 import com.netflix.spinnaker.clouddriver.model.ClusterProvider
@@ -56,7 +57,7 @@ class ProjectClustersServiceSpec extends Specification {
     clusterProvider = Mock()
 
     subject = new ProjectClustersService(
-      front50Service,
+      new Front50MetadataCache(front50Service, new NoopRegistry(), new Front50ConfigurationProperties.MetadataCache()),
       new ObjectMapper(),
       new Provider<List<ClusterProvider>>() {
         @Override
@@ -47,7 +47,6 @@ class OperationsServiceSpec extends Specification {
     Mock(AccountCredentialsRepository),
     Optional.of(Mock(SagaRepository)),
     new NoopRegistry(),
-    new ObjectMapper(),
     exceptionMessageDecorator
   )
 
@@ -59,6 +58,22 @@ class OperationsServiceSpec extends Specification {
     atomicOperations.flatten()*.getClass() == [Op1, Op2]
   }
 
+  void "operations are created from the description that has been authorized"() {
+    given:
+    OperationDescription authorized = null
+
+    when:
+    def atomicOperations = operationsService.collectAtomicOperations([[desc3: [name: "test"]]])
+
+    then:
+    _ * descriptionAuthorizer.supports(_) >> true
+    1 * descriptionAuthorizer.authorize(_, _) >> { authorized = it[0] }
+    atomicOperations.size() == 1
+    atomicOperations[0] instanceof Op3
+    atomicOperations[0].description.is(authorized)
+    authorized.name == "test"
+  }
+
   @Unroll
   void "should only pre-process inputs of supported description classes"() {
     when:
@@ -118,6 +133,11 @@ class OperationsServiceSpec extends Specification {
     Converter2 desc2() {
       new Converter2()
     }
+
+    @Bean
+    Converter3 desc3() {
+      new Converter3()
+    }
   }
 
   private static class Provider1DeployDescription implements DeployDescription {
@@ -158,6 +178,32 @@ class OperationsServiceSpec extends Specification {
     }
   }
 
+  static class Converter3 implements AtomicOperationConverter {
+    AtomicOperation convertOperation(Map input) {
+      throw new UnsupportedOperationException("the input should only be converted once")
+    }
+
+    AtomicOperation convertOperation(Map input, OperationDescription description) {
+      new Op3(description: description as Description3)
+    }
+
+    Description3 convertDescription(Map input) {
+      return new Description3(name: input.name)
+    }
+  }
+
+  static class Description3 implements OperationDescription {
+    String name
+  }
+
+  static class Op3 implements AtomicOperation {
+    Description3 description
+
+    Object operate(List priorOutputs) {
+      return null
+    }
+  }
+
   static class Op1 implements AtomicOperation {
     Object operate(List priorOutputs) {
       return null
@@ -20,6 +20,8 @@ package com.netflix.spinnaker.clouddriver.safety
 import com.netflix.frigga.Names
 import com.netflix.spectator.api.NoopRegistry
 import com.netflix.spectator.api.Registry
+import com.netflix.spinnaker.clouddriver.core.Front50ConfigurationProperties
+import com.netflix.spinnaker.clouddriver.core.Front50MetadataCache
 import com.netflix.spinnaker.clouddriver.core.services.Front50Service
 import com.netflix.spinnaker.clouddriver.exceptions.TrafficGuardException
 import com.netflix.spinnaker.clouddriver.model.Cluster
@@ -28,9 +30,12 @@ import com.netflix.spinnaker.clouddriver.model.HealthState
 import com.netflix.spinnaker.clouddriver.model.ServerGroup
 import com.netflix.spinnaker.clouddriver.model.SimpleInstance
 import com.netflix.spinnaker.clouddriver.model.SimpleServerGroup
+import com.netflix.spinnaker.kork.common.Header
 import com.netflix.spinnaker.kork.dynamicconfig.DynamicConfigService
 import com.netflix.spinnaker.kork.retrofit.exceptions.SpinnakerHttpException
 import com.netflix.spinnaker.moniker.Moniker
+import com.netflix.spinnaker.security.AuthenticatedRequest
+import org.slf4j.MDC
 import retrofit.RetrofitError
 import retrofit.client.Response
 import spock.lang.Ignore
@@ -39,6 +44,8 @@ import spock.lang.Specification
 import spock.lang.Subject
 import spock.lang.Unroll
 
+import java.time.Clock
+
 class TrafficGuardSpec extends Specification {
 
   ClusterProvider clusterProvider = Mock() {
@@ -58,7 +65,7 @@ class TrafficGuardSpec extends Specification {
   @Subject
   TrafficGuard trafficGuard = new TrafficGuard(
     Collections.singletonList(clusterProvider),
-    Optional.of(front50Service),
+    Optional.of(new Front50MetadataCache(front50Service, registry, new Front50ConfigurationProperties.MetadataCache())),
     registry,
     dynamicConfigService
   )
@@ -470,6 +477,37 @@ class TrafficGuardSpec extends Specification {
     1 * front50Service.getApplication("app") >> application
   }
 
+  void "hasDisableLock should keep honouring the guards of a restricted application once they expire"() {
+    given:
+    long now = 0
+    def properties = new Front50ConfigurationProperties.MetadataCache(enabled: true)
+    def metadataCache = new Front50MetadataCache(front50Service, registry, properties, Stub(Clock) {
+      millis() >> { now }
+    })
+    def trafficGuard = new TrafficGuard([clusterProvider], Optional.of(metadataCache), registry, dynamicConfigService)
+    def restricted = [name: "app", trafficGuards: [[account: "test", location: location]]]
+
+    when:
+    metadataCache.applicationNames
+    now = properties.ttlMs
+    MDC.put(Header.USER.header, "user@example.com")
+    boolean result = trafficGuard.hasDisableLock(new Moniker(app: "app", cluster: "app"), "test", location)
+
+    then:
+    1 * front50Service.getAllApplicationAttributesUnrestricted() >> [restricted]
+    1 * front50Service.getApplication("app") >> {
+      if (AuthenticatedRequest.spinnakerUser.orElse(null) != "user@example.com") {
+        throw new SpinnakerHttpException(new RetrofitError(null, null, new Response("http://stash.com", 403, "test reason", [], null), null, null, null, null))
+      }
+      return restricted
+    }
+    result == true
+
+    cleanup:
+    MDC.remove(Header.USER.header)
+    metadataCache.shutdown()
+  }
+
   @Ignore("verifyInstanceTermination has not been ported yet")
   void "instance termination should fail when last healthy instance in only server group in cluster"() {
     given:
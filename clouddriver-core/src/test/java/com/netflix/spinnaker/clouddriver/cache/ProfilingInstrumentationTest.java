@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.netflix.spinnaker.cats.agent.Agent;
+import com.netflix.spinnaker.cats.agent.ExecutionPhase;
+import com.netflix.spinnaker.clouddriver.cache.ProfilingInstrumentation.AgentProfile;
+import com.netflix.spinnaker.clouddriver.cache.ProfilingInstrumentation.PhaseProfile;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ProfilingInstrumentationTest {
+  private final ProfilingInstrumentation instrumentation = new ProfilingInstrumentation();
+
+  @Test
+  void profilesPhasesOfEachAgent() {
+    Agent agent = agent("test/us-east-1/ClusterCachingAgent");
+
+    instrumentation.executionPhaseCompleted(agent, ExecutionPhase.LOAD_DATA, 300, 10, 0);
+    instrumentation.executionPhaseCompleted(agent, ExecutionPhase.PUT_CACHE_RESULT, 100, 10, 2048);
+    instrumentation.executionCompleted(agent, 400);
+    instrumentation.executionPhaseCompleted(agent, ExecutionPhase.LOAD_DATA, 500, 12, 0);
+    instrumentation.executionPhaseCompleted(agent, ExecutionPhase.PUT_CACHE_RESULT, 50, 12, 1024);
+    instrumentation.executionFailed(agent, new RuntimeException(), 550);
+
+    List<AgentProfile> profiles = instrumentation.getProfiles();
+    assertThat(profiles).hasSize(1);
+    AgentProfile profile = profiles.get(0);
+    assertThat(profile.getAgentType()).isEqualTo("test/us-east-1/ClusterCachingAgent");
+    assertThat(profile.getExecutions()).isEqualTo(2);
+    assertThat(profile.getFailures()).isEqualTo(1);
+    assertThat(profile.getLastExecutionDurationMs()).isEqualTo(550);
+    assertThat(profile.isLastExecutionSucceeded()).isFalse();
+    assertThat(profile.getPhases())
+        .containsEntry("loadData", new PhaseProfile(2, 500, 500, 800, 12, 0, 0))
+        .containsEntry("putCacheResult", new PhaseProfile(2, 50, 100, 150, 12, 1024, 3072));
+  }
+
+  @Test
+  void listsSlowestAgentsFirst() {
+    instrumentation.executionCompleted(agent("fast"), 10);
+    instrumentation.executionCompleted(agent("slow"), 1000);
+
+    assertThat(instrumentation.getProfiles())
+        .extracting(AgentProfile::getAgentType)
+        .containsExactly("slow", "fast");
+  }
+
+  private static Agent agent(String agentType) {
+    Agent agent = mock(Agent.class);
+    when(agent.getAgentType()).thenReturn(agentType);
+    when(agent.getProviderName()).thenReturn("com.netflix.spinnaker.clouddriver.aws.AwsProvider");
+    return agent;
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spinnaker.fiat.shared.FiatPermissionEvaluator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class RequestPermissionCacheTest {
+  private final FiatPermissionEvaluator permissionEvaluator = mock(FiatPermissionEvaluator.class);
+  private final Registry registry = new DefaultRegistry();
+  private final RequestPermissionCache permissionCache =
+      new RequestPermissionCache(permissionEvaluator, registry);
+
+  private final Authentication alice = new TestingAuthenticationToken("alice", null);
+  private final Authentication bob = new TestingAuthenticationToken("bob", null);
+
+  @AfterEach
+  void resetRequest() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void evaluatesEachPermissionOncePerRequest() {
+    given(permissionEvaluator.hasPermission(any(Authentication.class), eq("prod"), any(), any()))
+        .willReturn(true);
+    startRequest();
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(permissionCache.hasPermission(alice, "prod", "ACCOUNT", "READ")).isTrue();
+      assertThat(permissionCache.hasPermission(alice, "test", "ACCOUNT", "READ")).isFalse();
+    }
+
+    verify(permissionEvaluator, times(1)).hasPermission(alice, "prod", "ACCOUNT", "READ");
+    verify(permissionEvaluator, times(1)).hasPermission(alice, "test", "ACCOUNT", "READ");
+    assertThat(evaluations("ACCOUNT")).isEqualTo(2);
+    assertThat(hits("ACCOUNT")).isEqualTo(198);
+  }
+
+  @Test
+  void keysPermissionsByPrincipalTypeAndAuthorization() {
+    startRequest();
+
+    permissionCache.hasPermission(alice, "prod", "ACCOUNT", "READ");
+    permissionCache.hasPermission(bob, "prod", "ACCOUNT", "READ");
+    permissionCache.hasPermission(alice, "prod", "ACCOUNT", "WRITE");
+    permissionCache.hasPermission(alice, "prod", "APPLICATION", "READ");
+
+    assertThat(evaluations("ACCOUNT")).isEqualTo(3);
+    assertThat(evaluations("APPLICATION")).isEqualTo(1);
+    assertThat(hits("ACCOUNT")).isZero();
+  }
+
+  @Test
+  void doesNotShareResultsBetweenRequests() {
+    startRequest();
+    permissionCache.hasPermission(alice, "prod", "ACCOUNT", "READ");
+    startRequest();
+    permissionCache.hasPermission(alice, "prod", "ACCOUNT", "READ");
+
+    verify(permissionEvaluator, times(2)).hasPermission(alice, "prod", "ACCOUNT", "READ");
+  }
+
+  @Test
+  void evaluatesEveryCheckOutsideOfRequest() {
+    permissionCache.hasPermission(alice, "prod", "ACCOUNT", "READ");
+    permissionCache.hasPermission(alice, "prod", "ACCOUNT", "READ");
+
+    verify(permissionEvaluator, times(2)).hasPermission(alice, "prod", "ACCOUNT", "READ");
+    assertThat(hits("ACCOUNT")).isZero();
+  }
+
+  private static void startRequest() {
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+  }
+
+  private long evaluations(String resourceType) {
+    return registry
+        .counter("permissions.request.evaluations", "resourceType", resourceType)
+        .count();
+  }
+
+  private long hits(String resourceType) {
+    return registry.counter("permissions.request.hits", "resourceType", resourceType).count();
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.elasticsearch.model;
+
+import com.netflix.spinnaker.clouddriver.model.EntityTags;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An in-process copy of the entity tags index, indexed by id and by the application and entity id
+ * of their entity ref.
+ *
+ * <p>The cache only answers queries once it has been loaded in full, and until it is cleared.
+ *
+ * <p>Entity tags put and removed in process while a refresh is being fetched are recorded and
+ * applied again over the fetched entity tags, which may have been read before those writes.
+ */
+class ElasticSearchEntityTagsCache {
+  private final Map<String, EntityTags> byId = new HashMap<>();
+  private final Map<String, Set<String>> idsByApplication = new HashMap<>();
+  private final Map<String, Set<String>> idsByEntityId = new HashMap<>();
+  private boolean loaded = false;
+  // entity tags put (or removed, when null) since the refresh being fetched started
+  private Map<String, EntityTags> writesDuringRefresh = null;
+
+  synchronized boolean isLoaded() {
+    return loaded;
+  }
+
+  /**
+   * Starts recording the entity tags put and removed in process, to apply them again once the
+   * refresh fetched from now on is loaded or refreshed.
+   */
+  synchronized void startRefresh() {
+    writesDuringRefresh = new LinkedHashMap<>();
+  }
+
+  /** Stops recording the writes of a refresh that failed to be fetched. */
+  synchronized void cancelRefresh() {
+    writesDuringRefresh = null;
+  }
+
+  /** Replaces the contents of the cache with all the entity tags of the index. */
+  synchronized void load(Collection<EntityTags> allEntityTags) {
+    byId.clear();
+    idsByApplication.clear();
+    idsByEntityId.clear();
+    allEntityTags.forEach(this::doPut);
+    applyWritesDuringRefresh();
+    loaded = true;
+  }
+
+  /** Adds the entity tags of the index that were modified since the previous refresh. */
+  synchronized void refresh(Collection<EntityTags> modifiedEntityTags) {
+    modifiedEntityTags.forEach(this::doPut);
+    applyWritesDuringRefresh();
+  }
+
+  /** Forgets the contents of the cache, until it is loaded again. */
+  synchronized void clear() {
+    byId.clear();
+    idsByApplication.clear();
+    idsByEntityId.clear();
+    loaded = false;
+  }
+
+  synchronized void putAll(Collection<EntityTags> multipleEntityTags) {
+    multipleEntityTags.forEach(
+        entityTags -> {
+          doPut(entityTags);
+          recordWrite(entityTags.getId(), entityTags);
+        });
+  }
+
+  synchronized void remove(String id) {
+    doRemove(id);
+    recordWrite(id, null);
+  }
+
+  synchronized Optional<EntityTags> get(String id) {
+    return Optional.ofNullable(byId.get(id));
+  }
+
+  /**
+   * Returns the cached entity tags matching all of the given (optional) criteria, like the
+   * equivalent term queries of {@link ElasticSearchEntityTagsProvider#getAll}.
+   */
+  synchronized List<EntityTags> getAll(
+      String cloudProvider,
+      String application,
+      String entityType,
+      Collection<String> entityIds,
+      String account,
+      String region,
+      int maxResults) {
+    Collection<String> candidates;
+    if (entityIds != null && !entityIds.isEmpty()) {
+      candidates = new HashSet<>();
+      entityIds.forEach(
+          entityId ->
+              candidates.addAll(idsByEntityId.getOrDefault(entityId, Collections.emptySet())));
+    } else if (application != null) {
+      candidates = idsByApplication.getOrDefault(application, Collections.emptySet());
+    } else {
+      candidates = byId.keySet();
+    }
+
+    List<EntityTags> result = new ArrayList<>();
+    for (String id : candidates) {
+      if (result.size() >= maxResults) {
+        break;
+      }
+      EntityTags entityTags = byId.get(id);
+      EntityTags.EntityRef entityRef = entityTags.getEntityRef();
+      if (matches(cloudProvider, entityRef.getCloudProvider())
+          && matches(application, entityRef.getApplication())
+          && (entityIds == null
+              || entityIds.isEmpty()
+              || entityIds.contains(entityRef.getEntityId()))
+          && matches(account, entityRef.getAccount())
+          && matches(region, entityRef.getRegion())
+          && (entityType == null || entityType.equalsIgnoreCase(entityRef.getEntityType()))) {
+        result.add(entityTags);
+      }
+    }
+    return result;
+  }
+
+  private static boolean matches(String criteria, String value) {
+    return criteria == null || criteria.equals(value);
+  }
+
+  private void recordWrite(String id, EntityTags entityTags) {
+    if (writesDuringRefresh != null) {
+      writesDuringRefresh.put(id, entityTags);
+    }
+  }
+
+  private void applyWritesDuringRefresh() {
+    if (writesDuringRefresh == null) {
+      return;
+    }
+    writesDuringRefresh.forEach(
+        (id, entityTags) -> {
+          if (entityTags != null) {
+            doPut(entityTags);
+          } else {
+            doRemove(id);
+          }
+        });
+    writesDuringRefresh = null;
+  }
+
+  private void doPut(EntityTags entityTags) {
+    if (entityTags.getEntityRef() == null) {
+      return;
+    }
+    EntityTags previous = byId.put(entityTags.getId(), entityTags);
+    if (previous != null) {
+      unindex(previous);
+    }
+    index(idsByApplication, entityTags, EntityTags.EntityRef::getApplication);
+    index(idsByEntityId, entityTags, EntityTags.EntityRef::getEntityId);
+  }
+
+  private void doRemove(String id) {
+    EntityTags previous = byId.remove(id);
+    if (previous != null) {
+      unindex(previous);
+    }
+  }
+
+  private void unindex(EntityTags entityTags) {
+    unindex(idsByApplication, entityTags, EntityTags.EntityRef::getApplication);
+    unindex(idsByEntityId, entityTags, EntityTags.EntityRef::getEntityId);
+  }
+
+  private static void index(
+      Map<String, Set<String>> ids,
+      EntityTags entityTags,
+      Function<EntityTags.EntityRef, String> key) {
+    String value = key.apply(entityTags.getEntityRef());
+    if (value != null) {
+      ids.computeIfAbsent(value, v -> new HashSet<>()).add(entityTags.getId());
+    }
+  }
+
+  private static void unindex(
+      Map<String, Set<String>> ids,
+      EntityTags entityTags,
+      Function<EntityTags.EntityRef, String> key) {
+    String value = key.apply(entityTags.getEntityRef());
+    if (value == null) {
+      return;
+    }
+    Set<String> indexed = ids.get(value);
+    if (indexed != null) {
+      indexed.remove(entityTags.getId());
+      if (indexed.isEmpty()) {
+        ids.remove(value);
+      }
+    }
+  }
+}
@@ -18,6 +18,7 @@ package com.netflix.spinnaker.clouddriver.elasticsearch.model;
 
 import static java.lang.String.format;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -29,6 +30,7 @@ import com.netflix.spinnaker.clouddriver.model.EntityTagsProvider;
 import com.netflix.spinnaker.config.ElasticSearchConfigProperties;
 import com.netflix.spinnaker.kork.core.RetrySupport;
 import com.netflix.spinnaker.security.AuthenticatedRequest;
+import io.searchbox.action.BulkableAction;
 import io.searchbox.client.JestClient;
 import io.searchbox.client.JestResult;
 import io.searchbox.core.Bulk;
@@ -44,26 +46,43 @@ import io.searchbox.params.Parameters;
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
 import org.apache.lucene.search.join.ScoreMode;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.slice.SliceBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ElasticSearchEntityTagsProvider implements EntityTagsProvider {
   private static final Logger log = LoggerFactory.getLogger(ElasticSearchEntityTagsProvider.class);
 
+  // documents modified this long before the previous cache refresh are fetched again, allowing
+  // for clock skew and for the delay before an indexed document can be searched
+  private static final long CACHE_REFRESH_OVERLAP_MS = TimeUnit.MINUTES.toMillis(1);
+
+  private static final int BULK_MAX_ACTIONS = 1000;
+  private static final long BULK_PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
   private final ApplicationContext applicationContext;
   private final RetrySupport retrySupport;
   private final ObjectMapper objectMapper;
@@ -74,6 +93,17 @@ public class ElasticSearchEntityTagsProvider implements EntityTagsProvider {
 
   private final String mappingTypeName;
 
+  private final ElasticSearchEntityTagsCache cache;
+  private final long cacheFullRefreshIntervalMs;
+  private final int scrollSlices;
+  private final int bulkConcurrency;
+  private final long bulkMaxBytes;
+  // shared by every sliced read and bulk write, so that concurrent ones don't add up
+  private final ThreadPoolExecutor scrollExecutor;
+  private final ThreadPoolExecutor bulkExecutor;
+  private long lastCacheRefresh = 0;
+  private long lastFullCacheRefresh = 0;
+
   @Autowired
   public ElasticSearchEntityTagsProvider(
       ApplicationContext applicationContext,
@@ -89,6 +119,46 @@ public class ElasticSearchEntityTagsProvider implements EntityTagsProvider {
     this.jestClient = jestClient;
     this.activeElasticSearchIndex = elasticSearchConfigProperties.getActiveIndex();
     this.mappingTypeName = elasticSearchConfigProperties.getMappingTypeName();
+    this.cache =
+        elasticSearchConfigProperties.isCacheEnabled() ? new ElasticSearchEntityTagsCache() : null;
+    this.cacheFullRefreshIntervalMs = elasticSearchConfigProperties.getCacheFullRefreshIntervalMs();
+    this.scrollSlices = Math.max(elasticSearchConfigProperties.getScrollSlices(), 1);
+    this.bulkConcurrency = Math.max(elasticSearchConfigProperties.getBulkConcurrency(), 1);
+    this.bulkMaxBytes = elasticSearchConfigProperties.getBulkMaxBytes();
+
+    this.scrollExecutor =
+        new ThreadPoolExecutor(
+            scrollSlices,
+            scrollSlices,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setNameFormat(ElasticSearchEntityTagsProvider.class.getSimpleName() + "-scroll-%d")
+                .setDaemon(true)
+                .build());
+    this.scrollExecutor.allowCoreThreadTimeOut(true);
+
+    // when every thread is busy and the queue is full, the caller sends the next request itself
+    this.bulkExecutor =
+        new ThreadPoolExecutor(
+            bulkConcurrency,
+            bulkConcurrency,
+            60,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(bulkConcurrency),
+            new ThreadFactoryBuilder()
+                .setNameFormat(ElasticSearchEntityTagsProvider.class.getSimpleName() + "-bulk-%d")
+                .setDaemon(true)
+                .build(),
+            (request, executor) -> request.run());
+    this.bulkExecutor.allowCoreThreadTimeOut(true);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    scrollExecutor.shutdownNow();
+    bulkExecutor.shutdownNow();
   }
 
   @Override
@@ -103,6 +173,16 @@ public class ElasticSearchEntityTagsProvider implements EntityTagsProvider {
       String namespace,
       Map<String, Object> tags,
       int maxResults) {
+    if (isCacheLoaded()
+        && idPrefix == null
+        && namespace == null
+        && (tags == null || tags.isEmpty())
+        && (entityType == null || !(entityType.contains("*") || entityType.contains("?")))) {
+      // the cache answers the term queries, not the wildcard and nested ones
+      return cache.getAll(
+          cloudProvider, application, entityType, entityIds, account, region, maxResults);
+    }
+
     BoolQueryBuilder queryBuilder = QueryBuilders.boolQuery();
 
     if (cloudProvider != null) {
@@ -172,6 +252,13 @@ public class ElasticSearchEntityTagsProvider implements EntityTagsProvider {
 
   @Override
   public Optional<EntityTags> get(String id, Map<String, Object> tags) {
+    if (isCacheLoaded() && (tags == null || tags.isEmpty())) {
+      Optional<EntityTags> cached = cache.get(id);
+      if (cached.isPresent()) {
+        return cached;
+      }
+    }
+
     BoolQueryBuilder queryBuilder =
         QueryBuilders.boolQuery().must(QueryBuilders.matchQuery("_id", id));
     if (tags != null) {
@@ -189,6 +276,29 @@ public class ElasticSearchEntityTagsProvider implements EntityTagsProvider {
     return entityTags.isEmpty() ? Optional.empty() : Optional.of(entityTags.get(0));
   }
 
+  @Override
+  public Collection<EntityTags> getAll(Collection<String> ids) {
+    List<EntityTags> entityTags = new ArrayList<>();
+    List<String> uncachedIds = new ArrayList<>();
+    for (String id : new LinkedHashSet<>(ids)) {
+      Optional<EntityTags> cached = isCacheLoaded() ? cache.get(id) : Optional.empty();
+      if (cached.isPresent()) {
+        entityTags.add(cached.get());
+      } else {
+        uncachedIds.add(id);
+      }
+    }
+
+    Lists.partition(uncachedIds, 1000)
+        .forEach(
+            partition ->
+                entityTags.addAll(
+                    search(
+                        QueryBuilders.idsQuery().addIds(partition.toArray(new String[0])),
+                        partition.size())));
+    return entityTags;
+  }
+
   @Override
   public void index(EntityTags entityTags) {
     try {
@@ -207,6 +317,7 @@ public class ElasticSearchEntityTagsProvider implements EntityTagsProvider {
                 "Failed to index %s, reason: '%s'",
                 entityTags.getId(), jestResult.getErrorMessage()));
       }
+      cachePut(Collections.singletonList(entityTags));
     } catch (IOException e) {
       throw new ElasticSearchException(
           format("Failed to index %s, reason: '%s'", entityTags.getId(), e.getMessage()));
@@ -215,46 +326,20 @@ public class ElasticSearchEntityTagsProvider implements EntityTagsProvider {
 
   @Override
   public void bulkIndex(Collection<EntityTags> multipleEntityTags) {
-    Lists.partition(new ArrayList<>(multipleEntityTags), 1000)
-        .forEach(
-            tags -> {
-              Bulk.Builder builder = new Bulk.Builder().defaultIndex(activeElasticSearchIndex);
-
-              for (EntityTags entityTags : tags) {
-                Map tag =
-                    objectMapper.convertValue(prepareForWrite(objectMapper, entityTags), Map.class);
-                builder =
-                    builder.addAction(
-                        new Index.Builder(tag)
-                            .index(activeElasticSearchIndex)
-                            .type(mappingTypeName)
-                            .id(entityTags.getId())
-                            .build());
-              }
-
-              Bulk bulk = builder.build();
-              retrySupport.retry(
-                  () -> {
-                    try {
-                      JestResult jestResult = jestClient.execute(bulk);
-                      if (!jestResult.isSucceeded()) {
-                        throw new ElasticSearchException(
-                            format(
-                                "Failed to index bulk entity tags, reason: '%s'",
-                                jestResult.getErrorMessage()));
-                      }
-                      return true;
-                    } catch (IOException e) {
-                      String message =
-                          format("Failed to index bulk entity tags, reason: '%s'", e.getMessage());
-                      log.error(message + " ... retrying!");
-                      throw new ElasticSearchException(message);
-                    }
-                  },
-                  5,
-                  1000,
-                  false);
-            });
+    bulkExecute(
+        "index",
+        multipleEntityTags,
+        entityTags -> {
+          Map tag = objectMapper.convertValue(prepareForWrite(objectMapper, entityTags), Map.class);
+          return new BulkItem(
+              new Index.Builder(tag)
+                  .index(activeElasticSearchIndex)
+                  .type(mappingTypeName)
+                  .id(entityTags.getId())
+                  .build(),
+              sizeOf(tag));
+        },
+        this::cachePut);
   }
 
   @Override
@@ -274,6 +359,9 @@ public class ElasticSearchEntityTagsProvider implements EntityTagsProvider {
         throw new ElasticSearchException(
             format("Failed to delete %s, reason: '%s'", id, jestResult.getErrorMessage()));
       }
+      if (cache != null) {
+        cache.remove(id);
+      }
     } catch (IOException e) {
       throw new ElasticSearchException(
           format("Failed to delete %s, reason: '%s'", id, e.getMessage()));
@@ -282,35 +370,146 @@ public class ElasticSearchEntityTagsProvider implements EntityTagsProvider {
 
   @Override
   public void bulkDelete(Collection<EntityTags> multipleEntityTags) {
-    Lists.partition(new ArrayList<>(multipleEntityTags), 1000)
-        .forEach(
-            tags -> {
-              Bulk.Builder builder = new Bulk.Builder().defaultIndex(activeElasticSearchIndex);
+    bulkExecute(
+        "delete",
+        multipleEntityTags,
+        entityTags ->
+            new BulkItem(
+                new Delete.Builder(entityTags.getId()).type(mappingTypeName).build(),
+                sizeOf(entityTags.getId())),
+        tags -> {
+          if (cache != null) {
+            tags.forEach(entityTags -> cache.remove(entityTags.getId()));
+          }
+        });
+  }
 
-              for (EntityTags entityTags : tags) {
-                builder =
-                    builder.addAction(
-                        new Delete.Builder(entityTags.getId()).type(mappingTypeName).build());
-              }
+  /**
+   * Sends the bulk actions for the given entity tags in requests of up to {@value
+   * #BULK_MAX_ACTIONS} actions or {@code bulkMaxBytes}, {@code bulkConcurrency} of which are in
+   * flight at a time across all bulk writes. When they all are, the calling thread sends the next
+   * request itself rather than building up more requests than can be sent.
+   */
+  private void bulkExecute(
+      String operation,
+      Collection<EntityTags> multipleEntityTags,
+      Function<EntityTags, BulkItem> toBulkItem,
+      Consumer<List<EntityTags>> onSuccess) {
+    if (multipleEntityTags.isEmpty()) {
+      return;
+    }
 
-              Bulk bulk = builder.build();
-              try {
-                JestResult jestResult = jestClient.execute(bulk);
-                if (!jestResult.isSucceeded()) {
-                  throw new ElasticSearchException(
-                      format(
-                          "Failed to bulk delete entity tags, reason: '%s'",
-                          jestResult.getErrorMessage()));
-                }
-              } catch (IOException e) {
-                throw new ElasticSearchException(
-                    format("Failed to bulk delete entity tags, reason: '%s'", e.getMessage()));
-              }
-            });
+    BulkProgress progress = new BulkProgress(operation, multipleEntityTags.size());
+    List<Future<?>> requests = new ArrayList<>();
+    try {
+      Bulk.Builder builder = new Bulk.Builder().defaultIndex(activeElasticSearchIndex);
+      List<EntityTags> batch = new ArrayList<>();
+      long batchBytes = 0;
+
+      for (EntityTags entityTags : multipleEntityTags) {
+        if (progress.failed) {
+          // the first failure is thrown below, there's no point in sending the remaining requests
+          break;
+        }
+
+        BulkItem item = toBulkItem.apply(entityTags);
+        if (!batch.isEmpty()
+            && (batch.size() >= BULK_MAX_ACTIONS || batchBytes + item.bytes > bulkMaxBytes)) {
+          requests.add(submitBulk(operation, builder.build(), batch, onSuccess, progress));
+          builder = new Bulk.Builder().defaultIndex(activeElasticSearchIndex);
+          batch = new ArrayList<>();
+          batchBytes = 0;
+        }
+
+        builder.addAction(item.action);
+        batch.add(entityTags);
+        batchBytes += item.bytes;
+      }
+
+      if (!batch.isEmpty() && !progress.failed) {
+        requests.add(submitBulk(operation, builder.build(), batch, onSuccess, progress));
+      }
+
+      for (Future<?> request : requests) {
+        request.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ElasticSearchException(
+          format("Interrupted while trying to %s bulk entity tags", operation), e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new ElasticSearchException(
+          format(
+              "Failed to %s bulk entity tags, reason: '%s'", operation, e.getCause().getMessage()),
+          e.getCause());
+    } finally {
+      // the requests that are left once one has failed aren't sent
+      requests.forEach(request -> request.cancel(true));
+    }
+
+    progress.finish();
+  }
+
+  private Future<?> submitBulk(
+      String operation,
+      Bulk bulk,
+      List<EntityTags> tags,
+      Consumer<List<EntityTags>> onSuccess,
+      BulkProgress progress) {
+    return bulkExecutor.submit(
+        () -> {
+          try {
+            retrySupport.retry(
+                () -> {
+                  try {
+                    JestResult jestResult = jestClient.execute(bulk);
+                    if (!jestResult.isSucceeded()) {
+                      throw new ElasticSearchException(
+                          format(
+                              "Failed to %s bulk entity tags, reason: '%s'",
+                              operation, jestResult.getErrorMessage()));
+                    }
+                    return true;
+                  } catch (IOException e) {
+                    String message =
+                        format(
+                            "Failed to %s bulk entity tags, reason: '%s'",
+                            operation, e.getMessage());
+                    log.error(message + " ... retrying!");
+                    throw new ElasticSearchException(message);
+                  }
+                },
+                5,
+                1000,
+                false);
+          } catch (RuntimeException e) {
+            progress.failed = true;
+            throw e;
+          }
+          onSuccess.accept(tags);
+          progress.add(tags.size());
+        });
+  }
+
+  private long sizeOf(Object source) {
+    try {
+      return objectMapper.writeValueAsBytes(source).length;
+    } catch (JsonProcessingException e) {
+      // only used to size the bulk requests, the document itself is serialized by jest
+      return 0;
+    }
   }
 
   @Override
   public void reindex() {
+    if (cache != null) {
+      // reloaded in full by the next refresh
+      cache.clear();
+    }
+
     try {
       log.info("Deleting Index {}", activeElasticSearchIndex);
       jestClient.execute(new DeleteIndex.Builder(activeElasticSearchIndex).build());
@@ -703,8 +902,71 @@ public class ElasticSearchEntityTagsProvider implements EntityTagsProvider {
   }
 
   private List<EntityTags> fetchAll(QueryBuilder queryBuilder, int scrollSize, String scrollTime) {
+    return fetchAll(
+        queryBuilder,
+        scrollSize,
+        scrollTime,
+        result -> result.getSourceAsObjectList(EntityTags.class));
+  }
+
+  private List<EntityTags> fetchAll(
+      QueryBuilder queryBuilder,
+      int scrollSize,
+      String scrollTime,
+      Function<JestResult, Collection<EntityTags>> reader) {
+    if (scrollSlices == 1) {
+      return fetchSlice(queryBuilder, null, scrollSize, scrollTime, reader);
+    }
+
+    // each slice is a scroll of its own over a disjoint part of the index
+    List<Future<List<EntityTags>>> slices = new ArrayList<>();
+    try {
+      long startTime = System.nanoTime();
+      for (int i = 0; i < scrollSlices; i++) {
+        SliceBuilder slice = new SliceBuilder(i, scrollSlices);
+        slices.add(
+            scrollExecutor.submit(
+                () -> fetchSlice(queryBuilder, slice, scrollSize, scrollTime, reader)));
+      }
+
+      List<EntityTags> allEntityTags = new ArrayList<>();
+      for (Future<List<EntityTags>> slice : slices) {
+        allEntityTags.addAll(slice.get());
+      }
+
+      long elapsedMs = Math.max(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), 1);
+      log.debug(
+          "Fetched {} entity tags from {} slices in {}ms ({} docs/s)",
+          allEntityTags.size(),
+          scrollSlices,
+          elapsedMs,
+          allEntityTags.size() * 1000L / elapsedMs);
+      return allEntityTags;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new RuntimeException(e.getCause());
+    } finally {
+      // the slices that are left once one has failed are abandoned
+      slices.forEach(slice -> slice.cancel(true));
+    }
+  }
+
+  private List<EntityTags> fetchSlice(
+      QueryBuilder queryBuilder,
+      SliceBuilder slice,
+      int scrollSize,
+      String scrollTime,
+      Function<JestResult, Collection<EntityTags>> reader) {
     SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
     searchSourceBuilder.query(queryBuilder);
+    if (slice != null) {
+      searchSourceBuilder.slice(slice);
+    }
 
     Search.Builder builder =
         new Search.Builder(searchSourceBuilder.toString()).addIndex(activeElasticSearchIndex);
@@ -723,7 +985,7 @@ public class ElasticSearchEntityTagsProvider implements EntityTagsProvider {
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
-    Collection<EntityTags> entityTags = result.getSourceAsObjectList(EntityTags.class);
+    Collection<EntityTags> entityTags = reader.apply(result);
     allEntityTags.addAll(entityTags);
 
     String scrollId = result.getJsonObject().get("_scroll_id").getAsString();
@@ -738,7 +1000,7 @@ public class ElasticSearchEntityTagsProvider implements EntityTagsProvider {
           throw new RuntimeException(e);
         }
 
-        entityTags = result.getSourceAsObjectList(EntityTags.class);
+        entityTags = reader.apply(result);
         allEntityTags.addAll(entityTags);
 
         scrollId = result.getJsonObject().getAsJsonPrimitive("_scroll_id").getAsString();
@@ -754,6 +1016,71 @@ public class ElasticSearchEntityTagsProvider implements EntityTagsProvider {
     }
   }
 
+  /**
+   * Refreshes the entity tags cache, if enabled, with the documents modified since the previous
+   * refresh or, when it is due, with all documents.
+   */
+  @Scheduled(fixedDelayString = "${elastic-search.cache-refresh-interval-ms:30000}")
+  public void refreshCache() {
+    if (cache == null) {
+      return;
+    }
+
+    long now = System.currentTimeMillis();
+    try {
+      // the fetched entity tags may predate what is indexed or deleted in process meanwhile
+      cache.startRefresh();
+      if (!cache.isLoaded() || now - lastFullCacheRefresh >= cacheFullRefreshIntervalMs) {
+        List<EntityTags> allEntityTags = fetchAllForRead(QueryBuilders.matchAllQuery());
+        cache.load(allEntityTags);
+        lastFullCacheRefresh = now;
+        log.info("Loaded {} entity tags into the cache", allEntityTags.size());
+      } else {
+        List<EntityTags> modifiedEntityTags =
+            fetchAllForRead(
+                QueryBuilders.rangeQuery("lastModified")
+                    .gte(lastCacheRefresh - CACHE_REFRESH_OVERLAP_MS));
+        cache.refresh(modifiedEntityTags);
+        log.debug("Refreshed {} entity tags in the cache", modifiedEntityTags.size());
+      }
+      lastCacheRefresh = now;
+    } catch (Exception e) {
+      cache.cancelRefresh();
+      log.warn("Unable to refresh the entity tags cache", e);
+    }
+  }
+
+  private boolean isCacheLoaded() {
+    return cache != null && cache.isLoaded();
+  }
+
+  /** Adds entity tags that have just been indexed to the cache, as they would be read back. */
+  private void cachePut(Collection<EntityTags> multipleEntityTags) {
+    if (cache == null) {
+      return;
+    }
+    cache.putAll(
+        multipleEntityTags.stream()
+            .filter(e -> e.getEntityRef() != null)
+            .map(
+                e ->
+                    prepareForRead(
+                        objectMapper,
+                        objectMapper.convertValue(prepareForWrite(objectMapper, e), Map.class)))
+            .collect(Collectors.toList()));
+  }
+
+  private List<EntityTags> fetchAllForRead(QueryBuilder queryBuilder) {
+    return fetchAll(
+        queryBuilder,
+        5000,
+        "2m",
+        result ->
+            result.getSourceAsObjectList(Map.class).stream()
+                .map(s -> prepareForRead(objectMapper, s))
+                .collect(Collectors.toList()));
+  }
+
   private ElasticSearchEntityTagsReconciler getElasticSearchEntityTagsReconciler() {
     return applicationContext.getBean(ElasticSearchEntityTagsReconciler.class);
   }
@@ -791,4 +1118,62 @@ public class ElasticSearchEntityTagsProvider implements EntityTagsProvider {
 
     return entityTags;
   }
+
+  private static class BulkItem {
+    private final BulkableAction action;
+    private final long bytes;
+
+    BulkItem(BulkableAction action, long bytes) {
+      this.action = action;
+      this.bytes = bytes;
+    }
+  }
+
+  /** Logs the progress of a bulk operation at most every 10 seconds, and once it has finished. */
+  private static class BulkProgress {
+    private final String operation;
+    private final int total;
+    private final long startTime = System.nanoTime();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong lastLogged = new AtomicLong(startTime);
+    private volatile boolean failed = false;
+
+    BulkProgress(String operation, int total) {
+      this.operation = operation;
+      this.total = total;
+    }
+
+    void add(int count) {
+      long processed = this.processed.addAndGet(count);
+      long now = System.nanoTime();
+      long lastLogged = this.lastLogged.get();
+      if (now - lastLogged >= BULK_PROGRESS_INTERVAL_NANOS
+          && this.lastLogged.compareAndSet(lastLogged, now)) {
+        log.info(
+            "Bulk {}: {} out of {} entity tags ({} docs/s)",
+            operation,
+            processed,
+            total,
+            docsPerSecond(processed, now));
+      }
+    }
+
+    void finish() {
+      if (total <= BULK_MAX_ACTIONS && !log.isDebugEnabled()) {
+        // small operations, such as tagging a single server group, aren't worth reporting
+        return;
+      }
+      long now = System.nanoTime();
+      log.info(
+          "Bulk {}: {} entity tags in {}ms ({} docs/s)",
+          operation,
+          processed.get(),
+          TimeUnit.NANOSECONDS.toMillis(now - startTime),
+          docsPerSecond(processed.get(), now));
+    }
+
+    private long docsPerSecond(long count, long now) {
+      return count * 1000 / Math.max(TimeUnit.NANOSECONDS.toMillis(now - startTime), 1);
+    }
+  }
 }
@@ -36,6 +36,20 @@ public class ElasticSearchConfigProperties {
   // recommended for forward compatibility with Elasticsearch 7.0.
   private String mappingTypeName = "_doc";
 
+  // Keep a copy of all entity tags in memory, so that lookups by id or by entity ref do not need a
+  // search. The copy is refreshed from the documents modified since the previous refresh (every
+  // cacheRefreshIntervalMs), which requires `lastModified` to be indexed, and reloaded in full
+  // every cacheFullRefreshIntervalMs to pick up deletions made by other clouddriver instances.
+  private boolean cacheEnabled = false;
+  private long cacheFullRefreshIntervalMs = 600000;
+
+  // Reads of every entity tag (e.g. reconciling or loading the cache) scroll through scrollSlices
+  // slices of the index in parallel. Bulk writes (e.g. reindexing) are split into requests of up
+  // to 1000 documents or bulkMaxBytes, bulkConcurrency of which are sent at a time.
+  private int scrollSlices = 4;
+  private int bulkConcurrency = 4;
+  private long bulkMaxBytes = 5 * 1024 * 1024;
+
   public String getActiveIndex() {
     return activeIndex;
   }
@@ -75,4 +89,44 @@ public class ElasticSearchConfigProperties {
   public String getMappingTypeName() {
     return mappingTypeName;
   }
+
+  public boolean isCacheEnabled() {
+    return cacheEnabled;
+  }
+
+  public void setCacheEnabled(boolean cacheEnabled) {
+    this.cacheEnabled = cacheEnabled;
+  }
+
+  public long getCacheFullRefreshIntervalMs() {
+    return cacheFullRefreshIntervalMs;
+  }
+
+  public void setCacheFullRefreshIntervalMs(long cacheFullRefreshIntervalMs) {
+    this.cacheFullRefreshIntervalMs = cacheFullRefreshIntervalMs;
+  }
+
+  public int getScrollSlices() {
+    return scrollSlices;
+  }
+
+  public void setScrollSlices(int scrollSlices) {
+    this.scrollSlices = scrollSlices;
+  }
+
+  public int getBulkConcurrency() {
+    return bulkConcurrency;
+  }
+
+  public void setBulkConcurrency(int bulkConcurrency) {
+    this.bulkConcurrency = bulkConcurrency;
+  }
+
+  public long getBulkMaxBytes() {
+    return bulkMaxBytes;
+  }
+
+  public void setBulkMaxBytes(long bulkMaxBytes) {
+    this.bulkMaxBytes = bulkMaxBytes;
+  }
 }
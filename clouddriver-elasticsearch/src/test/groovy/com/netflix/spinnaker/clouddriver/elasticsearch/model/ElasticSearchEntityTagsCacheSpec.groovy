@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.elasticsearch.model
+
+import com.netflix.spinnaker.clouddriver.model.EntityTags
+import spock.lang.Specification
+
+class ElasticSearchEntityTagsCacheSpec extends Specification {
+  def cache = new ElasticSearchEntityTagsCache()
+
+  def "should only answer once loaded"() {
+    expect:
+    !cache.isLoaded()
+
+    when:
+    cache.load([entityTags("front50-v001", "prod", "us-west-1")])
+
+    then:
+    cache.isLoaded()
+    cache.get(id("front50-v001", "prod", "us-west-1")).isPresent()
+
+    when:
+    cache.clear()
+
+    then:
+    !cache.isLoaded()
+    !cache.get(id("front50-v001", "prod", "us-west-1")).isPresent()
+  }
+
+  def "should filter by entity ref"() {
+    given:
+    cache.load([
+      entityTags("front50-v001", "prod", "us-west-1"),
+      entityTags("front50-v001", "test", "us-west-1"),
+      entityTags("front50-v002", "prod", "us-east-1"),
+      entityTags("clouddriver-v001", "prod", "us-west-1")
+    ])
+
+    expect:
+    ids(cache.getAll(null, "front50", null, null, null, null, 10)) == [
+      id("front50-v001", "prod", "us-west-1"), id("front50-v001", "test", "us-west-1"), id("front50-v002", "prod", "us-east-1")
+    ] as Set
+    ids(cache.getAll("aws", null, "SERVERGROUP", ["front50-v001", "front50-v002"], "prod", null, 10)) == [
+      id("front50-v001", "prod", "us-west-1"), id("front50-v002", "prod", "us-east-1")
+    ] as Set
+    ids(cache.getAll(null, null, null, null, "prod", "us-west-1", 10)) == [
+      id("front50-v001", "prod", "us-west-1"), id("clouddriver-v001", "prod", "us-west-1")
+    ] as Set
+    cache.getAll(null, null, null, null, null, null, 2).size() == 2
+    cache.getAll("titus", null, null, null, null, null, 10).isEmpty()
+  }
+
+  def "should reindex updated and removed entity tags"() {
+    given:
+    cache.load([entityTags("front50-v001", "prod", "us-west-1")])
+
+    when:
+    def updated = entityTags("front50-v001", "prod", "us-west-1")
+    updated.entityRef.application = "other"
+    cache.putAll([updated, entityTags("front50-v002", "prod", "us-west-1")])
+
+    then:
+    cache.getAll(null, "front50", null, null, null, null, 10)*.id == [id("front50-v002", "prod", "us-west-1")]
+    cache.getAll(null, "other", null, null, null, null, 10)*.id == [id("front50-v001", "prod", "us-west-1")]
+
+    when:
+    cache.remove(id("front50-v002", "prod", "us-west-1"))
+
+    then:
+    cache.getAll(null, null, null, ["front50-v002"], null, null, 10).isEmpty()
+    cache.getAll(null, "front50", null, null, null, null, 10).isEmpty()
+  }
+
+  def "should apply the writes made while a full refresh was fetched over it"() {
+    given:
+    cache.load([entityTags("front50-v001", "prod", "us-west-1"), entityTags("front50-v002", "prod", "us-west-1")])
+    cache.startRefresh()
+
+    def updated = entityTags("front50-v001", "prod", "us-west-1")
+    updated.entityRef.application = "other"
+    cache.putAll([updated])
+    cache.remove(id("front50-v002", "prod", "us-west-1"))
+
+    when:
+    // fetched before the writes above
+    cache.load([entityTags("front50-v001", "prod", "us-west-1"), entityTags("front50-v002", "prod", "us-west-1")])
+
+    then:
+    cache.getAll(null, "other", null, null, null, null, 10)*.id == [id("front50-v001", "prod", "us-west-1")]
+    !cache.get(id("front50-v002", "prod", "us-west-1")).isPresent()
+
+    when:
+    cache.load([entityTags("front50-v002", "prod", "us-west-1")])
+
+    then:
+    cache.get(id("front50-v002", "prod", "us-west-1")).isPresent()
+  }
+
+  def "should apply the writes made while an incremental refresh was fetched over it"() {
+    given:
+    cache.load([entityTags("front50-v001", "prod", "us-west-1")])
+    cache.startRefresh()
+    cache.remove(id("front50-v001", "prod", "us-west-1"))
+
+    when:
+    cache.refresh([entityTags("front50-v001", "prod", "us-west-1"), entityTags("front50-v002", "prod", "us-west-1")])
+
+    then:
+    !cache.get(id("front50-v001", "prod", "us-west-1")).isPresent()
+    cache.get(id("front50-v002", "prod", "us-west-1")).isPresent()
+  }
+
+  private static Set<String> ids(Collection<EntityTags> entityTags) {
+    entityTags*.id as Set
+  }
+
+  private static String id(String serverGroup, String account, String region) {
+    "aws:servergroup:${serverGroup}:${account}:${region}"
+  }
+
+  private static EntityTags entityTags(String serverGroup, String account, String region) {
+    new EntityTags(
+      id: id(serverGroup, account, region),
+      entityRef: new EntityTags.EntityRef(
+        cloudProvider: "aws",
+        application: serverGroup.split("-")[0],
+        account: account,
+        region: region,
+        entityType: "servergroup",
+        entityId: serverGroup
+      )
+    )
+  }
+}
@@ -24,11 +24,14 @@ import com.netflix.spinnaker.config.ElasticSearchConfig
 import com.netflix.spinnaker.config.ElasticSearchConfigProperties
 import com.netflix.spinnaker.kork.core.RetrySupport
 import io.searchbox.client.JestClient
+import io.searchbox.action.Action
 import io.searchbox.client.JestResult
+import io.searchbox.core.Bulk
 import io.searchbox.indices.CreateIndex
 import io.searchbox.indices.DeleteIndex
 import io.searchbox.indices.Refresh
 import io.searchbox.indices.template.PutTemplate
+import org.elasticsearch.index.query.QueryBuilders
 import org.springframework.context.ApplicationContext
 import org.testcontainers.DockerClientFactory
 import org.testcontainers.elasticsearch.ElasticsearchContainer
@@ -37,6 +40,7 @@ import spock.lang.Shared
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.concurrent.ConcurrentHashMap
 import java.util.function.Supplier
 
 @Requires({ DockerClientFactory.instance().isDockerAvailable() })
@@ -118,6 +122,9 @@ class ElasticSearchEntityTagsProviderSpec extends Specification {
         "id": {
           "type": "text"
         },
+        "lastModified": {
+          "type": "long"
+        },
         "entityRef": {
           "properties": {
             "accountId": {
@@ -395,6 +402,147 @@ class ElasticSearchEntityTagsProviderSpec extends Specification {
     0 * _
   }
 
+  def "should answer term queries from the cache once loaded"() {
+    given:
+    def cachingEntityTagsProvider = buildEntityTagsProvider(cacheEnabled: true)
+    def front50Tags = buildEntityTags("aws:cluster:front50-main:myaccount:*", ["tag1": "value1"])
+    def clouddriverTags = buildEntityTags("aws:cluster:clouddriver-main:myaccount:*", ["tag2": "value2"])
+    entityTagsProvider.index(front50Tags)
+    entityTagsProvider.index(clouddriverTags)
+    refreshIndices()
+    cachingEntityTagsProvider.refreshCache()
+
+    when:
+    // deleted by another instance, the cache only notices on its next full refresh
+    entityTagsProvider.bulkDelete([clouddriverTags])
+    refreshIndices()
+
+    then:
+    cachingEntityTagsProvider.getAll(null, null, null, null, null, null, null, null, null, 10)*.id.sort() == [front50Tags.id, clouddriverTags.id].sort()
+    cachingEntityTagsProvider.getAll("aws", "clouddriver", "cluster", null, null, null, null, null, null, 10)*.id == [clouddriverTags.id]
+    cachingEntityTagsProvider.getAll(null, null, null, [clouddriverTags.entityRef.entityId], null, null, null, null, null, 10)*.id == [clouddriverTags.id]
+
+    // tag queries still search the index
+    cachingEntityTagsProvider.getAll(null, null, null, null, null, null, null, null, ["tag2": "value2"], 10).isEmpty()
+  }
+
+  def "should only search the index for the ids missing from the cache"() {
+    given:
+    def cachingEntityTagsProvider = buildEntityTagsProvider(cacheEnabled: true)
+    def cachedTags = buildEntityTags("aws:cluster:front50-main:myaccount:*", [:])
+    def uncachedTags = buildEntityTags("aws:cluster:clouddriver-main:myaccount:*", [:])
+    entityTagsProvider.index(cachedTags)
+    refreshIndices()
+    cachingEntityTagsProvider.refreshCache()
+
+    entityTagsProvider.index(uncachedTags)
+    // only still served from the cache
+    entityTagsProvider.bulkDelete([cachedTags])
+    refreshIndices()
+
+    expect:
+    cachingEntityTagsProvider.getAll([
+      cachedTags.id, uncachedTags.id, "aws:cluster:does-not-exist:myaccount:*", cachedTags.id
+    ])*.id == [cachedTags.id, uncachedTags.id]
+  }
+
+  def "should refresh the cache with the entity tags modified since the previous refresh"() {
+    given:
+    def cachingEntityTagsProvider = buildEntityTagsProvider(cacheEnabled: true)
+    entityTagsProvider.index(buildEntityTags("aws:cluster:front50-main:myaccount:*", [:]))
+    refreshIndices()
+    cachingEntityTagsProvider.refreshCache()
+
+    def modifiedTags = buildEntityTags("aws:cluster:clouddriver-main:myaccount:*", [:])
+    modifiedTags.lastModified = System.currentTimeMillis()
+    entityTagsProvider.index(modifiedTags)
+    refreshIndices()
+
+    expect:
+    cachingEntityTagsProvider.getAll(null, "clouddriver", null, null, null, null, null, null, null, 10).isEmpty()
+
+    when:
+    cachingEntityTagsProvider.refreshCache()
+
+    then:
+    cachingEntityTagsProvider.getAll(null, "clouddriver", null, null, null, null, null, null, null, 10)*.id == [modifiedTags.id]
+    cachingEntityTagsProvider.getAll(null, null, null, null, null, null, null, null, null, 10).size() == 2
+  }
+
+  def "should read every entity tag through several slices"() {
+    given:
+    def slicingEntityTagsProvider = buildEntityTagsProvider(scrollSlices: 3)
+    def allEntityTags = (1..25).collect {
+      buildEntityTags("aws:servergroup:clouddriver-main-v${String.format('%03d', it)}:myaccount:us-west-1", [:])
+    }
+    entityTagsProvider.bulkIndex(allEntityTags)
+    refreshIndices()
+
+    expect:
+    // a few documents per scroll page, so that each slice is scrolled through
+    slicingEntityTagsProvider.fetchAll(QueryBuilders.matchAllQuery(), 2, "1m")*.id.sort() == allEntityTags*.id.sort()
+  }
+
+  def "should bulk index and delete in several requests"() {
+    given:
+    Set<Bulk> bulkRequests = ConcurrentHashMap.newKeySet()
+    def bulkEntityTagsProvider = buildEntityTagsProvider(
+      [bulkConcurrency: 2, bulkMaxBytes: 1],
+      [execute: { Action action ->
+        if (action instanceof Bulk) {
+          bulkRequests.add(action)
+        }
+        jestClient.execute(action)
+      }] as JestClient
+    )
+    def allEntityTags = (1..10).collect {
+      buildEntityTags("aws:servergroup:clouddriver-main-v${String.format('%03d', it)}:myaccount:us-west-1", [:])
+    }
+
+    when:
+    bulkEntityTagsProvider.bulkIndex(allEntityTags)
+    refreshIndices()
+
+    then:
+    // a request per entity tag, none of which fits with another one
+    bulkRequests.size() == 10
+    allEntityTags.every { entityTagsProvider.get(it.id).isPresent() }
+
+    when:
+    bulkRequests.clear()
+    bulkEntityTagsProvider.bulkDelete(allEntityTags)
+    refreshIndices()
+
+    then:
+    bulkRequests.size() == 10
+    allEntityTags.every { verifyNotIndexed(it) }
+  }
+
+  def "should stop sending bulk requests once one has failed"() {
+    given:
+    Set<Bulk> bulkRequests = ConcurrentHashMap.newKeySet()
+    def bulkEntityTagsProvider = buildEntityTagsProvider(
+      [bulkConcurrency: 1, bulkMaxBytes: 1],
+      [execute: { Action action ->
+        if (action instanceof Bulk) {
+          bulkRequests.add(action)
+          throw new IOException("unavailable")
+        }
+        jestClient.execute(action)
+      }] as JestClient
+    )
+    def allEntityTags = (1..10).collect {
+      buildEntityTags("aws:servergroup:clouddriver-main-v${String.format('%03d', it)}:myaccount:us-west-1", [:])
+    }
+
+    when:
+    bulkEntityTagsProvider.bulkIndex(allEntityTags)
+
+    then:
+    thrown(ElasticSearchException)
+    bulkRequests.size() < 10
+  }
+
   boolean verifyNotIndexed(EntityTags entityTags) {
     return !entityTagsProvider.get(entityTags.id).isPresent()
   }
@@ -414,6 +562,21 @@ class ElasticSearchEntityTagsProviderSpec extends Specification {
     )
   }
 
+  private ElasticSearchEntityTagsProvider buildEntityTagsProvider(Map<String, Object> properties,
+                                                                  JestClient jestClient = this.jestClient) {
+    return new ElasticSearchEntityTagsProvider(
+      applicationContext,
+      retrySupport,
+      objectMapper,
+      front50Service,
+      jestClient,
+      new ElasticSearchConfigProperties([
+        activeIndex: elasticSearchConfigProperties.activeIndex,
+        connection : elasticSearchConfigProperties.connection
+      ] + properties)
+    )
+  }
+
   private void refreshIndices() {
     JestResult result = jestClient.execute(new Refresh.Builder().build())
     if (!result.isSucceeded()) {
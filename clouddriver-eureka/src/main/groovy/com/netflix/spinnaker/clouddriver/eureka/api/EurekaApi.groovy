@@ -17,6 +17,7 @@
 package com.netflix.spinnaker.clouddriver.eureka.api
 
 import com.netflix.spinnaker.clouddriver.eureka.model.EurekaApplications
+import com.netflix.spinnaker.clouddriver.eureka.model.EurekaApplicationsDelta
 import retrofit.http.GET
 import retrofit.http.Headers
 
@@ -25,4 +26,8 @@ interface EurekaApi {
   @GET('/apps')
   @Headers(['Accept: application/json'])
   EurekaApplications loadEurekaApplications()
+
+  @GET('/apps/delta')
+  @Headers(['Accept: application/json'])
+  EurekaApplicationsDelta loadEurekaApplicationsDelta()
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.eureka.model
+
+import com.fasterxml.jackson.annotation.JsonProperty
+import com.fasterxml.jackson.annotation.JsonRootName
+import groovy.transform.EqualsAndHashCode
+
+/**
+ * The instances that were added to, modified in or deleted from a Eureka registry recently, as
+ * returned by {@code /apps/delta}.
+ */
+@EqualsAndHashCode
+@JsonRootName('applications')
+class EurekaApplicationsDelta {
+  /** The hash code of the whole registry once the delta is applied. */
+  @JsonProperty('apps__hashcode')
+  String appsHashCode
+
+  @JsonProperty('application')
+  List<Application> applications
+
+  @EqualsAndHashCode
+  static class Application {
+    String name
+
+    @JsonProperty('instance')
+    List<EurekaInstanceChange> instances
+  }
+}
@@ -17,6 +17,7 @@
 package com.netflix.spinnaker.clouddriver.eureka.model
 
 import com.fasterxml.jackson.annotation.JsonCreator
+import com.fasterxml.jackson.annotation.JsonIgnore
 import com.fasterxml.jackson.annotation.JsonProperty
 import com.netflix.spinnaker.clouddriver.model.DiscoveryHealth
 import com.netflix.spinnaker.clouddriver.model.Health
@@ -57,6 +58,13 @@ class EurekaInstance extends DiscoveryHealth {
   String titusTaskId
   String titusStack
 
+  /**
+   * The id Eureka registered the instance with, which identifies it in the registry's deltas.
+   * Not part of the cached attributes of the instance.
+   */
+  @JsonIgnore
+  String registrationId
+
   @JsonCreator
   public static EurekaInstance buildInstance(@JsonProperty('hostName') String hostName,
                                              @JsonProperty('app') String app,
@@ -126,7 +134,8 @@ class EurekaInstance extends DiscoveryHealth {
       lastUpdatedTimestamp,
       asgName,
       metadata?.titusTaskId,
-      metadata?.titusStack)
+      metadata?.titusStack,
+      registrationInstanceId ?: hostName)
   }
 }
 
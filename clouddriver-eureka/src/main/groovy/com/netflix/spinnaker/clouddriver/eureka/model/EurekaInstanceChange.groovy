@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.eureka.model
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped
+import groovy.transform.EqualsAndHashCode
+
+/** An instance in the delta of a Eureka registry, with how it changed. */
+@EqualsAndHashCode
+class EurekaInstanceChange {
+  /** ADDED, MODIFIED or DELETED. */
+  String actionType
+
+  @JsonUnwrapped
+  EurekaInstance instance
+}
@@ -31,16 +31,27 @@ import com.netflix.spinnaker.clouddriver.core.provider.agent.HealthProvidingCach
 import com.netflix.spinnaker.clouddriver.eureka.api.EurekaApi
 import com.netflix.spinnaker.clouddriver.eureka.model.EurekaApplication
 import com.netflix.spinnaker.clouddriver.eureka.model.EurekaApplications
+import com.netflix.spinnaker.clouddriver.eureka.model.EurekaApplicationsDelta
+import com.netflix.spinnaker.clouddriver.eureka.model.EurekaInstance
 import com.netflix.spinnaker.clouddriver.model.HealthState
 import com.netflix.spinnaker.kork.core.RetrySupport
 import com.netflix.spinnaker.security.AuthenticatedRequest
 import groovy.util.logging.Slf4j
 
+import java.util.concurrent.TimeUnit
+
 import static com.netflix.spinnaker.clouddriver.core.provider.agent.Namespace.HEALTH
 import static com.netflix.spinnaker.clouddriver.core.provider.agent.Namespace.INSTANCES
 
 @Slf4j
 class EurekaCachingAgent implements CachingAgent, HealthProvidingCachingAgent, CustomScheduledAgent {
+  /**
+   * How long Eureka keeps the changes to its registry in the delta by default; a registry that was
+   * last synced before that may have missed changes.
+   */
+  private static final long DELTA_RETENTION_MILLIS = TimeUnit.MINUTES.toMillis(3)
+
+  private static final TypeReference<Map<String, Object>> ATTRIBUTES = new TypeReference<Map<String, Object>>() {}
 
   private final String region
   private final EurekaApi eurekaApi
@@ -52,6 +63,9 @@ class EurekaCachingAgent implements CachingAgent, HealthProvidingCachingAgent, C
   private final long pollIntervalMillis
   private final long timeoutMillis
   private final RetrySupport retry = new RetrySupport()
+  private final boolean deltaEnabled
+  private final EurekaRegistry registry = new EurekaRegistry(this.&toAttributes)
+  private long registrySyncedAt = 0
 
   private List<EurekaAwareProvider> eurekaAwareProviderList
 
@@ -63,7 +77,8 @@ class EurekaCachingAgent implements CachingAgent, HealthProvidingCachingAgent, C
                      eurekaAccountName,
                      eurekaAwareProviderList,
                      long pollIntervalMillis,
-                     long timeoutMillis
+                     long timeoutMillis,
+                     boolean deltaEnabled = false
   ) {
     this.region = region
     this.eurekaApi = eurekaApi
@@ -74,6 +89,7 @@ class EurekaCachingAgent implements CachingAgent, HealthProvidingCachingAgent, C
     this.eurekaAwareProviderList = eurekaAwareProviderList
     this.timeoutMillis = timeoutMillis
     this.pollIntervalMillis = pollIntervalMillis
+    this.deltaEnabled = deltaEnabled
   }
 
   @Override
@@ -94,32 +110,21 @@ class EurekaCachingAgent implements CachingAgent, HealthProvidingCachingAgent, C
   @Override
   CacheResult loadData(ProviderCache providerCache) {
     log.info("Describing items in ${agentType}")
-    EurekaApplications disco = AuthenticatedRequest.allowAnonymous({
-      retry.retry({ eurekaApi.loadEurekaApplications() }, 3, 100, false)
-    })
+    Collection<Map<String, Object>> instances = deltaEnabled ? loadRegistry() : loadApplications()
 
     Map<String, Set<String>> instanceHealthRelationships = [:].withDefault { new HashSet<String>() }
     Map<String, List<CacheData>> eurekaInstances = [:].withDefault { [] }
 
-    for (EurekaApplication application : disco.applications) {
-      List<Map<String, Object>> instanceAttributes = objectMapper.convertValue(application.instances,
-        new TypeReference<List<Map<String, Object>>>() {})
-
-      for (Map<String, Object> attributes : instanceAttributes) {
-        if (attributes.instanceId) {
-          attributes.eurekaAccountName = eurekaAccountName
-          attributes.allowMultipleEurekaPerAccount = allowMultipleEurekaPerAccount
-          attributes.application = application.name.toLowerCase()
-
-          eurekaAwareProviderList.each { provider ->
-            if (provider.isProviderForEurekaRecord(attributes)) {
-              String instanceKey = provider.getInstanceKey(attributes, region)
-              if (instanceKey) {
-                String instanceHealthKey = provider.getInstanceHealthKey(attributes, region, healthId)
-                instanceHealthRelationships[instanceKey].add(instanceHealthKey)
-                Map<String, Collection<String>> healthRelationship = [(INSTANCES.ns): [instanceKey]]
-                eurekaInstances[instanceHealthKey].add(new DefaultCacheData(instanceHealthKey, attributes, healthRelationship))
-              }
+    for (Map<String, Object> attributes : instances) {
+      if (attributes.instanceId) {
+        eurekaAwareProviderList.each { provider ->
+          if (provider.isProviderForEurekaRecord(attributes)) {
+            String instanceKey = provider.getInstanceKey(attributes, region)
+            if (instanceKey) {
+              String instanceHealthKey = provider.getInstanceHealthKey(attributes, region, healthId)
+              instanceHealthRelationships[instanceKey].add(instanceHealthKey)
+              Map<String, Collection<String>> healthRelationship = [(INSTANCES.ns): [instanceKey]]
+              eurekaInstances[instanceHealthKey].add(new DefaultCacheData(instanceHealthKey, attributes, healthRelationship))
             }
           }
         }
@@ -149,6 +154,59 @@ class EurekaCachingAgent implements CachingAgent, HealthProvidingCachingAgent, C
       (HEALTH.ns): eurekaCacheData)
   }
 
+  private List<Map<String, Object>> loadApplications() {
+    EurekaApplications disco = fetch { eurekaApi.loadEurekaApplications() }
+
+    List<Map<String, Object>> instances = []
+    for (EurekaApplication application : disco.applications) {
+      List<Map<String, Object>> instanceAttributes = objectMapper.convertValue(application.instances,
+        new TypeReference<List<Map<String, Object>>>() {})
+      instanceAttributes.each { decorate(it, application.name) }
+      instances.addAll(instanceAttributes)
+    }
+    return instances
+  }
+
+  /**
+   * Brings the registry kept by this agent up to date from the delta of the Eureka registry, and
+   * falls back to fetching it in full when the registry is empty, may have missed changes or
+   * doesn't match the hash code of the delta.
+   */
+  private Collection<Map<String, Object>> loadRegistry() {
+    long now = System.currentTimeMillis()
+    if (now - registrySyncedAt < DELTA_RETENTION_MILLIS) {
+      EurekaApplicationsDelta delta = fetch { eurekaApi.loadEurekaApplicationsDelta() }
+      if (registry.applyDelta(delta)) {
+        registrySyncedAt = now
+        log.info("Applied registry delta to ${registry.size()} instances in ${agentType}")
+        return registry.instanceAttributes
+      }
+      log.info("Registry doesn't match hash code ${delta.appsHashCode} after applying its delta in ${agentType}, fetching it in full")
+    }
+
+    registry.replace(fetch { eurekaApi.loadEurekaApplications() })
+    registrySyncedAt = now
+    return registry.instanceAttributes
+  }
+
+  private Map<String, Object> toAttributes(String applicationName, EurekaInstance instance) {
+    Map<String, Object> attributes = objectMapper.convertValue(instance, ATTRIBUTES)
+    decorate(attributes, applicationName)
+    return attributes
+  }
+
+  private void decorate(Map<String, Object> attributes, String applicationName) {
+    attributes.eurekaAccountName = eurekaAccountName
+    attributes.allowMultipleEurekaPerAccount = allowMultipleEurekaPerAccount
+    attributes.application = applicationName.toLowerCase()
+  }
+
+  private <T> T fetch(Closure<T> request) {
+    return AuthenticatedRequest.allowAnonymous({
+      retry.retry(request, 3, 100, false)
+    })
+  }
+
   private static class EurekaHealthComparator implements Comparator<CacheData> {
     @Override
     int compare(CacheData a, CacheData b) {
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.eureka.provider.agent
+
+import com.netflix.spinnaker.clouddriver.eureka.model.EurekaApplication
+import com.netflix.spinnaker.clouddriver.eureka.model.EurekaApplications
+import com.netflix.spinnaker.clouddriver.eureka.model.EurekaApplicationsDelta
+import com.netflix.spinnaker.clouddriver.eureka.model.EurekaInstance
+import com.netflix.spinnaker.clouddriver.eureka.model.EurekaInstanceChange
+
+import java.util.function.BiFunction
+
+/**
+ * The instances of a Eureka registry, kept between polls so that the registry can be updated from
+ * its delta instead of being fetched in full.
+ *
+ * Instances are converted to their cache attributes when they are added or modified, so unchanged
+ * instances aren't converted again on every poll.
+ */
+class EurekaRegistry {
+  private final BiFunction<String, EurekaInstance, Map<String, Object>> toAttributes
+  private final Map<String, Entry> entries = [:]
+
+  EurekaRegistry(BiFunction<String, EurekaInstance, Map<String, Object>> toAttributes) {
+    this.toAttributes = toAttributes
+  }
+
+  /** Replaces the instances of the registry with those of a full fetch. */
+  void replace(EurekaApplications applications) {
+    entries.clear()
+    for (EurekaApplication application : applications.applications ?: []) {
+      for (EurekaInstance instance : application.instances ?: []) {
+        put(application.name, instance)
+      }
+    }
+  }
+
+  /**
+   * Applies a delta of the registry.
+   *
+   * @return whether the registry matches the hash code of the delta afterwards; if not, it is out
+   * of sync and must be replaced by a full fetch
+   */
+  boolean applyDelta(EurekaApplicationsDelta delta) {
+    for (EurekaApplicationsDelta.Application application : delta.applications ?: []) {
+      for (EurekaInstanceChange change : application.instances ?: []) {
+        if (change.actionType == 'DELETED') {
+          entries.remove(key(application.name, change.instance))
+        } else {
+          put(application.name, change.instance)
+        }
+      }
+    }
+    return delta.appsHashCode != null && delta.appsHashCode == reconcileHashCode
+  }
+
+  /** The cache attributes of every instance in the registry. */
+  Collection<Map<String, Object>> getInstanceAttributes() {
+    return entries.values()*.attributes
+  }
+
+  int size() {
+    return entries.size()
+  }
+
+  /**
+   * Computes the hash code Eureka reports for the registry, which counts its instances by status,
+   * e.g. {@code DOWN_1_UP_12_}.
+   */
+  String getReconcileHashCode() {
+    Map<String, Integer> counts = new TreeMap<>()
+    entries.values().each { Entry entry ->
+      counts.merge(entry.status ?: 'UNKNOWN', 1, { a, b -> a + b })
+    }
+    return counts.collect { status, count -> "${status}_${count}_" }.join('')
+  }
+
+  private void put(String applicationName, EurekaInstance instance) {
+    entries.put(key(applicationName, instance), new Entry(
+      status: instance.status,
+      attributes: toAttributes.apply(applicationName, instance)))
+  }
+
+  private static String key(String applicationName, EurekaInstance instance) {
+    return "${applicationName}:${instance.registrationId}".toString()
+  }
+
+  private static class Entry {
+    String status
+    Map<String, Object> attributes
+  }
+}
@@ -76,12 +76,17 @@ class EurekaProviderConfiguration {
     return properties
   }
 
-  private static Converter eurekaConverter() {
-    new JacksonConverter(new ObjectMapper()
+  /** The mapper Eureka responses are read with. */
+  static ObjectMapper eurekaObjectMapper() {
+    new ObjectMapper()
       .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
       .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
       .enable(DeserializationFeature.UNWRAP_ROOT_VALUE)
-      .enable(MapperFeature.AUTO_DETECT_CREATORS))
+      .enable(MapperFeature.AUTO_DETECT_CREATORS)
+  }
+
+  private static Converter eurekaConverter() {
+    new JacksonConverter(eurekaObjectMapper())
   }
 
   private EurekaApiFactory eurekaApiFactory(OkHttpMetricsInterceptorProperties okHttpMetricsInterceptorProperties) {
@@ -96,6 +101,9 @@ class EurekaProviderConfiguration {
   @Value('${eureka.timeout-millis:300000}')
   Long timeoutMillis
 
+  @Value('${eureka.delta-enabled:false}')
+  boolean deltaEnabled
+
   @Bean
   EurekaCachingProvider eurekaCachingProvider(EurekaAccountConfigurationProperties eurekaAccountConfigurationProperties,
                                               OkHttpMetricsInterceptorProperties okHttpMetricsInterceptorProperties,
@@ -107,7 +115,7 @@ class EurekaProviderConfiguration {
       accountConfig.regions.each { region ->
         String eurekaHost = accountConfig.readOnlyUrl.replaceAll(Pattern.quote('{{region}}'), region)
         boolean multipleEurekaPerAcc = eurekaAccountConfigurationProperties.allowMultipleEurekaPerAccount ?: false
-        agents << new EurekaCachingAgent(eurekaApiFactory.createApi(eurekaHost), region, objectMapper, eurekaHost, multipleEurekaPerAcc, accountConfig.name, eurekaAwareProviderList, pollIntervalMillis, timeoutMillis)
+        agents << new EurekaCachingAgent(eurekaApiFactory.createApi(eurekaHost), region, objectMapper, eurekaHost, multipleEurekaPerAcc, accountConfig.name, eurekaAwareProviderList, pollIntervalMillis, timeoutMillis, deltaEnabled)
       }
     }
     EurekaCachingProvider eurekaCachingProvider = new EurekaCachingProvider(agents)
@@ -7,7 +7,9 @@ import com.netflix.spinnaker.clouddriver.eureka.model.DataCenterInfo
 import com.netflix.spinnaker.clouddriver.eureka.model.DataCenterMetadata
 import com.netflix.spinnaker.clouddriver.eureka.model.EurekaApplication
 import com.netflix.spinnaker.clouddriver.eureka.model.EurekaApplications
+import com.netflix.spinnaker.clouddriver.eureka.model.EurekaApplicationsDelta
 import com.netflix.spinnaker.clouddriver.eureka.model.EurekaInstance
+import com.netflix.spinnaker.clouddriver.eureka.model.EurekaInstanceChange
 import com.netflix.spinnaker.clouddriver.model.HealthState
 import spock.lang.Specification
 
@@ -82,6 +84,60 @@ class EurekaCachingAgentSpec extends Specification {
 
   }
 
+  def "it should update the registry from its delta"() {
+    given:
+    def api = Mock(EurekaApi)
+    def deltaAgent = new EurekaCachingAgent(api, "us-foo-2", new ObjectMapper(), "http://eureka", "true", "eureka-foo", [eap], 0, 0, true)
+
+    when:
+    def result = deltaAgent.loadData(providerCache)
+
+    then:
+    1 * api.loadEurekaApplications() >> new EurekaApplications(applications: [
+      new EurekaApplication(name: "foo", instances: [
+        instance("foo", "i-1", "UP"),
+        instance("foo", "i-2", "UP")
+      ])
+    ])
+    0 * api.loadEurekaApplicationsDelta()
+    result.cacheResults[HEALTH.ns]*.id.sort() == ["us-foo-2:i-1:Discovery", "us-foo-2:i-2:Discovery"]
+
+    when:
+    result = deltaAgent.loadData(providerCache)
+
+    then:
+    1 * api.loadEurekaApplicationsDelta() >> new EurekaApplicationsDelta(appsHashCode: "DOWN_1_UP_1_", applications: [
+      new EurekaApplicationsDelta.Application(name: "foo", instances: [
+        new EurekaInstanceChange(actionType: "DELETED", instance: instance("foo", "i-2", "UP")),
+        new EurekaInstanceChange(actionType: "ADDED", instance: instance("foo", "i-3", "DOWN"))
+      ])
+    ])
+    0 * api.loadEurekaApplications()
+    result.cacheResults[HEALTH.ns]*.id.sort() == ["us-foo-2:i-1:Discovery", "us-foo-2:i-3:Discovery"]
+    result.cacheResults[HEALTH.ns].find { it.id == "us-foo-2:i-3:Discovery" }.attributes.state == HealthState.Down.name()
+  }
+
+  def "it should fetch the registry in full when it doesn't match the hash code of the delta"() {
+    given:
+    def api = Mock(EurekaApi)
+    def deltaAgent = new EurekaCachingAgent(api, "us-foo-2", new ObjectMapper(), "http://eureka", "true", "eureka-foo", [eap], 0, 0, true)
+    def applications = new EurekaApplications(applications: [
+      new EurekaApplication(name: "foo", instances: [
+        instance("foo", "i-1", "UP"),
+        instance("foo", "i-2", "UP")
+      ])
+    ])
+
+    when:
+    deltaAgent.loadData(providerCache)
+    def result = deltaAgent.loadData(providerCache)
+
+    then:
+    1 * api.loadEurekaApplicationsDelta() >> new EurekaApplicationsDelta(appsHashCode: "UP_3_", applications: [])
+    2 * api.loadEurekaApplications() >> applications
+    result.cacheResults[HEALTH.ns].size() == 2
+  }
+
   private static EurekaInstance instance(String app, String id, String status, Long timestamp = System.currentTimeMillis()) {
     EurekaInstance.buildInstance(
       "host",
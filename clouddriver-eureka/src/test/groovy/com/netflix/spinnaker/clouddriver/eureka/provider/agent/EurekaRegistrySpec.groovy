@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.eureka.provider.agent
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.netflix.spinnaker.clouddriver.eureka.model.EurekaApplications
+import com.netflix.spinnaker.clouddriver.eureka.model.EurekaApplicationsDelta
+import com.netflix.spinnaker.clouddriver.eureka.model.EurekaInstance
+import com.netflix.spinnaker.config.EurekaProviderConfiguration
+import spock.lang.Specification
+
+import java.util.function.BiFunction
+
+class EurekaRegistrySpec extends Specification {
+  ObjectMapper objectMapper = EurekaProviderConfiguration.eurekaObjectMapper()
+
+  def registry = new EurekaRegistry({ String application, EurekaInstance instance ->
+    [application: application, instanceId: instance.instanceId, status: instance.status]
+  } as BiFunction<String, EurekaInstance, Map<String, Object>>)
+
+  def "it should read the changed instances of a delta"() {
+    when:
+    def delta = read("apps-delta.json", EurekaApplicationsDelta)
+
+    then:
+    delta.appsHashCode == "DOWN_1_UP_2_"
+    delta.applications*.name == ["FOO"]
+
+    def changes = delta.applications[0].instances
+    changes*.actionType == ["ADDED", "MODIFIED", "DELETED"]
+    changes*.instance*.registrationId == ["ip-10-0-0-4:foo:7001", "ip-10-0-0-2:foo:7001", "ip-10-0-0-3:foo:7001"]
+    changes*.instance*.instanceId == ["i-4", "i-2", "i-3"]
+    changes*.instance*.status == ["UP", "DOWN", "UP"]
+
+    with(changes[0].instance) {
+      hostName == "ip-10-0-0-4"
+      application == "foo"
+      ipAddress == "10.0.0.4"
+      overriddenStatus == "UNKNOWN"
+      accountId == "123456789012"
+      availabilityZone == "us-foo-2a"
+      amiId == "ami-0123456789abcdef0"
+      instanceType == "m5.large"
+      healthCheckUrl == "http://ip-10-0-0-4:7001/healthcheck"
+      vipAddress == "foo:7001"
+      lastUpdatedTimestamp == 1760745630000L
+      asgName == "foo-main-v001"
+    }
+  }
+
+  def "it should apply a delta to the instances of a full fetch"() {
+    given:
+    registry.replace(read("apps.json", EurekaApplications))
+
+    expect:
+    registry.size() == 3
+    registry.reconcileHashCode == "UP_3_"
+
+    when:
+    def reconciled = registry.applyDelta(read("apps-delta.json", EurekaApplicationsDelta))
+
+    then:
+    reconciled
+    registry.reconcileHashCode == "DOWN_1_UP_2_"
+    registry.instanceAttributes.sort { it.instanceId } == [
+      [application: "FOO", instanceId: "i-1", status: "UP"],
+      [application: "FOO", instanceId: "i-2", status: "DOWN"],
+      [application: "FOO", instanceId: "i-4", status: "UP"]
+    ]
+  }
+
+  def "it should not reconcile when a delta was missed"() {
+    given:
+    registry.replace(read("apps.json", EurekaApplications))
+    def delta = read("apps-delta.json", EurekaApplicationsDelta)
+    delta.applications[0].instances.removeAll { it.actionType == "DELETED" }
+
+    expect:
+    !registry.applyDelta(delta)
+    registry.reconcileHashCode == "DOWN_1_UP_3_"
+  }
+
+  private <T> T read(String fixture, Class<T> type) {
+    return objectMapper.readValue(getClass().getResource(fixture), type)
+  }
+}
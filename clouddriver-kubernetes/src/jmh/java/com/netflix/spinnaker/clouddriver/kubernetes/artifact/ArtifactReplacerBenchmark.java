@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.kubernetes.artifact;
+
+import com.google.common.collect.ImmutableList;
+import com.netflix.spinnaker.clouddriver.kubernetes.artifact.ArtifactReplacer.ReplaceResult;
+import com.netflix.spinnaker.clouddriver.kubernetes.description.manifest.KubernetesManifest;
+import com.netflix.spinnaker.kork.artifacts.model.Artifact;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Binds artifacts into a deployment the way a deploy manifest stage does, comparing the single
+ * pass {@link ArtifactReplacementEngine} with applying each {@link Replacer} in turn.
+ *
+ * <p>Half of the artifacts are images used by the containers and the other half config maps
+ * referenced from their environment, so both the number of paths matched and the number of
+ * artifacts looked up grow with the parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ArtifactReplacerBenchmark {
+  private static final String NAMESPACE = "benchmark";
+  private static final String ACCOUNT = "benchmark-account";
+  private static final String DOCKER_IMAGE_BINDING = "match-name-and-tag";
+
+  @Param({"20", "200"})
+  public int containers;
+
+  @Param({"10", "100"})
+  public int artifacts;
+
+  private ArtifactReplacer artifactReplacer;
+  private KubernetesManifest manifest;
+  private List<Artifact> boundArtifacts;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    artifactReplacer =
+        new ArtifactReplacer(
+            ImmutableList.of(
+                Replacer.dockerImage(),
+                Replacer.configMapVolume(),
+                Replacer.secretVolume(),
+                Replacer.configMapProjectedVolume(),
+                Replacer.secretProjectedVolume(),
+                Replacer.configMapKeyValue(),
+                Replacer.secretKeyValue(),
+                Replacer.configMapEnv(),
+                Replacer.secretEnv()));
+
+    int images = Math.max(1, artifacts / 2);
+    int configMaps = Math.max(1, artifacts - images);
+
+    List<Object> containerList = new ArrayList<>();
+    for (int i = 0; i < containers; i++) {
+      containerList.add(
+          Map.of(
+              "name",
+              "container-" + i,
+              "image",
+              "gcr.io/benchmark/image-" + (i % images) + ":current",
+              "env",
+              List.of(
+                  Map.of(
+                      "name",
+                      "CONFIG",
+                      "valueFrom",
+                      Map.of(
+                          "configMapKeyRef",
+                          Map.of("name", "config-" + (i % configMaps), "key", "value")))),
+              "envFrom",
+              List.of(Map.of("configMapRef", Map.of("name", "config-" + (i % configMaps))))));
+    }
+
+    manifest = new KubernetesManifest();
+    manifest.put("apiVersion", "apps/v1");
+    manifest.put("kind", "Deployment");
+    manifest.put("metadata", Map.of("name", "benchmark", "namespace", NAMESPACE));
+    manifest.put(
+        "spec",
+        Map.of(
+            "replicas",
+            1,
+            "template",
+            Map.of(
+                "metadata",
+                Map.of("labels", Map.of("app", "benchmark")),
+                "spec",
+                Map.of("containers", containerList))));
+
+    boundArtifacts = new ArrayList<>();
+    for (int i = 0; i < images; i++) {
+      boundArtifacts.add(
+          Artifact.builder()
+              .type("docker/image")
+              .name("gcr.io/benchmark/image-" + i)
+              .reference("gcr.io/benchmark/image-" + i + ":next")
+              .build());
+    }
+    for (int i = 0; i < configMaps; i++) {
+      boundArtifacts.add(
+          Artifact.builder()
+              .type("kubernetes/configMap")
+              .name("config-" + i)
+              .reference("config-" + i + "-v001")
+              .location(NAMESPACE)
+              .putMetadata("account", ACCOUNT)
+              .build());
+    }
+  }
+
+  @Benchmark
+  public ReplaceResult singlePass() {
+    return artifactReplacer.replaceAll(
+        DOCKER_IMAGE_BINDING, manifest, boundArtifacts, NAMESPACE, ACCOUNT);
+  }
+
+  @Benchmark
+  public ReplaceResult replacerPerArtifact() {
+    return artifactReplacer.replaceAllWithReplacers(
+        DOCKER_IMAGE_BINDING, manifest, boundArtifacts, NAMESPACE, ACCOUNT);
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.kubernetes.deploy.converters;
+
+import com.google.common.collect.ImmutableList;
+import com.netflix.spectator.api.NoopRegistry;
+import com.netflix.spinnaker.clouddriver.kubernetes.KubernetesCloudProvider;
+import com.netflix.spinnaker.clouddriver.kubernetes.config.KubernetesAccountProperties.ManagedAccount;
+import com.netflix.spinnaker.clouddriver.kubernetes.converter.manifest.KubernetesDeployManifestConverter;
+import com.netflix.spinnaker.clouddriver.kubernetes.description.AccountResourcePropertyRegistry;
+import com.netflix.spinnaker.clouddriver.kubernetes.description.GlobalResourcePropertyRegistry;
+import com.netflix.spinnaker.clouddriver.kubernetes.description.KubernetesSpinnakerKindMap;
+import com.netflix.spinnaker.clouddriver.kubernetes.description.manifest.KubernetesDeployManifestDescription;
+import com.netflix.spinnaker.clouddriver.kubernetes.names.KubernetesManifestNamer;
+import com.netflix.spinnaker.clouddriver.kubernetes.names.KubernetesNamerRegistry;
+import com.netflix.spinnaker.clouddriver.kubernetes.op.handler.KubernetesUnregisteredCustomResourceHandler;
+import com.netflix.spinnaker.clouddriver.kubernetes.security.GlobalKubernetesKindRegistry;
+import com.netflix.spinnaker.clouddriver.kubernetes.security.KubernetesCredentials;
+import com.netflix.spinnaker.clouddriver.kubernetes.security.KubernetesKindRegistry;
+import com.netflix.spinnaker.clouddriver.kubernetes.security.KubernetesNamedAccountCredentials;
+import com.netflix.spinnaker.clouddriver.orchestration.AtomicOperation;
+import com.netflix.spinnaker.credentials.MapBackedCredentialsRepository;
+import com.netflix.spinnaker.kork.configserver.CloudConfigResourceService;
+import com.netflix.spinnaker.kork.configserver.ConfigFileService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Converts a deploy manifest stage's input with many manifests through {@link
+ * KubernetesDeployManifestConverter} the way {@code OperationsService} does, comparing creating
+ * the operation from the description that has been validated with converting the input again for
+ * the operation.
+ *
+ * <p>Each manifest is a deployment along with its service and config map, the latter two wrapped
+ * in a List, and the stage overrides their namespace, so the input grows with the number of
+ * manifests the way a multi-manifest deploy does. The account's credentials are built without a
+ * cluster, which converting never calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DeployManifestConversionBenchmark {
+  private static final String NAMESPACE = "benchmark";
+  private static final String ACCOUNT = "benchmark-account";
+
+  @Param({"10", "100"})
+  public int deployments;
+
+  @Param({"5", "50"})
+  public int containers;
+
+  private KubernetesDeployManifestConverter converter;
+  private Map<String, Object> input;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    GlobalResourcePropertyRegistry globalResourcePropertyRegistry =
+        new GlobalResourcePropertyRegistry(
+            ImmutableList.of(), new KubernetesUnregisteredCustomResourceHandler());
+    KubernetesCredentials.Factory credentialsFactory =
+        new KubernetesCredentials.Factory(
+            new NoopRegistry(),
+            new KubernetesNamerRegistry(ImmutableList.of(new KubernetesManifestNamer())),
+            null,
+            new ConfigFileService(new CloudConfigResourceService()),
+            new AccountResourcePropertyRegistry.Factory(globalResourcePropertyRegistry),
+            new KubernetesKindRegistry.Factory(new GlobalKubernetesKindRegistry()),
+            new KubernetesSpinnakerKindMap(ImmutableList.of()),
+            globalResourcePropertyRegistry);
+    ManagedAccount managedAccount = new ManagedAccount();
+    managedAccount.setName(ACCOUNT);
+
+    MapBackedCredentialsRepository<KubernetesNamedAccountCredentials> credentialsRepository =
+        new MapBackedCredentialsRepository<>(KubernetesCloudProvider.ID, null);
+    credentialsRepository.save(
+        new KubernetesNamedAccountCredentials(managedAccount, credentialsFactory));
+    converter = new KubernetesDeployManifestConverter(credentialsRepository, null);
+
+    List<Object> manifests = new ArrayList<>();
+    for (int i = 0; i < deployments; i++) {
+      String name = "benchmark-" + i;
+
+      List<Object> containerList = new ArrayList<>();
+      for (int j = 0; j < containers; j++) {
+        containerList.add(
+            Map.of(
+                "name",
+                "container-" + j,
+                "image",
+                "gcr.io/benchmark/image-" + j + ":current",
+                "ports",
+                List.of(Map.of("containerPort", 8080 + j)),
+                "env",
+                List.of(
+                    Map.of("name", "INDEX", "value", String.valueOf(j)),
+                    Map.of(
+                        "name",
+                        "CONFIG",
+                        "valueFrom",
+                        Map.of("configMapKeyRef", Map.of("name", name, "key", "value")))),
+                "resources",
+                Map.of(
+                    "requests", Map.of("cpu", "100m", "memory", "128Mi"),
+                    "limits", Map.of("cpu", "500m", "memory", "512Mi"))));
+      }
+
+      manifests.add(
+          Map.of(
+              "apiVersion",
+              "apps/v1",
+              "kind",
+              "Deployment",
+              "metadata",
+              Map.of("name", name, "labels", Map.of("app", name)),
+              "spec",
+              Map.of(
+                  "replicas",
+                  3,
+                  "selector",
+                  Map.of("matchLabels", Map.of("app", name)),
+                  "template",
+                  Map.of(
+                      "metadata",
+                      Map.of("labels", Map.of("app", name)),
+                      "spec",
+                      Map.of("containers", containerList)))));
+      manifests.add(
+          Map.of(
+              "apiVersion",
+              "v1",
+              "kind",
+              "List",
+              "items",
+              List.of(
+                  Map.of(
+                      "apiVersion",
+                      "v1",
+                      "kind",
+                      "Service",
+                      "metadata",
+                      Map.of("name", name),
+                      "spec",
+                      Map.of(
+                          "selector",
+                          Map.of("app", name),
+                          "ports",
+                          List.of(Map.of("port", 80, "targetPort", 8080)))),
+                  Map.of(
+                      "apiVersion",
+                      "v1",
+                      "kind",
+                      "ConfigMap",
+                      "metadata",
+                      Map.of("name", name),
+                      "data",
+                      Map.of("value", "x".repeat(1024))))));
+    }
+
+    input = new HashMap<>();
+    input.put("account", ACCOUNT);
+    input.put("cloudProvider", "kubernetes");
+    input.put("moniker", Map.of("app", "benchmark"));
+    input.put("namespaceOverride", NAMESPACE);
+    input.put("source", "text");
+    input.put("manifests", manifests);
+  }
+
+  @Benchmark
+  public AtomicOperation<?> convertOnce() {
+    KubernetesDeployManifestDescription description = converter.convertDescription(input);
+    return converter.convertOperation(input, description);
+  }
+
+  @Benchmark
+  public AtomicOperation<?> convertTwice() {
+    converter.convertDescription(input);
+    return converter.convertOperation(input);
+  }
+}
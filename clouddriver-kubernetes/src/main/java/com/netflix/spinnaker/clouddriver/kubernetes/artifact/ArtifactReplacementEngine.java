@@ -0,0 +1,522 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.kubernetes.artifact;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import com.netflix.spinnaker.kork.annotations.NonnullByDefault;
+import com.netflix.spinnaker.kork.artifacts.model.Artifact;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Applies a list of {@link Replacer}s to a manifest with a single walk of the manifest tree.
+ *
+ * <p>Replacing artifacts one {@link Replacer} at a time compiles a new {@link JsonPath} for every
+ * artifact and scans the whole document with it. Instead, the paths of all replacers are compiled
+ * once into a trie, the manifest is walked once while following every path in the trie at the
+ * same time, and each value found is looked up in an index of the artifacts by type and name.
+ *
+ * <p>The result is the same as calling {@link Replacer#replaceArtifacts} for each replacer in
+ * order: for each value, artifacts are applied in the order they were supplied, and an artifact
+ * whose name matches the reference written by an earlier one replaces it in turn.
+ */
+@NonnullByDefault
+final class ArtifactReplacementEngine {
+  private static final Logger log = LoggerFactory.getLogger(ArtifactReplacementEngine.class);
+  private static final String MATCH_NAME_ONLY = "match-name-only";
+  private static final Pattern NAME = Pattern.compile("[A-Za-z0-9_-]+");
+  private static final Pattern BRACKET_NAMES =
+      Pattern.compile("\\[('[^']+'(?:\\s*,\\s*'[^']+')*)]");
+
+  private final TrieNode root;
+
+  private ArtifactReplacementEngine(TrieNode root) {
+    this.root = root;
+  }
+
+  /**
+   * Compiles the paths of the supplied replacers into an engine, or returns an empty {@link
+   * Optional} if the path of any of them uses a construct the engine does not support, in which
+   * case the replacers should be applied one at a time instead.
+   */
+  static Optional<ArtifactReplacementEngine> compile(
+      List<Replacer> replacers, Configuration configuration) {
+    TrieNode root = new TrieNode();
+    for (int i = 0; i < replacers.size(); i++) {
+      Replacer replacer = replacers.get(i);
+      Optional<ImmutableList<Segment>> segments = parse(replacer);
+      if (!segments.isPresent()) {
+        log.debug(
+            "Path {} of {} is not supported by the replacement engine",
+            replacer.getPath(),
+            replacer);
+        return Optional.empty();
+      }
+      root.insert(segments.get(), 0, new Terminal(i, replacer, configuration));
+    }
+    return Optional.of(new ArtifactReplacementEngine(root));
+  }
+
+  /**
+   * Replaces the references to the supplied artifacts in the manifest tree, which is modified in
+   * place, and returns the artifacts that were bound.
+   */
+  ImmutableSet<Artifact> replaceArtifacts(
+      String dockerImageBinding, JsonNode manifest, List<Artifact> artifacts) {
+    if (artifacts.isEmpty()) {
+      return ImmutableSet.of();
+    }
+
+    Targets targets = new Targets();
+    walk(manifest, ImmutableList.of(new State(root, manifest, false)), targets);
+
+    ArtifactIndex index = new ArtifactIndex(artifacts);
+    boolean matchNameOnly = MATCH_NAME_ONLY.equals(dockerImageBinding);
+    // Keyed by (replacer, artifact) position so bound artifacts are reported in the same order as
+    // when the replacers are applied one at a time.
+    TreeMap<Long, Artifact> replaced = new TreeMap<>();
+    for (Target target : targets.all) {
+      for (Match match : target.matches.values()) {
+        if (match.terminal.accepts(match.candidate)) {
+          replace(target, match.terminal, index, matchNameOnly, replaced, artifacts.size());
+        }
+      }
+    }
+    return ImmutableSet.copyOf(replaced.values());
+  }
+
+  private static void replace(
+      Target target,
+      Terminal terminal,
+      ArtifactIndex index,
+      boolean matchNameOnly,
+      Map<Long, Artifact> replaced,
+      int artifactCount) {
+    Replacer replacer = terminal.replacer;
+    JsonNode value = target.parent.get(target.field);
+    int position = -1;
+    while (value != null && value.isTextual()) {
+      // The legacy replace filter of every replacer matches the value verbatim
+      String name =
+          matchNameOnly ? value.textValue() : replacer.nameFromReference(value.textValue());
+      IndexedArtifact next = index.next(replacer.getType().getType(), name, position);
+      if (next == null) {
+        return;
+      }
+
+      log.info("Found valid swap for {} at {}: {}", next.artifact, target.field, value.textValue());
+      value =
+          next.artifact.getReference() == null
+              ? NullNode.getInstance()
+              : TextNode.valueOf(next.artifact.getReference());
+      target.parent.set(target.field, value);
+      position = next.position;
+      replaced.put((long) terminal.order * artifactCount + position, next.artifact);
+    }
+  }
+
+  /**
+   * Visits a node with the set of trie states that reached it, and descends into every child that
+   * at least one state can continue into.
+   */
+  private static void walk(JsonNode node, List<State> states, Targets targets) {
+    if (node.isObject()) {
+      List<State> active = withFilters(node, states);
+      ObjectNode object = (ObjectNode) node;
+      Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+      while (fields.hasNext()) {
+        Map.Entry<String, JsonNode> field = fields.next();
+        List<State> next = new ArrayList<>();
+        for (State state : active) {
+          state.followField(field.getKey(), next);
+        }
+        if (next.isEmpty()) {
+          continue;
+        }
+
+        JsonNode child = field.getValue();
+        if (child.isTextual()) {
+          for (State state : next) {
+            if (!state.scanning && !state.trie.terminals.isEmpty()) {
+              targets.add(object, field.getKey(), state);
+            }
+          }
+        } else if (child.isContainerNode()) {
+          walk(child, next, targets);
+        }
+      }
+    } else if (node.isArray()) {
+      for (JsonNode element : node) {
+        if (!element.isContainerNode()) {
+          continue;
+        }
+        List<State> next = new ArrayList<>();
+        for (State state : states) {
+          state.followElement(element, next);
+        }
+        if (!next.isEmpty()) {
+          walk(element, next, targets);
+        }
+      }
+    }
+  }
+
+  /** Adds the states for the filters of the given states, as a filter on an object tests it. */
+  private static List<State> withFilters(JsonNode object, List<State> states) {
+    List<State> result = null;
+    for (State state : states) {
+      if (!state.scanning && state.trie.filter != null) {
+        if (result == null) {
+          result = new ArrayList<>(states);
+        }
+        result.add(new State(state.trie.filter, object, false));
+      }
+    }
+    return result == null ? states : result;
+  }
+
+  /**
+   * Parses the path of a replacer into segments. Only the subset of the JsonPath syntax used by
+   * the replacers is supported: child fields, bracketed lists of child fields, descendant fields,
+   * wildcards and a single filter placeholder that is followed by the path to the replaced field.
+   */
+  private static Optional<ImmutableList<Segment>> parse(Replacer replacer) {
+    String path = replacer.getPath();
+    if (!path.startsWith("$")) {
+      return Optional.empty();
+    }
+
+    ImmutableList.Builder<Segment> segments = ImmutableList.builder();
+    int filters = 0;
+    StringBuilder afterFilter = new StringBuilder();
+    int i = 1;
+    while (i < path.length()) {
+      Segment segment;
+      if (path.startsWith("..", i)) {
+        Matcher matcher = NAME.matcher(path).region(i + 2, path.length());
+        if (!matcher.lookingAt()) {
+          return Optional.empty();
+        }
+        segment = Segment.descendant(matcher.group());
+        i = matcher.end();
+      } else if (path.startsWith(".[?]", i) || path.startsWith("[?]", i)) {
+        segment = Segment.filter();
+        i = path.indexOf(']', i) + 1;
+      } else if (path.startsWith(".*", i)) {
+        segment = Segment.wildcard();
+        i += 2;
+      } else if (path.startsWith("[", i) || path.startsWith(".[", i)) {
+        Matcher matcher =
+            BRACKET_NAMES.matcher(path).region(path.charAt(i) == '.' ? i + 1 : i, path.length());
+        if (!matcher.lookingAt()) {
+          return Optional.empty();
+        }
+        ImmutableList.Builder<String> names = ImmutableList.builder();
+        for (String name : Splitter.on(',').trimResults().split(matcher.group(1))) {
+          names.add(name.substring(1, name.length() - 1));
+        }
+        segment = Segment.fields(names.build());
+        i = matcher.end();
+      } else if (path.startsWith(".", i)) {
+        Matcher matcher = NAME.matcher(path).region(i + 1, path.length());
+        if (!matcher.lookingAt()) {
+          return Optional.empty();
+        }
+        segment = Segment.fields(ImmutableList.of(matcher.group()));
+        i = matcher.end();
+      } else {
+        return Optional.empty();
+      }
+
+      if (segment.kind == SegmentKind.FILTER) {
+        filters++;
+      } else if (filters > 0) {
+        // Everything after the filter must be the plain path to the replaced field
+        if (segment.kind != SegmentKind.FIELDS || segment.names.size() != 1) {
+          return Optional.empty();
+        }
+        if (afterFilter.length() > 0) {
+          afterFilter.append('.');
+        }
+        afterFilter.append(segment.names.get(0));
+      }
+      segments.add(segment);
+    }
+
+    if (filters != 1 || !afterFilter.toString().equals(replacer.getReplacePathFromPlaceholder())) {
+      return Optional.empty();
+    }
+    return Optional.of(segments.build());
+  }
+
+  private enum SegmentKind {
+    FIELDS,
+    DESCENDANT,
+    WILDCARD,
+    FILTER
+  }
+
+  private static final class Segment {
+    private final SegmentKind kind;
+    private final ImmutableList<String> names;
+
+    private Segment(SegmentKind kind, ImmutableList<String> names) {
+      this.kind = kind;
+      this.names = names;
+    }
+
+    static Segment fields(ImmutableList<String> names) {
+      return new Segment(SegmentKind.FIELDS, names);
+    }
+
+    static Segment descendant(String name) {
+      return new Segment(SegmentKind.DESCENDANT, ImmutableList.of(name));
+    }
+
+    static Segment wildcard() {
+      return new Segment(SegmentKind.WILDCARD, ImmutableList.of());
+    }
+
+    static Segment filter() {
+      return new Segment(SegmentKind.FILTER, ImmutableList.of());
+    }
+  }
+
+  /** A node of the path trie; the paths of all replacers share their common prefixes. */
+  private static final class TrieNode {
+    private final Map<String, TrieNode> fields = new HashMap<>();
+    private final Map<String, TrieNode> descendants = new HashMap<>();
+    @Nullable private TrieNode wildcard;
+    @Nullable private TrieNode filter;
+    private final List<Terminal> terminals = new ArrayList<>();
+
+    void insert(List<Segment> segments, int index, Terminal terminal) {
+      if (index == segments.size()) {
+        terminals.add(terminal);
+        return;
+      }
+
+      Segment segment = segments.get(index);
+      switch (segment.kind) {
+        case FIELDS:
+          for (String name : segment.names) {
+            fields.computeIfAbsent(name, n -> new TrieNode()).insert(segments, index + 1, terminal);
+          }
+          break;
+        case DESCENDANT:
+          descendants
+              .computeIfAbsent(segment.names.get(0), n -> new TrieNode())
+              .insert(segments, index + 1, terminal);
+          break;
+        case WILDCARD:
+          if (wildcard == null) {
+            wildcard = new TrieNode();
+          }
+          wildcard.insert(segments, index + 1, terminal);
+          break;
+        case FILTER:
+          if (filter == null) {
+            filter = new TrieNode();
+          }
+          filter.insert(segments, index + 1, terminal);
+          break;
+      }
+    }
+  }
+
+  /**
+   * A position in the trie reached while walking the manifest, together with the node matched by
+   * the filter placeholder on the way. A scanning state only looks for the descendant fields of
+   * its trie node, and is carried down to every node below the one where the scan started.
+   */
+  private static final class State {
+    private final TrieNode trie;
+    private final JsonNode candidate;
+    private final boolean scanning;
+
+    State(TrieNode trie, JsonNode candidate, boolean scanning) {
+      this.trie = trie;
+      this.candidate = candidate;
+      this.scanning = scanning;
+    }
+
+    void followField(String name, List<State> next) {
+      if (!scanning) {
+        TrieNode field = trie.fields.get(name);
+        if (field != null) {
+          next.add(new State(field, candidate, false));
+        }
+        if (trie.wildcard != null) {
+          next.add(new State(trie.wildcard, candidate, false));
+        }
+      }
+      TrieNode descendant = trie.descendants.get(name);
+      if (descendant != null) {
+        next.add(new State(descendant, candidate, false));
+      }
+      if (!trie.descendants.isEmpty()) {
+        next.add(scanning ? this : new State(trie, candidate, true));
+      }
+    }
+
+    void followElement(JsonNode element, List<State> next) {
+      if (!scanning) {
+        if (trie.wildcard != null) {
+          next.add(new State(trie.wildcard, candidate, false));
+        }
+        if (trie.filter != null) {
+          next.add(new State(trie.filter, element, false));
+        }
+      }
+      if (!trie.descendants.isEmpty()) {
+        next.add(scanning ? this : new State(trie, candidate, true));
+      }
+    }
+  }
+
+  /** The end of the path of a single replacer. */
+  private static final class Terminal {
+    private final int order;
+    private final Replacer replacer;
+    @Nullable private final JsonPath candidatePath;
+    private final Configuration configuration;
+
+    Terminal(int order, Replacer replacer, Configuration configuration) {
+      this.order = order;
+      this.replacer = replacer;
+      this.candidatePath =
+          replacer.getFindFilter().map(f -> JsonPath.compile("$[?]", f)).orElse(null);
+      this.configuration = configuration;
+    }
+
+    /** Whether the node matched by the filter placeholder also satisfies the find filter. */
+    boolean accepts(JsonNode candidate) {
+      if (candidatePath == null) {
+        return true;
+      }
+      if (!candidate.isObject()) {
+        return false;
+      }
+      return JsonPath.using(configuration).parse(candidate).<ArrayNode>read(candidatePath).size()
+          > 0;
+    }
+  }
+
+  private static final class Match {
+    private final Terminal terminal;
+    private final JsonNode candidate;
+
+    Match(Terminal terminal, JsonNode candidate) {
+      this.terminal = terminal;
+      this.candidate = candidate;
+    }
+  }
+
+  /** A replaceable field, with the replacers whose paths reach it in replacer order. */
+  private static final class Target {
+    private final ObjectNode parent;
+    private final String field;
+    private final TreeMap<Integer, Match> matches = new TreeMap<>();
+
+    Target(ObjectNode parent, String field) {
+      this.parent = parent;
+      this.field = field;
+    }
+  }
+
+  private static final class Targets {
+    private final List<Target> all = new ArrayList<>();
+    private final Map<ObjectNode, Map<String, Target>> byParent = new IdentityHashMap<>();
+
+    void add(ObjectNode parent, String field, State state) {
+      Target target =
+          byParent
+              .computeIfAbsent(parent, p -> new HashMap<>())
+              .computeIfAbsent(
+                  field,
+                  f -> {
+                    Target t = new Target(parent, f);
+                    all.add(t);
+                    return t;
+                  });
+      for (Terminal terminal : state.trie.terminals) {
+        target.matches.putIfAbsent(terminal.order, new Match(terminal, state.candidate));
+      }
+    }
+  }
+
+  private static final class IndexedArtifact {
+    private final int position;
+    private final Artifact artifact;
+
+    IndexedArtifact(int position, Artifact artifact) {
+      this.position = position;
+      this.artifact = artifact;
+    }
+  }
+
+  /** The artifacts of a single replacement, by type and then name, in the order supplied. */
+  private static final class ArtifactIndex {
+    private final Map<String, Map<String, List<IndexedArtifact>>> byTypeAndName = new HashMap<>();
+
+    ArtifactIndex(List<Artifact> artifacts) {
+      for (int i = 0; i < artifacts.size(); i++) {
+        Artifact artifact = artifacts.get(i);
+        if (artifact.getType() == null || artifact.getName() == null) {
+          continue;
+        }
+        byTypeAndName
+            .computeIfAbsent(artifact.getType(), t -> new HashMap<>())
+            .computeIfAbsent(artifact.getName(), n -> new ArrayList<>())
+            .add(new IndexedArtifact(i, artifact));
+      }
+    }
+
+    /** Returns the first artifact with the given type and name after the given position. */
+    @Nullable
+    IndexedArtifact next(String type, String name, int after) {
+      List<IndexedArtifact> candidates =
+          byTypeAndName.getOrDefault(type, Map.of()).getOrDefault(name, List.of());
+      for (IndexedArtifact candidate : candidates) {
+        if (candidate.position > after) {
+          return candidate;
+        }
+      }
+      return null;
+    }
+  }
+}
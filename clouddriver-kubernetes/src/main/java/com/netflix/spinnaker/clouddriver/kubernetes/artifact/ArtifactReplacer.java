@@ -21,6 +21,7 @@ import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableCollection;
@@ -37,6 +38,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -56,9 +58,11 @@ public class ArtifactReplacer {
           .build();
 
   private final ImmutableList<Replacer> replacers;
+  private final Optional<ArtifactReplacementEngine> engine;
 
   public ArtifactReplacer(Collection<Replacer> replacers) {
     this.replacers = ImmutableList.copyOf(replacers);
+    this.engine = ArtifactReplacementEngine.compile(this.replacers, configuration);
   }
 
   private static ImmutableList<Artifact> filterArtifacts(
@@ -93,6 +97,38 @@ public class ArtifactReplacer {
       List<Artifact> artifacts,
       @Nonnull String namespace,
       @Nonnull String account) {
+    if (!engine.isPresent()) {
+      return replaceAllWithReplacers(dockerImageBinding, input, artifacts, namespace, account);
+    }
+
+    log.debug("Doing replacement on {} using {}", input, artifacts);
+    JsonNode document = mapper.valueToTree(input);
+    ImmutableSet<Artifact> replacedArtifacts =
+        engine
+            .get()
+            .replaceArtifacts(
+                dockerImageBinding, document, filterArtifacts(namespace, account, artifacts));
+
+    try {
+      return new ReplaceResult(
+          mapper.treeToValue(document, KubernetesManifest.class), replacedArtifacts);
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException("Malformed manifest", e);
+    }
+  }
+
+  /**
+   * Replaces artifacts by applying each replacer to the whole manifest in turn, which is what
+   * {@link #replaceAll} falls back to when the replacers' paths can't be compiled into an {@link
+   * ArtifactReplacementEngine}.
+   */
+  @Nonnull
+  ReplaceResult replaceAllWithReplacers(
+      String dockerImageBinding,
+      KubernetesManifest input,
+      List<Artifact> artifacts,
+      @Nonnull String namespace,
+      @Nonnull String account) {
     log.debug("Doing replacement on {} using {}", input, artifacts);
     DocumentContext document;
     try {
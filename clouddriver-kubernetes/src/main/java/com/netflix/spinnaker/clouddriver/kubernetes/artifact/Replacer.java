@@ -51,6 +51,9 @@ public final class Replacer {
   private static final Logger log = LoggerFactory.getLogger(Replacer.class);
 
   private final KubernetesArtifactType type;
+  private final String path;
+  private final String replacePathFromPlaceholder;
+  @Nullable private final Filter findFilter;
   private final JsonPath findPath;
   private final Function<Artifact, JsonPath> replacePathSupplier;
   private final Function<Artifact, JsonPath> legacyReplacePathSupplier;
@@ -79,8 +82,9 @@ public final class Replacer {
       String replacePathFromPlaceholder,
       @Nullable Function<String, String> nameFromReference) {
     this.type = Objects.requireNonNull(type);
-    Objects.requireNonNull(path);
-    Objects.requireNonNull(replacePathFromPlaceholder);
+    this.path = Objects.requireNonNull(path);
+    this.replacePathFromPlaceholder = Objects.requireNonNull(replacePathFromPlaceholder);
+    this.findFilter = findFilter;
     this.nameFromReference = Optional.ofNullable(nameFromReference).orElse(a -> a);
     Function<Artifact, Filter> replaceFilter =
         a -> filter(createReplaceFilterPredicate(replacePathFromPlaceholder, a.getName()));
@@ -97,6 +101,26 @@ public final class Replacer {
     }
   }
 
+  KubernetesArtifactType getType() {
+    return type;
+  }
+
+  String getPath() {
+    return path;
+  }
+
+  String getReplacePathFromPlaceholder() {
+    return replacePathFromPlaceholder;
+  }
+
+  Optional<Filter> getFindFilter() {
+    return Optional.ofNullable(findFilter);
+  }
+
+  String nameFromReference(String reference) {
+    return nameFromReference.apply(reference);
+  }
+
   Stream<Artifact> getArtifacts(DocumentContext document) {
     return Streams.stream(document.<ArrayNode>read(findPath).elements())
         .map(JsonNode::asText)
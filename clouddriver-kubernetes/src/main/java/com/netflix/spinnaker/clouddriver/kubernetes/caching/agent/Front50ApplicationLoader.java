@@ -16,14 +16,17 @@
 
 package com.netflix.spinnaker.clouddriver.kubernetes.caching.agent;
 
+import com.netflix.spinnaker.clouddriver.core.Front50MetadataCache;
 import com.netflix.spinnaker.clouddriver.core.services.Front50Service;
 import com.netflix.spinnaker.clouddriver.model.Front50Application;
 import com.netflix.spinnaker.security.AuthenticatedRequest;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.lang.Nullable;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -43,10 +46,19 @@ import org.springframework.stereotype.Component;
 public class Front50ApplicationLoader {
 
   @Nullable private final Front50Service front50Service;
+  @Nullable private final Front50MetadataCache front50MetadataCache;
   private AtomicReference<Set<String>> cache;
 
   Front50ApplicationLoader(@Nullable Front50Service front50Service) {
+    this(front50Service, Optional.empty());
+  }
+
+  @Autowired
+  Front50ApplicationLoader(
+      @Nullable Front50Service front50Service,
+      Optional<Front50MetadataCache> front50MetadataCache) {
     this.front50Service = front50Service;
+    this.front50MetadataCache = front50MetadataCache.orElse(null);
     this.cache = new AtomicReference<>(Collections.emptySet());
   }
 
@@ -63,10 +75,16 @@ public class Front50ApplicationLoader {
         log.info("front50 is disabled, cannot fetch applications");
         return;
       }
-      Set<Front50Application> response =
-          AuthenticatedRequest.allowAnonymous(front50Service::getAllApplicationsUnrestricted);
-      Set<String> applicationsKnownToFront50 =
-          response.stream().map(Front50Application::getName).collect(Collectors.toSet());
+      Set<String> applicationsKnownToFront50;
+      if (front50MetadataCache != null) {
+        // shares the list of applications with the rest of clouddriver
+        applicationsKnownToFront50 = front50MetadataCache.getApplicationNames();
+      } else {
+        Set<Front50Application> response =
+            AuthenticatedRequest.allowAnonymous(front50Service::getAllApplicationsUnrestricted);
+        applicationsKnownToFront50 =
+            response.stream().map(Front50Application::getName).collect(Collectors.toSet());
+      }
       log.info("received {} applications from front50", applicationsKnownToFront50.size());
       cache.set(applicationsKnownToFront50);
     } catch (Exception e) {
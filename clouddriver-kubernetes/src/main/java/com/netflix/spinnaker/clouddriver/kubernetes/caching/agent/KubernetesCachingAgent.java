@@ -27,6 +27,8 @@ import com.netflix.spinnaker.cats.agent.AgentIntervalAware;
 import com.netflix.spinnaker.cats.agent.CacheResult;
 import com.netflix.spinnaker.cats.agent.CachingAgent;
 import com.netflix.spinnaker.cats.agent.DefaultCacheResult;
+import com.netflix.spinnaker.cats.agent.ExecutionPhase;
+import com.netflix.spinnaker.cats.agent.ExecutionPhaseRecorder;
 import com.netflix.spinnaker.cats.cache.CacheData;
 import com.netflix.spinnaker.cats.provider.ProviderCache;
 import com.netflix.spinnaker.clouddriver.kubernetes.KubernetesCloudProvider;
@@ -273,7 +275,10 @@ public abstract class KubernetesCachingAgent
     long start = System.currentTimeMillis();
     Map<KubernetesKind, List<KubernetesManifest>> primaryResourceList = loadPrimaryResourceList();
     details.put("timeSpentInKubectlMs", System.currentTimeMillis() - start);
-    return buildCacheResult(primaryResourceList);
+    return ExecutionPhaseRecorder.record(
+        ExecutionPhase.BUILD_CACHE_RESULT,
+        () -> buildCacheResult(primaryResourceList),
+        ExecutionPhaseRecorder::itemCount);
   }
 
   protected CacheResult buildCacheResult(KubernetesManifest resource) {
@@ -17,15 +17,14 @@
 
 package com.netflix.spinnaker.clouddriver.kubernetes.caching.view.provider;
 
-import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.google.common.collect.ImmutableSetMultimap.flatteningToImmutableSetMultimap;
 
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableListMultimap;
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
 import com.netflix.spinnaker.cats.cache.Cache;
@@ -41,7 +40,9 @@ import com.netflix.spinnaker.clouddriver.kubernetes.description.manifest.Kuberne
 import com.netflix.spinnaker.clouddriver.kubernetes.op.handler.KubernetesHandler;
 import com.netflix.spinnaker.kork.annotations.NonnullByDefault;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -168,31 +169,59 @@ class KubernetesCacheUtils {
    */
   ImmutableMultimap<String, CacheData> getRelationships(
       Collection<CacheData> cacheData, SpinnakerKind spinnakerKind) {
-    ImmutableListMultimap.Builder<String, CacheData> result = ImmutableListMultimap.builder();
-    relationshipTypes(spinnakerKind)
-        .forEach(type -> result.putAll(getRelationships(cacheData, type)));
-    return result.build();
+    return relationshipLoader().getRelationships(cacheData, spinnakerKind);
   }
 
-  /** Gets the data for all relationships of a given type for a collection of CacheData items. */
-  private Multimap<String, CacheData> getRelationships(
-      Collection<CacheData> cacheData, String type) {
-    ImmutableMultimap<String, String> relKeys = getRelationshipKeys(cacheData, type);
-
-    // Prefetch the cache data for all relationships. This is to avoid making a separate call
-    // the cache for each of the source items.
-    // Note that relKeys.values() is not deduplicated; we'll defer to the cache implementation
-    // to decide whether it's worth deduplicating before fetching data. In the event that we
-    // do get back duplicates, we'll just keep the first for each key.
-    ImmutableMap<String, CacheData> relData =
-        cache.getAll(type, relKeys.values()).stream()
-            .collect(toImmutableMap(CacheData::getId, cd -> cd, (cd1, cd2) -> cd1));
-
-    // Note that the filterValues here is important to handle race conditions where a relationship
-    // is deleted by the time we look it up; in that case, relData might not contain the data for
-    // a requested key.
-    return Multimaps.filterValues(
-        Multimaps.transformValues(relKeys, relData::get), Objects::nonNull);
+  /**
+   * Returns a loader that remembers every item it has fetched. Providers that resolve several
+   * tiers of relationships for one request should share a single loader across those tiers, so
+   * that each relationship type is read with one batched call and no item is read twice.
+   */
+  RelationshipLoader relationshipLoader() {
+    return new RelationshipLoader();
+  }
+
+  /**
+   * Request-scoped relationship loader; instances are not thread-safe and should not outlive the
+   * request that created them.
+   */
+  final class RelationshipLoader {
+    private final Map<String, CacheData> loaded = new HashMap<>();
+
+    private RelationshipLoader() {}
+
+    /**
+     * Gets the data for all relationships of a given Spinnaker kind for a collection of CacheData
+     * items, reading only those items that this loader has not already fetched.
+     */
+    ImmutableMultimap<String, CacheData> getRelationships(
+        Collection<CacheData> cacheData, SpinnakerKind spinnakerKind) {
+      ImmutableListMultimap.Builder<String, CacheData> result = ImmutableListMultimap.builder();
+      relationshipTypes(spinnakerKind)
+          .forEach(type -> result.putAll(getRelationships(cacheData, type)));
+      return result.build();
+    }
+
+    /** Gets the data for all relationships of a given type for a collection of CacheData items. */
+    private Multimap<String, CacheData> getRelationships(
+        Collection<CacheData> cacheData, String type) {
+      ImmutableMultimap<String, String> relKeys = getRelationshipKeys(cacheData, type);
+
+      // Prefetch the cache data for all relationships in a single call rather than making a
+      // separate call for each of the source items, skipping anything fetched earlier in this
+      // request. In the event that we do get back duplicates, we'll just keep the first.
+      ImmutableSet<String> missing =
+          relKeys.values().stream().filter(k -> !loaded.containsKey(k)).collect(toImmutableSet());
+      if (!missing.isEmpty()) {
+        cache.getAll(type, missing).forEach(cd -> loaded.putIfAbsent(cd.getId(), cd));
+      }
+
+      // Note that the filterValues here is important to handle race conditions where a
+      // relationship is deleted by the time we look it up; in that case, the loader might not
+      // contain the data for a requested key.
+      return Multimaps.filterValues(
+          Multimaps.transformValues(relKeys, loaded::get), Objects::nonNull);
+    }
   }
 
   /** Returns a stream of all relationships of a given type for a given CacheData. */
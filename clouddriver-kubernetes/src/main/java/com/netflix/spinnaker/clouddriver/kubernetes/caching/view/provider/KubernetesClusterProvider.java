@@ -124,7 +124,9 @@ public class KubernetesClusterProvider implements ClusterProvider<KubernetesClus
         .getSingleEntry(account, namespace, fullName)
         .map(
             serverGroupData ->
-                loadServerGroups(ImmutableList.of(serverGroupData)).get(serverGroupData.getId()))
+                loadServerGroups(
+                        ImmutableList.of(serverGroupData), cacheUtils.relationshipLoader())
+                    .get(serverGroupData.getId()))
         .orElse(null);
   }
 
@@ -154,9 +156,20 @@ public class KubernetesClusterProvider implements ClusterProvider<KubernetesClus
         .collect(toSet());
   }
 
+  /**
+   * Loads clusters with their server groups and load balancers. Each tier of relationships is read
+   * with a single batched call covering every cluster in the request, rather than once per
+   * cluster; server group managers are only referenced by key and are not read at all.
+   */
   private Set<KubernetesCluster> loadClusters(Collection<CacheData> clusterData) {
+    KubernetesCacheUtils.RelationshipLoader loader = cacheUtils.relationshipLoader();
     ImmutableMultimap<String, CacheData> clusterToServerGroups =
-        cacheUtils.getRelationships(clusterData, SERVER_GROUPS);
+        loader.getRelationships(clusterData, SERVER_GROUPS);
+    ImmutableCollection<CacheData> allServerGroupData = clusterToServerGroups.values();
+    ImmutableMap<String, KubernetesServerGroup> allServerGroups =
+        loadServerGroups(allServerGroupData, loader);
+    ImmutableMultimap<String, CacheData> serverGroupToLoadBalancers =
+        loader.getRelationships(allServerGroupData, LOAD_BALANCERS);
 
     return clusterData.stream()
         .map(
@@ -164,9 +177,13 @@ public class KubernetesClusterProvider implements ClusterProvider<KubernetesClus
               ImmutableCollection<CacheData> clusterServerGroups =
                   clusterToServerGroups.get(clusterDatum.getId());
               ImmutableMap<String, KubernetesServerGroup> serverGroups =
-                  loadServerGroups(clusterServerGroups);
+                  clusterServerGroups.stream()
+                      .map(CacheData::getId)
+                      .distinct()
+                      .collect(toImmutableMap(id -> id, allServerGroups::get));
               List<KubernetesLoadBalancer> loadBalancers =
-                  cacheUtils.getRelationships(clusterServerGroups, LOAD_BALANCERS).values().stream()
+                  clusterServerGroups.stream()
+                      .flatMap(sg -> serverGroupToLoadBalancers.get(sg.getId()).stream())
                       .filter(cacheUtils.distinctById())
                       .map(
                           cd ->
@@ -187,9 +204,9 @@ public class KubernetesClusterProvider implements ClusterProvider<KubernetesClus
   }
 
   private ImmutableMap<String, KubernetesServerGroup> loadServerGroups(
-      ImmutableCollection<CacheData> serverGroupData) {
+      Collection<CacheData> serverGroupData, KubernetesCacheUtils.RelationshipLoader loader) {
     ImmutableMultimap<String, CacheData> serverGroupToInstances =
-        cacheUtils.getRelationships(serverGroupData, INSTANCES);
+        loader.getRelationships(serverGroupData, INSTANCES);
     return serverGroupData.stream()
         .collect(
             toImmutableMap(
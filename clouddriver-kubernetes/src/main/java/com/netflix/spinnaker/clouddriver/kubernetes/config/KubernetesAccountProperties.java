@@ -73,6 +73,7 @@ public class KubernetesAccountProperties {
     private boolean debug = false;
     private boolean metrics = true;
     private boolean checkPermissionsOnStartup = true;
+    private boolean checkPermissionsWithRulesReview = false;
     private List<CustomKubernetesResource> customResources = new ArrayList<>();
     private List<KubernetesCachingPolicy> cachingPolicies = new ArrayList<>();
     private List<String> kinds = new ArrayList<>();
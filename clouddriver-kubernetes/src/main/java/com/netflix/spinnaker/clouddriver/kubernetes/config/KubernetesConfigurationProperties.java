@@ -35,6 +35,8 @@ public class KubernetesConfigurationProperties {
 
   private Cache cache = new Cache();
 
+  private LoadAccounts loadAccounts = new LoadAccounts();
+
   private KubectlProperties kubectl = new KubectlProperties();
   private OAuthProperties oAuth = new OAuthProperties();
 
@@ -132,6 +134,42 @@ public class KubernetesConfigurationProperties {
     boolean checkApplicationInFront50 = false;
   }
 
+  /** Configuration related to loading kubernetes accounts at start up and on every poll. */
+  @Data
+  public static class LoadAccounts {
+    /**
+     * flag to enable loading kubernetes accounts using multiple threads. This is turned off by
+     * default.
+     */
+    private boolean multiThreadingEnabled = false;
+
+    /**
+     * Only applicable when multiThreadingEnabled: true. The number of threads used to load the
+     * kubernetes accounts.
+     */
+    private int numberOfThreads = 15;
+
+    /**
+     * Only applicable when multiThreadingEnabled: true. The max amount of time for loading a
+     * kubernetes account, after which the account is skipped until the next poll.
+     */
+    private int timeoutInSeconds = 180;
+
+    /**
+     * Only applicable when multiThreadingEnabled: true. Names of the accounts that are loaded
+     * before any other account.
+     */
+    private List<String> priorityAccounts = List.of();
+
+    /**
+     * Only applicable when multiThreadingEnabled: true. Whether loading the accounts waits for
+     * every account. If false, only the priority accounts are waited for, and the other accounts
+     * are added in the background as they become ready so that clouddriver can serve requests
+     * sooner.
+     */
+    private boolean waitForAllAccounts = true;
+  }
+
   /** kubectl configuration properties */
   @Data
   public static class KubectlProperties {
@@ -30,6 +30,7 @@ import com.netflix.spinnaker.clouddriver.kubernetes.op.manifest.KubernetesDeploy
 import com.netflix.spinnaker.clouddriver.kubernetes.security.KubernetesCredentials;
 import com.netflix.spinnaker.clouddriver.kubernetes.security.KubernetesNamedAccountCredentials;
 import com.netflix.spinnaker.clouddriver.orchestration.AtomicOperation;
+import com.netflix.spinnaker.clouddriver.orchestration.OperationDescription;
 import com.netflix.spinnaker.clouddriver.security.AbstractAtomicOperationsCredentialsConverter;
 import com.netflix.spinnaker.credentials.CredentialsRepository;
 import java.util.Collection;
@@ -64,6 +65,13 @@ public class KubernetesDeployManifestConverter
     return new KubernetesDeployManifestOperation(convertDescription(input), resourceVersioner);
   }
 
+  @Override
+  public AtomicOperation<OperationResult> convertOperation(
+      Map<String, Object> input, OperationDescription description) {
+    return new KubernetesDeployManifestOperation(
+        (KubernetesDeployManifestDescription) description, resourceVersioner);
+  }
+
   @Override
   public KubernetesDeployManifestDescription convertDescription(Map<String, Object> input) {
     KubernetesDeployManifestDescription mainDescription =
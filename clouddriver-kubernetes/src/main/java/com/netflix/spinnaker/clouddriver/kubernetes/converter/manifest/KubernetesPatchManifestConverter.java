@@ -26,6 +26,7 @@ import com.netflix.spinnaker.clouddriver.kubernetes.op.OperationResult;
 import com.netflix.spinnaker.clouddriver.kubernetes.op.manifest.KubernetesPatchManifestOperation;
 import com.netflix.spinnaker.clouddriver.kubernetes.security.KubernetesNamedAccountCredentials;
 import com.netflix.spinnaker.clouddriver.orchestration.AtomicOperation;
+import com.netflix.spinnaker.clouddriver.orchestration.OperationDescription;
 import com.netflix.spinnaker.clouddriver.security.AbstractAtomicOperationsCredentialsConverter;
 import java.util.Map;
 import org.springframework.stereotype.Component;
@@ -39,6 +40,12 @@ public class KubernetesPatchManifestConverter
     return new KubernetesPatchManifestOperation(convertDescription(input));
   }
 
+  @Override
+  public AtomicOperation<OperationResult> convertOperation(
+      Map<String, Object> input, OperationDescription description) {
+    return new KubernetesPatchManifestOperation((KubernetesPatchManifestDescription) description);
+  }
+
   @Override
   public KubernetesPatchManifestDescription convertDescription(Map<String, Object> input) {
     return KubernetesAtomicOperationConverterHelper.convertDescription(
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.kubernetes.description;
+
+import com.google.common.collect.ImmutableSet;
+import com.netflix.spinnaker.clouddriver.kubernetes.description.manifest.KubernetesApiGroup;
+import com.netflix.spinnaker.clouddriver.kubernetes.description.manifest.KubernetesKind;
+import com.netflix.spinnaker.kork.annotations.NonnullByDefault;
+import lombok.Value;
+
+/**
+ * A rule granting verbs on resources, as reported by {@code kubectl auth can-i --list} (a
+ * SelfSubjectRulesReview).
+ */
+@NonnullByDefault
+@Value
+public class KubernetesResourceRule {
+  /** Resources as {@code <plural>[.<group>]}, where either part may be {@code *}. */
+  private final ImmutableSet<String> resources;
+
+  /** Names the rule is restricted to, or empty if it applies to all resources of its kinds. */
+  private final ImmutableSet<String> resourceNames;
+
+  private final ImmutableSet<String> verbs;
+
+  /**
+   * Returns whether this rule allows listing all resources of the kind. Resources are named by
+   * their plural, which is guessed from the kind, so a false result does not mean the kind cannot
+   * be listed.
+   */
+  public boolean permitsList(KubernetesKind kind) {
+    if (!resourceNames.isEmpty() || !(verbs.contains("list") || verbs.contains("*"))) {
+      return false;
+    }
+    return resources.stream().anyMatch(resource -> matches(resource, kind));
+  }
+
+  private static boolean matches(String resource, KubernetesKind kind) {
+    int separator = resource.indexOf('.');
+    String plural = separator < 0 ? resource : resource.substring(0, separator);
+    String group = separator < 0 ? "" : resource.substring(separator + 1);
+    if (plural.contains("/")) {
+      // a subresource, such as pods/log
+      return false;
+    }
+
+    KubernetesApiGroup apiGroup = kind.getApiGroup();
+    boolean groupMatches = group.equals("*") || group.equals(groupName(apiGroup));
+    if (plural.equals("*")) {
+      return groupMatches;
+    }
+    // the groups spinnaker assigns to native kinds don't always match the cluster's (e.g.
+    // ingresses may be served from extensions or networking.k8s.io), so native kinds only need
+    // their plural to match one of a native group
+    if (apiGroup.isNativeGroup()) {
+      groupMatches = groupMatches || KubernetesApiGroup.fromString(group).isNativeGroup();
+    }
+    return groupMatches && plurals(kind).contains(plural);
+  }
+
+  private static String groupName(KubernetesApiGroup apiGroup) {
+    return apiGroup.equals(KubernetesApiGroup.CORE) ? "" : apiGroup.toString();
+  }
+
+  private static ImmutableSet<String> plurals(KubernetesKind kind) {
+    String name = kind.toString();
+    int separator = name.indexOf('.');
+    if (separator >= 0) {
+      name = name.substring(0, separator);
+    }
+    name = name.toLowerCase();
+
+    ImmutableSet.Builder<String> plurals = ImmutableSet.builder();
+    plurals.add(name, name + "s");
+    if (name.matches(".*(s|x|ch|sh)")) {
+      plurals.add(name + "es");
+    }
+    if (name.matches(".*[^aeiou]y")) {
+      plurals.add(name.substring(0, name.length() - 1) + "ies");
+    }
+    return plurals.build();
+  }
+}
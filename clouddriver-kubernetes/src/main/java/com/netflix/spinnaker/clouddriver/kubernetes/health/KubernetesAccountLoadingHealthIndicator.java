@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.kubernetes.health;
+
+import com.google.common.collect.ImmutableMap;
+import com.netflix.spinnaker.clouddriver.kubernetes.security.KubernetesNamedAccountCredentials;
+import com.netflix.spinnaker.clouddriver.kubernetes.security.KubernetesParallelCredentialsLoader;
+import com.netflix.spinnaker.clouddriver.kubernetes.security.KubernetesParallelCredentialsLoader.AccountState;
+import com.netflix.spinnaker.credentials.definition.AbstractCredentialsLoader;
+import java.util.Set;
+import java.util.TreeSet;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Reports which kubernetes accounts are still loading or failed to load when accounts are loaded by
+ * {@link KubernetesParallelCredentialsLoader}.
+ *
+ * <p>Like {@link KubernetesHealthIndicator} it always reports a status of UP, so that clouddriver
+ * serves the accounts that are ready while the others are still loading.
+ */
+public class KubernetesAccountLoadingHealthIndicator implements HealthIndicator {
+  private final AbstractCredentialsLoader<KubernetesNamedAccountCredentials> loader;
+
+  public KubernetesAccountLoadingHealthIndicator(
+      AbstractCredentialsLoader<KubernetesNamedAccountCredentials> loader) {
+    this.loader = loader;
+  }
+
+  @Override
+  public Health health() {
+    if (!(loader instanceof KubernetesParallelCredentialsLoader)) {
+      return Health.up().build();
+    }
+
+    ImmutableMap<String, AccountState> accountStates =
+        ((KubernetesParallelCredentialsLoader) loader).getAccountStates();
+    Health.Builder builder = Health.up();
+    for (AccountState state : AccountState.values()) {
+      Set<String> accounts = new TreeSet<>();
+      accountStates.forEach(
+          (account, accountState) -> {
+            if (accountState == state) {
+              accounts.add(account);
+            }
+          });
+      // listing every ready account would bury the few that are not
+      builder.withDetail(
+          state.name().toLowerCase(),
+          state == AccountState.READY ? accounts.size() : accounts);
+    }
+    return builder.build();
+  }
+}
@@ -32,6 +32,7 @@ import com.netflix.spinnaker.clouddriver.kubernetes.config.KubernetesConfigurati
 import com.netflix.spinnaker.clouddriver.kubernetes.description.JsonPatch;
 import com.netflix.spinnaker.clouddriver.kubernetes.description.KubernetesPatchOptions;
 import com.netflix.spinnaker.clouddriver.kubernetes.description.KubernetesPodMetric;
+import com.netflix.spinnaker.clouddriver.kubernetes.description.KubernetesResourceRule;
 import com.netflix.spinnaker.clouddriver.kubernetes.description.manifest.KubernetesKind;
 import com.netflix.spinnaker.clouddriver.kubernetes.description.manifest.KubernetesManifest;
 import com.netflix.spinnaker.clouddriver.kubernetes.security.KubernetesCredentials;
@@ -823,6 +824,26 @@ public class KubectlJobExecutor {
         .collect(ImmutableList.toImmutableList());
   }
 
+  /**
+   * Lists the rules granted to the account in a namespace, including those granted cluster-wide, in
+   * a single SelfSubjectRulesReview.
+   */
+  public ImmutableList<KubernetesResourceRule> listResourceRules(
+      KubernetesCredentials credentials, String namespace) {
+    List<String> command = kubectlNamespacedAuthPrefix(credentials, namespace);
+    command.add("auth");
+    command.add("can-i");
+    command.add("--list");
+
+    JobResult<String> status = executeKubectlCommand(credentials, command);
+    if (status.getResult() != JobResult.Result.SUCCESS) {
+      throw new KubectlException(
+          "Could not list resource rules in namespace " + namespace + ": " + status.getError());
+    }
+
+    return ResourceRuleParser.parseRules(status.getOutput());
+  }
+
   public Void patch(
       KubernetesCredentials credentials,
       KubernetesKind kind,
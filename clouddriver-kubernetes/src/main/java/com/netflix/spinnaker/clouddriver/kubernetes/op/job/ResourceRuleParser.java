@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.kubernetes.op.job;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.netflix.spinnaker.clouddriver.kubernetes.description.KubernetesResourceRule;
+import com.netflix.spinnaker.kork.annotations.NonnullByDefault;
+import java.util.Iterator;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@NonnullByDefault
+final class ResourceRuleParser {
+  private static final Logger log = LoggerFactory.getLogger(ResourceRuleParser.class);
+  private static final Splitter lineSplitter = Splitter.on('\n').omitEmptyStrings();
+  private static final Splitter listSplitter =
+      Splitter.on(Pattern.compile("\\s+")).trimResults().omitEmptyStrings();
+
+  private static final String RESOURCE_NAMES = "Resource Names";
+  private static final String VERBS = "Verbs";
+
+  /**
+   * Given the output of {@code kubectl auth can-i --list}, parses the rules granted on resources.
+   * Rules that only grant non-resource URLs are skipped.
+   *
+   * <p>The output is a table whose columns are padded to the widest cell, so cells are read at the
+   * offsets of their headers. If the output is empty or is in an unrecognized format, returns an
+   * empty list.
+   *
+   * @param kubectlOutput the output from kubectl auth can-i --list
+   * @return the parsed rules
+   */
+  static ImmutableList<KubernetesResourceRule> parseRules(String kubectlOutput) {
+    Iterator<String> lines = lineSplitter.split(kubectlOutput).iterator();
+    if (!lines.hasNext()) {
+      return ImmutableList.of();
+    }
+
+    String header = lines.next();
+    int resourceNamesColumn = header.indexOf(RESOURCE_NAMES);
+    int verbsColumn = header.indexOf(VERBS);
+    if (!header.startsWith("Resources") || resourceNamesColumn < 0 || verbsColumn < 0) {
+      log.warn("Unexpected format of resource rules with header '{}'", header);
+      return ImmutableList.of();
+    }
+    int nonResourceUrlsColumn = header.indexOf("Non-Resource URLs");
+    int resourcesEnd = nonResourceUrlsColumn < 0 ? resourceNamesColumn : nonResourceUrlsColumn;
+
+    ImmutableList.Builder<KubernetesResourceRule> rules = ImmutableList.builder();
+    while (lines.hasNext()) {
+      String line = lines.next();
+      if (line.length() < verbsColumn) {
+        log.warn("Resource rule '{}' does not match the columns of '{}', skipping", line, header);
+        continue;
+      }
+      ImmutableSet<String> resources =
+          ImmutableSet.copyOf(listSplitter.split(line.substring(0, resourcesEnd)));
+      if (resources.isEmpty()) {
+        continue;
+      }
+      rules.add(
+          new KubernetesResourceRule(
+              resources,
+              parseList(line.substring(resourceNamesColumn, verbsColumn)),
+              parseList(line.substring(verbsColumn))));
+    }
+    return rules.build();
+  }
+
+  private static ImmutableSet<String> parseList(String cell) {
+    String list = cell.trim();
+    if (list.startsWith("[") && list.endsWith("]")) {
+      list = list.substring(1, list.length() - 1);
+    }
+    return ImmutableSet.copyOf(listSplitter.split(list));
+  }
+}
@@ -46,6 +46,7 @@ import com.netflix.spinnaker.clouddriver.kubernetes.description.KubernetesCoordi
 import com.netflix.spinnaker.clouddriver.kubernetes.description.KubernetesPatchOptions;
 import com.netflix.spinnaker.clouddriver.kubernetes.description.KubernetesPodMetric;
 import com.netflix.spinnaker.clouddriver.kubernetes.description.KubernetesResourceProperties;
+import com.netflix.spinnaker.clouddriver.kubernetes.description.KubernetesResourceRule;
 import com.netflix.spinnaker.clouddriver.kubernetes.description.KubernetesSpinnakerKindMap;
 import com.netflix.spinnaker.clouddriver.kubernetes.description.ResourcePropertyRegistry;
 import com.netflix.spinnaker.clouddriver.kubernetes.description.manifest.KubernetesKind;
@@ -81,6 +82,7 @@ public class KubernetesCredentials {
   private static final Logger log = LoggerFactory.getLogger(KubernetesCredentials.class);
   private static final int CRD_EXPIRY_SECONDS = 30;
   private static final int NAMESPACE_EXPIRY_SECONDS = 30;
+  private static final int RESOURCE_RULES_EXPIRY_SECONDS = 600;
 
   private final Registry registry;
   private final Clock clock;
@@ -119,6 +121,8 @@ public class KubernetesCredentials {
 
   @Include private final boolean checkPermissionsOnStartup;
 
+  @Include private final boolean checkPermissionsWithRulesReview;
+
   @Include @Getter private final List<KubernetesCachingPolicy> cachingPolicies;
 
   @Include @JsonIgnore @Getter private final String oAuthServiceAccount;
@@ -193,6 +197,7 @@ public class KubernetesCredentials {
 
     this.onlySpinnakerManaged = managedAccount.isOnlySpinnakerManaged();
     this.checkPermissionsOnStartup = managedAccount.isCheckPermissionsOnStartup();
+    this.checkPermissionsWithRulesReview = managedAccount.isCheckPermissionsWithRulesReview();
     this.cachingPolicies = managedAccount.getCachingPolicies();
 
     this.oAuthServiceAccount = managedAccount.getOAuthServiceAccount();
@@ -688,11 +693,22 @@ public class KubernetesCredentials {
   /**
    * Handles validating which kubernetes kinds the current account has permission to read, as well
    * as whether the current account has permission to read pod metrics.
+   *
+   * <p>With checkPermissionsWithRulesReview, the rules granted to the account in the check
+   * namespace are listed once (and again after RESOURCE_RULES_EXPIRY_SECONDS on the registry's
+   * clock), and namespaced kinds they allow listing are readable without listing them. Kinds the
+   * rules don't decide, such as cluster-scoped kinds or kinds whose plural can't be guessed, are
+   * still checked by listing them.
    */
   private class PermissionValidator {
     private final Supplier<String> checkNamespace = Suppliers.memoize(this::computeCheckNamespace);
     private final Map<KubernetesKind, Boolean> readableKinds = new ConcurrentHashMap<>();
     private final Supplier<Boolean> metricsReadable = Suppliers.memoize(this::checkMetricsReadable);
+    private final LoadingCache<String, ImmutableList<KubernetesResourceRule>> resourceRules =
+        Caffeine.newBuilder()
+            .expireAfterWrite(RESOURCE_RULES_EXPIRY_SECONDS, TimeUnit.SECONDS)
+            .ticker(clock::monotonicTime)
+            .build(account -> listResourceRules());
 
     private String getCheckNamespace() {
       return checkNamespace.get();
@@ -734,6 +750,10 @@ public class KubernetesCredentials {
       if (skipPermissionChecks()) {
         return true;
       }
+      if (isListPermittedByRules(kind)) {
+        log.info("Kind {} is readable in account '{}' according to its rules.", kind, accountName);
+        return true;
+      }
       log.info("Checking if {} is readable in account '{}'...", kind, accountName);
       try {
         if (kindRegistry.getKindPropertiesOrDefault(kind).isNamespaced()) {
@@ -751,6 +771,34 @@ public class KubernetesCredentials {
       }
     }
 
+    private boolean isListPermittedByRules(KubernetesKind kind) {
+      // rules reported for a namespace include those of namespaced roles, which don't grant access
+      // to cluster-scoped kinds
+      if (!checkPermissionsWithRulesReview
+          || !kindRegistry.getKindPropertiesOrDefault(kind).isNamespaced()) {
+        return false;
+      }
+      return resourceRules.get(accountName).stream().anyMatch(rule -> rule.permitsList(kind));
+    }
+
+    private ImmutableList<KubernetesResourceRule> listResourceRules() {
+      String namespace = getCheckNamespace();
+      if (namespace == null) {
+        return ImmutableList.of();
+      }
+      try {
+        log.info("Listing the resource rules of account '{}'...", accountName);
+        return jobExecutor.listResourceRules(KubernetesCredentials.this, namespace);
+      } catch (Exception e) {
+        log.warn(
+            "Could not list the resource rules of account '{}', kinds will be checked by listing"
+                + " them: {}",
+            accountName,
+            e.getMessage());
+        return ImmutableList.of();
+      }
+    }
+
     private boolean checkMetricsReadable() {
       if (skipPermissionChecks()) {
         return true;
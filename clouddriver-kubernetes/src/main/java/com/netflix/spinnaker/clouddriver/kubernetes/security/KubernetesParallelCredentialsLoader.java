@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.kubernetes.security;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.netflix.spinnaker.clouddriver.kubernetes.config.KubernetesAccountProperties.ManagedAccount;
+import com.netflix.spinnaker.clouddriver.kubernetes.config.KubernetesConfigurationProperties.LoadAccounts;
+import com.netflix.spinnaker.credentials.Credentials;
+import com.netflix.spinnaker.credentials.CredentialsRepository;
+import com.netflix.spinnaker.credentials.definition.BasicCredentialsLoader;
+import com.netflix.spinnaker.credentials.definition.CredentialsDefinitionSource;
+import com.netflix.spinnaker.credentials.definition.CredentialsParser;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads kubernetes accounts on a bounded pool of threads instead of one at a time.
+ *
+ * <p>Loading an account parses its definition and saves it to the credentials repository, which
+ * lists the namespaces of the account and builds its caching agents. An account that fails to load
+ * or takes longer than {@link LoadAccounts#getTimeoutInSeconds()} is left out of the repository and
+ * loaded again on the next poll. {@link LoadAccounts#getPriorityAccounts()} are loaded first.
+ *
+ * <p>Unless {@link LoadAccounts#isWaitForAllAccounts()} is set, loading only waits for the priority
+ * accounts, and the other accounts are added to the repository in the background as they become
+ * ready. The state of each account is reported by {@link #getAccountStates()}.
+ */
+@Slf4j
+public class KubernetesParallelCredentialsLoader
+    extends BasicCredentialsLoader<ManagedAccount, KubernetesNamedAccountCredentials> {
+  public enum AccountState {
+    LOADING,
+    READY,
+    FAILED
+  }
+
+  private final LoadAccounts loadAccounts;
+  private final Map<String, AccountState> accountStates = new ConcurrentHashMap<>();
+
+  public KubernetesParallelCredentialsLoader(
+      CredentialsDefinitionSource<ManagedAccount> definitionSource,
+      CredentialsParser<ManagedAccount, KubernetesNamedAccountCredentials> parser,
+      CredentialsRepository<KubernetesNamedAccountCredentials> credentialsRepository,
+      LoadAccounts loadAccounts) {
+    super(definitionSource, parser, credentialsRepository);
+    this.loadAccounts = loadAccounts;
+  }
+
+  /** Returns the state of every account this loader has attempted to load, by account name. */
+  public ImmutableMap<String, AccountState> getAccountStates() {
+    return ImmutableMap.copyOf(accountStates);
+  }
+
+  @Override
+  protected void parse(Collection<ManagedAccount> definitions) {
+    Set<String> definitionNames =
+        definitions.stream().map(ManagedAccount::getName).collect(Collectors.toSet());
+    credentialsRepository.getAll().stream()
+        .map(Credentials::getName)
+        .filter(name -> !definitionNames.contains(name))
+        .peek(loadedDefinitions::remove)
+        .forEach(credentialsRepository::delete);
+    accountStates.keySet().retainAll(definitionNames);
+
+    List<ManagedAccount> toLoad =
+        definitions.stream()
+            .filter(definition -> !definition.equals(loadedDefinitions.get(definition.getName())))
+            // accounts still loading in the background from a previous poll are left to finish
+            .filter(definition -> accountStates.get(definition.getName()) != AccountState.LOADING)
+            .sorted(Comparator.comparing(definition -> !isPriority(definition)))
+            .collect(Collectors.toList());
+    if (toLoad.isEmpty()) {
+      return;
+    }
+
+    log.info(
+        "Loading {} kubernetes accounts using {} threads, with timeout: {}s",
+        toLoad.size(),
+        loadAccounts.getNumberOfThreads(),
+        loadAccounts.getTimeoutInSeconds());
+    ExecutorService executorService =
+        Executors.newFixedThreadPool(
+            Math.min(loadAccounts.getNumberOfThreads(), toLoad.size()),
+            threadFactory(getClass().getSimpleName() + "-%d"));
+    Map<ManagedAccount, AccountLoad> priorityAccounts = new LinkedHashMap<>();
+    Map<ManagedAccount, AccountLoad> otherAccounts = new LinkedHashMap<>();
+    for (ManagedAccount definition : toLoad) {
+      accountStates.put(definition.getName(), AccountState.LOADING);
+      AccountLoad load = new AccountLoad(definition);
+      executorService.execute(load.future);
+      (isPriority(definition) ? priorityAccounts : otherAccounts).put(definition, load);
+    }
+    // the threads exit once the accounts submitted above have been loaded
+    executorService.shutdown();
+
+    await(priorityAccounts);
+    if (loadAccounts.isWaitForAllAccounts()) {
+      await(otherAccounts);
+    } else if (!otherAccounts.isEmpty()) {
+      log.info("Loading {} kubernetes accounts in the background", otherAccounts.size());
+      threadFactory(getClass().getSimpleName() + "-waiter-%d")
+          .newThread(() -> await(otherAccounts))
+          .start();
+    }
+  }
+
+  private void await(Map<ManagedAccount, AccountLoad> loads) {
+    for (Map.Entry<ManagedAccount, AccountLoad> entry : loads.entrySet()) {
+      String name = entry.getKey().getName();
+      AccountLoad load = entry.getValue();
+      try {
+        load.future.get(loadAccounts.getTimeoutInSeconds(), TimeUnit.SECONDS);
+      } catch (TimeoutException e) {
+        if (load.cancel()) {
+          accountStates.put(name, AccountState.FAILED);
+          log.error(
+              "Timed out loading kubernetes account {} after {}s",
+              name,
+              loadAccounts.getTimeoutInSeconds());
+        }
+      } catch (ExecutionException e) {
+        // failure to load an account should not prevent clouddriver from starting up
+        accountStates.put(name, AccountState.FAILED);
+        log.error("Failed to load kubernetes account {}", name, e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        log.warn("Interrupted while waiting for kubernetes accounts to load");
+        return;
+      }
+    }
+  }
+
+  private boolean isPriority(ManagedAccount definition) {
+    return loadAccounts.getPriorityAccounts().contains(definition.getName());
+  }
+
+  private static ThreadFactory threadFactory(String nameFormat) {
+    return new ThreadFactoryBuilder().setNameFormat(nameFormat).setDaemon(true).build();
+  }
+
+  /**
+   * The load of a single account. Parsing and saving may not react to being interrupted, so a load
+   * that timed out checks whether it was cancelled before saving the account and before reporting
+   * it ready, and removes the account again if it was cancelled while being saved.
+   */
+  private class AccountLoad implements Runnable {
+    private final ManagedAccount definition;
+    private final FutureTask<Void> future = new FutureTask<>(this, null);
+
+    AccountLoad(ManagedAccount definition) {
+      this.definition = definition;
+    }
+
+    @Override
+    public void run() {
+      String name = definition.getName();
+      KubernetesNamedAccountCredentials credentials = parser.parse(definition);
+      if (future.isCancelled()) {
+        return;
+      }
+      if (credentials == null) {
+        accountStates.put(name, AccountState.FAILED);
+        return;
+      }
+
+      credentialsRepository.save(credentials);
+      synchronized (this) {
+        if (future.isCancelled()) {
+          credentialsRepository.delete(name);
+          return;
+        }
+        loadedDefinitions.put(name, definition);
+        accountStates.put(name, AccountState.READY);
+      }
+    }
+
+    /** Cancels the load unless it already reported the account ready. */
+    synchronized boolean cancel() {
+      return accountStates.get(definition.getName()) != AccountState.READY && future.cancel(true);
+    }
+  }
+}
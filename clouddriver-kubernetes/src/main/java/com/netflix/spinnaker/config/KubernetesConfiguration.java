@@ -20,10 +20,12 @@ import com.netflix.spinnaker.clouddriver.kubernetes.caching.KubernetesProvider;
 import com.netflix.spinnaker.clouddriver.kubernetes.config.KubernetesAccountProperties;
 import com.netflix.spinnaker.clouddriver.kubernetes.config.KubernetesAccountProperties.ManagedAccount;
 import com.netflix.spinnaker.clouddriver.kubernetes.config.KubernetesConfigurationProperties;
+import com.netflix.spinnaker.clouddriver.kubernetes.health.KubernetesAccountLoadingHealthIndicator;
 import com.netflix.spinnaker.clouddriver.kubernetes.health.KubernetesHealthIndicator;
 import com.netflix.spinnaker.clouddriver.kubernetes.security.KubernetesCredentials;
 import com.netflix.spinnaker.clouddriver.kubernetes.security.KubernetesCredentialsParser;
 import com.netflix.spinnaker.clouddriver.kubernetes.security.KubernetesNamedAccountCredentials;
+import com.netflix.spinnaker.clouddriver.kubernetes.security.KubernetesParallelCredentialsLoader;
 import com.netflix.spinnaker.clouddriver.security.CredentialsInitializerSynchronizable;
 import com.netflix.spinnaker.credentials.CredentialsLifecycleHandler;
 import com.netflix.spinnaker.credentials.CredentialsRepository;
@@ -73,6 +75,13 @@ public class KubernetesConfiguration {
         registry, credentialsRepository, kubernetesConfigurationProperties);
   }
 
+  @Bean
+  @ConditionalOnProperty("kubernetes.load-accounts.multi-threading-enabled")
+  public KubernetesAccountLoadingHealthIndicator kubernetesAccountLoadingHealthIndicator(
+      AbstractCredentialsLoader<KubernetesNamedAccountCredentials> kubernetesCredentialsLoader) {
+    return new KubernetesAccountLoadingHealthIndicator(kubernetesCredentialsLoader);
+  }
+
   @Bean
   public KubernetesProvider kubernetesProvider() {
     return new KubernetesProvider();
@@ -91,12 +100,20 @@ public class KubernetesConfiguration {
   public AbstractCredentialsLoader<KubernetesNamedAccountCredentials> kubernetesCredentialsLoader(
       @Nullable CredentialsDefinitionSource<ManagedAccount> kubernetesCredentialSource,
       KubernetesAccountProperties accountProperties,
+      KubernetesConfigurationProperties configurationProperties,
       CredentialsParser<ManagedAccount, KubernetesNamedAccountCredentials> credentialsParser,
       CredentialsRepository<KubernetesNamedAccountCredentials> kubernetesCredentialsRepository) {
 
     if (kubernetesCredentialSource == null) {
       kubernetesCredentialSource = accountProperties::getAccounts;
     }
+    if (configurationProperties.getLoadAccounts().isMultiThreadingEnabled()) {
+      return new KubernetesParallelCredentialsLoader(
+          kubernetesCredentialSource,
+          credentialsParser,
+          kubernetesCredentialsRepository,
+          configurationProperties.getLoadAccounts());
+    }
     return new BasicCredentialsLoader<>(
         kubernetesCredentialSource, credentialsParser, kubernetesCredentialsRepository);
   }
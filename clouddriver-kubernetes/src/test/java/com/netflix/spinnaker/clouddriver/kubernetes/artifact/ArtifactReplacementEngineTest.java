@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.kubernetes.artifact;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.gson.Gson;
+import com.netflix.spinnaker.clouddriver.artifacts.kubernetes.KubernetesArtifactType;
+import com.netflix.spinnaker.clouddriver.kubernetes.artifact.ArtifactReplacer.ReplaceResult;
+import com.netflix.spinnaker.clouddriver.kubernetes.caching.agent.KubernetesCacheDataConverter;
+import com.netflix.spinnaker.clouddriver.kubernetes.description.manifest.KubernetesManifest;
+import com.netflix.spinnaker.kork.artifacts.model.Artifact;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ConfigMapKeySelector;
+import io.kubernetes.client.openapi.models.V1ConfigMapProjection;
+import io.kubernetes.client.openapi.models.V1ConfigMapVolumeSource;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1CrossVersionObjectReference;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1DeploymentSpec;
+import io.kubernetes.client.openapi.models.V1EnvFromSource;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1EnvVarSource;
+import io.kubernetes.client.openapi.models.V1HorizontalPodAutoscaler;
+import io.kubernetes.client.openapi.models.V1HorizontalPodAutoscalerSpec;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodTemplateSpec;
+import io.kubernetes.client.openapi.models.V1ProjectedVolumeSource;
+import io.kubernetes.client.openapi.models.V1SecretEnvSource;
+import io.kubernetes.client.openapi.models.V1SecretVolumeSource;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.openapi.models.V1VolumeProjection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class ArtifactReplacementEngineTest {
+  private static final JSON json = new JSON();
+  private static final Gson gson = new Gson();
+
+  private static final String NAMESPACE = "ns";
+  private static final String ACCOUNT = "my-account";
+  private static final String DEFAULT_BINDING = "match-name-and-tag";
+  private static final String MATCH_NAME_ONLY_BINDING = "match-name-only";
+
+  private static final ArtifactReplacer artifactReplacer =
+      new ArtifactReplacer(
+          ImmutableList.of(
+              Replacer.dockerImage(),
+              Replacer.podDockerImage(),
+              Replacer.configMapVolume(),
+              Replacer.secretVolume(),
+              Replacer.configMapProjectedVolume(),
+              Replacer.secretProjectedVolume(),
+              Replacer.configMapKeyValue(),
+              Replacer.secretKeyValue(),
+              Replacer.configMapEnv(),
+              Replacer.secretEnv(),
+              Replacer.hpaDeployment(),
+              Replacer.hpaReplicaSet()));
+
+  private static final ImmutableList<Artifact> artifacts =
+      ImmutableList.of(
+          dockerImage("gcr.io/my-repository/my-image", "gcr.io/my-repository/my-image:v2"),
+          // A later artifact with the same name replaces the reference bound by an earlier one
+          dockerImage("gcr.io/my-repository/my-image", "gcr.io/my-repository/my-image:v3"),
+          // ...as does a later artifact whose name matches the new reference
+          dockerImage("gcr.io/my-repository/old-image", "gcr.io/my-repository/new-image:v1"),
+          dockerImage("gcr.io/my-repository/new-image", "gcr.io/my-repository/new-image:v2"),
+          kubernetes(KubernetesArtifactType.ConfigMap, "my-config-map", "my-config-map-v001"),
+          kubernetes(KubernetesArtifactType.ConfigMap, "my-projected-map", "my-projected-map-v002"),
+          kubernetes(KubernetesArtifactType.ConfigMap, "my-key-map", "my-key-map-v003"),
+          kubernetes(KubernetesArtifactType.Secret, "my-secret", "my-secret-v004"),
+          kubernetes(KubernetesArtifactType.Secret, "my-env-secret", "my-env-secret-v005"),
+          kubernetes(KubernetesArtifactType.Deployment, "my-deployment", "my-deployment-v006"),
+          kubernetes(KubernetesArtifactType.ReplicaSet, "my-deployment", "my-deployment-v007"));
+
+  @ParameterizedTest
+  @ValueSource(strings = {DEFAULT_BINDING, MATCH_NAME_ONLY_BINDING})
+  void deploymentMatchesReplacersAppliedInTurn(String dockerImageBinding) {
+    KubernetesManifest deployment = getDeployment();
+
+    ReplaceResult result =
+        artifactReplacer.replaceAll(dockerImageBinding, deployment, artifacts, NAMESPACE, ACCOUNT);
+    ReplaceResult expected =
+        artifactReplacer.replaceAllWithReplacers(
+            dockerImageBinding, deployment, artifacts, NAMESPACE, ACCOUNT);
+
+    assertThat(result.getManifest()).isEqualTo(expected.getManifest());
+    assertThat(result.getBoundArtifacts())
+        .containsExactlyElementsOf(expected.getBoundArtifacts());
+  }
+
+  @Test
+  void deploymentReplacesEveryReference() {
+    ReplaceResult result =
+        artifactReplacer.replaceAll(
+            DEFAULT_BINDING, getDeployment(), artifacts, NAMESPACE, ACCOUNT);
+
+    V1PodSpec podSpec =
+        KubernetesCacheDataConverter.getResource(result.getManifest(), V1Deployment.class)
+            .getSpec()
+            .getTemplate()
+            .getSpec();
+    assertThat(podSpec.getContainers())
+        .extracting(V1Container::getImage)
+        .containsExactly(
+            "gcr.io/my-repository/my-image:v3", "gcr.io/my-repository/new-image:v2");
+    assertThat(podSpec.getInitContainers())
+        .extracting(V1Container::getImage)
+        .containsExactly("gcr.io/my-repository/my-image:v3");
+    assertThat(podSpec.getVolumes().get(0).getConfigMap().getName())
+        .isEqualTo("my-config-map-v001");
+    assertThat(podSpec.getVolumes().get(1).getSecret().getSecretName())
+        .isEqualTo("my-secret-v004");
+    assertThat(
+            podSpec.getVolumes().get(2).getProjected().getSources().get(0).getConfigMap().getName())
+        .isEqualTo("my-projected-map-v002");
+    assertThat(
+            podSpec
+                .getContainers()
+                .get(0)
+                .getEnv()
+                .get(0)
+                .getValueFrom()
+                .getConfigMapKeyRef()
+                .getName())
+        .isEqualTo("my-key-map-v003");
+    assertThat(podSpec.getContainers().get(1).getEnvFrom().get(0).getSecretRef().getName())
+        .isEqualTo("my-env-secret-v005");
+
+    assertThat(result.getBoundArtifacts())
+        .containsExactlyInAnyOrderElementsOf(artifacts.subList(0, 9));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {DEFAULT_BINDING, MATCH_NAME_ONLY_BINDING})
+  void hpaMatchesReplacersAppliedInTurn(String dockerImageBinding) {
+    KubernetesManifest hpa = getHpa("Deployment");
+
+    ReplaceResult result =
+        artifactReplacer.replaceAll(dockerImageBinding, hpa, artifacts, NAMESPACE, ACCOUNT);
+    ReplaceResult expected =
+        artifactReplacer.replaceAllWithReplacers(
+            dockerImageBinding, hpa, artifacts, NAMESPACE, ACCOUNT);
+
+    assertThat(result.getManifest()).isEqualTo(expected.getManifest());
+    assertThat(result.getBoundArtifacts())
+        .containsExactlyElementsOf(expected.getBoundArtifacts())
+        .containsExactly(artifacts.get(9));
+  }
+
+  @Test
+  void hpaIgnoresUnknownKind() {
+    ReplaceResult result =
+        artifactReplacer.replaceAll(
+            DEFAULT_BINDING, getHpa("StatefulSet"), artifacts, NAMESPACE, ACCOUNT);
+
+    assertThat(result.getBoundArtifacts()).isEmpty();
+    assertThat(
+            KubernetesCacheDataConverter.getResource(
+                    result.getManifest(), V1HorizontalPodAutoscaler.class)
+                .getSpec()
+                .getScaleTargetRef()
+                .getName())
+        .isEqualTo("my-deployment");
+  }
+
+  private static Artifact dockerImage(String name, String reference) {
+    return Artifact.builder().type("docker/image").name(name).reference(reference).build();
+  }
+
+  private static Artifact kubernetes(KubernetesArtifactType type, String name, String reference) {
+    return Artifact.builder()
+        .type(type.getType())
+        .name(name)
+        .reference(reference)
+        .location(NAMESPACE)
+        .putMetadata("account", ACCOUNT)
+        .build();
+  }
+
+  private static KubernetesManifest getDeployment() {
+    String deployment =
+        json.serialize(
+            new V1Deployment()
+                .apiVersion("apps/v1")
+                .kind("Deployment")
+                .spec(
+                    new V1DeploymentSpec()
+                        .template(
+                            new V1PodTemplateSpec()
+                                .spec(
+                                    new V1PodSpec()
+                                        .addContainersItem(
+                                            new V1Container()
+                                                .name("main")
+                                                .image("gcr.io/my-repository/my-image:v1")
+                                                .addEnvItem(
+                                                    new V1EnvVar()
+                                                        .name("KEY")
+                                                        .valueFrom(
+                                                            new V1EnvVarSource()
+                                                                .configMapKeyRef(
+                                                                    new V1ConfigMapKeySelector()
+                                                                        .name("my-key-map")
+                                                                        .key("key")))))
+                                        .addContainersItem(
+                                            new V1Container()
+                                                .name("sidecar")
+                                                .image("gcr.io/my-repository/old-image")
+                                                .addEnvFromItem(
+                                                    new V1EnvFromSource()
+                                                        .secretRef(
+                                                            new V1SecretEnvSource()
+                                                                .name("my-env-secret"))))
+                                        .addInitContainersItem(
+                                            new V1Container()
+                                                .name("init")
+                                                .image("gcr.io/my-repository/my-image:v1"))
+                                        .addVolumesItem(
+                                            new V1Volume()
+                                                .name("config")
+                                                .configMap(
+                                                    new V1ConfigMapVolumeSource()
+                                                        .name("my-config-map")))
+                                        .addVolumesItem(
+                                            new V1Volume()
+                                                .name("secret")
+                                                .secret(
+                                                    new V1SecretVolumeSource()
+                                                        .secretName("my-secret")))
+                                        .addVolumesItem(
+                                            new V1Volume()
+                                                .name("projected")
+                                                .projected(
+                                                    new V1ProjectedVolumeSource()
+                                                        .addSourcesItem(
+                                                            new V1VolumeProjection()
+                                                                .configMap(
+                                                                    new V1ConfigMapProjection()
+                                                                        .name(
+                                                                            "my-projected-map")))))))));
+    return gson.fromJson(deployment, KubernetesManifest.class);
+  }
+
+  private static KubernetesManifest getHpa(String kind) {
+    String hpa =
+        json.serialize(
+            new V1HorizontalPodAutoscaler()
+                .apiVersion("autoscaling/v1")
+                .kind("HorizontalPodAutoscaler")
+                .spec(
+                    new V1HorizontalPodAutoscalerSpec()
+                        .scaleTargetRef(
+                            new V1CrossVersionObjectReference()
+                                .apiVersion("apps/v1")
+                                .kind(kind)
+                                .name("my-deployment"))));
+    return gson.fromJson(hpa, KubernetesManifest.class);
+  }
+}
@@ -19,11 +19,15 @@ package com.netflix.spinnaker.clouddriver.kubernetes.caching.view.provider;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.ImmutableMap.toImmutableMap;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -35,6 +39,7 @@ import com.netflix.spectator.api.NoopRegistry;
 import com.netflix.spectator.api.Registry;
 import com.netflix.spinnaker.cats.mem.InMemoryNamedCacheFactory;
 import com.netflix.spinnaker.cats.provider.DefaultProviderRegistry;
+import com.netflix.spinnaker.cats.provider.ProviderCache;
 import com.netflix.spinnaker.cats.provider.ProviderRegistry;
 import com.netflix.spinnaker.clouddriver.kubernetes.caching.KubernetesProvider;
 import com.netflix.spinnaker.clouddriver.kubernetes.caching.agent.KubernetesCachingAgentDispatcher;
@@ -264,6 +269,29 @@ final class KubernetesDataProviderIntegrationTest {
     assertThat(cluster).isNull();
   }
 
+  @Test
+  void getClustersReadsEachRelationshipTypeOnce(SoftAssertions softly) {
+    ProviderCache cache =
+        spy(providerRegistry.getProviderCache(kubernetesProvider.getProviderName()));
+    KubernetesClusterProvider countingClusterProvider =
+        new KubernetesClusterProvider(new KubernetesCacheUtils(cache, kindMap, accountResolver));
+
+    Map<String, Set<KubernetesCluster>> results = countingClusterProvider.getClusters();
+    assertThat(results.get(ACCOUNT_NAME)).hasSize(2);
+
+    Map<String, Long> readsByType =
+        mockingDetails(cache).getInvocations().stream()
+            .filter(i -> i.getMethod().getName().equals("getAll"))
+            .filter(i -> i.getArguments().length == 2 && i.getArgument(1) instanceof Collection)
+            .collect(groupingBy(i -> i.getArgument(0), counting()));
+    assertThat(readsByType)
+        .containsKeys(
+            KubernetesKind.REPLICA_SET.toString(),
+            KubernetesKind.SERVICE.toString(),
+            KubernetesKind.POD.toString());
+    readsByType.forEach((type, reads) -> softly.assertThat(reads).as(type).isEqualTo(1));
+  }
+
   @Test
   void getClusterSummaries(SoftAssertions softly) {
     Map<String, Set<KubernetesCluster>> results = clusterProvider.getClusterSummaries("backendapp");
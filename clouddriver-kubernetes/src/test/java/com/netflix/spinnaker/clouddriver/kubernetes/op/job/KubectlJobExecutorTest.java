@@ -33,6 +33,7 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
@@ -46,6 +47,8 @@ import com.netflix.spinnaker.clouddriver.jobs.local.JobExecutorLocal;
 import com.netflix.spinnaker.clouddriver.kubernetes.config.KubernetesConfigurationProperties;
 import com.netflix.spinnaker.clouddriver.kubernetes.description.KubernetesPodMetric;
 import com.netflix.spinnaker.clouddriver.kubernetes.description.KubernetesPodMetric.ContainerMetric;
+import com.netflix.spinnaker.clouddriver.kubernetes.description.KubernetesResourceRule;
+import com.netflix.spinnaker.clouddriver.kubernetes.description.manifest.KubernetesKind;
 import com.netflix.spinnaker.clouddriver.kubernetes.description.manifest.KubernetesManifest;
 import com.netflix.spinnaker.clouddriver.kubernetes.op.handler.ManifestFetcher;
 import com.netflix.spinnaker.clouddriver.kubernetes.security.KubernetesCredentials;
@@ -182,6 +185,47 @@ final class KubectlJobExecutorTest {
     }
   }
 
+  @Test
+  void listResourceRules() {
+    when(jobExecutor.runJob(any(JobRequest.class)))
+        .thenReturn(
+            JobResult.<String>builder()
+                .result(Result.SUCCESS)
+                .output(
+                    ManifestFetcher.getResource(
+                        KubectlJobExecutorTest.class, "auth-can-i-list.txt"))
+                .error("")
+                .build());
+
+    KubectlJobExecutor kubectlJobExecutor =
+        new KubectlJobExecutor(
+            jobExecutor, new KubernetesConfigurationProperties(), new SimpleMeterRegistry());
+    ImmutableList<KubernetesResourceRule> rules =
+        kubectlJobExecutor.listResourceRules(mockKubernetesCredentials(), NAMESPACE);
+
+    assertThat(rules).hasSize(9);
+    assertThat(rules.get(2))
+        .isEqualTo(
+            new KubernetesResourceRule(
+                ImmutableSet.of("deployments.apps"),
+                ImmutableSet.of(),
+                ImmutableSet.of("get", "list", "watch")));
+    assertThat(rules.get(6).getResourceNames()).containsExactly("spinnaker-token");
+
+    assertThat(permitsList(rules, KubernetesKind.DEPLOYMENT)).isTrue();
+    assertThat(permitsList(rules, KubernetesKind.POD)).isTrue();
+    assertThat(permitsList(rules, KubernetesKind.INGRESS)).isTrue();
+    assertThat(permitsList(rules, KubernetesKind.NETWORK_POLICY)).isTrue();
+    assertThat(permitsList(rules, KubernetesKind.fromString("Certificate.cert-manager.io")))
+        .isTrue();
+    assertThat(permitsList(rules, KubernetesKind.fromString("Certificate.other.io"))).isFalse();
+    // restricted to a name
+    assertThat(permitsList(rules, KubernetesKind.SECRET)).isFalse();
+    // not listable
+    assertThat(permitsList(rules, KubernetesKind.CONFIG_MAP)).isFalse();
+    assertThat(permitsList(rules, KubernetesKind.REPLICA_SET)).isFalse();
+  }
+
   @DisplayName("test to verify how kubectl errors are handled when retries are disabled")
   @Test
   void kubectlJobExecutorErrorHandlingWhenRetriesAreDisabled() {
@@ -622,6 +666,10 @@ final class KubectlJobExecutorTest {
     assertThat(thrown.getMessage()).contains(new Gson().toJson(inputManifest));
   }
 
+  private static boolean permitsList(List<KubernetesResourceRule> rules, KubernetesKind kind) {
+    return rules.stream().anyMatch(rule -> rule.permitsList(kind));
+  }
+
   /** Returns a mock KubernetesCredentials object */
   private static KubernetesCredentials mockKubernetesCredentials() {
     return mockKubernetesCredentials("");
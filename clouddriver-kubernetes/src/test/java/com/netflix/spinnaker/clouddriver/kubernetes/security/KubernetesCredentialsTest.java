@@ -22,10 +22,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.gson.JsonSyntaxException;
 import com.netflix.spectator.api.DefaultRegistry;
 import com.netflix.spectator.api.ManualClock;
@@ -38,6 +43,7 @@ import com.netflix.spinnaker.clouddriver.data.task.Task;
 import com.netflix.spinnaker.clouddriver.kubernetes.config.KubernetesAccountProperties.ManagedAccount;
 import com.netflix.spinnaker.clouddriver.kubernetes.description.AccountResourcePropertyRegistry;
 import com.netflix.spinnaker.clouddriver.kubernetes.description.GlobalResourcePropertyRegistry;
+import com.netflix.spinnaker.clouddriver.kubernetes.description.KubernetesResourceRule;
 import com.netflix.spinnaker.clouddriver.kubernetes.description.KubernetesSpinnakerKindMap;
 import com.netflix.spinnaker.clouddriver.kubernetes.description.manifest.KubernetesKind;
 import com.netflix.spinnaker.clouddriver.kubernetes.description.manifest.KubernetesManifest;
@@ -47,9 +53,11 @@ import com.netflix.spinnaker.clouddriver.kubernetes.op.handler.KubernetesUnregis
 import com.netflix.spinnaker.clouddriver.kubernetes.op.job.KubectlJobExecutor;
 import com.netflix.spinnaker.clouddriver.kubernetes.op.job.KubectlJobExecutor.KubectlException;
 import com.netflix.spinnaker.clouddriver.kubernetes.op.job.KubectlJobExecutor.KubectlNotFoundException;
+import com.netflix.spinnaker.clouddriver.kubernetes.security.KubernetesCredentials.KubernetesKindStatus;
 import com.netflix.spinnaker.kork.configserver.CloudConfigResourceService;
 import com.netflix.spinnaker.kork.configserver.ConfigFileService;
 import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 
 final class KubernetesCredentialsTest {
@@ -60,6 +68,30 @@ final class KubernetesCredentialsTest {
   private final Task task = new DefaultTask("task-id");
 
   private KubernetesCredentials getCredentials(Registry registry, KubectlJobExecutor jobExecutor) {
+    ManagedAccount managedAccount = new ManagedAccount();
+    managedAccount.setName("my-account");
+    return getCredentials(
+        registry,
+        jobExecutor,
+        new GlobalKubernetesKindRegistry(ImmutableList.of()),
+        managedAccount);
+  }
+
+  private KubernetesCredentials getRulesReviewCredentials(
+      Registry registry, KubectlJobExecutor jobExecutor) {
+    ManagedAccount managedAccount = new ManagedAccount();
+    managedAccount.setName("my-account");
+    managedAccount.setNamespaces(ImmutableList.of(NAMESPACE));
+    managedAccount.setCheckPermissionsWithRulesReview(true);
+    return getCredentials(
+        registry, jobExecutor, new GlobalKubernetesKindRegistry(), managedAccount);
+  }
+
+  private KubernetesCredentials getCredentials(
+      Registry registry,
+      KubectlJobExecutor jobExecutor,
+      GlobalKubernetesKindRegistry globalKindRegistry,
+      ManagedAccount managedAccount) {
     KubernetesCredentials.Factory factory =
         new KubernetesCredentials.Factory(
             registry,
@@ -69,16 +101,18 @@ final class KubernetesCredentialsTest {
             new AccountResourcePropertyRegistry.Factory(
                 new GlobalResourcePropertyRegistry(
                     ImmutableList.of(), new KubernetesUnregisteredCustomResourceHandler())),
-            new KubernetesKindRegistry.Factory(
-                new GlobalKubernetesKindRegistry(ImmutableList.of())),
+            new KubernetesKindRegistry.Factory(globalKindRegistry),
             new KubernetesSpinnakerKindMap(ImmutableList.of()),
             new GlobalResourcePropertyRegistry(
                 ImmutableList.of(), new KubernetesUnregisteredCustomResourceHandler()));
-    ManagedAccount managedAccount = new ManagedAccount();
-    managedAccount.setName("my-account");
     return factory.build(managedAccount);
   }
 
+  private static KubernetesResourceRule rule(String resource, String... verbs) {
+    return new KubernetesResourceRule(
+        ImmutableSet.of(resource), ImmutableSet.of(), ImmutableSet.copyOf(verbs));
+  }
+
   private KubernetesManifest getManifest() {
     KubernetesManifest manifest = new KubernetesManifest();
     manifest.put("metadata", new HashMap<>());
@@ -370,6 +404,107 @@ final class KubernetesCredentialsTest {
     assertThat(result).isEqualTo(manifest);
   }
 
+  @Test
+  void kindListableByRulesIsReadableWithoutListingIt() {
+    KubectlJobExecutor jobExecutor = mock(KubectlJobExecutor.class);
+    KubernetesCredentials credentials = getRulesReviewCredentials(new NoopRegistry(), jobExecutor);
+    when(jobExecutor.listResourceRules(credentials, NAMESPACE))
+        .thenReturn(ImmutableList.of(rule("deployments.apps", "get", "list", "watch")));
+
+    assertThat(credentials.getKindStatus(KubernetesKind.DEPLOYMENT))
+        .isEqualTo(KubernetesKindStatus.VALID);
+    verify(jobExecutor, never()).list(eq(credentials), any(), any(), any());
+  }
+
+  @Test
+  void kindNotListableByRulesIsCheckedByListingIt() {
+    KubectlJobExecutor jobExecutor = mock(KubectlJobExecutor.class);
+    KubernetesCredentials credentials = getRulesReviewCredentials(new NoopRegistry(), jobExecutor);
+    when(jobExecutor.listResourceRules(credentials, NAMESPACE))
+        .thenReturn(
+            ImmutableList.of(
+                rule("deployments.apps", "get"),
+                new KubernetesResourceRule(
+                    ImmutableSet.of("services"),
+                    ImmutableSet.of("my-service"),
+                    ImmutableSet.of("list"))));
+    when(jobExecutor.list(eq(credentials), any(), eq(NAMESPACE), any()))
+        .thenThrow(new KubectlException("Forbidden"));
+
+    assertThat(credentials.getKindStatus(KubernetesKind.DEPLOYMENT))
+        .isEqualTo(KubernetesKindStatus.READ_ERROR);
+    assertThat(credentials.getKindStatus(KubernetesKind.SERVICE))
+        .isEqualTo(KubernetesKindStatus.READ_ERROR);
+    verify(jobExecutor)
+        .list(eq(credentials), eq(ImmutableList.of(KubernetesKind.DEPLOYMENT)), any(), any());
+    verify(jobExecutor)
+        .list(eq(credentials), eq(ImmutableList.of(KubernetesKind.SERVICE)), any(), any());
+  }
+
+  @Test
+  void clusterScopedKindIsCheckedByListingIt() {
+    KubectlJobExecutor jobExecutor = mock(KubectlJobExecutor.class);
+    KubernetesCredentials credentials = getRulesReviewCredentials(new NoopRegistry(), jobExecutor);
+    when(jobExecutor.listResourceRules(credentials, NAMESPACE))
+        .thenReturn(ImmutableList.of(rule("*.*", "*")));
+    when(jobExecutor.list(eq(credentials), any(), any(), any()))
+        .thenThrow(new KubectlException("Forbidden"));
+
+    assertThat(credentials.getKindStatus(KubernetesKind.CLUSTER_ROLE))
+        .isEqualTo(KubernetesKindStatus.READ_ERROR);
+    verify(jobExecutor)
+        .list(eq(credentials), eq(ImmutableList.of(KubernetesKind.CLUSTER_ROLE)), isNull(), any());
+  }
+
+  @Test
+  void resourceRulesAreListedAgainOnceExpired() {
+    KubectlJobExecutor jobExecutor = mock(KubectlJobExecutor.class);
+    ManualClock clock = new ManualClock();
+    KubernetesCredentials credentials =
+        getRulesReviewCredentials(new DefaultRegistry(clock), jobExecutor);
+    when(jobExecutor.listResourceRules(credentials, NAMESPACE))
+        .thenReturn(
+            ImmutableList.of(
+                rule("deployments.apps", "list"),
+                rule("replicasets.apps", "list"),
+                rule("services", "list")));
+
+    assertThat(credentials.isValidKind(KubernetesKind.DEPLOYMENT)).isTrue();
+    clock.setMonotonicTime(TimeUnit.SECONDS.toNanos(599));
+    assertThat(credentials.isValidKind(KubernetesKind.REPLICA_SET)).isTrue();
+    verify(jobExecutor, times(1)).listResourceRules(credentials, NAMESPACE);
+
+    clock.setMonotonicTime(TimeUnit.SECONDS.toNanos(600));
+    assertThat(credentials.isValidKind(KubernetesKind.SERVICE)).isTrue();
+    verify(jobExecutor, times(2)).listResourceRules(credentials, NAMESPACE);
+    verify(jobExecutor, never()).list(eq(credentials), any(), any(), any());
+  }
+
+  @Test
+  void kindsAreCheckedByListingThemWhenRulesCannotBeListed() {
+    KubectlJobExecutor jobExecutor = mock(KubectlJobExecutor.class);
+    KubernetesCredentials credentials = getRulesReviewCredentials(new NoopRegistry(), jobExecutor);
+    when(jobExecutor.listResourceRules(credentials, NAMESPACE))
+        .thenThrow(new KubectlException("Could not list resource rules"));
+    when(jobExecutor.list(
+            eq(credentials), eq(ImmutableList.of(KubernetesKind.DEPLOYMENT)), any(), any()))
+        .thenReturn(ImmutableList.of());
+    when(jobExecutor.list(
+            eq(credentials), eq(ImmutableList.of(KubernetesKind.SERVICE)), any(), any()))
+        .thenThrow(new KubectlException("Forbidden"));
+
+    assertThat(credentials.getKindStatus(KubernetesKind.DEPLOYMENT))
+        .isEqualTo(KubernetesKindStatus.VALID);
+    assertThat(credentials.getKindStatus(KubernetesKind.SERVICE))
+        .isEqualTo(KubernetesKindStatus.READ_ERROR);
+    verify(jobExecutor)
+        .list(
+            eq(credentials),
+            eq(ImmutableList.of(KubernetesKind.DEPLOYMENT)),
+            eq(NAMESPACE),
+            any());
+  }
+
   // This is an error type that will only ever be thrown by stubs in this test; that way we can
   // assert that it is thrown and be sure that we aren't accidentally passing due to an unrelated
   // exception.
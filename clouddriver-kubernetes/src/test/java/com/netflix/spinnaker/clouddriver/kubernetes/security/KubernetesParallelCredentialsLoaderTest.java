@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.kubernetes.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.netflix.spinnaker.clouddriver.kubernetes.KubernetesCloudProvider;
+import com.netflix.spinnaker.clouddriver.kubernetes.config.KubernetesAccountProperties.ManagedAccount;
+import com.netflix.spinnaker.clouddriver.kubernetes.config.KubernetesConfigurationProperties.LoadAccounts;
+import com.netflix.spinnaker.clouddriver.kubernetes.security.KubernetesParallelCredentialsLoader.AccountState;
+import com.netflix.spinnaker.credentials.CredentialsRepository;
+import com.netflix.spinnaker.credentials.MapBackedCredentialsRepository;
+import com.netflix.spinnaker.credentials.definition.CredentialsParser;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class KubernetesParallelCredentialsLoaderTest {
+  private final CredentialsRepository<KubernetesNamedAccountCredentials> repository =
+      new MapBackedCredentialsRepository<>(
+          KubernetesCloudProvider.ID, new NoopCredentialsLifecycleHandler());
+  private final LoadAccounts loadAccounts = new LoadAccounts();
+  private final List<ManagedAccount> definitions = new ArrayList<>();
+  private final Map<String, CountDownLatch> blocked = new ConcurrentHashMap<>();
+  private final Set<String> failing = ConcurrentHashMap.newKeySet();
+  private final Set<String> invalid = ConcurrentHashMap.newKeySet();
+  private final Set<String> uninterruptible = ConcurrentHashMap.newKeySet();
+  private final Map<String, Thread> loadingThreads = new ConcurrentHashMap<>();
+  private final ConcurrentLinkedQueue<String> parsed = new ConcurrentLinkedQueue<>();
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  private final KubernetesParallelCredentialsLoader loader =
+      new KubernetesParallelCredentialsLoader(
+          () -> definitions, parser(), repository, loadAccounts);
+
+  @AfterEach
+  void releaseBlockedAccounts() {
+    release.countDown();
+  }
+
+  @Test
+  void loadsPriorityAccountsFirst() {
+    loadAccounts.setNumberOfThreads(1);
+    loadAccounts.setPriorityAccounts(List.of("important"));
+    addAccounts("a", "b", "important", "c");
+
+    loader.load();
+
+    assertThat(parsed).containsExactly("important", "a", "b", "c");
+    assertThat(repository.getAll()).hasSize(4);
+    assertThat(loader.getAccountStates())
+        .containsOnlyKeys("a", "b", "important", "c")
+        .allSatisfy((name, state) -> assertThat(state).isEqualTo(AccountState.READY));
+  }
+
+  @Test
+  void skipsAccountsThatFailOrTimeOutUntilTheNextLoad() {
+    loadAccounts.setTimeoutInSeconds(1);
+    addAccounts("good", "invalid", "broken", "slow");
+    invalid.add("invalid");
+    failing.add("broken");
+    blocked.put("slow", new CountDownLatch(1));
+
+    loader.load();
+
+    assertThat(repository.getAll())
+        .extracting(KubernetesNamedAccountCredentials::getName)
+        .containsExactly("good");
+    assertThat(loader.getAccountStates())
+        .containsEntry("good", AccountState.READY)
+        .containsEntry("invalid", AccountState.FAILED)
+        .containsEntry("broken", AccountState.FAILED)
+        .containsEntry("slow", AccountState.FAILED);
+
+    parsed.clear();
+    invalid.clear();
+    failing.clear();
+    blocked.clear();
+    loader.load();
+
+    assertThat(parsed).containsExactlyInAnyOrder("invalid", "broken", "slow");
+    assertThat(repository.getOne("slow")).isNotNull();
+  }
+
+  @Test
+  void discardsAccountsThatFinishLoadingAfterTimingOut() throws Exception {
+    loadAccounts.setTimeoutInSeconds(1);
+    addAccounts("stubborn");
+    blocked.put("stubborn", new CountDownLatch(1));
+    uninterruptible.add("stubborn");
+
+    loader.load();
+    assertThat(loader.getAccountStates()).containsEntry("stubborn", AccountState.FAILED);
+
+    release.countDown();
+    loadingThreads.get("stubborn").join(TimeUnit.SECONDS.toMillis(10));
+
+    assertThat(repository.getOne("stubborn")).isNull();
+    assertThat(loader.getAccountStates()).containsEntry("stubborn", AccountState.FAILED);
+  }
+
+  @Test
+  void loadsOtherAccountsInTheBackgroundUnlessWaitingForAll() throws Exception {
+    loadAccounts.setWaitForAllAccounts(false);
+    loadAccounts.setPriorityAccounts(List.of("important"));
+    addAccounts("important", "slow");
+    CountDownLatch slowStarted = new CountDownLatch(1);
+    blocked.put("slow", slowStarted);
+
+    loader.load();
+
+    assertThat(repository.getOne("important")).isNotNull();
+    assertThat(repository.getOne("slow")).isNull();
+    assertThat(loader.getAccountStates()).containsEntry("slow", AccountState.LOADING);
+
+    // an account still loading from a previous poll isn't loaded a second time
+    assertThat(slowStarted.await(10, TimeUnit.SECONDS)).isTrue();
+    loader.load();
+    assertThat(parsed).containsExactlyInAnyOrder("important", "slow");
+
+    release.countDown();
+    waitFor(() -> loader.getAccountStates().get("slow") == AccountState.READY);
+    assertThat(repository.getOne("slow")).isNotNull();
+  }
+
+  @Test
+  void deletesAccountsThatAreNoLongerDefined() {
+    addAccounts("a", "b");
+    loader.load();
+
+    definitions.removeIf(definition -> definition.getName().equals("b"));
+    loader.load();
+
+    assertThat(repository.getOne("b")).isNull();
+    assertThat(loader.getAccountStates()).containsOnlyKeys("a");
+  }
+
+  @SuppressWarnings("unchecked")
+  private CredentialsParser<ManagedAccount, KubernetesNamedAccountCredentials> parser() {
+    CredentialsParser<ManagedAccount, KubernetesNamedAccountCredentials> parser =
+        mock(CredentialsParser.class);
+    when(parser.parse(any())).thenAnswer(invocation -> parse(invocation.getArgument(0)));
+    return parser;
+  }
+
+  private KubernetesNamedAccountCredentials parse(ManagedAccount definition) {
+    String name = definition.getName();
+    parsed.add(name);
+    CountDownLatch started = blocked.get(name);
+    if (started != null && uninterruptible.contains(name)) {
+      loadingThreads.put(name, Thread.currentThread());
+      started.countDown();
+      Uninterruptibles.awaitUninterruptibly(release);
+    } else if (started != null) {
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      }
+    }
+    if (failing.contains(name)) {
+      throw new IllegalStateException("Could not load account " + name);
+    }
+    if (invalid.contains(name)) {
+      return null;
+    }
+    KubernetesNamedAccountCredentials credentials = mock(KubernetesNamedAccountCredentials.class);
+    when(credentials.getName()).thenReturn(name);
+    return credentials;
+  }
+
+  private void addAccounts(String... names) {
+    for (String name : names) {
+      ManagedAccount definition = new ManagedAccount();
+      definition.setName(name);
+      definitions.add(definition);
+    }
+  }
+
+  private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!condition.getAsBoolean()) {
+      assertThat(System.nanoTime()).isLessThan(deadline);
+      Thread.sleep(10);
+    }
+  }
+}
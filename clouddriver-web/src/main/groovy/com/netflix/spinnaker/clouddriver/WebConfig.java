@@ -17,7 +17,11 @@
 package com.netflix.spinnaker.clouddriver;
 
 import com.netflix.spectator.api.Registry;
+import com.netflix.spinnaker.cats.cache.Cache;
+import com.netflix.spinnaker.cats.provider.ProviderRegistry;
 import com.netflix.spinnaker.clouddriver.configuration.CredentialsConfiguration;
+import com.netflix.spinnaker.clouddriver.filters.CacheVersionETagInterceptor;
+import com.netflix.spinnaker.clouddriver.filters.CacheVersionETagProperties;
 import com.netflix.spinnaker.clouddriver.requestqueue.RequestQueue;
 import com.netflix.spinnaker.clouddriver.requestqueue.RequestQueueConfiguration;
 import com.netflix.spinnaker.filters.AuthenticatedRequestFilter;
@@ -26,8 +30,11 @@ import com.netflix.spinnaker.kork.web.context.MdcCopyingAsyncTaskExecutor;
 import com.netflix.spinnaker.kork.web.interceptors.MetricsInterceptor;
 import jakarta.servlet.Filter;
 import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -49,17 +56,27 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
   "com.netflix.spinnaker.clouddriver.listeners",
   "com.netflix.spinnaker.clouddriver.security",
 })
-@EnableConfigurationProperties({CredentialsConfiguration.class, RequestQueueConfiguration.class})
+@EnableConfigurationProperties({
+  CredentialsConfiguration.class,
+  RequestQueueConfiguration.class,
+  CacheVersionETagProperties.class
+})
 public class WebConfig implements WebMvcConfigurer {
   private final Registry registry;
   private final AsyncTaskExecutor asyncTaskExecutor;
+  private final CacheVersionETagProperties cacheVersionETagProperties;
+  private final ObjectProvider<CacheVersionETagInterceptor> cacheVersionETagInterceptor;
 
   @Autowired
   public WebConfig(
       Registry registry,
-      @Qualifier("threadPoolTaskScheduler") AsyncTaskExecutor asyncTaskExecutor) {
+      @Qualifier("threadPoolTaskScheduler") AsyncTaskExecutor asyncTaskExecutor,
+      CacheVersionETagProperties cacheVersionETagProperties,
+      ObjectProvider<CacheVersionETagInterceptor> cacheVersionETagInterceptor) {
     this.registry = registry;
     this.asyncTaskExecutor = asyncTaskExecutor;
+    this.cacheVersionETagProperties = cacheVersionETagProperties;
+    this.cacheVersionETagInterceptor = cacheVersionETagInterceptor;
   }
 
   @Override
@@ -70,6 +87,14 @@ public class WebConfig implements WebMvcConfigurer {
             "controller.invocations",
             List.of("account", "region"),
             List.of("BasicErrorController")));
+    cacheVersionETagInterceptor.ifAvailable(
+        interceptor ->
+            registry
+                .addInterceptor(interceptor)
+                .addPathPatterns(
+                    cacheVersionETagProperties.getEndpoints().stream()
+                        .flatMap(endpoint -> endpoint.getPathPatterns().stream())
+                        .collect(Collectors.toList())));
   }
 
   @Bean
@@ -77,6 +102,14 @@ public class WebConfig implements WebMvcConfigurer {
     return new ShallowEtagHeaderFilter();
   }
 
+  @Bean
+  @ConditionalOnProperty("etag.cache-version.enabled")
+  CacheVersionETagInterceptor cacheVersionETagInterceptor(
+      Cache cacheView, ProviderRegistry providerRegistry) {
+    return new CacheVersionETagInterceptor(
+        cacheView, providerRegistry, registry, cacheVersionETagProperties.getEndpoints());
+  }
+
   @Bean
   RequestQueue requestQueue(
       DynamicConfigService dynamicConfigService,
@@ -51,7 +51,7 @@ class ApplicationsController {
   RequestQueue requestQueue
 
   @PreAuthorize("#restricted ? @fiatPermissionEvaluator.storeWholePermission() : true")
-  @PostFilter("#restricted ? hasPermission(filterObject.name, 'APPLICATION', 'READ') : true")
+  @PostFilter("#restricted ? @authorizationSupport.hasPermission(filterObject.name, 'APPLICATION', 'READ') : true")
   @RequestMapping(method = RequestMethod.GET)
   List<Application> list(@RequestParam(required = false, value = 'expand', defaultValue = 'true') boolean expand,
                          @RequestParam(required = false, value = 'restricted', defaultValue = 'true') boolean restricted) {
@@ -17,10 +17,13 @@
 package com.netflix.spinnaker.clouddriver.controllers
 
 import com.netflix.frigga.Names
+import com.netflix.spectator.api.NoopRegistry
+import com.netflix.spectator.api.Registry
 import com.netflix.spinnaker.clouddriver.model.EntityTags
 import com.netflix.spinnaker.clouddriver.model.LoadBalancerProvider
 import com.netflix.spinnaker.clouddriver.security.AccountCredentials
 import com.netflix.spinnaker.clouddriver.security.AccountCredentialsProvider
+import com.netflix.spinnaker.clouddriver.security.RequestPermissionCache
 import com.netflix.spinnaker.fiat.shared.FiatPermissionEvaluator
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.security.core.Authentication
@@ -39,6 +42,19 @@ class AuthorizationSupport {
   @Autowired
   AccountCredentialsProvider accountCredentialsProvider
 
+  @Autowired(required = false)
+  Registry registry
+
+  @Lazy
+  RequestPermissionCache permissionCache = new RequestPermissionCache(permissionEvaluator, registry ?: new NoopRegistry())
+
+  /**
+   * Permission check for @PostFilter expressions on large lists, evaluating each distinct resource once per request.
+   */
+  boolean hasPermission(String resourceName, String resourceType, String authorization) {
+    return permissionCache.hasPermission(SecurityContextHolder.context.authentication, resourceName, resourceType, authorization)
+  }
+
   /**
    * Performs READ authorization checks on returned Maps that are keyed by account name.
    * @param map Objected returned by a controller that has account names as the key
@@ -52,7 +68,7 @@ class AuthorizationSupport {
     Authentication auth = SecurityContextHolder.context.authentication;
 
     new HashMap(map).keySet().each { String account ->
-      if (!permissionEvaluator.hasPermission(auth, account, 'ACCOUNT', 'READ')) {
+      if (!permissionCache.hasPermission(auth, account, 'ACCOUNT', 'READ')) {
         map.remove(account)
       }
     }
@@ -76,7 +92,7 @@ class AuthorizationSupport {
       }
       String account = propertySource.account ?: propertySource.accountName
 
-      if (account && !permissionEvaluator.hasPermission(auth, account, 'ACCOUNT', 'READ')) {
+      if (account && !permissionCache.hasPermission(auth, account, 'ACCOUNT', 'READ')) {
         items.remove(item)
       }
     }
@@ -108,12 +124,12 @@ class AuthorizationSupport {
 
     Authentication auth = SecurityContextHolder.context.authentication;
 
-    if (!permissionEvaluator.hasPermission(auth, application, 'APPLICATION', 'READ')) {
+    if (!permissionCache.hasPermission(auth, application, 'APPLICATION', 'READ')) {
       return false
     }
 
     new ArrayList<>(lbItem.byAccounts).each { LoadBalancerProvider.ByAccount account ->
-      if (!permissionEvaluator.hasPermission(auth, account.name, 'ACCOUNT', 'READ')) {
+      if (!permissionCache.hasPermission(auth, account.name, 'ACCOUNT', 'READ')) {
         lbItem.byAccounts.remove(account)
       }
     }
@@ -142,12 +158,12 @@ class AuthorizationSupport {
       boolean hasPermission = true
 
       if (it.entityRef.application) {
-        hasPermission = hasPermission && permissionEvaluator.hasPermission(auth, it.entityRef.application, 'APPLICATION', 'READ')
+        hasPermission = hasPermission && permissionCache.hasPermission(auth, it.entityRef.application, 'APPLICATION', 'READ')
       }
 
       String accountName = accountNameById[it.entityRef.accountId]
       if (accountName) {
-        hasPermission = hasPermission && permissionEvaluator.hasPermission(auth, accountName, 'ACCOUNT', 'READ')
+        hasPermission = hasPermission && permissionCache.hasPermission(auth, accountName, 'ACCOUNT', 'READ')
       }
 
       return hasPermission
@@ -21,6 +21,7 @@ import com.netflix.spinnaker.cats.cache.CacheIntrospectionStore
 import com.netflix.spinnaker.clouddriver.cache.OnDemandCacheStatus
 import com.netflix.spinnaker.clouddriver.cache.OnDemandCacheUpdater
 import com.netflix.spinnaker.clouddriver.cache.OnDemandType
+import com.netflix.spinnaker.clouddriver.cache.ProfilingInstrumentation
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.http.HttpStatus
@@ -34,6 +35,9 @@ class CacheController {
   @Autowired
   List<OnDemandCacheUpdater> onDemandCacheUpdaters
 
+  @Autowired(required = false)
+  ProfilingInstrumentation profilingInstrumentation
+
   @RequestMapping(method = RequestMethod.POST, value = "/{cloudProvider}/{type}")
   ResponseEntity handleOnDemand(@PathVariable String cloudProvider,
                                 @PathVariable String type,
@@ -63,6 +67,12 @@ class CacheController {
         .toSorted { a, b -> b.getLastExecutionStartMs() <=> a.getLastExecutionStartMs() }
   }
 
+  @RequestMapping(method = RequestMethod.GET, value = "/agents/profile")
+  Collection<ProfilingInstrumentation.AgentProfile> getAgentProfiles() {
+    // sorted by descending duration of the last execution, so the slowest agents are first
+    return profilingInstrumentation?.getProfiles() ?: []
+  }
+
   @RequestMapping(method = RequestMethod.GET, value = "/{cloudProvider}/{type}")
   Collection<Map> pendingOnDemands(@PathVariable String cloudProvider,
                                    @PathVariable String type,
@@ -20,6 +20,7 @@ import com.netflix.spinnaker.clouddriver.model.DataProvider
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException
 import com.netflix.spinnaker.security.AuthenticatedRequest
 import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.http.HttpHeaders
 import org.springframework.security.access.AccessDeniedException
 import org.springframework.util.AntPathMatcher
 import org.springframework.web.bind.annotation.PathVariable
@@ -31,10 +32,13 @@ import org.springframework.web.servlet.HandlerMapping
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody
 
 import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse
+import java.util.zip.GZIPOutputStream
 
 @RestController
 @RequestMapping("/v1/data")
 class DataController {
+  private static final int GZIP_BUFFER_SIZE = 64 * 1024
 
   List<DataProvider> dataProviders
 
@@ -60,10 +64,17 @@ class DataController {
     return dataProvider.getStaticData(id, filters)
   }
 
+  /**
+   * Streams an ad-hoc object from its source to the response as it is read, rather than holding it in memory.
+   *
+   * Objects of unknown length are sent chunked. Clients that accept gzip receive objects stored gzipped as is,
+   * and others compressed on the fly.
+   */
   @RequestMapping(value = "/adhoc/{groupId}/{bucketId}/**")
   StreamingResponseBody getAdhocData(@PathVariable("groupId") String groupId,
                                      @PathVariable("bucketId") String bucketId,
-                                     HttpServletRequest httpServletRequest) {
+                                     HttpServletRequest httpServletRequest,
+                                     HttpServletResponse httpServletResponse) {
     def dataProvider = dataProviders.find { it.supportsIdentifier(DataProvider.IdentifierType.Adhoc, groupId) }
     if (!dataProvider) {
       throw new NotFoundException("No data available (groupId: ${groupId})")
@@ -75,14 +86,44 @@ class DataController {
     String pattern = (String) httpServletRequest.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
     String objectId = new AntPathMatcher().extractPathWithinPattern(pattern, httpServletRequest.getServletPath());
 
+    DataProvider.AdhocObject adhocObject = dataProvider.openAdhocData(groupId, bucketId, objectId)
+    boolean compress = adhocObject.contentEncoding == null && acceptsGzip(httpServletRequest)
+
+    if (adhocObject.contentType) {
+      httpServletResponse.setContentType(adhocObject.contentType)
+    }
+    if (adhocObject.contentEncoding) {
+      httpServletResponse.setHeader(HttpHeaders.CONTENT_ENCODING, adhocObject.contentEncoding)
+    } else if (compress) {
+      httpServletResponse.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip")
+    }
+    if (!compress && adhocObject.contentLength >= 0) {
+      httpServletResponse.setContentLengthLong(adhocObject.contentLength)
+    }
+    httpServletResponse.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+
     return new StreamingResponseBody() {
       @Override
       void writeTo (OutputStream outputStream) throws IOException {
-        dataProvider.getAdhocData(groupId, bucketId, objectId, outputStream)
+        try {
+          if (compress) {
+            GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE)
+            adhocObject.writeTo(gzipOutputStream)
+            gzipOutputStream.finish()
+          } else {
+            adhocObject.writeTo(outputStream)
+          }
+        } finally {
+          adhocObject.close()
+        }
       }
     };
   }
 
+  private static boolean acceptsGzip(HttpServletRequest httpServletRequest) {
+    return httpServletRequest.getHeader(HttpHeaders.ACCEPT_ENCODING)?.toLowerCase()?.contains("gzip") ?: false
+  }
+
   private static void verifyAccessToAccount(String account) {
     def allowedAccounts = (AuthenticatedRequest.getSpinnakerAccounts().orElse(null)?.split(",") ?: []) as Set<String>
     if (!allowedAccounts.contains(account)) {
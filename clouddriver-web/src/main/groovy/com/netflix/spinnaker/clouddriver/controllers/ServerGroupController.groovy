@@ -207,7 +207,7 @@ class ServerGroupController {
     return summaryList(application, cloudProvider)
   }
 
-  @PostFilter("hasPermission(filterObject?.application, 'APPLICATION', 'READ')")
+  @PostFilter("@authorizationSupport.hasPermission(filterObject?.application, 'APPLICATION', 'READ')")
   @PostAuthorize("@authorizationSupport.filterForAccounts(returnObject)")
   @RequestMapping(value = "/serverGroups", method = RequestMethod.GET)
   List<ServerGroupViewModel> getServerGroups(
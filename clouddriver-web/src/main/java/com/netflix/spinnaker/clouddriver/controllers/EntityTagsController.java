@@ -28,6 +28,7 @@ import org.springframework.security.access.prepost.PostAuthorize;
 import org.springframework.security.access.prepost.PostFilter;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.util.AntPathMatcher;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -49,7 +50,8 @@ public class EntityTagsController {
 
   @RequestMapping(method = RequestMethod.GET)
   @PreAuthorize("@fiatPermissionEvaluator.storeWholePermission()")
-  @PostFilter("hasPermission(filterObject.getEntityRef().getApplication(), 'APPLICATION', 'READ')")
+  @PostFilter(
+      "@authorizationSupport.hasPermission(filterObject.getEntityRef().getApplication(), 'APPLICATION', 'READ')")
   public Collection<EntityTags> list(
       @RequestParam(value = "cloudProvider", required = false) String cloudProvider,
       @RequestParam(value = "application", required = false) String application,
@@ -82,6 +84,15 @@ public class EntityTagsController {
         maxResults);
   }
 
+  /** Fetch the EntityTags of many entities at once, e.g. to decorate every server group shown. */
+  @RequestMapping(value = "/batch", method = RequestMethod.POST)
+  @PreAuthorize("@fiatPermissionEvaluator.storeWholePermission()")
+  @PostFilter(
+      "@authorizationSupport.hasPermission(filterObject.getEntityRef().getApplication(), 'APPLICATION', 'READ')")
+  public Collection<EntityTags> batchGet(@RequestBody List<String> ids) {
+    return new ArrayList<>(tagProvider.getAll(ids));
+  }
+
   @RequestMapping(value = "/**", method = RequestMethod.GET)
   @PreAuthorize("@fiatPermissionEvaluator.storeWholePermission()")
   @PostAuthorize("@authorizationSupport.authorizeEntityTags(returnObject)")
@@ -51,7 +51,7 @@ public class ServerGroupManagerController {
   }
 
   @PreAuthorize("hasPermission(#application, 'APPLICATION', 'READ')")
-  @PostFilter("hasPermission(filterObject.account, 'ACCOUNT', 'READ')")
+  @PostFilter("@authorizationSupport.hasPermission(filterObject.account, 'ACCOUNT', 'READ')")
   @RequestMapping(method = RequestMethod.GET)
   Set<ServerGroupManager> getForApplication(@PathVariable String application) {
     return serverGroupManagerProviders.stream()
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.filters;
+
+import com.google.common.base.Suppliers;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.netflix.spectator.api.Id;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spinnaker.cats.agent.AgentDataType;
+import com.netflix.spinnaker.cats.agent.CachingAgent;
+import com.netflix.spinnaker.cats.cache.Cache;
+import com.netflix.spinnaker.cats.provider.ProviderRegistry;
+import com.netflix.spinnaker.clouddriver.core.provider.agent.Namespace;
+import com.netflix.spinnaker.security.AuthenticatedRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Tags responses with an ETag derived from the versions of the cached types that the requested
+ * endpoint reads, and answers requests whose If-None-Match still matches it with a 304 before the
+ * controller runs. A write to any other type leaves the tag as it is.
+ *
+ * <p>Unlike the shallow ETag filter, which hashes the serialized response, an unchanged poll of a
+ * large endpoint neither reads the cache nor serializes anything. The tag also covers the request
+ * URI, query string, user and accounts, as responses are filtered by what the caller may see.
+ *
+ * <p>Only takes effect when the cache supports versions (the SQL cache does). Because cache
+ * versions may lag behind changes for a few seconds, so may the responses to conditional requests.
+ */
+public class CacheVersionETagInterceptor implements HandlerInterceptor {
+  private final Cache cacheView;
+  private final Registry registry;
+  private final Supplier<Set<String>> cachedTypes;
+  private final List<CacheVersionETagProperties.Endpoint> endpoints;
+  private final PathMatcher pathMatcher = new AntPathMatcher();
+  private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+  private final Id notModifiedId;
+
+  public CacheVersionETagInterceptor(
+      Cache cacheView,
+      ProviderRegistry providerRegistry,
+      Registry registry,
+      List<CacheVersionETagProperties.Endpoint> endpoints) {
+    this.cacheView = cacheView;
+    this.registry = registry;
+    // agents come and go with accounts, but rarely enough that their types can be reused a while
+    this.cachedTypes =
+        Suppliers.memoizeWithExpiration(() -> cachedTypes(providerRegistry), 30, TimeUnit.SECONDS);
+    this.endpoints = endpoints;
+    this.notModifiedId = registry.createId("etag.cacheVersion.notModified");
+  }
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (!HttpMethod.GET.matches(request.getMethod()) || !cacheView.supportsVersions()) {
+      return true;
+    }
+
+    String eTag = eTag(request);
+    response.setHeader(HttpHeaders.ETAG, eTag);
+    if (new ServletWebRequest(request, response).checkNotModified(eTag)) {
+      registry.counter(notModifiedId).increment();
+      return false;
+    }
+    return true;
+  }
+
+  private String eTag(HttpServletRequest request) {
+    Hasher hasher = Hashing.murmur3_128().newHasher();
+    for (String type : types(request)) {
+      hasher.putString(type, StandardCharsets.UTF_8);
+      hasher.putString(cacheView.getVersion(type), StandardCharsets.UTF_8);
+    }
+    hasher.putString(request.getRequestURI(), StandardCharsets.UTF_8);
+    if (request.getQueryString() != null) {
+      hasher.putString(request.getQueryString(), StandardCharsets.UTF_8);
+    }
+    hasher.putString(AuthenticatedRequest.getSpinnakerUser().orElse(""), StandardCharsets.UTF_8);
+    hasher.putString(
+        AuthenticatedRequest.getSpinnakerAccounts().orElse(""), StandardCharsets.UTF_8);
+    return "W/\"" + hasher.hash() + "\"";
+  }
+
+  /** The types read by the first endpoint that matches the request, sorted. */
+  private Set<String> types(HttpServletRequest request) {
+    String path = urlPathHelper.getLookupPathForRequest(request);
+    return endpoints.stream()
+        .filter(
+            endpoint ->
+                endpoint.getPathPatterns().stream()
+                    .anyMatch(pattern -> pathMatcher.match(pattern, path)))
+        .findFirst()
+        .filter(endpoint -> !endpoint.getTypes().isEmpty())
+        .<Set<String>>map(endpoint -> new TreeSet<>(endpoint.getTypes()))
+        .orElseGet(cachedTypes);
+  }
+
+  private static Set<String> cachedTypes(ProviderRegistry providerRegistry) {
+    Set<String> types = new TreeSet<>();
+    types.add(Namespace.ON_DEMAND.ns);
+    providerRegistry.getProviders().stream()
+        .flatMap(provider -> provider.getAgents().stream())
+        .filter(CachingAgent.class::isInstance)
+        .flatMap(agent -> ((CachingAgent) agent).getProvidedDataTypes().stream())
+        .map(AgentDataType::getTypeName)
+        .forEach(types::add);
+    return types;
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.filters;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("etag.cache-version")
+public class CacheVersionETagProperties {
+  /**
+   * Whether responses of the matching endpoints are tagged with the version of the cache, so that
+   * unchanged polls are answered with a 304 before the response is computed.
+   */
+  private boolean enabled = false;
+
+  /** The endpoints whose responses are tagged. */
+  private List<Endpoint> endpoints =
+      new ArrayList<>(
+          List.of(
+              new Endpoint(
+                  List.of("/applications/*/serverGroups/**", "/applications/*/clusters/**"),
+                  List.of(
+                      // Namespace types, as read by most cluster providers
+                      "applications",
+                      "clusters",
+                      "serverGroups",
+                      "instances",
+                      "loadBalancers",
+                      "targetGroups",
+                      "launchConfigs",
+                      "launchTemplates",
+                      "images",
+                      "health",
+                      "onDemand",
+                      // Kubernetes kinds of server groups, their managers, instances and load
+                      // balancers
+                      "replicaSet",
+                      "statefulSet",
+                      "daemonSet",
+                      "replicationController",
+                      "deployment",
+                      "pod",
+                      "service",
+                      "ingress",
+                      // ECS
+                      "ecsApplications",
+                      "ecsClusters",
+                      "services",
+                      "tasks",
+                      "containerInstances",
+                      "taskDefinitions",
+                      "targetHealths",
+                      "scalableTargets",
+                      "alarms")),
+              new Endpoint(List.of("/search"), List.of())));
+
+  /**
+   * Path patterns whose responses are read from a known set of cached types. Their tag only changes
+   * when one of those types does, so it must list every type the responses are read from, such as
+   * custom Kubernetes kinds registered as server groups; otherwise a changed response may be
+   * answered with a 304.
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Endpoint {
+    private List<String> pathPatterns = new ArrayList<>();
+
+    /** The cached types that the responses are read from, or every cached type when empty. */
+    private List<String> types = new ArrayList<>();
+  }
+}
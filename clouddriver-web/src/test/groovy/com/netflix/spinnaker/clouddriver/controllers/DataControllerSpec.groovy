@@ -19,12 +19,17 @@ package com.netflix.spinnaker.clouddriver.controllers
 import com.netflix.spinnaker.clouddriver.model.DataProvider
 import com.netflix.spinnaker.kork.web.context.AuthenticatedRequestContextProvider
 import com.netflix.spinnaker.kork.web.context.RequestContextProvider
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
 import org.springframework.security.access.AccessDeniedException
+import org.springframework.web.servlet.HandlerMapping
 import spock.lang.Shared
 import spock.lang.Specification
 import spock.lang.Subject
 
 import jakarta.servlet.http.HttpServletRequest
+import java.nio.charset.StandardCharsets
+import java.util.zip.GZIPInputStream
 
 class DataControllerSpec extends Specification {
 
@@ -40,6 +45,19 @@ class DataControllerSpec extends Specification {
     DataProvider dataProvider = Mock(DataProvider) {
       supportsIdentifier(_ as DataProvider.IdentifierType, _ as String) >> { return true }
       getAccountForIdentifier(_ as DataProvider.IdentifierType, _ as String) >> { _, id -> return id }
+      openAdhocData(_ as String, _ as String, _ as String) >> { _, __, objectId ->
+        return new DataProvider.AdhocObject() {
+          @Override
+          void writeTo(OutputStream outputStream) throws IOException {
+            outputStream.write("contents of ${objectId}".getBytes(StandardCharsets.UTF_8))
+          }
+
+          @Override
+          long getContentLength() {
+            return "contents of ${objectId}".length()
+          }
+        }
+      }
     }
 
     dataProviders = Optional.of([dataProvider])
@@ -70,7 +88,7 @@ class DataControllerSpec extends Specification {
     def httpServletRequest = Mock(HttpServletRequest)
 
     when:
-    dataController.getAdhocData("groupId", "restricted", httpServletRequest)
+    dataController.getAdhocData("groupId", "restricted", httpServletRequest, new MockHttpServletResponse())
 
     then:
     thrown(AccessDeniedException)
@@ -82,7 +100,7 @@ class DataControllerSpec extends Specification {
     contextProvider.get().setAccounts("restricted")
 
     when:
-    dataController.getAdhocData("groupId", "restricted", httpServletRequest)
+    dataController.getAdhocData("groupId", "restricted", httpServletRequest, new MockHttpServletResponse())
 
     then:
     httpServletRequest.getAttribute(_ as String) >> { return "pattern" }
@@ -90,6 +108,46 @@ class DataControllerSpec extends Specification {
     notThrown(AccessDeniedException)
   }
 
+  def "should stream adhoc data with its length"() {
+    given:
+    contextProvider.get().setAccounts("restricted")
+    def request = adhocRequest()
+    def response = new MockHttpServletResponse()
+    def outputStream = new ByteArrayOutputStream()
+
+    when:
+    dataController.getAdhocData("groupId", "restricted", request, response).writeTo(outputStream)
+
+    then:
+    response.getContentLengthLong() == "contents of my/object".length()
+    response.getHeader("Content-Encoding") == null
+    new String(outputStream.toByteArray(), StandardCharsets.UTF_8) == "contents of my/object"
+  }
+
+  def "should gzip adhoc data for clients that accept it"() {
+    given:
+    contextProvider.get().setAccounts("restricted")
+    def request = adhocRequest()
+    request.addHeader("Accept-Encoding", "gzip, deflate")
+    def response = new MockHttpServletResponse()
+    def outputStream = new ByteArrayOutputStream()
+
+    when:
+    dataController.getAdhocData("groupId", "restricted", request, response).writeTo(outputStream)
+
+    then:
+    response.getHeader("Content-Encoding") == "gzip"
+    response.getHeader("Content-Length") == null
+    new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray())).getText("UTF-8") == "contents of my/object"
+  }
+
+  private static MockHttpServletRequest adhocRequest() {
+    def request = new MockHttpServletRequest("GET", "/v1/data/adhoc/groupId/restricted/my/object")
+    request.setServletPath("/v1/data/adhoc/groupId/restricted/my/object")
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/v1/data/adhoc/{groupId}/{bucketId}/**")
+    return request
+  }
+
   // If the wrong slf4j is on the classpath, this fails. So leaving this test in here for sanity.
   def "request context works"() {
     given:
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 OpsMx, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.clouddriver.filters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spinnaker.cats.agent.AgentDataType;
+import com.netflix.spinnaker.cats.agent.CachingAgent;
+import com.netflix.spinnaker.cats.cache.Cache;
+import com.netflix.spinnaker.cats.provider.Provider;
+import com.netflix.spinnaker.cats.provider.ProviderRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class CacheVersionETagInterceptorTest {
+  private final Cache cacheView = mock(Cache.class);
+  private final DefaultRegistry registry = new DefaultRegistry();
+  private CacheVersionETagInterceptor interceptor;
+
+  @BeforeEach
+  void setUp() {
+    CachingAgent agent = mock(CachingAgent.class);
+    given(agent.getProvidedDataTypes())
+        .willReturn(
+            List.of(
+                AgentDataType.Authority.AUTHORITATIVE.forType("serverGroups"),
+                AgentDataType.Authority.AUTHORITATIVE.forType("securityGroups")));
+    Provider provider = mock(Provider.class);
+    given(provider.getAgents()).willReturn(List.of(agent));
+    ProviderRegistry providerRegistry = mock(ProviderRegistry.class);
+    given(providerRegistry.getProviders()).willReturn(List.of(provider));
+
+    given(cacheView.supportsVersions()).willReturn(true);
+    given(cacheView.getVersion(anyString())).willReturn("1");
+    interceptor =
+        new CacheVersionETagInterceptor(
+            cacheView,
+            providerRegistry,
+            registry,
+            List.of(
+                new CacheVersionETagProperties.Endpoint(
+                    List.of("/applications/*/serverGroups/**"), List.of("serverGroups")),
+                new CacheVersionETagProperties.Endpoint(List.of("/search"), List.of())));
+  }
+
+  @Test
+  void answersUnchangedPollWithNotModified() {
+    MockHttpServletResponse first = new MockHttpServletResponse();
+    assertThat(interceptor.preHandle(request(), first, null)).isTrue();
+    String eTag = first.getHeader("ETag");
+    assertThat(eTag).startsWith("W/\"");
+
+    MockHttpServletRequest poll = request();
+    poll.addHeader("If-None-Match", eTag);
+    MockHttpServletResponse second = new MockHttpServletResponse();
+
+    assertThat(interceptor.preHandle(poll, second, null)).isFalse();
+    assertThat(second.getStatus()).isEqualTo(304);
+    assertThat(registry.counter("etag.cacheVersion.notModified").count()).isEqualTo(1);
+  }
+
+  @Test
+  void changesETagWhenCachedTypeChanges() {
+    MockHttpServletResponse first = new MockHttpServletResponse();
+    interceptor.preHandle(request(), first, null);
+    given(cacheView.getVersion("serverGroups")).willReturn("2");
+
+    MockHttpServletRequest poll = request();
+    poll.addHeader("If-None-Match", first.getHeader("ETag"));
+    MockHttpServletResponse second = new MockHttpServletResponse();
+
+    assertThat(interceptor.preHandle(poll, second, null)).isTrue();
+    assertThat(second.getHeader("ETag")).isNotEqualTo(first.getHeader("ETag"));
+  }
+
+  @Test
+  void keepsETagWhenTypeNotReadByEndpointChanges() {
+    MockHttpServletResponse first = new MockHttpServletResponse();
+    interceptor.preHandle(request(), first, null);
+    given(cacheView.getVersion("securityGroups")).willReturn("2");
+
+    MockHttpServletRequest poll = request();
+    poll.addHeader("If-None-Match", first.getHeader("ETag"));
+
+    assertThat(interceptor.preHandle(poll, new MockHttpServletResponse(), null)).isFalse();
+    verify(cacheView, never()).getVersion("securityGroups");
+  }
+
+  @Test
+  void coversEveryCachedTypeForEndpointsWithoutTypes() {
+    MockHttpServletResponse first = new MockHttpServletResponse();
+    interceptor.preHandle(new MockHttpServletRequest("GET", "/search"), first, null);
+    given(cacheView.getVersion("securityGroups")).willReturn("2");
+
+    MockHttpServletRequest poll = new MockHttpServletRequest("GET", "/search");
+    poll.addHeader("If-None-Match", first.getHeader("ETag"));
+
+    assertThat(interceptor.preHandle(poll, new MockHttpServletResponse(), null)).isTrue();
+  }
+
+  @Test
+  void distinguishesRequestsForDifferentResources() {
+    MockHttpServletResponse first = new MockHttpServletResponse();
+    interceptor.preHandle(request(), first, null);
+
+    MockHttpServletRequest other = request();
+    other.setRequestURI("/applications/other/serverGroups");
+    other.addHeader("If-None-Match", first.getHeader("ETag"));
+
+    assertThat(interceptor.preHandle(other, new MockHttpServletResponse(), null)).isTrue();
+  }
+
+  @Test
+  void ignoresCachesWithoutVersions() {
+    given(cacheView.supportsVersions()).willReturn(false);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    assertThat(interceptor.preHandle(request(), response, null)).isTrue();
+    assertThat(response.getHeader("ETag")).isNull();
+    verify(cacheView, never()).getVersion(anyString());
+  }
+
+  private static MockHttpServletRequest request() {
+    return new MockHttpServletRequest("GET", "/applications/app/serverGroups");
+  }
+}